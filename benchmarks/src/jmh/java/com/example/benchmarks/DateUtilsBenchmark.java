@@ -0,0 +1,98 @@
+package com.example.benchmarks;
+
+import com.example.common.utils.CachedClock;
+import com.example.common.utils.DateUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DateUtils 현재 일시 조회 / 날짜 계산 benchmark.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class DateUtilsBenchmark {
+
+    private final byte[] header = new byte[64];
+
+    // 10,000 건 고정 길이 record (10 byte 위치에 날짜, 20 byte)
+    private final byte[] records = new byte[20 * 10_000];
+    private final String[] dates = new String[10_000];
+
+    @Setup
+    public void setup() {
+        for (int row = 0; row < dates.length; row++) {
+            dates[row] = DateUtils.addDay("20000101", row);
+            System.arraycopy(dates[row].getBytes(StandardCharsets.US_ASCII), 0, records, row * 20 + 10, 8);
+        }
+    }
+
+    @Benchmark
+    public String getCurrentDate() {
+        return DateUtils.getCurrentDate();
+    }
+
+    @Benchmark
+    public String getCurrentDatePattern() {
+        return DateUtils.getCurrentDate("yyyy-MM-dd HH:mm:ss");
+    }
+
+    @Benchmark
+    public String getCurrentDatetime() {
+        return DateUtils.getCurrentDatetime();
+    }
+
+    @Benchmark
+    public String getCurrentDatetimemilli() {
+        return DateUtils.getCurrentDatetimemilli();
+    }
+
+    @Benchmark
+    public String getCurrentDatetimemicro() {
+        return DateUtils.getCurrentDatetimemicro();
+    }
+
+    @Benchmark
+    public String getCurrentTimeMilli() {
+        return DateUtils.getCurrentTimeMilli();
+    }
+
+    @Benchmark
+    public byte[] writeDatetimeMilli() {
+        CachedClock.system().writeDatetimeMilli(header, 10);
+        return header;
+    }
+
+    @Benchmark
+    public String addDay() {
+        return DateUtils.addDay("20231130", 89);
+    }
+
+    @Benchmark
+    public int addDayInt() {
+        return DateUtils.addDay(20231130, 89);
+    }
+
+    @Benchmark
+    public int getDaysBetweenInt() {
+        return DateUtils.getDaysBetween(20231130, 19810904);
+    }
+
+    @Benchmark
+    public boolean isValidDate() {
+        return DateUtils.isValidDate("20231130");
+    }
+
+    @Benchmark
+    public BitSet validateDates() {
+        return DateUtils.validateDates(dates);
+    }
+
+    @Benchmark
+    public BitSet validateDatesRecords() {
+        return DateUtils.validateDates(records, 10, 20, dates.length);
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.benchmarks;
+
+import com.example.common.constant.Constants;
+import com.example.common.data.FixedTestData;
+import com.example.common.model.*;
+import com.example.common.utils.FixedObjectPool;
+import com.example.common.utils.FormatterUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FormatterUtils 고정 길이 변환(encode / decode) benchmark.
+ * <pre>
+ *     FixedTestData 의 대표 형태별로 측정한다.
+ *     - flat      : FixedDataTestInfo (primitive / wrapper / BigDecimal / String)
+ *     - nested    : GenericMessage&lt;InnerMessage&gt; (generic VO 중첩)
+ *     - multiList : FixedMultiListMessageBody (FixedList 여러 개)
+ *     - korean    : 한글이 포함된 FixedDataTestInfo (EUC-KR)
+ *     - fullWidth : FullWidthPadChar (EUC-KR 전각 padding char)
+ *
+ *     decodeMultiListPooled 는 FixedObjectPool 로 object 를 재사용하는 변환이며,
+ *     gc.alloc.rate.norm(op 당 allocation)을 decodeMultiListFromBytes 와 비교한다.
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class FormatterUtilsBenchmark {
+
+    private static final Charset EUC_KR = Charset.forName(Constants.CHARSET_EUC_KR);
+
+    private FixedDataTestInfo flat;
+    private String flatString;
+    private byte[] flatBytes;
+
+    private GenericMessage<InnerMessage> nested;
+    private String nestedString;
+
+    private FixedMultiListMessageBody multiList;
+    private String multiListString;
+    private byte[] multiListBytes;
+    private FixedObjectPool<FixedMultiListMessageBody> multiListPool;
+
+    private FixedDataTestInfo korean;
+    private String koreanString;
+
+    private FullWidthPadChar fullWidth;
+    private String fullWidthString;
+
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setup() {
+        flat = FixedTestData.getFixedDataTestInfo();
+        flatString = FixedTestData.getFixedDataTestInfoString();
+        flatBytes = flatString.getBytes(EUC_KR);
+
+        nested = FixedTestData.getGenericMessage();
+        nestedString = FixedTestData.getGenericMessageString();
+
+        multiList = FixedTestData.getFixedMultiListMessageBody();
+        multiListString = FixedTestData.getFixedMultiListMessageString();
+        multiListBytes = multiListString.getBytes(EUC_KR);
+        multiListPool = FixedObjectPool.of(FixedMultiListMessageBody.class);
+
+        korean = FixedTestData.getKoreanEucKrFixedDataTestInfo();
+        koreanString = FixedTestData.getKoreanEucKrFixedDataTestInfoString();
+
+        fullWidth = FullWidthPadChar.builder().f1("f1").f2("f2").f3("f3").f4(4).build();
+        fullWidthString = FormatterUtils.getFixedData(fullWidth, Constants.CHARSET_EUC_KR);
+
+        buffer = ByteBuffer.allocateDirect(8192);
+    }
+
+    @Benchmark
+    public String encodeFlat() {
+        return FormatterUtils.getFixedData(flat);
+    }
+
+    @Benchmark
+    public FixedDataTestInfo decodeFlat() {
+        return FormatterUtils.getFixedData(flatString, FixedDataTestInfo.class);
+    }
+
+    @Benchmark
+    public int encodeFlatToBuffer() {
+        buffer.clear();
+        return FormatterUtils.writeFixedData(flat, buffer, EUC_KR);
+    }
+
+    @Benchmark
+    public FixedDataTestInfo decodeFlatFromBytes() {
+        return FormatterUtils.getFixedData(flatBytes, 0, flatBytes.length, FixedDataTestInfo.class);
+    }
+
+    @Benchmark
+    public String encodeNested() {
+        return FormatterUtils.getFixedData(nested);
+    }
+
+    @Benchmark
+    public Object decodeNested() {
+        return FormatterUtils.getFixedData(nestedString, GenericMessage.class, InnerMessage.class);
+    }
+
+    @Benchmark
+    public String encodeMultiList() {
+        return FormatterUtils.getFixedData(multiList);
+    }
+
+    @Benchmark
+    public FixedMultiListMessageBody decodeMultiList() {
+        return FormatterUtils.getFixedData(multiListString, FixedMultiListMessageBody.class);
+    }
+
+    @Benchmark
+    public FixedMultiListMessageBody decodeMultiListFromBytes() {
+        return FormatterUtils.getFixedData(multiListBytes, 0, multiListBytes.length, FixedMultiListMessageBody.class);
+    }
+
+    @Benchmark
+    public FixedMultiListMessageBody decodeMultiListPooled() {
+        FixedMultiListMessageBody body = multiListPool.decode(multiListBytes, 0, multiListBytes.length);
+        multiListPool.release(body);
+        return body;
+    }
+
+    @Benchmark
+    public String encodeKoreanEucKr() {
+        return FormatterUtils.getFixedData(korean, Constants.CHARSET_EUC_KR);
+    }
+
+    @Benchmark
+    public FixedDataTestInfo decodeKoreanEucKr() {
+        return FormatterUtils.getFixedData(koreanString, FixedDataTestInfo.class);
+    }
+
+    @Benchmark
+    public String encodeFullWidthPadding() {
+        return FormatterUtils.getFixedData(fullWidth, Constants.CHARSET_EUC_KR);
+    }
+
+    @Benchmark
+    public FullWidthPadChar decodeFullWidthPadding() {
+        return FormatterUtils.getFixedData(fullWidthString, FullWidthPadChar.class);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.benchmarks;
+
+import com.example.common.utils.NumberUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NumberUtils 문자열 -> BigDecimal 변환 benchmark.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class NumberUtilsBenchmark {
+
+    @Param({"1234.5678ABCDE", "0000012345"})
+    private String value;
+
+    @Benchmark
+    public BigDecimal getDecimalFromString() {
+        return NumberUtils.getDecimalFromString(value, 9);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.benchmarks;
+
+import com.example.common.utils.StringUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StringUtils masking / EUC-KR 자르기 benchmark.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class StringUtilsBenchmark {
+
+    @Param({"8109041234567", "6458602159"})
+    private String maskingValue;
+
+    private String eucKrValue;
+    private int[] eucKrLength;
+
+    @Setup
+    public void setup() {
+        eucKrValue = "test#한글#abc";
+        eucKrLength = new int[]{4, 5, 4};
+    }
+
+    @Benchmark
+    public String automaskingView() {
+        return StringUtils.automaskingView(maskingValue, "1", "1");
+    }
+
+    @Benchmark
+    public String[] getEucKrCut() {
+        return StringUtils.getEucKrCut(eucKrValue, eucKrLength);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.benchmarks;
+
+import com.example.common.utils.StringUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StringUtils 검증 함수(String / byte[] / direct ByteBuffer) benchmark.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class StringValidationBenchmark {
+
+    @Param({"16", "256", "4096"})
+    private int length;
+
+    private String digitValue;
+    private byte[] digitBytes;
+    private ByteBuffer digitBuffer;
+    private String hexValue;
+    private byte[] hexBytes;
+
+    @Setup
+    public void setup() {
+        StringBuilder digit = new StringBuilder(length);
+        StringBuilder hex = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            digit.append((char) ('0' + i % 10));
+            hex.append("0123456789abcdefABCDEF".charAt(i % 22));
+        }
+        digitValue = digit.toString();
+        digitBytes = digitValue.getBytes(StandardCharsets.US_ASCII);
+        digitBuffer = ByteBuffer.allocateDirect(length).put(digitBytes).flip();
+        hexValue = hex.toString();
+        hexBytes = hexValue.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public boolean isDigitString() {
+        return StringUtils.isDigit(digitValue);
+    }
+
+    @Benchmark
+    public boolean isDigitBytes() {
+        return StringUtils.isDigit(digitBytes, 0, length);
+    }
+
+    @Benchmark
+    public boolean isDigitDirectBuffer() {
+        return StringUtils.isDigit(digitBuffer);
+    }
+
+    @Benchmark
+    public boolean isDigitAlphaString() {
+        return StringUtils.isDigitAlpha(hexValue);
+    }
+
+    @Benchmark
+    public boolean isDigitAlphaBytes() {
+        return StringUtils.isDigitAlpha(hexBytes, 0, length);
+    }
+
+    @Benchmark
+    public boolean isAllZeroBytes() {
+        return StringUtils.isAllZero(digitBytes, 0, length);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.common.internal.codec;
+
+import com.example.common.model.FixedField;
+
+import java.util.List;
+
+/**
+ * 고정 길이 변환 대상 class 의 compile time 생성 codec.
+ * <pre>
+ *     FixedCodecProcessor 가 @FixedData / @FixedVo / @FixedList field 를 가진 class 마다
+ *     {class 이름}_FixedCodec 을 생성하며, FormatterUtils 는 생성된 codec 이 있으면
+ *     reflection 대신 codec 으로 field 정보 조회 / instance 생성 / field 접근을 수행한다.
+ *
+ *     FixedMessageBody       -> FixedMessageBody_FixedCodec
+ *     Outer.InnerMessage     -> Outer_InnerMessage_FixedCodec
+ * </pre>
+ *
+ * @param <T> 변환 대상 type
+ * @see FixedCodecProcessor
+ * @see FixedCodecs
+ */
+public interface FixedCodec<T> {
+
+    /**
+     * 생성 codec class 이름의 suffix
+     */
+    String CODEC_SUFFIX = "_FixedCodec";
+
+    /**
+     * 대상 class 의 binary name 으로 생성 codec 의 class 이름 조회
+     * <pre>
+     *     FixedCodec.getCodecClassName("com.example.Outer$Inner")
+     *     result : com.example.Outer_Inner_FixedCodec
+     * </pre>
+     *
+     * @param binaryName 대상 class 의 binary name
+     * @return 생성 codec class 이름
+     */
+    static String getCodecClassName(String binaryName) {
+        int index = binaryName.lastIndexOf('.');
+        String packageName = index < 0 ? "" : binaryName.substring(0, index + 1);
+        return packageName + binaryName.substring(index + 1).replace('$', '_') + CODEC_SUFFIX;
+    }
+
+    /**
+     * 변환 대상 type
+     */
+    Class<T> getType();
+
+    /**
+     * no-arg 생성자로 instance 생성
+     */
+    T newInstance();
+
+    /**
+     * 변환 대상 field 목록.
+     * FormatterUtils.getFieldList 와 같은 순서(super class field, 선언 field)이며,
+     * generic type 이 적용되지 않은 선언 type 을 가진다.
+     */
+    List<FixedField> getFieldList();
+
+    /**
+     * field 값 조회
+     *
+     * @param target 대상 object
+     * @param index  getFieldList 의 index
+     * @return field 값
+     */
+    Object get(T target, int index);
+
+    /**
+     * field 값 설정
+     *
+     * @param target 대상 object
+     * @param index  getFieldList 의 index
+     * @param value  설정할 값
+     */
+    void set(T target, int index, Object value);
+
+    /**
+     * FixedList sizeRef 로 지정된 field 값 조회
+     *
+     * @param target 대상 object
+     * @param name   sizeRef field 이름
+     * @return field 값
+     * @throws NoSuchFieldException 대상 class 에 선언되지 않은 field 인 경우
+     */
+    Object getSizeRef(T target, String name) throws NoSuchFieldException;
+}
@@ -0,0 +1,512 @@
+package com.example.common.internal.codec;
+
+import com.example.common.internal.annotations.FixedData;
+import com.example.common.internal.annotations.FixedList;
+import com.example.common.internal.annotations.FixedVo;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.*;
+
+/**
+ * @FixedData / @FixedVo / @FixedList field 를 가진 class 의 codec({class 이름}_FixedCodec) 을 생성하는 annotation processor.
+ * <pre>
+ *     생성된 codec 은 field 목록, no-arg 생성자 호출, getter / setter(또는 field 직접 접근) 호출 코드를 가지므로
+ *     FormatterUtils 는 reflection 없이 변환할 수 있다.
+ *     field 목록은 FormatterUtils.getFieldList 와 동일한 규칙(직계 super class 의 @FixedData / @FixedVo field,
+ *     선언 class 의 @FixedData / @FixedVo / @FixedList field 순)으로 구성된다.
+ *
+ *     접근할 수 없는 field(getter / setter 없는 private field, final field)나 no-arg 생성자가 없는 class 는
+ *     codec 을 생성하지 않으며, 해당 class 는 기존처럼 reflection 으로 변환된다.
+ *
+ *     build.gradle
+ *       annotationProcessor project(':common')
+ * </pre>
+ *
+ * FixedCodecs 는 runtime 의존성(slf4j)을 가지므로 processor 에서 참조하지 않는다.
+ *
+ * @see FixedCodec
+ */
+@SupportedAnnotationTypes({
+        "com.example.common.internal.annotations.FixedData",
+        "com.example.common.internal.annotations.FixedVo",
+        "com.example.common.internal.annotations.FixedList"})
+public class FixedCodecProcessor extends AbstractProcessor {
+
+    private static final String LOMBOK = "lombok.";
+    private static final String FIXED_CODEC = FixedCodec.class.getName();
+    private static final String FIXED_CODECS = "com.example.common.internal.codec.FixedCodecs";
+    private static final String FIXED_FIELD = "com.example.common.model.FixedField";
+    private static final String PAD_TYPE = FixedData.PAD_TYPE.class.getCanonicalName();
+
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD
+                        && element.getEnclosingElement() instanceof TypeElement type) {
+                    types.add(type);
+                }
+            }
+        }
+
+        for (TypeElement type : types) {
+            String codecName = FixedCodec.getCodecClassName(
+                    processingEnv.getElementUtils().getBinaryName(type).toString());
+            if (!generated.add(codecName)) continue;
+
+            try {
+                CodecModel model = createModel(type);
+                write(codecName, model);
+            } catch (UnsupportedTypeException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                        "FixedCodec not generated(" + e.getMessage() + "), reflection is used", type);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "FixedCodec write error : " + e.getMessage(), type);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 대상 class 의 field / 접근자 정보 생성
+     */
+    private CodecModel createModel(TypeElement type) throws UnsupportedTypeException {
+        checkInstantiable(type);
+
+        CodecModel model = new CodecModel();
+        model.typeName = processingEnv.getTypeUtils().erasure(type.asType()).toString();
+
+        TypeMirror superMirror = type.getSuperclass();
+        if (superMirror.getKind() == TypeKind.DECLARED) {
+            TypeElement superType = (TypeElement) ((DeclaredType) superMirror).asElement();
+            for (VariableElement field : ElementFilter.fieldsIn(superType.getEnclosedElements())) {
+                if (field.getAnnotation(FixedData.class) != null) {
+                    model.fields.add(createField(type, field, FieldKind.DATA, true));
+                } else if (field.getAnnotation(FixedVo.class) != null) {
+                    model.fields.add(createField(type, field, FieldKind.VO, true));
+                }
+            }
+        }
+
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getAnnotation(FixedData.class) != null) {
+                model.fields.add(createField(type, field, FieldKind.DATA, false));
+            } else if (field.getAnnotation(FixedVo.class) != null) {
+                model.fields.add(createField(type, field, FieldKind.VO, false));
+            } else if (field.getAnnotation(FixedList.class) != null) {
+                FieldModel listField = createField(type, field, FieldKind.LIST, false);
+                model.fields.add(listField);
+
+                // sizeRef 는 선언 class 의 field 만 조회한다. (없으면 변환 시 NoSuchFieldException)
+                String sizeRef = field.getAnnotation(FixedList.class).sizeRef();
+                if (!sizeRef.isEmpty() && !model.sizeRefs.containsKey(sizeRef)) {
+                    for (VariableElement refField : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                        if (refField.getSimpleName().contentEquals(sizeRef)) {
+                            model.sizeRefs.put(sizeRef, getterExpression(type, refField));
+                        }
+                    }
+                }
+            }
+        }
+        return model;
+    }
+
+    private FieldModel createField(TypeElement type, VariableElement field, FieldKind kind, boolean superClassField)
+            throws UnsupportedTypeException {
+        if (field.getModifiers().contains(Modifier.STATIC)) {
+            throw new UnsupportedTypeException("static field : " + field.getSimpleName());
+        }
+
+        FieldModel model = new FieldModel();
+        model.name = field.getSimpleName().toString();
+        model.kind = kind;
+        model.superClassField = superClassField;
+        model.typeName = typeLiteral(field.asType());
+        model.getter = getterExpression(type, field);
+        model.setter = setterStatement(type, field);
+
+        if (kind == FieldKind.DATA) {
+            model.fixedData = field.getAnnotation(FixedData.class);
+        } else if (kind == FieldKind.LIST) {
+            model.fixedList = field.getAnnotation(FixedList.class);
+            model.typeName = listItemTypeLiteral(field);
+        }
+        return model;
+    }
+
+    /**
+     * no-arg 생성자로 생성할 수 있는 class 인지 확인
+     */
+    private void checkInstantiable(TypeElement type) throws UnsupportedTypeException {
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new UnsupportedTypeException("not a concrete class");
+        }
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new UnsupportedTypeException("private class");
+            }
+            Element enclosing = element.getEnclosingElement();
+            if (enclosing instanceof TypeElement) {
+                if (!element.getModifiers().contains(Modifier.STATIC)) {
+                    throw new UnsupportedTypeException("inner class");
+                }
+            } else if (enclosing.getKind() != ElementKind.PACKAGE) {
+                throw new UnsupportedTypeException("local class");
+            }
+        }
+
+        // compiler 가 추가한 default 생성자 제외 (lombok 보다 먼저 실행되면 lombok 생성자 대신 보일 수 있음)
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .filter(c -> processingEnv.getElementUtils().getOrigin(c) != Elements.Origin.MANDATED)
+                .toList();
+        for (ExecutableElement constructor : constructors) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return;
+            }
+        }
+        if (hasLombok(type, "NoArgsConstructor")) return;
+
+        // 선언된 생성자 / lombok 생성자가 없으면 default 생성자, @Data 는 final field 가 없을 때 no-arg 생성자
+        if (constructors.isEmpty() && !hasLombok(type, "AllArgsConstructor")
+                && !hasLombok(type, "RequiredArgsConstructor") && !hasLombok(type, "Builder")
+                && !hasLombok(type, "Value")) {
+            if (!hasLombok(type, "Data")) return;
+
+            boolean hasFinalField = ElementFilter.fieldsIn(type.getEnclosedElements()).stream()
+                    .anyMatch(f -> f.getModifiers().contains(Modifier.FINAL) && !f.getModifiers().contains(Modifier.STATIC));
+            if (!hasFinalField) return;
+        }
+        throw new UnsupportedTypeException("no-arg constructor not found");
+    }
+
+    /**
+     * field 값을 조회하는 expression (target 변수 기준)
+     */
+    private String getterExpression(TypeElement type, VariableElement field) throws UnsupportedTypeException {
+        String name = field.getSimpleName().toString();
+        if (isAccessible(type, field)) return "target." + name;
+
+        boolean isBoolean = field.asType().getKind() == TypeKind.BOOLEAN;
+        List<String> getterNames = new ArrayList<>();
+        if (isBoolean) {
+            getterNames.add(name.startsWith("is") && name.length() > 2 && Character.isUpperCase(name.charAt(2))
+                    ? name : "is" + capitalize(name));
+        }
+        getterNames.add("get" + capitalize(name));
+
+        for (String getterName : getterNames) {
+            if (findMethod(type, getterName, 0)) return "target." + getterName + "()";
+        }
+        if (hasLombokAccessor(field, "Getter", "Data", "Value")) {
+            return "target." + getterNames.get(0) + "()";
+        }
+        throw new UnsupportedTypeException("getter not found : " + name);
+    }
+
+    /**
+     * field 에 value 를 설정하는 statement (target, value 변수 기준)
+     */
+    private String setterStatement(TypeElement type, VariableElement field) throws UnsupportedTypeException {
+        String name = field.getSimpleName().toString();
+        if (field.getModifiers().contains(Modifier.FINAL) || isLombokFinal(field)) {
+            throw new UnsupportedTypeException("final field : " + name);
+        }
+
+        String value = "(" + boxedName(field.asType()) + ") value";
+        if (isAccessible(type, field)) return "target." + name + " = " + value + ";";
+
+        String property = field.asType().getKind() == TypeKind.BOOLEAN
+                && name.startsWith("is") && name.length() > 2 && Character.isUpperCase(name.charAt(2))
+                ? name.substring(2) : name;
+        String setterName = "set" + capitalize(property);
+        if (findMethod(type, setterName, 1) || hasLombokAccessor(field, "Setter", "Data")) {
+            return "target." + setterName + "(" + value + ");";
+        }
+        throw new UnsupportedTypeException("setter not found : " + name);
+    }
+
+    /**
+     * 생성 codec(대상 class 와 같은 package)에서 field 를 직접 접근할 수 있는지 여부
+     */
+    private boolean isAccessible(TypeElement type, Element member) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE)) return false;
+        if (member instanceof VariableElement field && isLombokPrivate(field)) return false;
+        if (modifiers.contains(Modifier.PUBLIC)) return true;
+        return samePackage(type, member);
+    }
+
+    private boolean samePackage(TypeElement type, Element member) {
+        return processingEnv.getElementUtils().getPackageOf(type)
+                .equals(processingEnv.getElementUtils().getPackageOf(member));
+    }
+
+    private boolean findMethod(TypeElement type, String name, int parameterCount) {
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            if (method.getSimpleName().contentEquals(name)
+                    && method.getParameters().size() == parameterCount
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && isAccessible(type, method)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * field 또는 선언 class 에 lombok 접근자 annotation 이 설정되어 있는지 여부 (AccessLevel.NONE / PRIVATE 제외)
+     */
+    private boolean hasLombokAccessor(VariableElement field, String fieldAnnotation, String... typeAnnotations) {
+        AnnotationMirror mirror = findLombok(field, fieldAnnotation);
+        if (mirror != null) return isLombokAccessible(mirror);
+
+        Element owner = field.getEnclosingElement();
+        mirror = findLombok(owner, fieldAnnotation);
+        if (mirror != null) return isLombokAccessible(mirror);
+        for (String typeAnnotation : typeAnnotations) {
+            if (hasLombok(owner, typeAnnotation)) return true;
+        }
+        return false;
+    }
+
+    private boolean isLombokAccessible(AnnotationMirror mirror) {
+        String level = annotationValue(mirror, "value");
+        return !"NONE".equals(level) && !"PRIVATE".equals(level);
+    }
+
+    /**
+     * lombok @Value / @FieldDefaults 로 private 이 되는 field 인지 여부.
+     * lombok 보다 먼저 실행되면 field 의 modifier 에 반영되어 있지 않으므로 annotation 으로 확인한다.
+     */
+    private boolean isLombokPrivate(VariableElement field) {
+        Element owner = field.getEnclosingElement();
+        if (hasLombok(owner, "Value")) return true;
+        AnnotationMirror fieldDefaults = findLombok(owner, "experimental.FieldDefaults");
+        return fieldDefaults != null && "PRIVATE".equals(annotationValue(fieldDefaults, "level"));
+    }
+
+    /**
+     * lombok @Value / @FieldDefaults(makeFinal = true) 로 final 이 되는 field 인지 여부
+     */
+    private boolean isLombokFinal(VariableElement field) {
+        Element owner = field.getEnclosingElement();
+        if (hasLombok(owner, "Value")) return true;
+        AnnotationMirror fieldDefaults = findLombok(owner, "experimental.FieldDefaults");
+        return fieldDefaults != null && "true".equals(annotationValue(fieldDefaults, "makeFinal"));
+    }
+
+    private static String annotationValue(AnnotationMirror mirror, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : mirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue().toString();
+            }
+        }
+        return null;
+    }
+
+    private boolean hasLombok(Element element, String annotation) {
+        return findLombok(element, annotation) != null;
+    }
+
+    private AnnotationMirror findLombok(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName()
+                    .contentEquals(LOMBOK + annotation)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * List field 의 item type (FormatterUtils.getFieldList 와 동일하게 type variable 은 bound type)
+     */
+    private String listItemTypeLiteral(VariableElement field) throws UnsupportedTypeException {
+        if (field.asType().getKind() == TypeKind.DECLARED) {
+            List<? extends TypeMirror> arguments = ((DeclaredType) field.asType()).getTypeArguments();
+            if (arguments.size() == 1) {
+                TypeMirror argument = arguments.get(0);
+                if (argument.getKind() == TypeKind.TYPEVAR
+                        || (argument.getKind() == TypeKind.DECLARED
+                        && ((DeclaredType) argument).getTypeArguments().isEmpty())) {
+                    return typeLiteral(argument);
+                }
+            }
+        }
+        throw new UnsupportedTypeException("list type : " + field.getSimpleName());
+    }
+
+    private String typeLiteral(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private String boxedName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return processingEnv.getTypeUtils().boxedClass((javax.lang.model.type.PrimitiveType) type)
+                    .getQualifiedName().toString();
+        }
+        return typeLiteral(type);
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * codec source 생성
+     */
+    private void write(String codecName, CodecModel model) throws IOException {
+        int index = codecName.lastIndexOf('.');
+        String packageName = index < 0 ? null : codecName.substring(0, index);
+        String simpleName = codecName.substring(index + 1);
+        String type = model.typeName;
+
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(codecName);
+        try (PrintWriter out = new PrintWriter(file.openWriter())) {
+            if (packageName != null) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+            out.println("@SuppressWarnings({\"rawtypes\", \"unchecked\"})");
+            out.println("public final class " + simpleName + " implements " + FIXED_CODEC + "<" + type + "> {");
+            out.println();
+            out.println("    private static final java.util.List<" + FIXED_FIELD + "> FIELDS = java.util.List.of(");
+            for (int i = 0; i < model.fields.size(); i++) {
+                out.print("            " + fieldDefinition(model.fields.get(i)));
+                out.println(i < model.fields.size() - 1 ? "," : "");
+            }
+            out.println("    );");
+            out.println();
+            out.println("    @Override");
+            out.println("    public Class<" + type + "> getType() {");
+            out.println("        return " + type + ".class;");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public " + type + " newInstance() {");
+            out.println("        return new " + type + "();");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public java.util.List<" + FIXED_FIELD + "> getFieldList() {");
+            out.println("        return FIELDS;");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public Object get(" + type + " target, int index) {");
+            out.println("        switch (index) {");
+            for (int i = 0; i < model.fields.size(); i++) {
+                out.println("            case " + i + ": return " + model.fields.get(i).getter + ";");
+            }
+            out.println("            default: throw new IndexOutOfBoundsException(index);");
+            out.println("        }");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public void set(" + type + " target, int index, Object value) {");
+            out.println("        switch (index) {");
+            for (int i = 0; i < model.fields.size(); i++) {
+                out.println("            case " + i + ": " + model.fields.get(i).setter + " return;");
+            }
+            out.println("            default: throw new IndexOutOfBoundsException(index);");
+            out.println("        }");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public Object getSizeRef(" + type + " target, String name) throws NoSuchFieldException {");
+            out.println("        switch (name) {");
+            for (Map.Entry<String, String> entry : model.sizeRefs.entrySet()) {
+                out.println("            case \"" + entry.getKey() + "\": return " + entry.getValue() + ";");
+            }
+            out.println("            default: throw new NoSuchFieldException(name);");
+            out.println("        }");
+            out.println("    }");
+            out.println("}");
+        }
+    }
+
+    private String fieldDefinition(FieldModel field) {
+        StringBuilder sb = new StringBuilder(FIXED_FIELD).append(".builder()")
+                .append(".name(\"").append(field.name).append("\")")
+                .append(".type(").append(field.typeName).append(".class)");
+        if (field.superClassField) sb.append(".isSuperClassField(true)");
+        if (field.kind == FieldKind.VO) sb.append(".isFixedVo(true)");
+        if (field.fixedData != null) {
+            FixedData fixedData = field.fixedData;
+            sb.append(".fixedData(").append(FIXED_CODECS).append(".fixedData(")
+                    .append(intArray(fixedData.value())).append(", ")
+                    .append(intArray(fixedData.length())).append(", ")
+                    .append("(char) ").append((int) fixedData.padChar()).append(", ")
+                    .append(fixedData.signed()).append(", ")
+                    .append(PAD_TYPE).append('.').append(fixedData.padType().name()).append("))");
+        }
+        if (field.fixedList != null) {
+            sb.append(".fixedList(").append(FIXED_CODECS).append(".fixedList(")
+                    .append(field.fixedList.size()).append(", \"")
+                    .append(field.fixedList.sizeRef().replace("\\", "\\\\").replace("\"", "\\\""))
+                    .append("\"))");
+        }
+        return sb.append(".build()").toString();
+    }
+
+    private static String intArray(int[] values) {
+        StringJoiner joiner = new StringJoiner(", ", "new int[]{", "}");
+        for (int value : values) {
+            joiner.add(String.valueOf(value));
+        }
+        return joiner.toString();
+    }
+
+    private enum FieldKind {
+        DATA, VO, LIST
+    }
+
+    private static final class CodecModel {
+        private String typeName;
+        private final List<FieldModel> fields = new ArrayList<>();
+        private final Map<String, String> sizeRefs = new LinkedHashMap<>();
+    }
+
+    private static final class FieldModel {
+        private String name;
+        private FieldKind kind;
+        private boolean superClassField;
+        private String typeName;
+        private String getter;
+        private String setter;
+        private FixedData fixedData;
+        private FixedList fixedList;
+    }
+
+    private static final class UnsupportedTypeException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        private UnsupportedTypeException(String message) {
+            super(message);
+        }
+    }
+}
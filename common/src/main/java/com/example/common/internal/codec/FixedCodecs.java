@@ -0,0 +1,127 @@
+package com.example.common.internal.codec;
+
+import com.example.common.internal.annotations.FixedData;
+import com.example.common.internal.annotations.FixedData.PAD_TYPE;
+import com.example.common.internal.annotations.FixedList;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * compile time 생성 codec 조회 및 생성 codec 에서 사용하는 annotation 값 생성.
+ * <pre>
+ *     FixedCodec&lt;FixedMessageBody&gt; codec = FixedCodecs.find(FixedMessageBody.class);
+ *     // 생성된 codec 이 없으면 null (reflection 으로 변환)
+ * </pre>
+ */
+@Slf4j
+public final class FixedCodecs {
+
+    // class 별 codec. class 가 unload 되면 함께 해제된다.
+    private static final ClassValue<Optional<FixedCodec<?>>> CODECS = new ClassValue<>() {
+        @Override
+        protected Optional<FixedCodec<?>> computeValue(Class<?> type) {
+            return Optional.ofNullable(load(type));
+        }
+    };
+
+    private FixedCodecs() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 대상 type 의 생성 codec 조회
+     *
+     * @param type 변환 대상 type
+     * @return 생성 codec. 없으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> FixedCodec<T> find(Class<T> type) {
+        return (FixedCodec<T>) CODECS.get(type).orElse(null);
+    }
+
+    private static FixedCodec<?> load(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.getClassLoader() == null) return null;
+
+        try {
+            Class<?> codecType = Class.forName(FixedCodec.getCodecClassName(type.getName()), true, type.getClassLoader());
+            FixedCodec<?> codec = (FixedCodec<?>) codecType.getDeclaredConstructor().newInstance();
+            // 이름이 겹치는 다른 class 의 codec 은 사용하지 않는다.
+            if (codec.getType() != type) return null;
+
+            log.debug("FIXED_CODEC:{}", codecType.getName());
+            return codec;
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+            log.warn("[ERROR]FIXED_CODEC:{}", type.getName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * FixedData annotation 값 생성
+     *
+     * @param value   value 값
+     * @param length  length 값
+     * @param padChar padChar 값
+     * @param signed  signed 값
+     * @param padType padType 값
+     * @return FixedData
+     */
+    public static FixedData fixedData(int[] value, int[] length, char padChar, boolean signed, PAD_TYPE padType) {
+        return new FixedDataValue(value, length, padChar, signed, padType);
+    }
+
+    /**
+     * FixedList annotation 값 생성
+     *
+     * @param size    size 값
+     * @param sizeRef sizeRef 값
+     * @return FixedList
+     */
+    public static FixedList fixedList(int size, String sizeRef) {
+        return new FixedListValue(size, sizeRef);
+    }
+
+    private record FixedDataValue(int[] value, int[] length, char padChar, boolean signed,
+                                  PAD_TYPE padType) implements FixedData {
+
+        @Override
+        public int[] value() {
+            return value.clone();
+        }
+
+        @Override
+        public int[] length() {
+            return length.clone();
+        }
+
+        @Override
+        public Class<? extends Annotation> annotationType() {
+            return FixedData.class;
+        }
+
+        @Override
+        public String toString() {
+            return "@" + FixedData.class.getName() + "(value=" + Arrays.toString(value)
+                    + ", length=" + Arrays.toString(length) + ", padChar='" + padChar
+                    + "', signed=" + signed + ", padType=" + padType + ")";
+        }
+    }
+
+    private record FixedListValue(int size, String sizeRef) implements FixedList {
+
+        @Override
+        public Class<? extends Annotation> annotationType() {
+            return FixedList.class;
+        }
+
+        @Override
+        public String toString() {
+            return "@" + FixedList.class.getName() + "(size=" + size + ", sizeRef=\"" + sizeRef + "\")";
+        }
+    }
+}
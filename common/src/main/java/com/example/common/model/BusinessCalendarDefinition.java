@@ -0,0 +1,39 @@
+package com.example.common.model;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 영업일 calendar 정의. (JSON / YAML 로 정의)
+ * <pre>
+ *     fromYear / toYear 를 생략하면 휴일의 최소 / 최대 연도를 사용한다.
+ *     weekends 를 생략하면 토요일 / 일요일을 주말로 사용한다.
+ *     calendar 마다 전체 휴일을 정의한다. (거래소 calendar 는 공휴일 + 거래소 휴장일)
+ *
+ * example> (YAML)
+ *      name: KRX
+ *      fromYear: 2024
+ *      toYear: 2025
+ *      weekends: [SATURDAY, SUNDAY]
+ *      holidays:
+ *        - 20240101    # 신정
+ *        - 20240209    # 설날
+ *        - 20241231    # 연말 휴장일
+ * </pre>
+ */
+@Getter @Setter
+@Builder
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class BusinessCalendarDefinition {
+
+    private String name;
+    private Integer fromYear;
+    private Integer toYear;
+    // java.time.DayOfWeek 이름
+    private List<String> weekends;
+    // yyyyMMdd
+    private List<String> holidays;
+}
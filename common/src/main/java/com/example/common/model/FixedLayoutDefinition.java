@@ -0,0 +1,38 @@
+package com.example.common.model;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * class 없이 고정 길이 telegram 을 정의하는 runtime layout. (JSON / YAML 로 정의)
+ * <pre>
+ * example> (YAML)
+ *      name: PAYMENT_REQ
+ *      fields:
+ *        - { name: msgCode, length: 4 }
+ *        - name: header
+ *          fields:
+ *            - { name: branch, length: 3 }
+ *            - { name: date, length: 8 }
+ *        - { name: amount, type: decimal, length: 13, scale: 2, signed: true }
+ *        - { name: count, type: int, length: 2 }
+ *        - name: items
+ *          sizeRef: count          # 같은 group 에서 list 이전에 위치한 field
+ *          fields:
+ *            - { name: seq, type: int, length: 3 }
+ *            - { name: memo, length: 20, padType: RIGHT }
+ * </pre>
+ *
+ * @see FixedLayoutField
+ */
+@Getter @Setter
+@Builder
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class FixedLayoutDefinition {
+
+    private String name;
+    private List<FixedLayoutField> fields;
+}
@@ -0,0 +1,37 @@
+package com.example.common.model;
+
+import com.example.common.internal.annotations.FixedData;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * runtime layout 의 field 정의.
+ * <pre>
+ *     data  : fields 가 없는 field. @FixedData 와 같은 length / scale / padChar / padType / signed 를 가진다.
+ *             type : string(default), int, long, decimal, float, double, boolean, datetime 또는 class 이름
+ *     group : fields 만 있는 field (@FixedVo)
+ *     list  : fields 와 list / size / sizeRef 중 하나가 있는 field (@FixedList)
+ *             size, sizeRef 가 없는 list 는 마지막에 위치해야 한다.
+ * </pre>
+ */
+@Getter @Setter
+@Builder
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class FixedLayoutField {
+
+    private String name;
+    private String type;
+    private int length;
+    private int scale;
+    private Character padChar;
+    private FixedData.PAD_TYPE padType;
+    private boolean signed;
+
+    private List<FixedLayoutField> fields;
+    private boolean list;
+    private Integer size;
+    private String sizeRef;
+}
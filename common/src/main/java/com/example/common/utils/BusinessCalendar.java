@@ -0,0 +1,315 @@
+package com.example.common.utils;
+
+import com.example.common.exception.CommonException;
+import com.example.common.model.BusinessCalendarDefinition;
+
+import java.time.DayOfWeek;
+import java.util.List;
+
+/**
+ * 휴일 / 주말을 제외한 영업일 calendar.
+ * <pre>
+ *     calendar 정의(BusinessCalendarDefinition)를 연도별 영업일 bitset 으로 compile 한다.
+ *         - 연도별 bitset    : 1 월 1 일부터의 일 index 별 영업일 여부 (6 x 64 bit)
+ *         - 연도별 누적 수   : bitset word 시작 전까지의 영업일 수, 연도 시작 전까지의 영업일 수
+ *         - 영업일 목록      : n 번째 영업일의 epoch day
+ *     영업일 여부, 영업일 수, n 영업일 후 계산은 반복 없이 O(1) 로 계산한다.
+ *     compile 된 calendar 는 변경되지 않으므로 여러 thread 에서 공유할 수 있으며,
+ *     calendar 기간(fromYear ~ toYear)을 벗어난 일자는 CommonException 이 발생한다.
+ *
+ * example>
+ *      BusinessCalendar calendar = registry.get("KRX");
+ *      calendar.isBusinessDay(20240209);               // false (설날)
+ *      calendar.addBusinessDays(20240208, 1);          // 20240213
+ *      calendar.getBusinessDaysBetween(20240208, 20240213);   // 1
+ * </pre>
+ *
+ * @see BusinessCalendarRegistry
+ * @see BusinessCalendarDefinition
+ */
+public final class BusinessCalendar {
+
+    // calendar 최대 기간 (년)
+    static final int MAX_YEARS = 400;
+    // 연도별 bitset word 수 (366 일)
+    private static final int WORDS_PER_YEAR = 6;
+
+    private final String name;
+    private final int fromYear;
+    private final int toYear;
+    private final YearTable[] years;
+    // n 번째 영업일의 epoch day
+    private final int[] businessDays;
+
+    private BusinessCalendar(String name, int fromYear, int toYear, boolean[] weekends, int[] holidays) {
+        this.name = name;
+        this.fromYear = fromYear;
+        this.toYear = toYear;
+        this.years = new YearTable[toYear - fromYear + 1];
+
+        for (int year = fromYear; year <= toYear; year++) {
+            YearTable table = new YearTable(DateEngine.toEpochDay(year, 1, 1), DateEngine.isLeapYear(year) ? 366 : 365);
+            for (int day = 0; day < table.length; day++) {
+                if (!weekends[DateEngine.dayOfWeek(table.start + day)]) {
+                    table.bits[day >>> 6] |= 1L << day;
+                }
+            }
+            years[year - fromYear] = table;
+        }
+        for (int holiday : holidays) {
+            int day = (int) (DateEngine.toEpochDay(holiday) - years[DateEngine.year(holiday) - fromYear].start);
+            years[DateEngine.year(holiday) - fromYear].bits[day >>> 6] &= ~(1L << day);
+        }
+
+        // 누적 영업일 수 / 영업일 목록
+        int count = 0;
+        for (YearTable table : years) {
+            table.before = count;
+            for (int word = 0; word < WORDS_PER_YEAR; word++) {
+                table.wordPrefix[word] = count - table.before;
+                count += Long.bitCount(table.bits[word]);
+            }
+        }
+        this.businessDays = new int[count];
+        int index = 0;
+        for (YearTable table : years) {
+            for (int word = 0; word < WORDS_PER_YEAR; word++) {
+                long bits = table.bits[word];
+                while (bits != 0) {
+                    businessDays[index++] = (int) (table.start + word * 64L + Long.numberOfTrailingZeros(bits));
+                    bits &= bits - 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * calendar 정의를 compile. 정의가 올바르지 않으면 CommonException 이 발생한다.
+     *
+     * @param definition calendar 정의
+     * @return compile 된 calendar
+     */
+    public static BusinessCalendar compile(BusinessCalendarDefinition definition) {
+        if (definition == null || definition.getName() == null || definition.getName().isBlank()) {
+            throw CommonException.builder().message("invalid calendar : name is empty").build();
+        }
+        String name = definition.getName();
+        List<String> holidayList = definition.getHolidays() == null ? List.of() : definition.getHolidays();
+
+        int[] holidays = new int[holidayList.size()];
+        int minYear = Integer.MAX_VALUE;
+        int maxYear = Integer.MIN_VALUE;
+        for (int i = 0; i < holidays.length; i++) {
+            int holiday = DateEngine.parseDate(holidayList.get(i));
+            if (!DateEngine.isValidDate(holiday)) {
+                throw CommonException.builder().message("invalid holiday : " + name + " " + holidayList.get(i)).build();
+            }
+            holidays[i] = holiday;
+            minYear = Math.min(minYear, DateEngine.year(holiday));
+            maxYear = Math.max(maxYear, DateEngine.year(holiday));
+        }
+
+        int fromYear = definition.getFromYear() != null ? definition.getFromYear() : minYear;
+        int toYear = definition.getToYear() != null ? definition.getToYear() : maxYear;
+        if (fromYear == Integer.MAX_VALUE || toYear == Integer.MIN_VALUE) {
+            throw CommonException.builder().message("invalid calendar : no year range (" + name + ")").build();
+        }
+        if (fromYear < DateEngine.MIN_YEAR || toYear > DateEngine.MAX_YEAR || fromYear > toYear
+                || toYear - fromYear >= MAX_YEARS) {
+            throw CommonException.builder().message("invalid calendar year range : " + name + " " + fromYear + " ~ "
+                    + toYear).build();
+        }
+        if (minYear < fromYear || maxYear > toYear) {
+            throw CommonException.builder().message("holiday out of year range : " + name).build();
+        }
+
+        return new BusinessCalendar(name, fromYear, toYear, weekends(definition), holidays);
+    }
+
+    private static boolean[] weekends(BusinessCalendarDefinition definition) {
+        // index : 0(일요일) ~ 6(토요일)
+        boolean[] weekends = new boolean[7];
+        if (definition.getWeekends() == null) {
+            weekends[0] = true;
+            weekends[6] = true;
+            return weekends;
+        }
+        for (String weekend : definition.getWeekends()) {
+            try {
+                weekends[DayOfWeek.valueOf(weekend.trim().toUpperCase()).getValue() % 7] = true;
+            } catch (RuntimeException e) {
+                throw CommonException.builder().message("invalid weekend : " + definition.getName() + " " + weekend)
+                        .cause(e).build();
+            }
+        }
+        return weekends;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getFromYear() {
+        return fromYear;
+    }
+
+    public int getToYear() {
+        return toYear;
+    }
+
+    /**
+     * 영업일 여부 확인
+     *
+     * @param date 일자 (yyyyMMdd)
+     * @return 휴일 / 주말이 아니면 true
+     */
+    public boolean isBusinessDay(int date) {
+        YearTable table = table(date);
+        int day = (int) (DateEngine.toEpochDay(date) - table.start);
+        return (table.bits[day >>> 6] & (1L << day)) != 0;
+    }
+
+    /**
+     * 영업일 여부 확인
+     *
+     * @param date 일자 (yyyyMMdd)
+     * @return 휴일 / 주말이 아니면 true
+     */
+    public boolean isBusinessDay(String date) {
+        return isBusinessDay(parse(date));
+    }
+
+    /**
+     * n 영업일 후(n &lt; 0 이면 전) 일자 계산. 기준일은 포함하지 않으며, n 이 0 이면 기준일을 반환한다.
+     * <pre>
+     * example>
+     *      // 20240208(목), 20240209 ~ 20240212 설 연휴
+     *      calendar.addBusinessDays(20240208, 1);      // 20240213
+     *      calendar.addBusinessDays(20240213, -1);     // 20240208
+     * </pre>
+     *
+     * @param date 기준일 (yyyyMMdd)
+     * @param days 영업일 수
+     * @return 계산된 일자 (yyyyMMdd)
+     */
+    public int addBusinessDays(int date, int days) {
+        if (days == 0) {
+            table(date);
+            return date;
+        }
+
+        // 기준일까지(기준일 포함)의 영업일 수
+        int through = countThrough(date);
+        long index = days > 0 ? (long) through + days - 1 : (long) through - (isBusinessDay(date) ? 1 : 0) + days;
+        if (index < 0 || index >= businessDays.length) {
+            throw CommonException.builder().message("business day out of calendar range : " + name + " " + date
+                    + " " + days).build();
+        }
+        return DateEngine.ofEpochDay(businessDays[(int) index]);
+    }
+
+    /**
+     * n 영업일 후(n &lt; 0 이면 전) 일자 계산
+     *
+     * @param date 기준일 (yyyyMMdd)
+     * @param days 영업일 수
+     * @return 계산된 일자 (yyyyMMdd)
+     */
+    public String addBusinessDays(String date, int days) {
+        return DateEngine.toDateString(addBusinessDays(parse(date), days));
+    }
+
+    /**
+     * 기준일 다음 영업일 (기준일 제외)
+     */
+    public int nextBusinessDay(int date) {
+        return addBusinessDays(date, 1);
+    }
+
+    /**
+     * 기준일 이전 영업일 (기준일 제외)
+     */
+    public int previousBusinessDay(int date) {
+        return addBusinessDays(date, -1);
+    }
+
+    /**
+     * 두 일자 사이의 영업일 수. 시작일은 포함하지 않고 종료일은 포함한다. (addBusinessDays 의 역산)
+     * 종료일이 시작일보다 이전이면 음수를 반환한다.
+     * <pre>
+     * example>
+     *      calendar.getBusinessDaysBetween(20240208, 20240213);    // 1
+     * </pre>
+     *
+     * @param startDate 시작일 (yyyyMMdd)
+     * @param endDate   종료일 (yyyyMMdd)
+     * @return 영업일 수
+     */
+    public int getBusinessDaysBetween(int startDate, int endDate) {
+        return countThrough(endDate) - countThrough(startDate);
+    }
+
+    /**
+     * 두 일자 사이의 영업일 수. 시작일은 포함하지 않고 종료일은 포함한다.
+     *
+     * @param startDate 시작일 (yyyyMMdd)
+     * @param endDate   종료일 (yyyyMMdd)
+     * @return 영업일 수
+     */
+    public int getBusinessDaysBetween(String startDate, String endDate) {
+        return getBusinessDaysBetween(parse(startDate), parse(endDate));
+    }
+
+    /**
+     * calendar 시작일부터 date 까지(date 포함)의 영업일 수
+     */
+    private int countThrough(int date) {
+        YearTable table = table(date);
+        int day = (int) (DateEngine.toEpochDay(date) - table.start);
+        int word = day >>> 6;
+        return table.before + table.wordPrefix[word] + Long.bitCount(table.bits[word] & (-1L >>> (63 - (day & 63))));
+    }
+
+    private static int parse(String date) {
+        int value = DateEngine.parseDate(date);
+        if (value == DateEngine.INVALID) {
+            throw CommonException.builder().message("invalid date : " + date).build();
+        }
+        return value;
+    }
+
+    private YearTable table(int date) {
+        if (!DateEngine.isValidDate(date)) {
+            throw CommonException.builder().message("invalid date : " + date).build();
+        }
+        int year = DateEngine.year(date);
+        if (year < fromYear || year > toYear) {
+            throw CommonException.builder().message("date out of calendar range : " + name + " " + date).build();
+        }
+        return years[year - fromYear];
+    }
+
+    @Override
+    public String toString() {
+        return "BusinessCalendar(name=" + name + ", years=" + fromYear + " ~ " + toYear + ")";
+    }
+
+    /**
+     * 연도별 영업일 bitset / 누적 영업일 수
+     */
+    private static final class YearTable {
+        // 1 월 1 일 epoch day
+        private final long start;
+        private final int length;
+        private final long[] bits = new long[WORDS_PER_YEAR];
+        // word 시작 전까지의 연중 영업일 수
+        private final int[] wordPrefix = new int[WORDS_PER_YEAR];
+        // 연도 시작 전까지의 영업일 수
+        private int before;
+
+        private YearTable(long start, int length) {
+            this.start = start;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.common.utils;
+
+import com.example.common.exception.CommonException;
+import com.example.common.model.BusinessCalendarDefinition;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 이름으로 조회하는 영업일 calendar 저장소.
+ * <pre>
+ *     JSON(.json) / YAML(.yml, .yaml) 파일의 calendar 정의(공휴일, 거래소 휴장일 등)를 compile 하여 저장한다.
+ *     파일에는 calendar 1개(object) 또는 여러 개(array)를 정의할 수 있다.
+ *
+ *     reload 는 load 한 파일 / directory 를 다시 읽어 calendar 를 교체한다. (재기동 없이 휴일 변경 반영)
+ *     파일의 calendar 는 compile 이 끝난 뒤 한 번에 교체되므로 계산 중인 요청은 이전 calendar 로 처리되며,
+ *     compile 에 실패한 파일은 기존 calendar 를 유지한다. 삭제된 파일의 calendar 는 제거한다.
+ *     여러 파일에 같은 이름의 calendar 가 있으면 나중에 읽은 파일의 calendar 를 사용하며 warning log 를 남긴다.
+ *     calendar 는 마지막으로 정의한 파일에 속하므로 이전 파일을 변경 / 삭제해도 제거되지 않는다.
+ *
+ * example>
+ *      BusinessCalendarRegistry registry = new BusinessCalendarRegistry();
+ *      registry.load(Path.of("config/calendars"));
+ *
+ *      int settlementDate = registry.get("KRX").addBusinessDays(tradeDate, 2);
+ *
+ *      // 휴일 파일 변경 후
+ *      registry.reload();
+ * </pre>
+ *
+ * @see BusinessCalendar
+ * @see BusinessCalendarDefinition
+ */
+@Slf4j
+public class BusinessCalendarRegistry {
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final Map<String, BusinessCalendar> calendars = new ConcurrentHashMap<>();
+    // 파일별 calendar 이름 (reload / 삭제 시 제거 대상)
+    private final Map<Path, Set<String>> fileCalendars = new ConcurrentHashMap<>();
+    // calendar 이름별 정의 파일 (register 로 등록한 calendar 는 없음)
+    private final Map<String, Path> calendarFiles = new ConcurrentHashMap<>();
+    // load 한 파일 / directory (reload 대상)
+    private final Set<Path> loadedPaths = ConcurrentHashMap.newKeySet();
+
+    /**
+     * calendar 조회
+     *
+     * @param name calendar 이름
+     * @return calendar. 없으면 CommonException 발생
+     */
+    public BusinessCalendar get(String name) {
+        BusinessCalendar calendar = calendars.get(name);
+        if (calendar == null) {
+            throw CommonException.builder().message("calendar not found : " + name).build();
+        }
+        return calendar;
+    }
+
+    /**
+     * calendar 가 등록되어 있는지 확인
+     */
+    public boolean contains(String name) {
+        return calendars.containsKey(name);
+    }
+
+    /**
+     * 등록된 calendar 이름 목록
+     */
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(calendars.keySet());
+    }
+
+    /**
+     * calendar 정의를 compile 하여 등록. 같은 이름의 calendar 가 있으면 교체한다.
+     *
+     * @param definition calendar 정의
+     * @return 등록된 calendar
+     */
+    public synchronized BusinessCalendar register(BusinessCalendarDefinition definition) {
+        BusinessCalendar calendar = BusinessCalendar.compile(definition);
+        releaseFile(calendar.getName());
+        calendars.put(calendar.getName(), calendar);
+        return calendar;
+    }
+
+    /**
+     * 파일 또는 directory 의 calendar 정의 파일(.json, .yml, .yaml)을 읽어 등록. 정의가 올바르지 않으면 CommonException 이 발생한다.
+     *
+     * @param path calendar 정의 파일 또는 directory
+     * @return 등록된 calendar 수
+     */
+    public synchronized int load(Path path) {
+        int count = 0;
+        for (Path file : listFiles(path)) {
+            count += loadFile(file).size();
+        }
+        loadedPaths.add(path.toAbsolutePath());
+        return count;
+    }
+
+    /**
+     * load 한 파일 / directory 를 다시 읽어 calendar 교체.
+     * compile 에 실패한 파일은 기존 calendar 를 유지하고, 삭제된 파일의 calendar 는 제거한다.
+     *
+     * @return 다시 등록된 calendar 수
+     */
+    public synchronized int reload() {
+        Set<Path> files = new LinkedHashSet<>();
+        for (Path path : loadedPaths) {
+            if (Files.exists(path)) files.addAll(listFiles(path));
+        }
+
+        // 삭제된 파일
+        for (Path file : new ArrayList<>(fileCalendars.keySet())) {
+            if (!files.contains(file)) {
+                Set<String> names = fileCalendars.remove(file);
+                if (names != null) names.forEach(this::remove);
+                log.info("calendar removed : {} {}", file, names);
+            }
+        }
+
+        int count = 0;
+        for (Path file : files) {
+            try {
+                Set<String> names = loadFile(file);
+                count += names.size();
+                log.info("calendar reloaded : {} {}", file, names);
+            } catch (RuntimeException e) {
+                // 작성 중인 파일 / 잘못된 정의는 기존 calendar 유지
+                log.warn("calendar reload failed, keep previous calendar : {}", file, e);
+            }
+        }
+        return count;
+    }
+
+    private static List<Path> listFiles(Path path) {
+        if (!Files.isDirectory(path)) {
+            return List.of(path.toAbsolutePath());
+        }
+
+        try (Stream<Path> files = Files.list(path)) {
+            return files.filter(BusinessCalendarRegistry::isCalendarFile).map(Path::toAbsolutePath).sorted().toList();
+        } catch (IOException e) {
+            throw CommonException.builder().message("calendar load error : " + path).cause(e).build();
+        }
+    }
+
+    private Set<String> loadFile(Path file) {
+        List<BusinessCalendarDefinition> definitions = readDefinitions(file);
+
+        // 파일의 calendar 를 모두 compile 한 뒤 교체
+        Map<String, BusinessCalendar> compiled = new LinkedHashMap<>();
+        for (BusinessCalendarDefinition definition : definitions) {
+            BusinessCalendar calendar = BusinessCalendar.compile(definition);
+            if (compiled.put(calendar.getName(), calendar) != null) {
+                throw CommonException.builder().message("duplicate calendar name : " + calendar.getName()).build();
+            }
+        }
+
+        calendars.putAll(compiled);
+        for (String name : compiled.keySet()) {
+            Path owner = calendarFiles.get(name);
+            if (owner != null && !owner.equals(file)) {
+                log.warn("duplicate calendar name, replaced by later file : {} ({} -> {})", name, owner, file);
+                releaseFile(name);
+            }
+            calendarFiles.put(name, file);
+        }
+
+        Set<String> names = Collections.unmodifiableSet(compiled.keySet());
+        Set<String> previous = fileCalendars.put(file, names);
+        if (previous != null) {
+            previous.stream().filter(name -> !names.contains(name)).forEach(this::remove);
+        }
+        return names;
+    }
+
+    /**
+     * calendar 를 정의 파일의 calendar 목록에서 제외. (정의 파일을 변경 / 삭제해도 제거되지 않음)
+     */
+    private void releaseFile(String name) {
+        Path owner = calendarFiles.remove(name);
+        if (owner == null) return;
+        fileCalendars.computeIfPresent(owner, (path, names) -> {
+            Set<String> remaining = new LinkedHashSet<>(names);
+            remaining.remove(name);
+            return Collections.unmodifiableSet(remaining);
+        });
+    }
+
+    private void remove(String name) {
+        calendars.remove(name);
+        calendarFiles.remove(name);
+    }
+
+    private static List<BusinessCalendarDefinition> readDefinitions(Path file) {
+        ObjectMapper mapper = isYaml(file) ? YAML_MAPPER : JSON_MAPPER;
+        try {
+            JsonNode root = mapper.readTree(file.toFile());
+            if (root == null || root.isMissingNode()) {
+                throw CommonException.builder().message("calendar file is empty : " + file).build();
+            }
+            if (root.isArray()) {
+                return Arrays.asList(mapper.treeToValue(root, BusinessCalendarDefinition[].class));
+            }
+            return List.of(mapper.treeToValue(root, BusinessCalendarDefinition.class));
+        } catch (IOException e) {
+            throw CommonException.builder().message("calendar file read error : " + file).cause(e).build();
+        }
+    }
+
+    private static boolean isCalendarFile(Path file) {
+        String name = file.getFileName().toString();
+        return name.endsWith(".json") || isYaml(file);
+    }
+
+    private static boolean isYaml(Path file) {
+        String name = file.getFileName().toString();
+        return name.endsWith(".yml") || name.endsWith(".yaml");
+    }
+}
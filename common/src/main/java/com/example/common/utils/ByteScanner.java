@@ -0,0 +1,231 @@
+package com.example.common.utils;
+
+import com.example.common.exception.CommonException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * StringUtils 의 byte[] / ByteBuffer 검증 함수에서 사용하는 ASCII byte 검사.
+ * <pre>
+ *     8 byte 를 long 하나로 읽어 byte 별 범위 검사를 한번에 수행(SWAR)하고, 남은 byte 는 하나씩 검사한다.
+ *     byte 가 [lo, hi] 범위이면 해당 byte 의 최상위 bit 가 set 된 mask 를 계산하므로 분기 없이 8 byte 를 검사한다.
+ *     ASCII(0x00 ~ 0x7F) 가 아닌 byte(한글 등 multi byte 문자의 일부)는 어떤 문자 종류에도 포함되지 않는다.
+ * </pre>
+ */
+final class ByteScanner {
+
+    // 문자 종류
+    static final int DIGIT = 0;          // 0-9
+    static final int ALPHA = 1;          // a-z, A-Z
+    static final int DIGIT_ALPHA = 2;    // 0-9, a-z, A-Z
+    static final int HEX = 3;            // 0-9, a-f, A-F
+    static final int SPACE = 4;          // ' '
+    static final int ZERO = 5;           // '0'
+    static final int WHITESPACE = 6;     // ' ', '\t', '\n', '\r'
+    static final int UPPER = 7;          // A-Z
+    static final int LOWER = 8;          // a-z
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGH = 0x8080808080808080L;
+    private static final long LOW = 0x7F7F7F7F7F7F7F7FL;
+    // 대소문자 bit (0x20)
+    private static final long CASE = 0x2020202020202020L;
+    // '0' x 8
+    private static final long ZEROS = 0x3030303030303030L;
+
+    private ByteScanner() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 구간의 모든 byte 가 문자 종류에 포함되는지 확인
+     *
+     * @param kind   문자 종류
+     * @param src    검사 대상 byte 배열
+     * @param offset 시작 위치
+     * @param length 검사할 byte 수
+     * @return 모두 포함되면 true (빈 구간은 true)
+     */
+    static boolean allMatch(int kind, byte[] src, int offset, int length) {
+        checkRange(src.length, offset, length);
+        int end = offset + length;
+        int i = offset;
+        for (; i <= end - Long.BYTES; i += Long.BYTES) {
+            if (mask(kind, (long) LONGS.get(src, i)) != HIGH) return false;
+        }
+        for (; i < end; i++) {
+            if (!test(kind, src[i])) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 구간에 문자 종류에 포함되는 byte 가 있는지 확인
+     *
+     * @param kind   문자 종류
+     * @param src    검사 대상 byte 배열
+     * @param offset 시작 위치
+     * @param length 검사할 byte 수
+     * @return 하나라도 포함되면 true
+     */
+    static boolean anyMatch(int kind, byte[] src, int offset, int length) {
+        checkRange(src.length, offset, length);
+        int end = offset + length;
+        int i = offset;
+        for (; i <= end - Long.BYTES; i += Long.BYTES) {
+            if (mask(kind, (long) LONGS.get(src, i)) != 0) return true;
+        }
+        for (; i < end; i++) {
+            if (test(kind, src[i])) return true;
+        }
+        return false;
+    }
+
+    /**
+     * buffer 의 position 부터 limit 까지의 모든 byte 가 문자 종류에 포함되는지 확인. position 은 변경하지 않는다.
+     */
+    static boolean allMatch(int kind, ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return allMatch(kind, buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        int end = buffer.limit();
+        int i = buffer.position();
+        for (; i <= end - Long.BYTES; i += Long.BYTES) {
+            if (mask(kind, buffer.getLong(i)) != HIGH) return false;
+        }
+        for (; i < end; i++) {
+            if (!test(kind, buffer.get(i))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * buffer 의 position 부터 limit 까지에 문자 종류에 포함되는 byte 가 있는지 확인. position 은 변경하지 않는다.
+     */
+    static boolean anyMatch(int kind, ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return anyMatch(kind, buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        int end = buffer.limit();
+        int i = buffer.position();
+        for (; i <= end - Long.BYTES; i += Long.BYTES) {
+            if (mask(kind, buffer.getLong(i)) != 0) return true;
+        }
+        for (; i < end; i++) {
+            if (test(kind, buffer.get(i))) return true;
+        }
+        return false;
+    }
+
+    /**
+     * length(1 ~ 8) 자리 ASCII 숫자를 정수로 변환.
+     * 8 byte 를 읽을 수 있으면 long 하나로 숫자 여부 확인과 변환을 분기 없이 수행한다.
+     * (앞 자리를 '0' 으로 채운 8 자리를 2 / 4 / 8 자리 단위로 합산)
+     *
+     * @param src    byte 배열
+     * @param offset 시작 위치
+     * @param length 자리 수
+     * @return 변환된 값. 숫자가 아닌 byte 가 있으면 -1
+     */
+    static int parseDigits(byte[] src, int offset, int length) {
+        if (offset > src.length - Long.BYTES) {
+            int value = 0;
+            for (int i = offset; i < offset + length; i++) {
+                int digit = src[i] - '0';
+                if (digit < 0 || digit > 9) return -1;
+                value = value * 10 + digit;
+            }
+            return value;
+        }
+
+        // little endian : 첫 byte 가 최하위 byte. length 이후 byte 를 밀어내고 앞에 '0' 을 채운다.
+        int pad = (Long.BYTES - length) * 8;
+        long word = pad == 0 ? (long) LONGS.get(src, offset)
+                : (long) LONGS.get(src, offset) << pad | ZEROS >>> (64 - pad);
+        if (inRange(word, '0', '9') != HIGH) return -1;
+
+        long value = word - ZEROS;
+        value = (value * 10 + (value >>> 8)) & 0x00FF00FF00FF00FFL;
+        value = (value * 100 + (value >>> 16)) & 0x0000FFFF0000FFFFL;
+        value = (value * 10000 + (value >>> 32)) & 0xFFFFFFFFL;
+        return (int) value;
+    }
+
+    /**
+     * 8 byte 중 문자 종류에 포함되는 byte 의 최상위 bit 가 set 된 mask
+     */
+    private static long mask(int kind, long word) {
+        switch (kind) {
+            case DIGIT:
+                return inRange(word, '0', '9');
+            case ALPHA:
+                return inRange(word | CASE, 'a', 'z');
+            case DIGIT_ALPHA:
+                return inRange(word, '0', '9') | inRange(word | CASE, 'a', 'z');
+            case HEX:
+                return inRange(word, '0', '9') | inRange(word | CASE, 'a', 'f');
+            case SPACE:
+                return inRange(word, ' ', ' ');
+            case ZERO:
+                return inRange(word, '0', '0');
+            case WHITESPACE:
+                return inRange(word, '\t', '\n') | inRange(word, '\r', '\r') | inRange(word, ' ', ' ');
+            case UPPER:
+                return inRange(word, 'A', 'Z');
+            case LOWER:
+                return inRange(word, 'a', 'z');
+            default:
+                throw new IllegalArgumentException("invalid kind : " + kind);
+        }
+    }
+
+    /**
+     * byte 하나가 문자 종류에 포함되는지 확인 (mask 와 같은 규칙)
+     */
+    private static boolean test(int kind, byte b) {
+        switch (kind) {
+            case DIGIT:
+                return b >= '0' && b <= '9';
+            case ALPHA:
+                return (b | 0x20) >= 'a' && (b | 0x20) <= 'z';
+            case DIGIT_ALPHA:
+                return b >= '0' && b <= '9' || (b | 0x20) >= 'a' && (b | 0x20) <= 'z';
+            case HEX:
+                return b >= '0' && b <= '9' || (b | 0x20) >= 'a' && (b | 0x20) <= 'f';
+            case SPACE:
+                return b == ' ';
+            case ZERO:
+                return b == '0';
+            case WHITESPACE:
+                return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+            case UPPER:
+                return b >= 'A' && b <= 'Z';
+            case LOWER:
+                return b >= 'a' && b <= 'z';
+            default:
+                throw new IllegalArgumentException("invalid kind : " + kind);
+        }
+    }
+
+    /**
+     * 8 byte 중 [lo, hi] 범위(ASCII)인 byte 의 최상위 bit 가 set 된 mask.
+     * 최상위 bit 를 제거한 값에 더하므로 byte 사이에 올림이 발생하지 않으며, 0x80 이상인 byte 는 제외한다.
+     */
+    private static long inRange(long word, int lo, int hi) {
+        long low = word & LOW;
+        long ge = low + (0x80 - lo) * ONES;
+        long gt = low + (0x7F - hi) * ONES;
+        return ge & ~gt & ~word & HIGH;
+    }
+
+    private static void checkRange(int size, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > size - length) {
+            throw CommonException.builder().message("invalid offset / length : " + offset + " / " + length).build();
+        }
+    }
+}
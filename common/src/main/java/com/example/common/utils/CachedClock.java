@@ -0,0 +1,375 @@
+package com.example.common.utils;
+
+import com.example.common.exception.CommonException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+/**
+ * 현재 일시 문자열을 millisecond 단위로 cache 하는 clock.
+ * <pre>
+ *     yyyyMMddHHmmssSSS(17) 자리의 문자 배열을 millisecond(tick) 마다 이전 tick 의 배열에서 바뀐 자리만 다시 기록한다.
+ *         - 같은 초 : SSS 만 기록
+ *         - 같은 일 : HHmmssSSS 만 기록 (날짜 문자열은 하루 동안 같은 instance 를 반환)
+ *         - 일 변경 / 시간대 offset 변경(일광 절약 시간) : 전체 다시 계산
+ *     같은 tick 안에서의 호출은 tick 에 cache 된 String instance 를 그대로 반환하며,
+ *     write 함수로 문자열 생성 없이 byte 배열(전문 header 등)에 직접 기록할 수 있다.
+ *     microsecond 는 clock 의 instant 에서 조회한다. (clock 의 정밀도가 millisecond 이면 000)
+ *
+ *     기본 clock 은 system clock / system 기본 시간대이며, 시험용 clock(Clock.fixed, Clock.offset 등)을 지정할 수 있다.
+ *     tick 정보는 변경되지 않는 object 로 교체하므로 여러 thread 에서 공유할 수 있다.
+ *
+ * example>
+ *      CachedClock clock = CachedClock.system();
+ *      String now = clock.datetimeMilli();     // 20231130161044644
+ *
+ *      byte[] header = new byte[64];
+ *      int offset = clock.writeDatetimeMilli(header, 10);
+ *
+ *      // 시험용 고정 clock
+ *      CachedClock fixed = CachedClock.of(Clock.fixed(Instant.parse("2023-11-30T07:10:44.644Z"), ZoneId.of("Asia/Seoul")));
+ * </pre>
+ *
+ * @see DateUtils#setClock(Clock)
+ */
+public final class CachedClock {
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    // digits 자리 : yyyy MM dd HH mm ss SSS
+    private static final int DATE_END = 8;
+    private static final int TIME_END = 14;
+    private static final int MILLI_END = 17;
+    private static final int MICRO_LENGTH = 6;
+
+    private static final CachedClock SYSTEM = new CachedClock(Clock.systemDefaultZone());
+
+    private final Clock clock;
+    private final ZoneRules rules;
+    private volatile Tick tick;
+
+    private CachedClock(Clock clock) {
+        if (clock == null) {
+            throw CommonException.builder().message("invalid clock : null").build();
+        }
+        this.clock = clock;
+        this.rules = clock.getZone().getRules();
+    }
+
+    /**
+     * system clock / system 기본 시간대 clock (공유 instance)
+     */
+    public static CachedClock system() {
+        return SYSTEM;
+    }
+
+    /**
+     * 지정한 clock 으로 cache clock 생성
+     *
+     * @param clock 현재 일시 / 시간대를 조회할 clock
+     * @return cache clock
+     */
+    public static CachedClock of(Clock clock) {
+        return new CachedClock(clock);
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+
+    public ZoneId getZone() {
+        return clock.getZone();
+    }
+
+    /**
+     * 현재 시각 (epoch millisecond)
+     */
+    public long millis() {
+        return clock.millis();
+    }
+
+    /**
+     * 현재 일시
+     */
+    public LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    /**
+     * 현재 날짜 yyyyMMdd(8)
+     */
+    public String date() {
+        Tick t = tick(clock.millis());
+        String value = t.date;
+        if (value == null) {
+            value = new String(t.digits, 0, DATE_END);
+            t.date = value;
+        }
+        return value;
+    }
+
+    /**
+     * 현재 시각 HHmmss(6)
+     */
+    public String time() {
+        Tick t = tick(clock.millis());
+        String value = t.time;
+        if (value == null) {
+            value = new String(t.digits, DATE_END, TIME_END - DATE_END);
+            t.time = value;
+        }
+        return value;
+    }
+
+    /**
+     * 현재 일시 yyyyMMddHHmmss(14)
+     */
+    public String datetime() {
+        Tick t = tick(clock.millis());
+        String value = t.datetime;
+        if (value == null) {
+            value = new String(t.digits, 0, TIME_END);
+            t.datetime = value;
+        }
+        return value;
+    }
+
+    /**
+     * 현재 일시 yyyyMMddHHmmssSSS(17)
+     */
+    public String datetimeMilli() {
+        Tick t = tick(clock.millis());
+        String value = t.datetimeMilli;
+        if (value == null) {
+            value = new String(t.digits, 0, MILLI_END);
+            t.datetimeMilli = value;
+        }
+        return value;
+    }
+
+    /**
+     * 현재 시각 HHmmssSSS(9)
+     */
+    public String timeMilli() {
+        Tick t = tick(clock.millis());
+        String value = t.timeMilli;
+        if (value == null) {
+            value = new String(t.digits, DATE_END, MILLI_END - DATE_END);
+            t.timeMilli = value;
+        }
+        return value;
+    }
+
+    /**
+     * 현재 일시 yyyyMMddHHmmss(14)+microsecond(6)
+     */
+    public String datetimeMicro() {
+        Instant instant = clock.instant();
+        char[] chars = new char[TIME_END + MICRO_LENGTH];
+        System.arraycopy(tick(instant.toEpochMilli()).digits, 0, chars, 0, TIME_END);
+        putDigits(chars, TIME_END, instant.getNano() / 1000, MICRO_LENGTH);
+        return new String(chars);
+    }
+
+    /**
+     * 현재 시각 HHmmss(6)+microsecond(6)
+     */
+    public String timeMicro() {
+        Instant instant = clock.instant();
+        char[] chars = new char[TIME_END - DATE_END + MICRO_LENGTH];
+        System.arraycopy(tick(instant.toEpochMilli()).digits, DATE_END, chars, 0, TIME_END - DATE_END);
+        putDigits(chars, TIME_END - DATE_END, instant.getNano() / 1000, MICRO_LENGTH);
+        return new String(chars);
+    }
+
+    /**
+     * 현재 초의 millisecond (0 ~ 999)
+     */
+    public int milliOfSecond() {
+        return (int) Math.floorMod(clock.millis(), 1000L);
+    }
+
+    /**
+     * 현재 초의 microsecond (0 ~ 999999)
+     */
+    public int microOfSecond() {
+        return clock.instant().getNano() / 1000;
+    }
+
+    /**
+     * 현재 날짜 yyyyMMdd(8)를 byte 배열에 기록
+     *
+     * @param dst    기록할 byte 배열
+     * @param offset 기록 시작 위치
+     * @return 기록 후 위치 (offset + 8)
+     */
+    public int writeDate(byte[] dst, int offset) {
+        return write(tick(clock.millis()).digits, 0, DATE_END, dst, offset);
+    }
+
+    /**
+     * 현재 시각 HHmmss(6)를 byte 배열에 기록
+     *
+     * @param dst    기록할 byte 배열
+     * @param offset 기록 시작 위치
+     * @return 기록 후 위치 (offset + 6)
+     */
+    public int writeTime(byte[] dst, int offset) {
+        return write(tick(clock.millis()).digits, DATE_END, TIME_END, dst, offset);
+    }
+
+    /**
+     * 현재 일시 yyyyMMddHHmmssSSS(17)를 byte 배열에 기록
+     *
+     * @param dst    기록할 byte 배열
+     * @param offset 기록 시작 위치
+     * @return 기록 후 위치 (offset + 17)
+     */
+    public int writeDatetimeMilli(byte[] dst, int offset) {
+        return write(tick(clock.millis()).digits, 0, MILLI_END, dst, offset);
+    }
+
+    /**
+     * 현재 일시 yyyyMMddHHmmss(14)+microsecond(6)를 byte 배열에 기록
+     *
+     * @param dst    기록할 byte 배열
+     * @param offset 기록 시작 위치
+     * @return 기록 후 위치 (offset + 20)
+     */
+    public int writeDatetimeMicro(byte[] dst, int offset) {
+        Instant instant = clock.instant();
+        checkRange(dst, offset, TIME_END + MICRO_LENGTH);
+        int pos = write(tick(instant.toEpochMilli()).digits, 0, TIME_END, dst, offset);
+        int value = instant.getNano() / 1000;
+        for (int i = pos + MICRO_LENGTH - 1; i >= pos; i--) {
+            dst[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + MICRO_LENGTH;
+    }
+
+    /**
+     * epochMilli 의 tick 조회. 이전 tick 과 millisecond 가 다르면 새 tick 으로 교체한다.
+     */
+    private Tick tick(long epochMilli) {
+        Tick current = tick;
+        if (current != null && current.epochMilli == epochMilli) return current;
+
+        Tick next = current != null && epochMilli >= current.dayStart && epochMilli < current.dayEnd
+                ? current.next(epochMilli)
+                : newTick(epochMilli);
+        tick = next;
+        return next;
+    }
+
+    /**
+     * 전체 자리를 계산한 tick 생성. 같은 날짜 / 시간대 offset 이 유지되는 구간을 함께 계산한다.
+     */
+    private Tick newTick(long epochMilli) {
+        Instant instant = Instant.ofEpochMilli(epochMilli);
+        LocalDateTime dateTime = LocalDateTime.ofInstant(instant, clock.getZone());
+
+        // 현재 offset 기준 자정부터 다음 자정까지, offset 변경 시점이 있으면 그 구간으로 제한
+        long dayStart = epochMilli - dateTime.toLocalTime().toNanoOfDay() / 1_000_000L;
+        long midnight = dayStart;
+        long dayEnd = dayStart + MILLIS_PER_DAY;
+        ZoneOffsetTransition previous = rules.previousTransition(instant);
+        if (previous != null) {
+            dayStart = Math.max(dayStart, previous.getInstant().toEpochMilli());
+        }
+        ZoneOffsetTransition next = rules.nextTransition(instant);
+        if (next != null) {
+            dayEnd = Math.min(dayEnd, next.getInstant().toEpochMilli());
+        }
+
+        char[] digits = new char[MILLI_END];
+        putDigits(digits, 0, dateTime.getYear(), 4);
+        putDigits(digits, 4, dateTime.getMonthValue(), 2);
+        putDigits(digits, 6, dateTime.getDayOfMonth(), 2);
+        putTime(digits, epochMilli - midnight);
+        return new Tick(epochMilli, midnight, dayStart, dayEnd, digits, null);
+    }
+
+    /**
+     * millisOfDay 를 HHmmssSSS 자리에 기록
+     */
+    private static void putTime(char[] digits, long millisOfDay) {
+        int seconds = (int) (millisOfDay / 1000);
+        putDigits(digits, 8, seconds / 3600, 2);
+        putDigits(digits, 10, seconds / 60 % 60, 2);
+        putDigits(digits, 12, seconds % 60, 2);
+        putDigits(digits, TIME_END, (int) (millisOfDay % 1000), 3);
+    }
+
+    private static void putDigits(char[] chars, int offset, int value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static int write(char[] digits, int from, int to, byte[] dst, int offset) {
+        checkRange(dst, offset, to - from);
+        for (int i = from; i < to; i++) {
+            dst[offset++] = (byte) digits[i];
+        }
+        return offset;
+    }
+
+    private static void checkRange(byte[] dst, int offset, int length) {
+        if (offset < 0 || offset > dst.length - length) {
+            throw CommonException.builder().message("invalid offset : " + offset + " (length " + length + ")").build();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CachedClock(" + clock + ")";
+    }
+
+    /**
+     * millisecond 하나의 일시 자리. digits 는 생성 후 변경하지 않는다.
+     * 문자열은 처음 조회할 때 생성하며, 여러 thread 가 동시에 생성해도 같은 값이므로 동기화하지 않는다.
+     */
+    private static final class Tick {
+        final long epochMilli;
+        // 현재 offset 기준 자정 (epoch millisecond)
+        final long midnight;
+        // 날짜 / offset 이 같은 구간 [dayStart, dayEnd)
+        final long dayStart;
+        final long dayEnd;
+        final char[] digits;
+
+        String date;
+        String time;
+        String datetime;
+        String datetimeMilli;
+        String timeMilli;
+
+        Tick(long epochMilli, long midnight, long dayStart, long dayEnd, char[] digits, String date) {
+            this.epochMilli = epochMilli;
+            this.midnight = midnight;
+            this.dayStart = dayStart;
+            this.dayEnd = dayEnd;
+            this.digits = digits;
+            this.date = date;
+        }
+
+        /**
+         * 같은 구간의 다음 tick. 이전 tick 의 자리를 복사하여 바뀐 자리만 기록한다.
+         */
+        Tick next(long epochMilli) {
+            char[] next = digits.clone();
+            long millisOfDay = epochMilli - midnight;
+            if (Math.floorDiv(epochMilli, 1000L) == Math.floorDiv(this.epochMilli, 1000L)) {
+                putDigits(next, TIME_END, (int) (millisOfDay % 1000), 3);
+            } else {
+                putTime(next, millisOfDay);
+            }
+            return new Tick(epochMilli, midnight, dayStart, dayEnd, next, date);
+        }
+    }
+}
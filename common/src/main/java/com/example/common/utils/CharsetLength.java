@@ -0,0 +1,238 @@
+package com.example.common.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * FormatterUtils / StringUtils / PaddingEngine 에서 공통으로 사용하는 charset 별 byte 수 계산.
+ * <pre>
+ *     문자열을 encode 하지 않고 문자를 순회하며 byte 수를 계산한다. 결과는 value.getBytes(charset).length 와 같다.
+ *
+ *     UTF-8              : 문자 범위로 계산 (보조 문자 4 byte, 짝이 없는 surrogate 는 '?' 1 byte)
+ *     EUC-KR(KSC5601), MS949 : 2 byte 로 encode 되는 BMP 문자의 bit table(8KB)을 charset 별로 한번만 생성하여 조회한다.
+ *                          table 에 없는 문자와 보조 문자는 '?' 1 byte 로 encode 된다.
+ *     그 외 charset      : ASCII 문자열은 문자 수, 그 외는 thread 별 encoder / buffer 를 재사용하여 계산한다.
+ *
+ *     cutIndex 는 byte 수 제한 안에서 문자(보조 문자 포함)를 자르지 않는 위치를 계산한다.
+ * </pre>
+ */
+final class CharsetLength {
+
+    // table 로 byte 수를 계산하는 2 byte charset (KSC5601 은 EUC-KR 의 alias)
+    private static final Set<String> DOUBLE_BYTE_CHARSETS = Set.of("EUC-KR", "x-windows-949");
+    // table 을 사용하지 않는 charset
+    private static final long[] NO_TABLE = new long[0];
+    private static final int BUFFER_SIZE = 256;
+
+    private static final Map<Charset, long[]> TABLES = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private CharsetLength() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * charset 으로 encode 한 byte 수 조회. (value.getBytes(charset).length 와 동일)
+     *
+     * @param value   대상 문자열
+     * @param charset 변환 시 사용할 charset
+     * @return byte 수
+     */
+    static int byteLength(CharSequence value, Charset charset) {
+        int length = value.length();
+        if (StandardCharsets.UTF_8.equals(charset)) return utf8Length(value, length);
+
+        long[] table = table(charset);
+        if (table != null) return doubleByteLength(value, length, table);
+
+        if (PaddingEngine.isAsciiCompatible(charset) && PaddingEngine.isAscii(value)) return length;
+        return SCRATCH.get().byteLength(value, charset);
+    }
+
+    /**
+     * 문자 하나를 charset 으로 encode 한 byte 수 조회. (String.valueOf(ch).getBytes(charset).length 와 동일)
+     *
+     * @param ch      대상 문자 (surrogate 는 짝이 없는 문자로 계산)
+     * @param charset 변환 시 사용할 charset
+     * @return byte 수
+     */
+    static int charLength(char ch, Charset charset) {
+        if (ch < 0x80 && PaddingEngine.isAsciiCompatible(charset)) return 1;
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            if (ch < 0x800) return 2;
+            return Character.isSurrogate(ch) ? 1 : 3;
+        }
+
+        long[] table = table(charset);
+        if (table != null) return isDoubleByte(table, ch) ? 2 : 1;
+        return String.valueOf(ch).getBytes(charset).length;
+    }
+
+    /**
+     * start 부터 maxBytes 를 넘지 않는 마지막 문자 경계 조회. 문자(보조 문자 포함)를 중간에서 자르지 않는다.
+     * <pre>
+     * example>
+     *      // "가나다" (EUC-KR) 를 5 byte 로 자르면 "가나"
+     *      int end = CharsetLength.cutIndex("가나다", 0, 5, Charset.forName("EUC-KR"));   // 2
+     * </pre>
+     *
+     * @param value    대상 문자열
+     * @param start    시작 index
+     * @param maxBytes 최대 byte 수
+     * @param charset  변환 시 사용할 charset
+     * @return 자를 위치(exclusive index)
+     */
+    static int cutIndex(CharSequence value, int start, int maxBytes, Charset charset) {
+        boolean utf8 = StandardCharsets.UTF_8.equals(charset);
+        long[] table = utf8 ? null : table(charset);
+        boolean asciiCompatible = PaddingEngine.isAsciiCompatible(charset);
+
+        int length = value.length();
+        int bytes = 0;
+        int i = start;
+        while (i < length) {
+            char ch = value.charAt(i);
+            int count = Character.isHighSurrogate(ch) && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1)) ? 2 : 1;
+
+            int width;
+            if (ch < 0x80 && asciiCompatible) {
+                width = 1;
+            } else if (utf8) {
+                width = count == 2 ? 4 : charLength(ch, charset);
+            } else if (table != null) {
+                width = count == 2 ? 1 : (isDoubleByte(table, ch) ? 2 : 1);
+            } else {
+                width = value.subSequence(i, i + count).toString().getBytes(charset).length;
+            }
+
+            if (bytes + width > maxBytes) break;
+            bytes += width;
+            i += count;
+        }
+        return i;
+    }
+
+    private static int utf8Length(CharSequence value, int length) {
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            if (ch < 0x80) continue;
+
+            if (ch < 0x800) {
+                bytes++;
+            } else if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                // 보조 문자 : 2 char -> 4 byte
+                bytes += 2;
+                i++;
+            } else if (!Character.isSurrogate(ch)) {
+                bytes += 2;
+            }
+        }
+        return bytes;
+    }
+
+    private static int doubleByteLength(CharSequence value, int length, long[] table) {
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            if (ch < 0x80) continue;
+
+            if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                // 보조 문자는 '?' 1 byte 로 encode 된다.
+                bytes--;
+                i++;
+            } else if (isDoubleByte(table, ch)) {
+                bytes++;
+            }
+        }
+        return bytes;
+    }
+
+    private static boolean isDoubleByte(long[] table, char ch) {
+        return (table[ch >>> 6] & (1L << ch)) != 0;
+    }
+
+    /**
+     * charset 의 2 byte 문자 table 조회. table 을 사용하지 않는 charset 이면 null
+     */
+    private static long[] table(Charset charset) {
+        long[] table = TABLES.computeIfAbsent(charset, CharsetLength::createTable);
+        return table == NO_TABLE ? null : table;
+    }
+
+    /**
+     * BMP 문자를 하나씩 encode 하여 2 byte 로 encode 되는 문자의 bit table 생성.
+     * 1 / 2 byte 외의 결과가 있으면 table 을 사용하지 않는다.
+     */
+    private static long[] createTable(Charset charset) {
+        if (!DOUBLE_BYTE_CHARSETS.contains(charset.name()) || !PaddingEngine.isAsciiCompatible(charset)) {
+            return NO_TABLE;
+        }
+
+        CharsetEncoder encoder = newEncoder(charset);
+        CharBuffer in = CharBuffer.allocate(1);
+        ByteBuffer out = ByteBuffer.allocate(16);
+        long[] table = new long[(Character.MAX_VALUE + 1) >>> 6];
+        for (int ch = 0x80; ch <= Character.MAX_VALUE; ch++) {
+            if (Character.isSurrogate((char) ch)) continue;
+
+            in.clear();
+            in.put((char) ch).flip();
+            out.clear();
+            encoder.reset();
+            encoder.encode(in, out, true);
+            encoder.flush(out);
+
+            if (out.position() == 2) {
+                table[ch >>> 6] |= 1L << ch;
+            } else if (out.position() != 1) {
+                return NO_TABLE;
+            }
+        }
+        return table;
+    }
+
+    private static CharsetEncoder newEncoder(Charset charset) {
+        return charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * thread 별로 재사용하는 encoder / buffer
+     */
+    private static final class Scratch {
+        private final ByteBuffer encodeBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private final Map<Charset, CharsetEncoder> encoders = new HashMap<>();
+
+        int byteLength(CharSequence value, Charset charset) {
+            CharsetEncoder encoder = encoders.computeIfAbsent(charset, CharsetLength::newEncoder);
+            encoder.reset();
+
+            CharBuffer in = CharBuffer.wrap(value);
+            int length = 0;
+            CoderResult result;
+            do {
+                encodeBuffer.clear();
+                result = encoder.encode(in, encodeBuffer, true);
+                length += encodeBuffer.position();
+            } while (result.isOverflow());
+            do {
+                encodeBuffer.clear();
+                result = encoder.flush(encodeBuffer);
+                length += encodeBuffer.position();
+            } while (result.isOverflow());
+            return length;
+        }
+    }
+}
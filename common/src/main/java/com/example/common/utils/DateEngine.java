@@ -0,0 +1,232 @@
+package com.example.common.utils;
+
+/**
+ * DateUtils 에서 사용하는 yyyyMMdd / HHmmss 정수 날짜 계산.
+ * <pre>
+ *     날짜는 yyyyMMdd 정수(20231130), 시각은 HHmmss 정수(172956)로 표현하며,
+ *     월별 일수 / 월 시작 누적 일수 table 과 윤년 규칙으로 epoch day(1970-01-01 = 0)를 계산한다.
+ *     LocalDate / Calendar / String 을 생성하지 않는다. (toDateString / toTimeString 제외)
+ *
+ *     날짜 범위는 0001 ~ 9999 년이며, 1582-10-15 이전도 Gregorian 력으로 계산한다. (LocalDate 와 동일)
+ *     계산 결과가 범위를 벗어나면 INVALID 를 반환한다.
+ * </pre>
+ */
+final class DateEngine {
+
+    static final int INVALID = -1;
+    static final int MIN_YEAR = 1;
+    static final int MAX_YEAR = 9999;
+    // 이 연도 이후는 Calendar(1582-10-15 이전 Julian 력) 계산 결과와 같다.
+    static final int GREGORIAN_YEAR = 1583;
+
+    static final int SECONDS_PER_DAY = 86_400;
+    // 0000-01-01 ~ 1970-01-01 일수
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+
+    // 월별 일수 (평년, index : 월)
+    private static final int[] DAYS_IN_MONTH = {0, 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+    // 월 시작 전까지의 누적 일수 (평년, index : 월)
+    private static final int[] DAYS_BEFORE_MONTH = {0, 0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334};
+
+    private DateEngine() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static int year(int date) {
+        return date / 10000;
+    }
+
+    static int month(int date) {
+        return date / 100 % 100;
+    }
+
+    static int day(int date) {
+        return date % 100;
+    }
+
+    static int of(int year, int month, int day) {
+        return year * 10000 + month * 100 + day;
+    }
+
+    static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * 월의 일수 (28 ~ 31)
+     */
+    static int lengthOfMonth(int year, int month) {
+        return month == 2 && isLeapYear(year) ? 29 : DAYS_IN_MONTH[month];
+    }
+
+    /**
+     * yyyyMMdd 가 존재하는 날짜(0001 ~ 9999 년)인지 확인
+     */
+    static boolean isValidDate(int date) {
+        if (date < 0) return false;
+        int year = year(date);
+        int month = month(date);
+        int day = day(date);
+        return year >= MIN_YEAR && year <= MAX_YEAR && month >= 1 && month <= 12
+                && day >= 1 && day <= lengthOfMonth(year, month);
+    }
+
+    /**
+     * HHmmss 가 존재하는 시각(000000 ~ 235959)인지 확인
+     */
+    static boolean isValidTime(int time) {
+        return time >= 0 && time / 10000 <= 23 && time / 100 % 100 <= 59 && time % 100 <= 59;
+    }
+
+    /**
+     * yyyyMMdd 가 DateTimeFormatter(yyyyMMdd) 로 parse 되는 값인지 확인. (DateUtils.isValidDate 규칙)
+     * 기본 ResolverStyle.SMART 는 1 ~ 31 일을 월의 마지막 날로 보정하므로 20230231 도 true 이다.
+     */
+    static boolean isParsableDate(int date) {
+        if (date < 0) return false;
+        int month = month(date);
+        int day = day(date);
+        return year(date) >= MIN_YEAR && month >= 1 && month <= 12 && day >= 1 && day <= 31;
+    }
+
+    /**
+     * HHmmss 가 DateTimeFormatter(HHmmss) 로 parse 되는 값인지 확인. (DateUtils.isValidTime 규칙)
+     * ResolverStyle.SMART 는 240000 을 000000 으로 해석한다.
+     */
+    static boolean isParsableTime(int time) {
+        return isValidTime(time) || time == 240000;
+    }
+
+    /**
+     * 8 자리 숫자(ASCII) 문자열을 yyyyMMdd 정수로 변환. 형식이 다르면 INVALID (날짜 정합성은 확인하지 않음)
+     */
+    static int parseDate(CharSequence value) {
+        return parseDigits(value, 8);
+    }
+
+    /**
+     * 6 자리 숫자(ASCII) 문자열을 HHmmss 정수로 변환. 형식이 다르면 INVALID (시각 정합성은 확인하지 않음)
+     */
+    static int parseTime(CharSequence value) {
+        return parseDigits(value, 6);
+    }
+
+    private static int parseDigits(CharSequence value, int length) {
+        if (value == null || value.length() != length) return INVALID;
+        int result = 0;
+        for (int i = 0; i < length; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) return INVALID;
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    /**
+     * epoch day 계산. day 가 월의 일수보다 크면 다음 달로 넘어간 날짜로 계산한다. (Calendar lenient 와 동일)
+     *
+     * @param year  연도
+     * @param month 월 (1 ~ 12)
+     * @param day   일 (1 ~ 31)
+     * @return 1970-01-01 기준 일수
+     */
+    static long toEpochDay(int year, int month, int day) {
+        long y = year;
+        // 0000 ~ (year - 1) 년의 윤년 수 (0000 년 포함)
+        long leapDays = y > 0 ? (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400 : 0;
+        long days = 365 * y + leapDays + DAYS_BEFORE_MONTH[month] + day - 1;
+        if (month > 2 && isLeapYear(year)) days++;
+        return days - DAYS_0000_TO_1970;
+    }
+
+    static long toEpochDay(int date) {
+        return toEpochDay(year(date), month(date), day(date));
+    }
+
+    /**
+     * epoch day 의 yyyyMMdd. 0001 ~ 9999 년을 벗어나면 INVALID
+     */
+    static int ofEpochDay(long epochDay) {
+        // 03-01 을 연 시작으로 하는 400 년(146097 일) 주기 계산
+        long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+        long era = Math.floorDiv(zeroDay, 146_097L);
+        long dayOfEra = zeroDay - era * 146_097L;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long marchMonth = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * marchMonth + 2) / 5 + 1);
+        int month = (int) (marchMonth < 10 ? marchMonth + 3 : marchMonth - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        if (year < MIN_YEAR || year > MAX_YEAR) return INVALID;
+        return of((int) year, month, day);
+    }
+
+    static int plusDays(int date, long days) {
+        return ofEpochDay(toEpochDay(date) + days);
+    }
+
+    /**
+     * 월 계산. 계산된 월의 일수보다 일이 크면 마지막 날로 변경한다. (20231130 + 3 개월 = 20240229)
+     */
+    static int plusMonths(int date, long months) {
+        long total = year(date) * 12L + month(date) - 1 + months;
+        long year = Math.floorDiv(total, 12L);
+        if (year < MIN_YEAR || year > MAX_YEAR) return INVALID;
+
+        int month = (int) Math.floorMod(total, 12L) + 1;
+        return of((int) year, month, Math.min(day(date), lengthOfMonth((int) year, month)));
+    }
+
+    static int plusYears(int date, long years) {
+        return plusMonths(date, years * 12);
+    }
+
+    /**
+     * 요일 (0: 일요일 … 6: 토요일)
+     */
+    static int dayOfWeek(long epochDay) {
+        // 1970-01-01 : 목요일
+        return (int) Math.floorMod(epochDay + 4, 7L);
+    }
+
+    static int toSecondOfDay(int time) {
+        return time / 10000 * 3600 + time / 100 % 100 * 60 + time % 100;
+    }
+
+    static int ofSecondOfDay(int secondOfDay) {
+        return secondOfDay / 3600 * 10000 + secondOfDay / 60 % 60 * 100 + secondOfDay % 60;
+    }
+
+    /**
+     * 초 계산. 날짜가 바뀌면 시각만 남긴다. (235959 + 1 초 = 000000)
+     */
+    static int plusSeconds(int time, long seconds) {
+        return ofSecondOfDay((int) Math.floorMod(toSecondOfDay(time) + seconds, (long) SECONDS_PER_DAY));
+    }
+
+    /**
+     * yyyyMMdd(8) 문자열
+     */
+    static String toDateString(int date) {
+        char[] chars = new char[8];
+        putDigits(chars, date, 8);
+        return new String(chars);
+    }
+
+    /**
+     * HHmmss(6) 문자열
+     */
+    static String toTimeString(int time) {
+        char[] chars = new char[6];
+        putDigits(chars, time, 6);
+        return new String(chars);
+    }
+
+    private static void putDigits(char[] chars, int value, int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
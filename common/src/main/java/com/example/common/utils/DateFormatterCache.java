@@ -0,0 +1,161 @@
+package com.example.common.utils;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DateUtils 의 pattern 을 받는 함수에서 공유하는 DateTimeFormatter cache.
+ * <pre>
+ *     DateTimeFormatter 는 변경되지 않으므로 pattern + locale 별로 한번만 생성하여 여러 thread 에서 공유한다.
+ *     locale 을 지정하지 않으면 조회 시점의 기본 format locale(DateTimeFormatter.ofPattern 과 동일)을 사용한다.
+ *
+ *     preload 된 pattern : 기본 pattern(COMMON_PATTERNS)은 class 초기화 시 생성되며, 제거되지 않는다.
+ *     그 외 pattern      : 최대 MAX_SIZE 개까지 보관하며, 초과 시 먼저 저장된 pattern 부터 제거한다.
+ *     (사용자 입력 등으로 pattern 이 계속 늘어나도 memory 가 증가하지 않음)
+ *
+ *     기동 시 업무 pattern preload (선택)
+ *     example>
+ *          DateFormatterCache.preload("yyyy.MM.dd", "yyyy년 MM월 dd일 EEE요일");
+ *
+ *     조회 통계
+ *     example>
+ *          DateFormatterCache.Stats stats = DateFormatterCache.getStats();
+ *          log.info("hit:{}, miss:{}, eviction:{}", stats.getHitCount(), stats.getMissCount(), stats.getEvictionCount());
+ * </pre>
+ */
+public final class DateFormatterCache {
+
+    // preload 외 pattern 최대 보관 수
+    static final int MAX_SIZE = 256;
+
+    // 기동 시 생성하는 기본 pattern
+    static final List<String> COMMON_PATTERNS = List.of(
+            "yyyyMMdd", "HHmmss", "yyyyMMddHHmmss", "yyyyMMddHHmmssSSS", "HHmmssSSS", "yyyyMMddHHmmss.SSS",
+            "yyyy", "yyyyMM", "MM", "dd", "yyyy-MM-dd", "yyyy-MM-dd HH:mm:ss", "yyyy-MM-dd HH:mm:ss.SSS",
+            "yyyy/MM/dd", "yyyy.MM.dd", "HH:mm:ss", "yyyy-MM-dd a hh:mm:ss");
+
+    private static final Map<Key, DateTimeFormatter> PRELOADED = new ConcurrentHashMap<>();
+    private static final Map<Key, DateTimeFormatter> CACHE = new ConcurrentHashMap<>();
+    // CACHE 저장 순서 (제거 대상 조회)
+    private static final Queue<Key> INSERTION_ORDER = new ConcurrentLinkedQueue<>();
+
+    private static final LongAdder HIT_COUNT = new LongAdder();
+    private static final LongAdder MISS_COUNT = new LongAdder();
+    private static final LongAdder EVICTION_COUNT = new LongAdder();
+
+    static {
+        preload(COMMON_PATTERNS.toArray(new String[0]));
+    }
+
+    private DateFormatterCache() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 기본 format locale 의 DateTimeFormatter 조회. 없으면 생성 후 저장한다.
+     *
+     * @param pattern DateTimeFormatter pattern
+     * @return DateTimeFormatter (잘못된 pattern 이면 IllegalArgumentException)
+     */
+    public static DateTimeFormatter get(String pattern) {
+        return get(pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * locale 의 DateTimeFormatter 조회. 없으면 생성 후 저장한다.
+     *
+     * @param pattern DateTimeFormatter pattern
+     * @param locale  locale
+     * @return DateTimeFormatter (잘못된 pattern 이면 IllegalArgumentException)
+     */
+    public static DateTimeFormatter get(String pattern, Locale locale) {
+        Key key = new Key(pattern, locale);
+        DateTimeFormatter formatter = PRELOADED.get(key);
+        if (formatter == null) formatter = CACHE.get(key);
+        if (formatter != null) {
+            HIT_COUNT.increment();
+            return formatter;
+        }
+
+        MISS_COUNT.increment();
+        formatter = DateTimeFormatter.ofPattern(pattern, locale);
+        DateTimeFormatter previous = CACHE.putIfAbsent(key, formatter);
+        if (previous != null) return previous;
+
+        INSERTION_ORDER.offer(key);
+        evict();
+        return formatter;
+    }
+
+    /**
+     * 기본 format locale 의 pattern 을 미리 생성. preload 된 pattern 은 제거되지 않는다.
+     *
+     * @param patterns DateTimeFormatter pattern (잘못된 pattern 이면 IllegalArgumentException)
+     */
+    public static void preload(String... patterns) {
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        for (String pattern : patterns) {
+            Key key = new Key(pattern, locale);
+            PRELOADED.computeIfAbsent(key, k -> DateTimeFormatter.ofPattern(pattern, locale));
+            CACHE.remove(key);
+        }
+    }
+
+    /**
+     * 조회 통계
+     *
+     * @return 누적 hit / miss / 제거 수, 현재 보관 수
+     */
+    public static Stats getStats() {
+        return new Stats(HIT_COUNT.sum(), MISS_COUNT.sum(), EVICTION_COUNT.sum(), PRELOADED.size(), CACHE.size());
+    }
+
+    /**
+     * 최대 보관 수를 넘는 pattern 을 먼저 저장된 순서로 제거
+     */
+    private static void evict() {
+        while (CACHE.size() > MAX_SIZE) {
+            Key eldest = INSERTION_ORDER.poll();
+            if (eldest == null) return;
+            if (CACHE.remove(eldest) != null) EVICTION_COUNT.increment();
+        }
+    }
+
+    private record Key(String pattern, Locale locale) {
+    }
+
+    /**
+     * DateTimeFormatter 조회 통계
+     */
+    @Getter
+    @ToString
+    public static final class Stats {
+        // cache 에 있던 조회 수
+        private final long hitCount;
+        // DateTimeFormatter 를 생성한 조회 수
+        private final long missCount;
+        // 최대 보관 수 초과로 제거된 수
+        private final long evictionCount;
+        // preload 된 pattern 수
+        private final int preloadedSize;
+        // preload 외 보관 중인 pattern 수
+        private final int size;
+
+        private Stats(long hitCount, long missCount, long evictionCount, int preloadedSize, int size) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.preloadedSize = preloadedSize;
+            this.size = size;
+        }
+    }
+}
@@ -4,8 +4,8 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
 import java.util.Calendar;
 import java.util.Date;
 
@@ -21,6 +21,30 @@ public class DateUtils {
     private static final String SIMPLE_DATE_FORMAT = "yyyyMMdd";
     private static final String SIMPLE_TIME_FORMAT = "HHmmss";
 
+    // getCurrent* 함수에서 사용하는 clock
+    private static volatile CachedClock clock = CachedClock.system();
+
+    /**
+     * getCurrent* 함수에서 사용할 clock 지정. (시험용 고정 clock, 시간대 변경 등)
+     * <pre>
+     * example> DateUtils.setClock(Clock.fixed(Instant.parse("2023-11-30T07:10:44.644Z"), ZoneId.of("Asia/Seoul")));
+     * </pre>
+     *
+     * @param newClock 현재 일시 / 시간대를 조회할 clock (null 이면 system clock / system 기본 시간대)
+     */
+    public static void setClock(Clock newClock) {
+        clock = newClock == null ? CachedClock.system() : CachedClock.of(newClock);
+    }
+
+    /**
+     * getCurrent* 함수에서 사용하는 clock
+     *
+     * @return 현재 일시 문자열을 cache 하는 clock
+     */
+    public static CachedClock getClock() {
+        return clock;
+    }
+
     /**
      * 현재 시각을 1/1000 초(밀리세컨드) 단위로 반환한다.
      * <pre>
@@ -30,7 +54,7 @@ public class DateUtils {
      * @return 밀리세컨드 단위 현재시각
      */
     public static long currentTimeMillis() {
-        return System.currentTimeMillis();
+        return clock.millis();
     }
 
     /**
@@ -42,9 +66,7 @@ public class DateUtils {
      * @return 현재날짜
      */
     public static String getCurrentDate() {
-        SimpleDateFormat sdf = new SimpleDateFormat(SIMPLE_DATE_FORMAT);
-        Date timeInDate = new Date();
-        return sdf.format(timeInDate);
+        return clock.date();
     }
 
     /**
@@ -73,14 +95,16 @@ public class DateUtils {
      * </pre>
      * </p>
      *
-     * @see <a href="https://docs.oracle.com/javase/tutorial/i18n/format/simpleDateFormat.html">Customizing Formats</a>
-     * @param pattern 날짜 패턴. <a href="https://docs.oracle.com/javase/tutorial/i18n/format/simpleDateFormat.html">참고 Docs</a>
+     * @see DateFormatterCache
+     * @param pattern 날짜 패턴. {@link java.time.format.DateTimeFormatter}
      * @return 현재 날짜를 {@code pattern}에 맞게 변환한 문자열
      */
     public static String getCurrentDate(String pattern) {
-        SimpleDateFormat sdf = new SimpleDateFormat(pattern);
-        Date timeInDate = new Date();
-        return sdf.format(timeInDate);
+        try {
+            return formatNow(pattern);
+        } catch (RuntimeException ex) {
+            throw CommonException.builder().message(ex.getMessage()).cause(ex).build();
+        }
     }
 
     /**
@@ -92,9 +116,7 @@ public class DateUtils {
      * @return 현재년도
      */
     public static String getCurrentYear() {
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy");
-        Date timeInDate = new Date();
-        return sdf.format(timeInDate);
+        return clock.date().substring(0, 4);
     }
 
     /**
@@ -106,9 +128,7 @@ public class DateUtils {
      * @return 현재달
      */
     public static String getCurrentMonth() {
-        SimpleDateFormat sdf = new SimpleDateFormat("MM");
-        Date timeInDate = new Date();
-        return sdf.format(timeInDate);
+        return clock.date().substring(4, 6);
     }
 
     /**
@@ -120,9 +140,7 @@ public class DateUtils {
      * @return 현재일자
      */
     public static String getCurrentDay() {
-        SimpleDateFormat sdf = new SimpleDateFormat("dd");
-        Date timeInDate = new Date();
-        return sdf.format(timeInDate);
+        return clock.date().substring(6, 8);
     }
 
     /**
@@ -134,9 +152,7 @@ public class DateUtils {
      * @return 현재일시 YYYYMMDDhh24miss(14)
      */
     public static String getCurrentDatetime() {
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyyMMddHHmmss");
-        Date timeInDate = new Date();
-        return sdf.format(timeInDate);
+        return clock.datetime();
     }
 
     /**
@@ -148,17 +164,7 @@ public class DateUtils {
      * @return 현재 일시 YYYYMMDDhh24miss(14)+microsecond(6)
      */
     public static String getCurrentDatetimemicro() {
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyyMMddHHmmss");
-        Date timeInDate = new Date();
-        String timeInFormat = sdf.format(timeInDate);
-
-        // nano second = 1,000,000,000분의 1초
-        double nanoTime = (double) System.nanoTime() / 1000000000; // 1초 단위로 변환
-        long milliTime = (long) ((nanoTime - (long) (nanoTime)) * 1000000);
-
-        timeInFormat = timeInFormat + String.format("%06d", milliTime);
-
-        return timeInFormat;
+        return clock.datetimeMicro();
     }
 
     /**
@@ -170,9 +176,7 @@ public class DateUtils {
      * @return 현재 일시 YYYYMMDDhh24miss(14)+millisecond(3)
      */
     public static String getCurrentDatetimemilli() {
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyyMMddHHmmssSSS");
-        Date timeInDate = new Date();
-        return sdf.format(timeInDate);
+        return clock.datetimeMilli();
     }
 
     /**
@@ -184,17 +188,10 @@ public class DateUtils {
      * @return 현재 일시 YYYY-MM-DD hh24:mi:ss,microsecond (23)
      */
     public static String getCurrentDatetimemicrok() {
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss,");
-        Date timeInDate = new Date();
-        String timeInFormat = sdf.format(timeInDate);
-
-        // nano second = 1,000,000,000분의 1초
-        double nanoTime = (double) System.nanoTime() / 1000000000; // 1초 단위로 변환
-        long milliTime = (long) ((nanoTime - (long) (nanoTime)) * 1000000);
-
-        timeInFormat = timeInFormat + String.format("%06d", milliTime);
-
-        return timeInFormat;
+        String datetime = clock.datetimeMicro();
+        return datetime.substring(0, 4) + '-' + datetime.substring(4, 6) + '-' + datetime.substring(6, 8) + ' '
+                + datetime.substring(8, 10) + ':' + datetime.substring(10, 12) + ':' + datetime.substring(12, 14) + ','
+                + datetime.substring(14);
     }
 
     /**
@@ -206,14 +203,12 @@ public class DateUtils {
      * @return 현재 시각 HHMMSS(6)
      */
     public static String getCurrentTime() {
-        SimpleDateFormat sdf = new SimpleDateFormat(SIMPLE_TIME_FORMAT);
-        Date timeInDate = new Date();
-        return sdf.format(timeInDate);
+        return clock.time();
     }
 
     /**
      * 현재 시각을 HHmmssSSS(9) 형태의 문자열로 변환한다
-     * {@link java.time.format.DateTimeFormatter}
+     * {@link CachedClock}
      * <pre>
      * example> 161322204
      * </pre>
@@ -221,11 +216,7 @@ public class DateUtils {
      * @return 현재 시각 HHmmssSSS(9)
      */
     public static String getCurrentTimeMilli() {
-        try {
-            return LocalDateTime.now().format(DateTimeFormatter.ofPattern("HHmmssSSS"));
-        } catch (RuntimeException ex) {
-            throw CommonException.builder().message(ex.getMessage()).cause(ex).build();
-        }
+        return clock.timeMilli();
     }
 
     /**
@@ -259,12 +250,19 @@ public class DateUtils {
      */
     public static String getCurrentTimeByFormat(String format) {
         try {
-            return LocalDateTime.now().format(DateTimeFormatter.ofPattern(format));
+            return formatNow(format);
         } catch (RuntimeException ex) {
             throw CommonException.builder().message(ex.getMessage()).cause(ex).build();
         }
     }
 
+    /**
+     * 현재 일시를 clock 의 시간대 기준으로 변환. 시간대 / offset pattern(z, Z, X, O 등)도 사용할 수 있다.
+     */
+    private static String formatNow(String pattern) {
+        return ZonedDateTime.now(clock.getClock()).format(DateFormatterCache.get(pattern));
+    }
+
     /**
      * 현재 시각을 HHMMSS(6)+microsecond(6) 형태의 문자열로 변환한다.
      * <pre>
@@ -274,17 +272,7 @@ public class DateUtils {
      * @return 현재 시각 HHMMSS(6)+microsecond(6)
      */
     public static String getCurrentTimemicro() {
-        SimpleDateFormat sdf = new SimpleDateFormat(SIMPLE_TIME_FORMAT);
-        Date timeInDate = new Date();
-        String timeInFormat = sdf.format(timeInDate);
-
-        // nano second = 1,000,000,000분의 1초
-        double nanoTime = (double) System.nanoTime() / 1000000000; // 1초 단위로 변환
-        long milliTime = (long) ((nanoTime - (long) (nanoTime)) * 1000000);
-
-        timeInFormat = timeInFormat + String.format("%06d", milliTime);
-
-        return timeInFormat;
+        return clock.timeMicro();
     }
 
     /**
@@ -296,11 +284,7 @@ public class DateUtils {
      * @return 현재 시각 millisecond
      */
     public static Long getCurrentSecmilli() {
-        SimpleDateFormat sdf = new SimpleDateFormat("SSS");
-        Date timeInDate = new Date();
-        String timeInFormat = sdf.format(timeInDate);
-
-        return Long.parseLong(timeInFormat);
+        return (long) clock.milliOfSecond();
     }
 
     /**
@@ -312,15 +296,7 @@ public class DateUtils {
      * @return 현재 시각 microsecond
      */
     public static Long getCurrentSecmicro() {
-        String timeInFormat = "";
-
-        // nano second = 1,000,000,000분의 1초
-        double nanoTime = (double) System.nanoTime() / 1000000000; // 1초 단위로 변환
-        long milliTime = (long) ((nanoTime - (long) (nanoTime)) * 1000000);
-
-        timeInFormat = timeInFormat + String.format("%06d", milliTime);
-
-        return Long.parseLong(timeInFormat);
+        return (long) clock.microOfSecond();
     }
 
     /**
@@ -360,7 +336,8 @@ public class DateUtils {
     }
 
     /**
-     * 날짜(YYYYMMDD)의 정합성을 검사한다. 년도는 1900년 이후여야 한다.
+     * 날짜(YYYYMMDD)의 정합성을 검사한다.
+     * 년도는 0001 ~ 9999, 월은 01 ~ 12, 일은 01 ~ 31 이어야 한다. (DateTimeFormatter SMART 해석으로 20230231 도 true)
      * <pre>
      * example> DateUtils.isValidDate("20231130")
      * </pre>
@@ -369,48 +346,8 @@ public class DateUtils {
      * @return 입력값이 유효한 날짜인지 여부
      */
     public static boolean isValidDate(String date) {
-        boolean result = true;
-
-        if (null == date) {
-            return false;
-        }
-
-        if (8 != date.length()) {
-        return false;
-        }
-
-        for (int i = 0; i < date.length(); i++) {
-            if (!Character.isDigit(date.charAt(i))) {
-                return false;
-            }
-        }
-
-        try{
-            LocalDate.parse(date, DateTimeFormatter.ofPattern(SIMPLE_DATE_FORMAT));
-        }catch (DateTimeParseException e){
-            return false;
-        }
-
-//        Integer iyear = Integer.parseInt(date.substring(0, 4));
-//        Integer imon = Integer.parseInt(date.substring(4, 6));
-//        Integer iday = Integer.parseInt(date.substring(6, 8));
-//
-//        // 윤년 처리로직
-//        if (iyear < 1900 || imon < 1 || imon > 12 || iday < 1) {
-//            return false;
-//        }
-//        if ((iyear % 400 == 0 || ((iyear % 100 != 0) && iyear % 4 == 0)) && imon == 2 && iday == 29) {
-//            return result;
-//        }
-//
-//        int[] daysOfMonth = { 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31 };
-//
-//        if (iday > daysOfMonth[imon - 1]) {
-//            return false;
-//        }
-//
-
-        return result;
+        // DateTimeFormatter(yyyyMMdd) parse 와 같은 규칙을 예외 없이 계산
+        return DateEngine.isParsableDate(DateEngine.parseDate(date));
     }
 
     /**
@@ -423,36 +360,104 @@ public class DateUtils {
      * @return 입력값이 유효한 시간인지 여부
      */
     public static boolean isValidTime(String time) {
-        boolean result = true;
+        // DateTimeFormatter(HHmmss) parse 와 같은 규칙을 예외 없이 계산
+        return DateEngine.isParsableTime(DateEngine.parseTime(time));
+    }
 
-        if (null == time) {
-            return false;
+    /**
+     * 날짜(YYYYMMDD) 목록을 한번에 검사한다. (isValidDate 와 같은 규칙)
+     * <pre>
+     * example>
+     *      BitSet invalid = DateUtils.validateDates(new String[]{"20231130", "20231301", null});
+     *      result : {1, 2}
+     * </pre>
+     *
+     * @param dates 체크할 날짜 목록
+     * @return 유효하지 않은 날짜의 index
+     */
+    public static BitSet validateDates(String[] dates) {
+        checkColumn(dates);
+        long[] invalid = new long[(dates.length + 63) >>> 6];
+        for (int row = 0; row < dates.length; row++) {
+            if (!isValidDate(dates[row])) invalid[row >>> 6] |= 1L << row;
         }
+        return BitSet.valueOf(invalid);
+    }
 
-        if (6 != time.length()) {
-            return false;
-        }
+    /**
+     * 고정 길이 record 의 날짜(YYYYMMDD, ASCII 8 byte) 항목을 한번에 검사한다. (isValidDate 와 같은 규칙)
+     * record 마다 8 byte 를 long 하나로 읽어 숫자 확인 / 변환 후 범위를 계산하며, 문자열을 생성하지 않는다.
+     * <pre>
+     * example>
+     *      // 100 byte record 의 10 번째 byte 부터 날짜
+     *      BitSet invalid = DateUtils.validateDates(records, 10, 100, records.length / 100);
+     *      invalid.stream().forEach(row -&gt; log.warn("invalid date : {}", row));
+     * </pre>
+     *
+     * @param records      고정 길이 record byte 배열
+     * @param offset       첫 record 의 날짜 위치
+     * @param recordLength record 길이
+     * @param count        record 수
+     * @return 유효하지 않은 날짜의 record index
+     */
+    public static BitSet validateDates(byte[] records, int offset, int recordLength, int count) {
+        return validateColumn(records, offset, recordLength, count, 8);
+    }
 
-        for (int i = 0; i < time.length(); i++) {
-            if (!Character.isDigit(time.charAt(i))) {
-                return false;
-            }
+    /**
+     * 시간(HHMMSS) 목록을 한번에 검사한다. (isValidTime 과 같은 규칙)
+     *
+     * @param times 체크할 시간 목록
+     * @return 유효하지 않은 시간의 index
+     */
+    public static BitSet validateTimes(String[] times) {
+        checkColumn(times);
+        long[] invalid = new long[(times.length + 63) >>> 6];
+        for (int row = 0; row < times.length; row++) {
+            if (!isValidTime(times[row])) invalid[row >>> 6] |= 1L << row;
         }
+        return BitSet.valueOf(invalid);
+    }
+
+    /**
+     * 고정 길이 record 의 시간(HHMMSS, ASCII 6 byte) 항목을 한번에 검사한다. (isValidTime 과 같은 규칙)
+     *
+     * @param records      고정 길이 record byte 배열
+     * @param offset       첫 record 의 시간 위치
+     * @param recordLength record 길이
+     * @param count        record 수
+     * @return 유효하지 않은 시간의 record index
+     */
+    public static BitSet validateTimes(byte[] records, int offset, int recordLength, int count) {
+        return validateColumn(records, offset, recordLength, count, 6);
+    }
 
-        try{
-            LocalTime.parse(time, DateTimeFormatter.ofPattern(SIMPLE_TIME_FORMAT));
-        }catch(DateTimeParseException e){
-           return false;
+    /**
+     * 년도 목록을 한번에 검사한다. (isValidYear 와 같은 규칙)
+     *
+     * @param years 체크할 년도 목록
+     * @return 유효하지 않은 년도의 index
+     */
+    public static BitSet validateYears(String[] years) {
+        checkColumn(years);
+        long[] invalid = new long[(years.length + 63) >>> 6];
+        for (int row = 0; row < years.length; row++) {
+            if (!isValidYear(years[row])) invalid[row >>> 6] |= 1L << row;
         }
-//        Integer ihour = Integer.parseInt(time.substring(0, 2));
-//        Integer imin = Integer.parseInt(time.substring(2, 4));
-//        Integer isec = Integer.parseInt(time.substring(4, 6));
-//
-//        if (imin < 0 || imin > 59 || isec < 0 || isec > 59 || ihour < 0 || ihour > 23) {
-//            return false;
-//        }
+        return BitSet.valueOf(invalid);
+    }
 
-        return result;
+    /**
+     * 고정 길이 record 의 년도(ASCII 4 byte) 항목을 한번에 검사한다. (isValidYear 와 같은 규칙)
+     *
+     * @param records      고정 길이 record byte 배열
+     * @param offset       첫 record 의 년도 위치
+     * @param recordLength record 길이
+     * @param count        record 수
+     * @return 유효하지 않은 년도의 record index
+     */
+    public static BitSet validateYears(byte[] records, int offset, int recordLength, int count) {
+        return validateColumn(records, offset, recordLength, count, 4);
     }
 
     /**
@@ -473,6 +478,12 @@ public class DateUtils {
                 throw CommonException.builder().message(Constants.INPUT_PARAM_ERROR_MESSAGE).build();
             }
 
+            int date1 = DateEngine.parseDate(d1);
+            int date2 = DateEngine.parseDate(d2);
+            if (isEngineDate(date1) && isEngineDate(date2)) {
+                return Integer.compare(date1, date2);
+            }
+
             SimpleDateFormat format = new SimpleDateFormat(SIMPLE_DATE_FORMAT);
             Date firstDate = format.parse(d1);
             Date secondDate = format.parse(d2);
@@ -494,6 +505,24 @@ public class DateUtils {
         return result;
     }
 
+    /**
+     * yyyyMMdd 정수 일자를 비교한다.
+     * <pre>
+     * example>
+     *      DateUtils.compareDate(20231130, 20231201)
+     *      result : -1
+     * </pre>
+     *
+     * @param d1    비교할 일자1 (yyyyMMdd)
+     * @param d2    비교할 일자2 (yyyyMMdd)
+     * @return ( 첫번째 일자가 작으면:-1 / 같으면:0 / 크면:1 )
+     */
+    public static int compareDate(int d1, int d2) {
+        checkDate(d1);
+        checkDate(d2);
+        return Integer.compare(d1, d2);
+    }
+
     /**
      * 입력한 년도와 월에 해당하는 월의 일수(28~31)를 반환한다.
      * <pre>
@@ -523,8 +552,13 @@ public class DateUtils {
             throw CommonException.builder().message(ex.getMessage()).cause(ex).build();
         }
 
+        int imonth = Integer.parseInt(month);
+        if (1 <= imonth && imonth <= 12) {
+            return DateEngine.lengthOfMonth(Integer.parseInt(year), imonth);
+        }
+
         Calendar cld = Calendar.getInstance();
-        cld.set(Integer.parseInt(year), Integer.parseInt(month) - 1, 1);
+        cld.set(Integer.parseInt(year), imonth - 1, 1);
 
         result = cld.getActualMaximum(Calendar.DAY_OF_MONTH);
 
@@ -617,6 +651,12 @@ public class DateUtils {
                 throw CommonException.builder().message(Constants.INPUT_PARAM_ERROR_MESSAGE).build();
             }
 
+            int end = DateEngine.parseDate(endDay);
+            int start = DateEngine.parseDate(startDay);
+            if (isEngineDate(end) && isEngineDate(start)) {
+                return (int) (DateEngine.toEpochDay(end) - DateEngine.toEpochDay(start));
+            }
+
             SimpleDateFormat format = new SimpleDateFormat(SIMPLE_DATE_FORMAT);
             Date firstDate = format.parse(endDay);
             Date secondDate = format.parse(startDay);
@@ -634,6 +674,24 @@ public class DateUtils {
         return result;
     }
 
+    /**
+     * yyyyMMdd 정수 일자 사이의 일 수를 계산한다.
+     * <pre>
+     * example>
+     *      DateUtils.getDaysBetween(20231130, 19810904)
+     *      result : 15427
+     * </pre>
+     *
+     * @param endDay 종료일자 (yyyyMMdd)
+     * @param startDay 시작일자 (yyyyMMdd)
+     * @return 두 일자 사이의 일수
+     */
+    public static int getDaysBetween(int endDay, int startDay) {
+        checkDate(endDay);
+        checkDate(startDay);
+        return (int) (DateEngine.toEpochDay(endDay) - DateEngine.toEpochDay(startDay));
+    }
+
     /**
      * 입력한 월이 몇 분기(1~4) 인지를 반환한다.
      * <pre>
@@ -757,6 +815,11 @@ public class DateUtils {
                 throw CommonException.builder().message(Constants.INPUT_PARAM_ERROR_MESSAGE).build();
             }
 
+            int packed = DateEngine.parseDate(date);
+            if (isEngineDate(packed)) {
+                return DateEngine.dayOfWeek(DateEngine.toEpochDay(packed));
+            }
+
             SimpleDateFormat dateFormat = new SimpleDateFormat(SIMPLE_DATE_FORMAT);
             Date nDate = dateFormat.parse(date);
 
@@ -791,6 +854,11 @@ public class DateUtils {
                 throw CommonException.builder().message(Constants.INPUT_PARAM_ERROR_MESSAGE).build();
             }
 
+            int packed = DateEngine.parseDate(date);
+            if (isEngineDate(packed)) {
+                return DateEngine.dayOfWeek(DateEngine.toEpochDay(packed));
+            }
+
             SimpleDateFormat dateFormat = new SimpleDateFormat(SIMPLE_DATE_FORMAT);
             Date nDate = dateFormat.parse(date);
 
@@ -805,6 +873,22 @@ public class DateUtils {
         return dayNum;
     }
 
+    /**
+     * yyyyMMdd 정수 일자가 몇번째 요일인지를 반환한다
+     * <pre>
+     * example>
+     *      DateUtils.getWeekday(20231201)
+     *      result : 5
+     * </pre>
+     *
+     * @param date  일자 (yyyyMMdd)
+     * @return (0: 일요일 … 6: 토요일)
+     */
+    public static int getWeekday(int date) {
+        checkDate(date);
+        return DateEngine.dayOfWeek(DateEngine.toEpochDay(date));
+    }
+
     /**
      * 입력한 일자(date)보다 몇 년(year) 후의 일자(dest)를 계산한다
      * <pre>
@@ -818,23 +902,31 @@ public class DateUtils {
      * @return 계산된 일자
      */
     public static String addYear(String date, int year) {
-        String result = null;
-
-        try {
-            SimpleDateFormat format = new SimpleDateFormat(SIMPLE_DATE_FORMAT);
-
-            Calendar cal = Calendar.getInstance();
-            Date ddate = format.parse(date);
-            cal.setTime(ddate);
-
-            cal.add(Calendar.YEAR, year);
-
-            result = format.format(cal.getTime());
-        } catch (ParseException | RuntimeException ex) {
-            throw CommonException.builder().message(ex.getMessage()).cause(ex).build();
+        int packed = DateEngine.parseDate(date);
+        if (isEngineDate(packed)) {
+            int result = DateEngine.plusYears(packed, year);
+            if (isEngineDate(result)) {
+                return DateEngine.toDateString(result);
+            }
         }
+        return addCalendar(date, SIMPLE_DATE_FORMAT, Calendar.YEAR, year);
+    }
 
-        return result;
+    /**
+     * yyyyMMdd 정수 일자(date)보다 몇 년(year) 후의 일자를 계산한다.
+     * <pre>
+     * example>
+     *      DateUtils.addYear(20231130, 3)
+     *      result : 20261130
+     * </pre>
+     *
+     * @param date  일자 (yyyyMMdd)
+     * @param year  계산할 년수
+     * @return 계산된 일자 (yyyyMMdd)
+     */
+    public static int addYear(int date, int year) {
+        checkDate(date);
+        return checkResult(DateEngine.plusYears(date, year));
     }
 
     /**
@@ -850,23 +942,31 @@ public class DateUtils {
      * @return 계산된 일자
      */
     public static String addMonth(String date, int month) {
-        String result = null;
-
-        try {
-            SimpleDateFormat format = new SimpleDateFormat(SIMPLE_DATE_FORMAT);
-
-            Calendar cal = Calendar.getInstance();
-            Date ddate = format.parse(date);
-            cal.setTime(ddate);
-
-            cal.add(Calendar.MONTH, month);
-
-            result = format.format(cal.getTime());
-        } catch (ParseException | RuntimeException ex) {
-            throw CommonException.builder().message(ex.getMessage()).cause(ex).build();
+        int packed = DateEngine.parseDate(date);
+        if (isEngineDate(packed)) {
+            int result = DateEngine.plusMonths(packed, month);
+            if (isEngineDate(result)) {
+                return DateEngine.toDateString(result);
+            }
         }
+        return addCalendar(date, SIMPLE_DATE_FORMAT, Calendar.MONTH, month);
+    }
 
-        return result;
+    /**
+     * yyyyMMdd 정수 일자(date)보다 몇 개월(month) 후의 일자를 계산한다.
+     * <pre>
+     * example>
+     *      DateUtils.addMonth(20231130, 3)
+     *      result : 20240229
+     * </pre>
+     *
+     * @param date  일자 (yyyyMMdd)
+     * @param month  계산할 개월수
+     * @return 계산된 일자 (yyyyMMdd)
+     */
+    public static int addMonth(int date, int month) {
+        checkDate(date);
+        return checkResult(DateEngine.plusMonths(date, month));
     }
 
     /**
@@ -884,23 +984,31 @@ public class DateUtils {
      * @return 계산된 일자
      */
     public static String addDay(String date, int day) {
-        String result = null;
-
-        try {
-            SimpleDateFormat format = new SimpleDateFormat(SIMPLE_DATE_FORMAT);
-
-            Calendar cal = Calendar.getInstance();
-            Date ddate = format.parse(date);
-            cal.setTime(ddate);
-
-            cal.add(Calendar.DATE, day);
-
-            result = format.format(cal.getTime());
-        } catch (ParseException | RuntimeException ex) {
-            throw CommonException.builder().message(ex.getMessage()).cause(ex).build();
+        int packed = DateEngine.parseDate(date);
+        if (isEngineDate(packed)) {
+            int result = DateEngine.plusDays(packed, day);
+            if (isEngineDate(result)) {
+                return DateEngine.toDateString(result);
+            }
         }
+        return addCalendar(date, SIMPLE_DATE_FORMAT, Calendar.DATE, day);
+    }
 
-        return result;
+    /**
+     * yyyyMMdd 정수 일자(date)보다 몇 일(day) 후의 일자를 계산한다.
+     * <pre>
+     * example>
+     *      DateUtils.addDay(20231130, 89)
+     *      result : 20240227
+     * </pre>
+     *
+     * @param date  일자 (yyyyMMdd)
+     * @param day  계산할 일수
+     * @return 계산된 일자 (yyyyMMdd)
+     */
+    public static int addDay(int date, int day) {
+        checkDate(date);
+        return checkResult(DateEngine.plusDays(date, day));
     }
 
     /**
@@ -918,23 +1026,30 @@ public class DateUtils {
      * @return 계산된 시간
      */
     public static String addHour(String time, int hour) {
-        String result = null;
-
-        try {
-            SimpleDateFormat format = new SimpleDateFormat(SIMPLE_TIME_FORMAT);
-
-            Calendar cal = Calendar.getInstance();
-            Date ddate = format.parse(time);
-            cal.setTime(ddate);
-
-            cal.add(Calendar.HOUR, hour);
-
-            result = format.format(cal.getTime());
-        } catch (ParseException | RuntimeException ex) {
-            throw CommonException.builder().message(ex.getMessage()).cause(ex).build();
+        int packed = DateEngine.parseTime(time);
+        if (DateEngine.isValidTime(packed)) {
+            return DateEngine.toTimeString(DateEngine.plusSeconds(packed, hour * 3600L));
         }
+        return addCalendar(time, SIMPLE_TIME_FORMAT, Calendar.HOUR, hour);
+    }
 
-        return result;
+    /**
+     * HHmmss 정수 시각(time)보다 몇 시간(hour) 후의 시각을 계산한다. 날짜가 바뀌면 시각만 남긴다.
+     * <pre>
+     * example>
+     *      DateUtils.addHour(172956, 30)
+     *      result : 232956
+     * </pre>
+     *
+     * @param time  시각 (HHmmss)
+     * @param hour  계산할 시간
+     * @return 계산된 시각 (HHmmss)
+     */
+    public static int addHour(int time, int hour) {
+        if (!DateEngine.isValidTime(time)) {
+            throw CommonException.builder().message(Constants.INPUT_PARAM_ERROR_MESSAGE).build();
+        }
+        return DateEngine.plusSeconds(time, hour * 3600L);
     }
 
     /**
@@ -952,23 +1067,30 @@ public class DateUtils {
      * @return 계산된 시각
      */
     public static String addMinute(String time, int min) {
-        String result = null;
-
-        try {
-            SimpleDateFormat format = new SimpleDateFormat(SIMPLE_TIME_FORMAT);
-
-            Calendar cal = Calendar.getInstance();
-            Date ddate = format.parse(time);
-            cal.setTime(ddate);
-
-            cal.add(Calendar.MINUTE, min);
-
-            result = format.format(cal.getTime());
-        } catch (ParseException | RuntimeException ex) {
-            throw CommonException.builder().message(ex.getMessage()).cause(ex).build();
+        int packed = DateEngine.parseTime(time);
+        if (DateEngine.isValidTime(packed)) {
+            return DateEngine.toTimeString(DateEngine.plusSeconds(packed, min * 60L));
         }
+        return addCalendar(time, SIMPLE_TIME_FORMAT, Calendar.MINUTE, min);
+    }
 
-        return result;
+    /**
+     * HHmmss 정수 시각(time)보다 몇 분(min) 후의 시각을 계산한다. 날짜가 바뀌면 시각만 남긴다.
+     * <pre>
+     * example>
+     *      DateUtils.addMinute(172956, 30)
+     *      result : 175956
+     * </pre>
+     *
+     * @param time  시각 (HHmmss)
+     * @param min  계산할 분
+     * @return 계산된 시각 (HHmmss)
+     */
+    public static int addMinute(int time, int min) {
+        if (!DateEngine.isValidTime(time)) {
+            throw CommonException.builder().message(Constants.INPUT_PARAM_ERROR_MESSAGE).build();
+        }
+        return DateEngine.plusSeconds(time, min * 60L);
     }
 
     /**
@@ -986,23 +1108,30 @@ public class DateUtils {
      * @return 계산된 시각
      */
     public static String addSecond(String time, int sec) {
-        String result = null;
-
-        try {
-            SimpleDateFormat format = new SimpleDateFormat(SIMPLE_TIME_FORMAT);
-
-            Calendar cal = Calendar.getInstance();
-            Date ddate = format.parse(time);
-            cal.setTime(ddate);
-
-            cal.add(Calendar.SECOND, sec);
-
-            result = format.format(cal.getTime());
-        } catch (ParseException | RuntimeException ex) {
-            throw CommonException.builder().message(ex.getMessage()).cause(ex).build();
+        int packed = DateEngine.parseTime(time);
+        if (DateEngine.isValidTime(packed)) {
+            return DateEngine.toTimeString(DateEngine.plusSeconds(packed, sec));
         }
+        return addCalendar(time, SIMPLE_TIME_FORMAT, Calendar.SECOND, sec);
+    }
 
-        return result;
+    /**
+     * HHmmss 정수 시각(time)보다 몇 초(sec) 후의 시각을 계산한다. 날짜가 바뀌면 시각만 남긴다.
+     * <pre>
+     * example>
+     *      DateUtils.addSecond(172956, 30)
+     *      result : 173026
+     * </pre>
+     *
+     * @param time  시각 (HHmmss)
+     * @param sec  계산할 초
+     * @return 계산된 시각 (HHmmss)
+     */
+    public static int addSecond(int time, int sec) {
+        if (!DateEngine.isValidTime(time)) {
+            throw CommonException.builder().message(Constants.INPUT_PARAM_ERROR_MESSAGE).build();
+        }
+        return DateEngine.plusSeconds(time, sec);
     }
 
     /**
@@ -1026,7 +1155,7 @@ public class DateUtils {
 
         try {
             // 포멧 변경 시
-            LocalDateTime localDateTime = LocalDateTime.parse(time, DateTimeFormatter.ofPattern("yyyyMMddHHmmss.SSS"));
+            LocalDateTime localDateTime = LocalDateTime.parse(time, DateFormatterCache.get("yyyyMMddHHmmss.SSS"));
 //            LocalDateTime localDateTime = LocalDateTime.parse(time);
 
             if (plus) {
@@ -1093,7 +1222,7 @@ public class DateUtils {
 
         try {
             day = DateUtils.getDaysInMonth(date.substring(0, 4), date.substring(4, 6));
-            days = String.format("%02d", day);
+            days = String.valueOf(day);
             result = date.substring(0, 6) + days;
         } catch (RuntimeException ex) {
             throw CommonException.builder().message(ex.getMessage()).cause(ex).build();
@@ -1102,6 +1231,55 @@ public class DateUtils {
         return result;
     }
 
+    /**
+     * yyyyMMdd 정수 일자가 속한 월의 마지막 날을 반환한다.
+     * <pre>
+     * example>
+     *      DateUtils.getLastDay(20240205)
+     *      result : 20240229
+     * </pre>
+     *
+     * @param date 일자 (yyyyMMdd)
+     * @return 마지막 날짜 (yyyyMMdd)
+     */
+    public static int getLastDay(int date) {
+        checkDate(date);
+        int year = DateEngine.year(date);
+        int month = DateEngine.month(date);
+        return DateEngine.of(year, month, DateEngine.lengthOfMonth(year, month));
+    }
+
+    /**
+     * yyyyMMdd 정수 일자를 1970-01-01 기준 일수(epoch day)로 변환한다.
+     * <pre>
+     * example>
+     *      DateUtils.toEpochDay(20231130)
+     *      result : 19691
+     * </pre>
+     *
+     * @param date 일자 (yyyyMMdd)
+     * @return 1970-01-01 기준 일수
+     */
+    public static long toEpochDay(int date) {
+        checkDate(date);
+        return DateEngine.toEpochDay(date);
+    }
+
+    /**
+     * 1970-01-01 기준 일수(epoch day)를 yyyyMMdd 정수 일자로 변환한다.
+     * <pre>
+     * example>
+     *      DateUtils.ofEpochDay(19691)
+     *      result : 20231130
+     * </pre>
+     *
+     * @param epochDay 1970-01-01 기준 일수
+     * @return 일자 (yyyyMMdd)
+     */
+    public static int ofEpochDay(long epochDay) {
+        return checkResult(DateEngine.ofEpochDay(epochDay));
+    }
+
     /**
      * 입력받은 시각을 지정한 format 형태의 문자열로 변환한다
      * {@link java.time.format.DateTimeFormatter}.
@@ -1122,7 +1300,7 @@ public class DateUtils {
 
         try {
             LocalDateTime localDateTime = LocalDateTime.parse(time);
-            timeInFormat = localDateTime.format(DateTimeFormatter.ofPattern(format));
+            timeInFormat = localDateTime.format(DateFormatterCache.get(format));
         } catch (RuntimeException ex) {
             throw CommonException.builder().message(ex.getMessage()).cause(ex).build();
         }
@@ -1148,7 +1326,7 @@ public class DateUtils {
 
         try {
             LocalDateTime localDateTime = LocalDateTime.parse(time,
-                    DateTimeFormatter.ofPattern(format));
+                    DateFormatterCache.get(format));
             ZonedDateTime zdt = ZonedDateTime.of(localDateTime, ZoneId.systemDefault());
             // Instant 객체(타임스탬프) 이용
             milliTime = zdt.toInstant().toEpochMilli();
@@ -1178,7 +1356,7 @@ public class DateUtils {
         try {
             Instant instant = Instant.ofEpochMilli(epochMilli);
             ZonedDateTime zdt = instant.atZone(ZoneId.systemDefault());
-            resStr = zdt.format(DateTimeFormatter.ofPattern(timeFormat));
+            resStr = zdt.format(DateFormatterCache.get(timeFormat));
         } catch (RuntimeException ex) {
             throw CommonException.builder().message(ex.getMessage()).cause(ex).build();
         }
@@ -1199,7 +1377,7 @@ public class DateUtils {
      */
     public static LocalDate getDate(String date, String format) {
         try {
-            return LocalDate.parse(date, DateTimeFormatter.ofPattern(format));
+            return LocalDate.parse(date, DateFormatterCache.get(format));
         } catch (RuntimeException ex) {
             throw CommonException.builder().message(ex.getMessage()).cause(ex).build();
         }
@@ -1219,7 +1397,7 @@ public class DateUtils {
      */
     public static String getDate(LocalDate date, String format) {
         try {
-            return date.format(DateTimeFormatter.ofPattern(format));
+            return date.format(DateFormatterCache.get(format));
         } catch (RuntimeException ex) {
             throw CommonException.builder().message(ex.getMessage()).cause(ex).build();
         }
@@ -1256,7 +1434,7 @@ public class DateUtils {
      * @return  결과값. 이후 날짜 true. 그 외 false.
      */
     public static boolean isAfter(String stdDate, String otherDate, String format) {
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(format);
+        DateTimeFormatter dateTimeFormatter = DateFormatterCache.get(format);
         LocalDate std = LocalDate.parse(stdDate, dateTimeFormatter);
         LocalDate other = LocalDate.parse(otherDate, dateTimeFormatter);
         return other.isAfter(std);
@@ -1293,7 +1471,7 @@ public class DateUtils {
      * @return  결과값. 이전 날짜 true. 그 외 false.
      */
     public static boolean isBefore(String stdDate, String otherDate, String format) {
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(format);
+        DateTimeFormatter dateTimeFormatter = DateFormatterCache.get(format);
         LocalDate std = LocalDate.parse(stdDate, dateTimeFormatter);
         LocalDate other = LocalDate.parse(otherDate, dateTimeFormatter);
         return other.isBefore(std);
@@ -1333,7 +1511,7 @@ public class DateUtils {
      * @return  결과값. 사이의 날짜 true. 그 외 false.
      */
     public static boolean isBetween(String date, String startDate, String endDate, String format) {
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(format);
+        DateTimeFormatter dateTimeFormatter = DateFormatterCache.get(format);
         LocalDate stdDate = LocalDate.parse(date, dateTimeFormatter);
         LocalDate start = LocalDate.parse(startDate, dateTimeFormatter);
         LocalDate end = LocalDate.parse(endDate, dateTimeFormatter);
@@ -1341,6 +1519,80 @@ public class DateUtils {
         return stdDate.isAfter(start) && stdDate.isBefore(end);
     }
 
+    /**
+     * DateEngine 으로 계산할 일자인지 확인. 존재하지 않는 날짜(SimpleDateFormat lenient 변환 대상)와
+     * Julian 력으로 계산되는 1583 년 이전 날짜는 기존 Calendar 계산을 사용한다.
+     */
+    private static boolean isEngineDate(int date) {
+        return DateEngine.isValidDate(date) && DateEngine.year(date) >= DateEngine.GREGORIAN_YEAR;
+    }
+
+    /**
+     * SimpleDateFormat / Calendar 로 날짜, 시각 계산
+     */
+    private static String addCalendar(String value, String pattern, int field, int amount) {
+        try {
+            SimpleDateFormat format = new SimpleDateFormat(pattern);
+
+            Calendar cal = Calendar.getInstance();
+            cal.setTime(format.parse(value));
+            cal.add(field, amount);
+
+            return format.format(cal.getTime());
+        } catch (ParseException | RuntimeException ex) {
+            throw CommonException.builder().message(ex.getMessage()).cause(ex).build();
+        }
+    }
+
+    /**
+     * 고정 길이 record 의 width(8: 날짜, 6: 시간, 4: 년도) byte 항목 검사
+     */
+    private static BitSet validateColumn(byte[] records, int offset, int recordLength, int count, int width) {
+        if (records == null || offset < 0 || recordLength < width || count < 0
+                || count > 0 && offset + (long) (count - 1) * recordLength + width > records.length) {
+            throw CommonException.builder().message(Constants.INPUT_PARAM_ERROR_MESSAGE).build();
+        }
+
+        long[] invalid = new long[(count + 63) >>> 6];
+        int position = offset;
+        for (int row = 0; row < count; row++, position += recordLength) {
+            int value = ByteScanner.parseDigits(records, position, width);
+            boolean valid;
+            switch (width) {
+                case 8:
+                    valid = DateEngine.isParsableDate(value);
+                    break;
+                case 6:
+                    valid = DateEngine.isParsableTime(value);
+                    break;
+                default:
+                    valid = value >= 1900;
+                    break;
+            }
+            if (!valid) invalid[row >>> 6] |= 1L << row;
+        }
+        return BitSet.valueOf(invalid);
+    }
+
+    private static void checkColumn(String[] values) {
+        if (values == null) {
+            throw CommonException.builder().message(Constants.INPUT_PARAM_ERROR_MESSAGE).build();
+        }
+    }
+
+    private static void checkDate(int date) {
+        if (!DateEngine.isValidDate(date)) {
+            throw CommonException.builder().message(Constants.INPUT_PARAM_ERROR_MESSAGE).build();
+        }
+    }
+
+    private static int checkResult(int date) {
+        if (date == DateEngine.INVALID) {
+            throw CommonException.builder().message(Constants.INPUT_PARAM_ERROR_MESSAGE).build();
+        }
+        return date;
+    }
+
     /**
      * 만 나이 계산.
      * <pre>
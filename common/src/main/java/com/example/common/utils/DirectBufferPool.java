@@ -0,0 +1,50 @@
+package com.example.common.utils;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 크기별 direct ByteBuffer pool.
+ * <pre>
+ *     direct buffer 는 생성 / 해제 비용이 크므로 file 기록에 사용한 buffer 를 반납받아 재사용한다.
+ *     크기별로 최대 MAX_POOLED_BUFFERS 개까지만 보관하며, 초과분은 GC 에 맡긴다.
+ * </pre>
+ */
+final class DirectBufferPool {
+
+    private static final int MAX_POOLED_BUFFERS = 16;
+
+    private static final Map<Integer, BlockingQueue<ByteBuffer>> POOL = new ConcurrentHashMap<>();
+
+    private DirectBufferPool() {
+    }
+
+    /**
+     * capacity 크기의 direct buffer 조회. pool 에 없으면 새로 생성한다.
+     *
+     * @param capacity buffer 크기
+     * @return clear 된 direct buffer
+     */
+    static ByteBuffer acquire(int capacity) {
+        ByteBuffer buffer = queue(capacity).poll();
+        if (buffer == null) return ByteBuffer.allocateDirect(capacity);
+        return buffer.clear();
+    }
+
+    /**
+     * 사용이 끝난 buffer 반납
+     *
+     * @param buffer acquire 로 조회한 buffer
+     */
+    static void release(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect()) return;
+        queue(buffer.capacity()).offer(buffer);
+    }
+
+    private static BlockingQueue<ByteBuffer> queue(int capacity) {
+        return POOL.computeIfAbsent(capacity, key -> new ArrayBlockingQueue<>(MAX_POOLED_BUFFERS));
+    }
+}
@@ -0,0 +1,338 @@
+package com.example.common.utils;
+
+import com.example.common.exception.CommonException;
+import com.example.common.utils.FixedBatchResult.RecordError;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * 고정 길이 record file 을 record 경계로 나누어 여러 thread 에서 병렬로 변환하는 batch parser.
+ * <pre>
+ *     record 길이는 codec plan 의 encode 결과 byte 길이(BigDecimal 소수점 포함)를 사용하므로
+ *     FixedList / signed BigDecimal 이 없는 type 만 사용할 수 있다.
+ *     file 은 record 단위 partition 으로 나뉘며, 각 partition 은 FileChannel 의 위치 지정 read 로
+ *     chunk 단위로 읽어 변환한다.
+ *
+ *     error 는 ThreadRepository(thread local)를 사용하지 않고 record 마다 FixedErrors.Collector 로 수집하며,
+ *     error 가 있는 record 만 다시 변환하여 error data map 을 생성한다. (정상 record 는 map 을 생성하지 않음)
+ *     error data 는 partition 별로 모은 뒤 FixedBatchResult 로 합친다.
+ *     - error data 만 있는 record : records 와 errors 에 모두 포함
+ *     - 변환이 실패한 record(dataParsingThrowException) : records 에서 제외, errors 에 exception 과 함께 포함
+ *
+ * example>
+ *      FixedBatchResult&lt;FixedDataTestInfo&gt; result = FixedBatchParser.builder(FixedDataTestInfo.class)
+ *              .encoding(Constants.CHARSET_EUC_KR)
+ *              .recordSeparator("\r\n")
+ *              .parallelism(8)
+ *              .build()
+ *              .parse(path);
+ *
+ *      // 순서가 필요 없는 경우 : 변환된 record 를 worker thread 에서 바로 전달 (consumer 는 thread-safe 해야 함)
+ *      parser.parse(path, record -&gt; queue.add(record));
+ *
+ *      // virtual thread 사용
+ *      FixedBatchParser.builder(FixedDataTestInfo.class).executor(Executors.newVirtualThreadPerTaskExecutor())
+ * </pre>
+ *
+ * @param <T> 변환 결과 object type
+ */
+@Slf4j
+public final class FixedBatchParser<T> {
+
+    // partition 내부에서 한번에 읽을 byte 수
+    private static final int CHUNK_SIZE = 1024 * 1024;
+    // thread 당 partition 수 (partition 간 처리 시간 차이를 줄이기 위함)
+    private static final int PARTITIONS_PER_THREAD = 4;
+
+    private final Class<T> objectType;
+    private final FixedCodecPlan plan;
+    private final byte[] recordSeparator;
+    private final int parallelism;
+    private final ExecutorService executor;
+    private final int recordLength;
+
+    private FixedBatchParser(Builder<T> builder) {
+        this.objectType = builder.objectType;
+        this.plan = FixedCodecPlan.of(objectType, builder.genericType, builder.encoding);
+        this.recordSeparator = builder.recordSeparator == null
+                ? new byte[0] : FormatterUtils.getBytes(builder.recordSeparator, builder.encoding);
+        this.executor = builder.executor;
+        this.parallelism = builder.parallelism > 0 ? builder.parallelism : ForkJoinPool.getCommonPoolParallelism();
+
+        // getObjectMaxLength 는 BigDecimal 소수점 / 부호 문자를 포함하지 않으므로 encode 결과 길이를 사용
+        int length = plan.getRecordLength();
+        if (length <= 0) {
+            throw CommonException.builder()
+                    .message("invalid record length(variable length object) : " + objectType.getName())
+                    .build();
+        }
+        this.recordLength = length;
+    }
+
+    /**
+     * parser builder 생성
+     *
+     * @param objectType 변환 결과 object type
+     * @return builder
+     */
+    public static <T> Builder<T> builder(Class<T> objectType) {
+        return new Builder<>(objectType);
+    }
+
+    /**
+     * file 을 병렬로 변환하여 file 순서대로 결과 조회
+     *
+     * @param path 대상 file
+     * @return 변환 결과
+     */
+    public FixedBatchResult<T> parse(Path path) {
+        return parse(path, null);
+    }
+
+    /**
+     * file 을 병렬로 변환하여 변환된 record 를 consumer 로 전달. (순서 보장 안 됨)
+     * consumer 는 여러 worker thread 에서 동시에 호출된다.
+     *
+     * @param path     대상 file
+     * @param consumer 변환된 record 를 받을 consumer. null 이면 결과 records 에 file 순서대로 저장
+     * @return 변환 결과 (consumer 를 사용한 경우 records 는 empty)
+     */
+    public FixedBatchResult<T> parse(Path path, Consumer<? super T> consumer) {
+        long start = System.nanoTime();
+        int recordWidth = recordLength + recordSeparator.length;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long recordCount = (size + recordSeparator.length) / recordWidth;
+            checkTail(channel, recordCount * recordWidth - recordSeparator.length, size);
+
+            List<Callable<Partition>> tasks = new ArrayList<>();
+            long partitionCount = Math.max(1, Math.min(recordCount, (long) parallelism * PARTITIONS_PER_THREAD));
+            long partitionSize = (recordCount + partitionCount - 1) / partitionCount;
+            for (long from = 0; from < recordCount; from += partitionSize) {
+                long to = Math.min(recordCount, from + partitionSize);
+                long partitionFrom = from;
+                tasks.add(() -> parsePartition(channel, partitionFrom, to, consumer));
+            }
+
+            List<T> records = new ArrayList<>(consumer == null ? (int) Math.min(recordCount, Integer.MAX_VALUE) : 0);
+            List<RecordError> errors = new ArrayList<>();
+            for (Partition partition : invokeAll(tasks)) {
+                records.addAll(partition.records);
+                errors.addAll(partition.errors);
+            }
+
+            long elapsed = System.nanoTime() - start;
+            log.debug("RECORDS:{}, ERRORS:{}, ELAPSED(ms):{}", recordCount, errors.size(), elapsed / 1_000_000);
+            return new FixedBatchResult<>(records, errors, recordCount, elapsed);
+        } catch (IOException e) {
+            throw CommonException.builder().message(e.getMessage()).cause(e).build();
+        }
+    }
+
+    private List<Partition> invokeAll(List<Callable<Partition>> tasks) {
+        ExecutorService service = executor;
+        boolean shutdown = false;
+        if (service == null) {
+            if (parallelism == ForkJoinPool.getCommonPoolParallelism()) {
+                service = ForkJoinPool.commonPool();
+            } else {
+                service = new ForkJoinPool(parallelism);
+                shutdown = true;
+            }
+        }
+
+        try {
+            List<Partition> partitions = new ArrayList<>(tasks.size());
+            for (Future<Partition> future : service.invokeAll(tasks)) {
+                partitions.add(future.get());
+            }
+            return partitions;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw CommonException.builder().message(e.getMessage()).cause(e).build();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+            if (cause instanceof Error error) throw error;
+            throw CommonException.builder().message(cause.getMessage()).cause(cause).build();
+        } finally {
+            if (shutdown) service.shutdown();
+        }
+    }
+
+    /**
+     * [from, to) 범위의 record 변환
+     */
+    private Partition parsePartition(FileChannel channel, long from, long to, Consumer<? super T> consumer)
+            throws IOException {
+        int recordWidth = recordLength + recordSeparator.length;
+        int chunkRecords = (int) Math.max(1, Math.min(to - from, CHUNK_SIZE / recordWidth));
+        ByteBuffer buffer = ByteBuffer.allocate(chunkRecords * recordWidth);
+        byte[] bytes = buffer.array();
+
+        Partition partition = new Partition(consumer == null ? (int) (to - from) : 0);
+        for (long index = from; index < to; index += chunkRecords) {
+            int count = (int) Math.min(chunkRecords, to - index);
+            buffer.clear().limit(count * recordWidth);
+            readFully(channel, buffer, index * recordWidth, count * recordWidth - recordSeparator.length);
+
+            for (int i = 0; i < count; i++) {
+                T record = decode(bytes, i * recordWidth, index + i, partition.errors);
+                if (record == null) continue;
+
+                if (consumer == null) {
+                    partition.records.add(record);
+                } else {
+                    consumer.accept(record);
+                }
+            }
+        }
+        return partition;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T decode(byte[] bytes, int offset, long recordIndex, List<RecordError> errors) {
+        FixedErrors.Collector collector = new FixedErrors.Collector(bytes);
+        try {
+            // record 길이는 plan 의 encode 길이로 나누었으므로 길이 검사 없이 변환
+            T record = (T) plan.decode(bytes, new int[]{offset}, offset + recordLength, false, collector);
+            if (!collector.getErrors().isEmpty()) {
+                errors.add(new RecordError(recordIndex, errorData(bytes, offset), null));
+            }
+            return record;
+        } catch (RuntimeException e) {
+            log.debug("[ERROR]RECORD:{}, TYPE:{}", recordIndex, objectType.getName(), e);
+            errors.add(new RecordError(recordIndex, errorData(bytes, offset), e));
+            return null;
+        }
+    }
+
+    /**
+     * error 가 발생한 record 를 다시 변환하여 FormatterUtils 와 같은 구조의 error data map 생성
+     */
+    private Map<String, Object> errorData(byte[] bytes, int offset) {
+        Map<String, Object> errorData = new LinkedHashMap<>();
+        try {
+            plan.decode(bytes, new int[]{offset}, offset + recordLength, false, FixedErrors.of(errorData));
+        } catch (RuntimeException e) {
+            // 변환 실패 record : exception 발생 전까지 기록된 error data 사용
+        }
+        return errorData;
+    }
+
+    /**
+     * buffer 에 최소 minLength byte 를 position 부터 읽음
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position, int minLength)
+            throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) break;
+        }
+        if (buffer.position() < minLength) {
+            throw CommonException.builder().message("invalid record(truncated). position : " + position).build();
+        }
+    }
+
+    /**
+     * 마지막 record 이후에 남은 data 가 구분자 / 공백이 아니면 error
+     */
+    private void checkTail(FileChannel channel, long tailPosition, long size) throws IOException {
+        long tailLength = size - Math.max(0, tailPosition);
+        if (tailLength <= 0) return;
+
+        ByteBuffer tail = ByteBuffer.allocate((int) tailLength);
+        channel.read(tail, Math.max(0, tailPosition));
+        tail.flip();
+        while (tail.hasRemaining()) {
+            byte b = tail.get();
+            if (b != '\r' && b != '\n' && b != ' ') {
+                throw CommonException.builder().message("invalid record(truncated). file size : " + size).build();
+            }
+        }
+    }
+
+    /**
+     * partition 단위 변환 결과 (하나의 worker thread 에서만 사용)
+     */
+    private final class Partition {
+        private final List<T> records;
+        private final List<RecordError> errors = new ArrayList<>();
+
+        private Partition(int capacity) {
+            this.records = new ArrayList<>(capacity);
+        }
+    }
+
+    /**
+     * FixedBatchParser builder
+     *
+     * @param <T> 변환 결과 object type
+     */
+    public static final class Builder<T> {
+        private final Class<T> objectType;
+        private Class<?> genericType;
+        private String encoding = FormatterUtils.DEFAULT_CHAR_ENCODING;
+        private String recordSeparator;
+        private int parallelism;
+        private ExecutorService executor;
+
+        private Builder(Class<T> objectType) {
+            this.objectType = objectType;
+        }
+
+        /**
+         * 변환 결과 object에 사용된 generic type
+         */
+        public Builder<T> genericType(Class<?> genericType) {
+            this.genericType = genericType;
+            return this;
+        }
+
+        /**
+         * 변환 시 사용할 encoding (default : EUC-KR)
+         */
+        public Builder<T> encoding(String encoding) {
+            this.encoding = encoding;
+            return this;
+        }
+
+        /**
+         * record 사이의 구분자 (예: "\n", "\r\n")
+         */
+        public Builder<T> recordSeparator(String recordSeparator) {
+            this.recordSeparator = recordSeparator;
+            return this;
+        }
+
+        /**
+         * 변환 thread 수 (default : ForkJoinPool common pool parallelism)
+         */
+        public Builder<T> parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * 변환에 사용할 executor (예: virtual thread executor). 설정 시 parallelism 은 partition 수 계산에만 사용되며,
+         * executor 는 parser 가 종료하지 않는다.
+         */
+        public Builder<T> executor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public FixedBatchParser<T> build() {
+            return new FixedBatchParser<>(this);
+        }
+    }
+}
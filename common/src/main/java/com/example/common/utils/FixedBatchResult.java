@@ -0,0 +1,61 @@
+package com.example.common.utils;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FixedBatchParser 의 변환 결과.
+ * <pre>
+ *     records : 변환된 record (ordered 모드는 file 순서, consumer 로 변환한 경우 empty)
+ *     errors  : error 가 발생한 record 의 index / error data / exception (record index 순)
+ * </pre>
+ * 생성 후 변경되지 않으므로 여러 thread 에서 조회할 수 있다.
+ *
+ * @param <T> 변환 결과 object type
+ */
+@Getter
+@ToString(exclude = "records")
+public final class FixedBatchResult<T> {
+
+    private final List<T> records;
+    private final List<RecordError> errors;
+    private final long recordCount;
+    private final long elapsedNanos;
+
+    FixedBatchResult(List<T> records, List<RecordError> errors, long recordCount, long elapsedNanos) {
+        this.records = List.copyOf(records);
+        this.errors = List.copyOf(errors);
+        this.recordCount = recordCount;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * error 가 발생한 record 가 있는지 여부
+     */
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    /**
+     * record 단위 error 정보
+     */
+    @Getter
+    @ToString
+    public static final class RecordError {
+        // 0 부터 시작하는 record index
+        private final long recordIndex;
+        // FormatterUtils error data map 과 같은 구조의 error data
+        private final Map<String, Object> errorData;
+        // 변환이 실패한 경우 exception (error data 만 있는 경우 null)
+        private final Throwable cause;
+
+        RecordError(long recordIndex, Map<String, Object> errorData, Throwable cause) {
+            this.recordIndex = recordIndex;
+            this.errorData = errorData;
+            this.cause = cause;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.common.utils;
+
+import com.example.common.exception.CommonException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * 고정 길이 변환 결과를 byte 로 직접 기록하는 sink.
+ * <pre>
+ *     각 field 값은 한번만 encode 되며, padding 은 미리 encode 된 padding char byte 로 채운다.
+ *     ASCII 범위의 값은 encoder 를 거치지 않고 char 를 byte 로 바로 기록한다.
+ *     기록 결과는 FormatterUtils.getFixedData(obj, encoding) 결과를 encode 한 byte 와 동일하다.
+ * </pre>
+ */
+final class FixedByteSink implements FixedCodecPlan.Sink {
+
+    private static final int STREAM_BUFFER_SIZE = 8192;
+
+    private final Charset charset;
+    private final boolean asciiCompatible;
+    private final OutputStream out;
+    private ByteBuffer buffer;
+    private long written;
+
+    // 마지막으로 encode 한 값. ASCII 로 바로 기록하는 경우 null
+    private byte[] encoded;
+
+    /**
+     * ByteBuffer 에 기록하는 sink 생성. buffer 가 부족하면 BufferOverflowException 이 발생한다.
+     *
+     * @param target  기록 대상 buffer (direct buffer 가능)
+     * @param charset 변환 시 사용할 charset
+     */
+    FixedByteSink(ByteBuffer target, Charset charset) {
+        this.charset = charset;
+        this.asciiCompatible = PaddingEngine.isAsciiCompatible(charset);
+        this.out = null;
+        this.buffer = target;
+    }
+
+    /**
+     * OutputStream 에 기록하는 sink 생성. 내부 buffer 가 차면 stream 으로 flush 한다.
+     *
+     * @param out     기록 대상 stream
+     * @param charset 변환 시 사용할 charset
+     */
+    FixedByteSink(OutputStream out, Charset charset) {
+        this.charset = charset;
+        this.asciiCompatible = PaddingEngine.isAsciiCompatible(charset);
+        this.out = out;
+        this.buffer = ByteBuffer.allocate(STREAM_BUFFER_SIZE);
+    }
+
+    /**
+     * 지금까지 기록한 byte 수
+     */
+    long getWritten() {
+        return written;
+    }
+
+    /**
+     * 내부 buffer 의 내용을 stream 으로 flush. ByteBuffer 에 기록하는 경우 아무것도 하지 않는다.
+     */
+    void flush() {
+        if (out == null || buffer.position() == 0) return;
+        try {
+            out.write(buffer.array(), buffer.arrayOffset(), buffer.position());
+            buffer.clear();
+        } catch (IOException e) {
+            throw CommonException.builder().message(e.getMessage()).cause(e).build();
+        }
+    }
+
+    @Override
+    public void appendPadded(String value, int length, char padChar, byte[] padCharBytes, byte[] spaceBytes,
+                             boolean padRight) {
+        int size = encode(value);
+        if (size > length) {
+            throw CommonException.builder()
+                    .message(padRight ? "invalide fixed value(length error)" : "invalid fixed values(length error)")
+                    .build();
+        }
+
+        // padding char 가 남은 byte 에 맞지 않으면 (length - 1) 개의 space 로 보정 (FormatterUtils.paddingLeft 참조)
+        int remain = length - size;
+        int padCount = remain / padCharBytes.length;
+        int correctionCount = remain % padCharBytes.length == 0 ? 0 : length - 1;
+        ensure(size + padCount * padCharBytes.length + correctionCount * spaceBytes.length);
+
+        if (padRight) {
+            putEncoded(value);
+            putRepeated(padCharBytes, padCount);
+            putRepeated(spaceBytes, correctionCount);
+        } else {
+            putRepeated(padCharBytes, padCount);
+            putRepeated(spaceBytes, correctionCount);
+            putEncoded(value);
+        }
+    }
+
+    @Override
+    public void appendBigDecimal(String value, int[] lengthArr, char padChar, byte[] padCharBytes,
+                                 byte[] spaceBytes, boolean signed) {
+        String[] valueArr = value.split("\\.");
+        String precVal = valueArr[0];
+
+        if (precVal.length() > 0) {
+            char sign = precVal.charAt(0);
+
+            if (sign == '*' || sign == '_') {
+                appendText(String.valueOf(sign));
+                precVal = precVal.substring(1);
+            } else {
+                if (signed) appendText("+");
+            }
+        }
+
+        appendPadded(precVal, lengthArr[0], padChar, padCharBytes, spaceBytes, false);
+        if (lengthArr.length == 2 && lengthArr[1] > 0) {
+            appendText(".");
+
+            String scaleVal = "";
+            if (valueArr.length > 1) scaleVal = valueArr[1];
+
+            appendPadded(scaleVal, lengthArr[1], padChar, padCharBytes, spaceBytes, true);
+        }
+    }
+
+    @Override
+    public void appendLong(long value, int valueLength, int length, char padChar, byte[] padCharBytes,
+                           boolean padRight) {
+        ensure(length);
+        if (!padRight) putRepeated(padCharBytes, length - valueLength);
+        if (value < 0) {
+            putByte('-');
+            putDigits(-value, valueLength - 1);
+        } else {
+            putDigits(value, valueLength);
+        }
+        if (padRight) putRepeated(padCharBytes, length - valueLength);
+    }
+
+    @Override
+    public void appendDecimal(long unscaled, int scale, int[] lengthArr, char padChar, byte[] padCharBytes,
+                              boolean signed) {
+        boolean fraction = lengthArr.length == 2 && lengthArr[1] > 0;
+        ensure((signed ? 1 : 0) + lengthArr[0] + (fraction ? lengthArr[1] + 1 : 0));
+        if (signed) putByte('+');
+
+        long abs = Math.abs(unscaled);
+        long integer = abs / NumericCodec.pow10(scale);
+        int integerDigits = NumericCodec.digits(integer);
+        putRepeated(padCharBytes, lengthArr[0] - integerDigits - (unscaled < 0 ? 1 : 0));
+        if (unscaled < 0) putByte('-');
+        putDigits(integer, integerDigits);
+
+        if (fraction) {
+            putByte('.');
+            putDigits(abs % NumericCodec.pow10(scale), scale);
+            putRepeated(padCharBytes, lengthArr[1] - scale);
+        }
+    }
+
+    /**
+     * 0 이상 정수를 자리수 만큼 기록 (공간은 확보된 상태)
+     */
+    private void putDigits(long value, int digits) {
+        NumericCodec.putDigits(buffer, value, digits);
+        written += digits;
+    }
+
+    private void putByte(char ch) {
+        buffer.put((byte) ch);
+        written++;
+    }
+
+    /**
+     * padding 없이 문자열 기록
+     */
+    private void appendText(String text) {
+        ensure(encode(text));
+        putEncoded(text);
+    }
+
+    /**
+     * 값을 encode 하고 byte 수를 반환. ASCII 값은 encode 하지 않는다.
+     */
+    private int encode(String value) {
+        if (asciiCompatible && PaddingEngine.isAscii(value)) {
+            encoded = null;
+            return value.length();
+        }
+        encoded = value.getBytes(charset);
+        return encoded.length;
+    }
+
+    /**
+     * 마지막으로 encode 한 값을 기록
+     */
+    private void putEncoded(String value) {
+        if (encoded == null) {
+            for (int i = 0, len = value.length(); i < len; i++) {
+                buffer.put((byte) value.charAt(i));
+            }
+            written += value.length();
+        } else {
+            buffer.put(encoded);
+            written += encoded.length;
+        }
+    }
+
+    private void putRepeated(byte[] pattern, int count) {
+        PaddingEngine.fill(buffer, pattern, count);
+        written += (long) pattern.length * count;
+    }
+
+    /**
+     * size byte 를 기록할 공간 확보.
+     * stream 기록 시에는 buffer 를 flush 하고, ByteBuffer 기록 시 공간이 부족하면 BufferOverflowException 발생.
+     */
+    private void ensure(int size) {
+        if (buffer.remaining() >= size) return;
+        if (out == null) throw new BufferOverflowException();
+
+        flush();
+        if (buffer.capacity() < size) {
+            buffer = ByteBuffer.allocate(size);
+        }
+    }
+}
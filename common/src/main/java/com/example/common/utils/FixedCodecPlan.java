@@ -0,0 +1,1425 @@
+package com.example.common.utils;
+
+import com.example.common.exception.CommonException;
+import com.example.common.internal.annotations.FixedData;
+import com.example.common.internal.annotations.FixedData.PAD_TYPE;
+import com.example.common.internal.annotations.FixedList;
+import com.example.common.internal.codec.FixedCodec;
+import com.example.common.internal.codec.FixedCodecs;
+import com.example.common.model.FixedField;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FormatterUtils 고정 길이 변환에 사용하는 class 단위 codec plan.
+ * <pre>
+ *     (class, genericType, encoding) 조합별로 한번만 생성되며,
+ *     field 접근자(MethodHandle), padding char, byte 길이, sizeRef 참조를 미리 계산해 둔다.
+ *     변환 시에는 계산된 plan 을 순회하기만 하므로 field 조회 / setAccessible 이 반복되지 않는다.
+ *     compile time 에 생성된 codec(FixedCodec)이 있으면 MethodHandle 대신 codec 으로 생성 / field 접근을 수행한다.
+ *
+ *     record 와 불변 class(final field, no-arg 생성자 없음)는 setter 없이 생성자로 생성한다.
+ *     decode 한 field 값을 생성자 인자 배열에 모은 뒤 cache 된 생성자 MethodHandle 을 한번 호출하며,
+ *     record 는 canonical 생성자, 불변 class 는 선언된 전체 field 순서와 같은 생성자(lombok @Value, @AllArgsConstructor,
+ *     @Builder 가 생성하는 생성자)를 사용한다. field 접근은 대상 class 의 private lookup 을 사용하므로 setAccessible 을 호출하지 않는다.
+ * </pre>
+ * 변환 결과는 기존 FormatterUtils 의 reflection 기반 변환 결과와 동일하다.
+ */
+@Slf4j
+final class FixedCodecPlan {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    private final Class<?> type;
+    private final Class<?> genericType;
+    private final String encoding;
+    private final Charset charset;
+    private final FieldPlan[] fields;
+    // encode 결과의 전체 byte 길이 (data 에 따라 달라지면 -1)
+    private final int recordLength;
+
+    // 생성 codec. 없으면 null (MethodHandle 사용)
+    private final FixedCodec<Object> codec;
+
+    // field 이름 -> field index
+    private final Map<String, Integer> fieldIndexes;
+    // 시작 위치 기준 field offset (길이가 data 에 따라 달라지는 field 이후는 -1). 마지막 값은 전체 길이
+    private final int[] fieldOffsets;
+
+    // list 의 sizeRef 로 사용되는 field 여부
+    private final boolean[] sizeRefs;
+    // 대상 type 의 max byte 길이 (계산 전 -1)
+    private volatile int maxLength = -1;
+    // 길이 검증 / schema hash 조회용 descriptor (최초 조회 시 생성)
+    private volatile FixedLayoutDescriptor descriptor;
+
+    // no-arg constructor 가 없는 경우 null (instance 생성 시점에 error 발생)
+    private final MethodHandle constructor;
+    private final ReflectiveOperationException constructorError;
+    // record / 불변 class 의 생성자 인자 정보. setter 로 생성하는 class 는 null
+    private final Creator creator;
+
+    @SuppressWarnings("unchecked")
+    private FixedCodecPlan(Class<?> type, Class<?> genericType, String encoding) {
+        this(type, genericType, encoding, (FixedCodec<Object>) FixedCodecs.find(type), null, null);
+    }
+
+    /**
+     * @param layoutFields runtime layout 의 field 목록 (class plan 은 null)
+     * @param layoutPlans  runtime layout 의 VO / List field 별 plan (class plan 은 null)
+     */
+    private FixedCodecPlan(Class<?> type, Class<?> genericType, String encoding, FixedCodec<Object> codec,
+                           List<FixedField> layoutFields, FixedCodecPlan[] layoutPlans) {
+        this.type = type;
+        this.genericType = genericType;
+        this.encoding = encoding;
+        this.charset = FormatterUtils.getCharset(encoding);
+        this.codec = codec;
+
+        List<FixedField> fieldList = layoutFields != null
+                ? layoutFields : FormatterUtils.getFieldList(type, genericType);
+        this.creator = codec == null && layoutFields == null ? Creator.find(type, fieldList) : null;
+
+        MethodHandle ctor = null;
+        ReflectiveOperationException ctorError = null;
+        if (codec == null && creator == null) {
+            try {
+                Constructor<?> declared = type.getDeclaredConstructor();
+                declared.setAccessible(true); // private 생성자도 호출 가능하게 설정
+                ctor = LOOKUP.unreflectConstructor(declared).asType(CONSTRUCTOR_TYPE);
+            } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+                ctorError = e instanceof ReflectiveOperationException roe
+                        ? roe : new InstantiationException(e.getMessage());
+            }
+        }
+        this.constructor = ctor;
+        this.constructorError = ctorError;
+
+        this.fields = new FieldPlan[fieldList.size()];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = new FieldPlan(type, genericType, fieldList.get(i), encoding, codec, creator, i,
+                    layoutPlans == null ? null : layoutPlans[i]);
+        }
+
+        this.fieldIndexes = new HashMap<>();
+        this.fieldOffsets = new int[fields.length + 1];
+        int offset = 0;
+        for (int i = 0; i < fields.length; i++) {
+            fieldIndexes.putIfAbsent(fields[i].name, i);
+            fieldOffsets[i] = offset;
+            int width = fields[i].width();
+            offset = offset < 0 || width <= 0 ? -1 : offset + width;
+        }
+        fieldOffsets[fields.length] = offset;
+
+        int encodedLength = 0;
+        for (FieldPlan field : fields) {
+            int width = field.encodedWidth();
+            encodedLength = encodedLength < 0 || width < 0 ? -1 : encodedLength + width;
+        }
+        this.recordLength = encodedLength;
+
+        this.sizeRefs = new boolean[fields.length];
+        for (FieldPlan field : fields) {
+            if (field.fixedList == null || field.fixedList.size() >= 0) continue;
+            Integer refIndex = fieldIndexes.get(field.fixedList.sizeRef());
+            if (refIndex != null) sizeRefs[refIndex] = true;
+        }
+    }
+
+    /**
+     * 대상 type 의 codec plan 조회. 없으면 생성 후 cache 에 저장한다.
+     *
+     * @param type        변환 대상 class
+     * @param genericType 변환 대상 class 에 사용된 generic type
+     * @param encoding    변환 시 사용할 encoding
+     * @return codec plan
+     */
+    static FixedCodecPlan of(Class<?> type, Class<?> genericType, String encoding) {
+        return FixedMetadataRegistry.getPlan(type, genericType, encoding);
+    }
+
+    /**
+     * codec plan 생성 (FixedMetadataRegistry 에서 한번만 호출)
+     */
+    static FixedCodecPlan create(Class<?> type, Class<?> genericType, String encoding) {
+        return new FixedCodecPlan(type, genericType, encoding);
+    }
+
+    /**
+     * runtime layout(class 가 없는 layout)의 codec plan 생성. registry 에 저장하지 않는다.
+     *
+     * @param codec     layout group 의 codec
+     * @param fieldList layout group 의 field 목록
+     * @param plans     VO / List field 별 하위 group plan (그 외 field 는 null)
+     * @param encoding  변환 시 사용할 encoding
+     * @return codec plan
+     */
+    @SuppressWarnings("unchecked")
+    static FixedCodecPlan create(FixedCodec<?> codec, List<FixedField> fieldList, FixedCodecPlan[] plans,
+                                 String encoding) {
+        return new FixedCodecPlan(codec.getType(), null, encoding, (FixedCodec<Object>) codec, fieldList, plans);
+    }
+
+    Class<?> getType() {
+        return type;
+    }
+
+    Charset getCharset() {
+        return charset;
+    }
+
+    int getFieldCount() {
+        return fields.length;
+    }
+
+    /**
+     * field 이름의 index 조회. 없으면 -1
+     */
+    int indexOf(String name) {
+        Integer index = fieldIndexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    String getFieldName(int i) {
+        return fields[i].name;
+    }
+
+    boolean isFixedVo(int i) {
+        return fields[i].isFixedVo;
+    }
+
+    FixedList getFixedList(int i) {
+        return fields[i].fixedList;
+    }
+
+    /**
+     * VO / List field 의 선언 type plan
+     */
+    FixedCodecPlan getDeclaredPlan(int i) {
+        return fields[i].declaredPlan;
+    }
+
+    /**
+     * 시작 위치 기준 field offset. (i == field 수 : 전체 길이)
+     * 앞선 field 중 길이가 data 에 따라 달라지는 field(BigDecimal, size 가 없는 List 등)가 있으면 -1
+     */
+    int getFieldOffset(int i) {
+        return fieldOffsets[i];
+    }
+
+    /**
+     * data 와 관계없이 정해지는 field byte 길이. 정해지지 않으면 -1
+     */
+    int getFieldWidth(int i) {
+        return fields[i].width();
+    }
+
+    /**
+     * FixedData field 의 byte 끝 위치(exclusive) 계산
+     */
+    int getFieldEnd(int i, byte[] src, int start, int limit, boolean includeSigned) {
+        return fields[i].end(src, start, limit, includeSigned);
+    }
+
+    /**
+     * FixedData field 의 byte 를 field type 의 값으로 변환 (decode 와 같은 trim / type 변환 적용)
+     */
+    Object getFieldValue(int i, byte[] src, int offset, int length, FixedErrors errors) {
+        FieldPlan field = fields[i];
+        Object number = field.parseNumber(src, offset, offset + length);
+        if (number != NumericCodec.NOT_PARSED) return number;
+        return field.value(new String(src, offset, length, charset), errors, offset, length);
+    }
+
+    /**
+     * 대상 type 의 max byte 길이 (FormatterUtils.getObjectMaxLength 의 값). FixedList 가 있으면 Integer.MAX_VALUE
+     */
+    int getMaxLength() {
+        int length = maxLength;
+        if (length < 0) {
+            length = computeMaxLength();
+            maxLength = length;
+        }
+        return length;
+    }
+
+    /**
+     * encode 결과의 전체 byte 길이 (고정 길이 record 경계 계산에 사용).
+     * getObjectMaxLength 와 달리 BigDecimal 소수점을 포함하며, FixedList / signed BigDecimal 이 있으면 -1
+     */
+    int getRecordLength() {
+        return recordLength;
+    }
+
+    /**
+     * 길이 검증 / schema hash 조회용 descriptor
+     */
+    FixedLayoutDescriptor getDescriptor() {
+        FixedLayoutDescriptor layoutDescriptor = descriptor;
+        if (layoutDescriptor == null) {
+            layoutDescriptor = new FixedLayoutDescriptor(this);
+            descriptor = layoutDescriptor;
+        }
+        return layoutDescriptor;
+    }
+
+    /**
+     * max byte 길이 계산.
+     * <pre>
+     *     FixedData : 길이 배열의 합 (BigDecimal 은 정수부 + 소수부)
+     *     FixedVo   : VO 내부 FixedData 길이의 합. VO 내부에 FixedVo / FixedList 가 있으면 무제한
+     *     FixedList : 무제한
+     * </pre>
+     */
+    private int computeMaxLength() {
+        int total = 0;
+        for (FieldPlan field : fields) {
+            int length;
+            if (field.fixedData != null) {
+                length = sum(field.lengthArr);
+            } else if (field.isFixedVo) {
+                length = field.declaredPlan.dataLength();
+            } else if (field.fixedList != null) {
+                length = Integer.MAX_VALUE;
+            } else {
+                throw CommonException.builder().message("invalid fixed configuration(parse error)").build();
+            }
+
+            total = total == Integer.MAX_VALUE || length == Integer.MAX_VALUE ? Integer.MAX_VALUE : total + length;
+        }
+        return total;
+    }
+
+    /**
+     * FixedData field 길이의 합. FixedVo / FixedList field 가 있으면 Integer.MAX_VALUE
+     */
+    private int dataLength() {
+        int total = 0;
+        for (FieldPlan field : fields) {
+            if (field.fixedList != null || field.isFixedVo) return Integer.MAX_VALUE;
+            total += sum(field.lengthArr);
+        }
+        return total;
+    }
+
+    private static int sum(int[] values) {
+        int total = 0;
+        for (int value : values) total += value;
+        return total;
+    }
+
+    /**
+     * 전문 형식 기준 schema 문자열 추가.
+     * <pre>
+     *     field 순서대로 {이름}={형식} 을 ';' 로 구분하여 기록한다. (java type / class 이름은 포함하지 않음)
+     *     FixedData : X[길이] 또는 N[정수부,소수부] (BigDecimal), padType(L/R), padding char 코드, 부호 기록 시 S
+     *     FixedVo   : V{하위 schema}
+     *     FixedList : L{size | @sizeRef | *}{하위 schema}
+     *
+     *     field1=X[10]L48;listField1=L2{field1=X[20]L48;...};amount=N[13,2]L48S
+     * </pre>
+     */
+    void appendSchema(StringBuilder sb) {
+        for (int i = 0; i < fields.length; i++) {
+            FieldPlan field = fields[i];
+            if (i > 0) sb.append(';');
+            sb.append(field.name).append('=');
+            if (field.fixedData != null) {
+                sb.append(field.isBigDecimal ? 'N' : 'X').append(Arrays.toString(field.lengthArr).replace(" ", ""))
+                        .append(field.padRight ? 'R' : 'L').append((int) field.padChar);
+                if (field.signed) sb.append('S');
+            } else if (field.fixedList != null) {
+                sb.append('L');
+                if (field.fixedList.size() >= 0) sb.append(field.fixedList.size());
+                else if (!field.fixedList.sizeRef().isEmpty()) sb.append('@').append(field.fixedList.sizeRef());
+                else sb.append('*');
+                sb.append('{');
+                field.declaredPlan.appendSchema(sb);
+                sb.append('}');
+            } else if (field.isFixedVo) {
+                sb.append("V{");
+                field.declaredPlan.appendSchema(sb);
+                sb.append('}');
+            }
+        }
+    }
+
+    /**
+     * list 의 sizeRef 로 사용되는 field 여부
+     */
+    boolean isSizeRef(int i) {
+        return sizeRefs[i];
+    }
+
+    /**
+     * FixedData field 값을 padding 을 적용하여 sink 에 기록 (encode 와 같은 padType / padChar 적용)
+     */
+    void writeField(int i, Sink sink, Object value) {
+        fields[i].padValue(sink, value, false);
+    }
+
+    /**
+     * 대상 type 의 instance 생성
+     */
+    Object newInstance() {
+        if (codec != null) return codec.newInstance();
+        if (creator != null) return creator.create(type, creator.newArguments());
+        if (constructor == null) {
+            log.warn("[ERROR]TYPE:{}", type.getName(), constructorError);
+            throw CommonException.builder().message(constructorError.getMessage()).cause(constructorError).build();
+        }
+        try {
+            return (Object) constructor.invokeExact();
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            log.warn("[ERROR]TYPE:{}", type.getName(), e);
+            throw CommonException.builder().message(e.getMessage()).cause(e).build();
+        }
+    }
+
+    /**
+     * object 를 고정 길이 문자열로 변환
+     *
+     * @param obj                변환 대상 object
+     * @param isNull             obj 가 null 값인 경우 true
+     * @param formatterErrorData error data map
+     * @return fixed-length-data
+     */
+    String encode(Object obj, boolean isNull, Map<String, Object> formatterErrorData) {
+        StringSink sink = new StringSink(encoding);
+        encodeTo(sink, obj, isNull, FixedErrors.of(formatterErrorData));
+        return sink.toString();
+    }
+
+    /**
+     * object 를 고정 길이 byte 로 변환하여 sink 에 기록
+     *
+     * @param sink               byte 를 기록할 sink
+     * @param obj                변환 대상 object
+     * @param formatterErrorData error data map
+     */
+    void write(FixedByteSink sink, Object obj, Map<String, Object> formatterErrorData) {
+        encodeTo(sink, obj, false, FixedErrors.of(formatterErrorData));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void encodeTo(Sink sb, Object obj, boolean isNull, FixedErrors errors) {
+        int fieldListSize = fields.length;
+
+        for (int i = 0; i < fieldListSize; i++) {
+            FieldPlan field = fields[i];
+
+            if (field.isFixedVo) {
+                Object subObj = field.get(obj);
+                if (subObj == null) {
+                    subObj = field.declaredPlan.newInstance();
+                    field.planOf(subObj).encodeTo(sb, subObj, true, errors);
+                } else {
+                    field.planOf(subObj).encodeTo(sb, subObj, false, errors);
+                }
+            } else if (field.fixedList != null) {
+                List<Object> listObj = (List<Object>) field.get(obj);
+
+                // list size validation check
+                int listSize = getFixedListSize(obj, field, i + 1, fieldListSize, false, errors);
+                // 마지막에 위치한 list 또는 size가 0이고, list object가 null 또는 empty이면 skip
+                if ((listSize == Integer.MAX_VALUE || listSize == 0)
+                        && (listObj == null || listObj.isEmpty())) {
+                    continue;
+                } else if (listObj == null) {
+                    throw CommonException.builder().message("invalid data(list field is null").build();
+                }
+
+                // listSize가 설정된 list면 validation check
+                int listObjSize = listObj.size();
+                if (listSize != listObjSize && listSize != Integer.MAX_VALUE) {
+                    log.warn("list size : {}, list object size : {}", listSize, listObjSize);
+                    if (FormatterUtils.isDataParsingThrowException()) {
+                        throw CommonException.builder().message("invalid data(list field)").build();
+                    }
+                }
+
+                for (Object listItem : listObj) {
+                    /*
+                    list item의 타입이 generic type인 경우 선언된 item type 으로 field 를 구할 수 없으므로
+                    list item 의 실제 type 으로 plan 을 조회한다.
+                     */
+                    FixedCodecPlan itemPlan = field.declaredPlan.fields.length > 0
+                            ? field.declaredPlan : field.planOf(listItem);
+                    itemPlan.encodeListItemTo(sb, listItem, isNull, errors);
+                }
+            } else {
+                field.pad(sb, obj, isNull);
+            }
+        }
+    }
+
+    /**
+     * list item 을 고정 길이 문자열로 변환.
+     * list item 내부의 list 는 size 검사 없이 element 마다 변환한다.
+     */
+    @SuppressWarnings("unchecked")
+    private void encodeListItemTo(Sink sb, Object listItem, boolean isNull, FixedErrors errors) {
+        for (FieldPlan subField : fields) {
+            if (subField.isFixedVo) {
+                // VO일때 Object를 다시 구해서 reculsive call
+                Object subFieldObject = subField.get(listItem);
+                subField.planOf(subFieldObject).encodeTo(sb, subFieldObject, isNull, errors);
+            } else if (subField.fixedList != null) {
+                // List일때 바로 변환 안되므로, List element마다 각각 변환해야 함.
+                List<Object> subFieldListObject = (List<Object>) subField.get(listItem);
+                for (Object subFieldObject : subFieldListObject) {
+                    subField.planOf(subFieldObject).encodeTo(sb, subFieldObject, isNull, errors);
+                }
+            } else {
+                subField.pad(sb, listItem, isNull);
+            }
+        }
+    }
+
+    /**
+     * 고정 길이 byte 배열을 object 로 변환.
+     * <pre>
+     *     하나의 cursor 로 nested VO / List 를 순회하며, 각 field 는 자신의 byte 구간만 decode 한다.
+     *     따라서 변환 비용은 telegram 길이에 비례한다.
+     * </pre>
+     *
+     * @param src                변환 대상 byte 배열
+     * @param cursor             변환 시작 위치. 변환 후 사용한 byte 의 다음 위치로 갱신된다.
+     * @param limit              변환 대상 byte 의 끝 위치(exclusive)
+     * @param includeSigned      signed 문자 포함 여부(+ / -)
+     * @param errors             error 기록 대상
+     * @return 변환 결과 object
+     */
+    Object decode(byte[] src, int[] cursor, int limit, boolean includeSigned, FixedErrors errors) {
+        return decode(null, src, cursor, limit, includeSigned, errors);
+    }
+
+    /**
+     * 고정 길이 byte 배열을 object 로 변환. target 이 있으면 새 object 를 생성하지 않고 target 에 변환한다.
+     * <pre>
+     *     target 의 nested VO, list(ArrayList), list item 은 type 이 같으면 재사용하며,
+     *     남는 list item 은 제거하고 data 가 없거나 변환 error 가 발생한 field 는 기본 값(null / 0)으로 초기화한다.
+     *     따라서 변환 결과는 새 object 로 변환한 결과와 같다.
+     * </pre>
+     *
+     * @param target        변환 대상 object. null 이면 새로 생성
+     * @param src           변환 대상 byte 배열
+     * @param cursor        변환 시작 위치. 변환 후 사용한 byte 의 다음 위치로 갱신된다.
+     * @param limit         변환 대상 byte 의 끝 위치(exclusive)
+     * @param includeSigned signed 문자 포함 여부(+ / -)
+     * @param errors        error 기록 대상
+     * @return 변환 결과 object (target 이 있으면 target)
+     */
+    Object decode(Object target, byte[] src, int[] cursor, int limit, boolean includeSigned, FixedErrors errors) {
+        boolean reuse = target != null;
+        Object obj;
+        if (reuse) {
+            if (!isReusable()) {
+                throw CommonException.builder().message("invalid target(immutable type) : " + type.getName()).build();
+            }
+            obj = target;
+        } else {
+            // record / 불변 class 는 생성자 인자 배열에 값을 모은 뒤 마지막에 생성
+            obj = creator != null ? creator.newArguments() : newInstance();
+        }
+        int index = cursor[0];
+        int fieldListSize = fields.length;
+        // data 가 끝나 변환하지 않은 첫 field index
+        int next = fieldListSize;
+
+        for (int i = 0; i < fieldListSize; i++) {
+            FieldPlan field = fields[i];
+
+            if (field.isFixedVo) {
+                errors.enterVo(field.name);
+                cursor[0] = index;
+                Object subObj = field.declaredPlan.decode(reuse ? field.reusableVo(obj) : null,
+                        src, cursor, limit, includeSigned, errors);
+                index = cursor[0];
+                field.set(obj, subObj, errors, -1, 0);
+                errors.exitVo();
+            } else if (field.fixedList != null) {
+                // 변환되어 저장될 list
+                List<Object> list = reuse ? field.reusableList(obj) : new ArrayList<>();
+                errors.enterList(field.name);
+
+                // field 에 설정된 list size 조회
+                int listSize = getFixedListSize(obj, field, i + 1, fieldListSize, true, errors);
+                int count = 0;
+                for (int j = 0; j < listSize; j++) {
+                    // 계산된 index가 변환할 byte 끝 위치와 같을 경우 변환이 완료된 것으로 판단
+                    if (limit <= index) {
+                        break;
+                    }
+
+                    errors.enterItem(j);
+                    cursor[0] = index;
+                    if (j < list.size()) {
+                        Object item = field.declaredPlan.reusable(list.get(j));
+                        list.set(j, field.declaredPlan.decode(item, src, cursor, limit, includeSigned, errors));
+                    } else {
+                        list.add(field.declaredPlan.decode(src, cursor, limit, includeSigned, errors));
+                    }
+                    count++;
+                    index = cursor[0];
+                }
+                if (list.size() > count) {
+                    list.subList(count, list.size()).clear();
+                }
+                errors.exitList();
+                field.set(obj, list, errors, -1, 0);
+            } else {
+                int endIndex = field.end(src, index, limit, includeSigned);
+                Object number = field.parseNumber(src, index, endIndex);
+                if (number != NumericCodec.NOT_PARSED) {
+                    field.setParsed(obj, number);
+                } else {
+                    String value = new String(src, index, endIndex - index, charset);
+                    if (!field.set(obj, value, errors, index, endIndex - index) && reuse) {
+                        field.reset(obj);
+                    }
+                }
+
+                if (index >= endIndex) {
+                    next = i + 1;
+                    break;
+                }
+                index = endIndex;
+            }
+        }
+        if (reuse) {
+            for (int i = next; i < fieldListSize; i++) {
+                fields[i].reset(obj);
+            }
+        }
+        cursor[0] = index;
+        return creator != null && !reuse ? creator.create(type, (Object[]) obj) : obj;
+    }
+
+    /**
+     * 기존 object 에 변환할 수 있는지 확인 (record / 불변 class, runtime layout 은 재사용하지 않음)
+     */
+    boolean isReusable() {
+        return creator == null && type != FixedRecord.class;
+    }
+
+    /**
+     * 재사용할 수 있는 object 이면 그대로, 아니면 null 반환
+     */
+    private Object reusable(Object value) {
+        return value != null && value.getClass() == type && isReusable() ? value : null;
+    }
+
+    /**
+     * list field 에 설정된 size 조회.
+     *
+     * @param obj                대상 object (record / 불변 class 의 decode 시에는 생성자 인자 배열)
+     * @param field              list 의 field plan
+     * @param fieldListIndex     대상 object 에서 계산 대상 list 의 index
+     * @param fieldListSize      대상 object 의 field 수
+     * @param mustThrowException size 조회 중 에러 발생시 반드시 throw exception 여부
+     * @return list field 의 size.
+     */
+    private static int getFixedListSize(Object obj, FieldPlan field, int fieldListIndex, int fieldListSize,
+                                        boolean mustThrowException, FixedErrors errors) {
+        FixedList fixedList = field.fixedList;
+        int listSize = fixedList.size();
+        if (listSize < 0) {
+            if (fixedList.sizeRef().isEmpty()) {
+                /*
+                 * FixedList 에 size / sizeRef 둘 다 설정되어있지 않다면,
+                 * 마지막에 위치하고 size가 정해져있지 않은 list
+                 */
+
+                // 마지막에 위치하고 있지 않다면 error 발생
+                if (fieldListIndex < fieldListSize) {
+                    log.warn("field index : {}, field list size : {}", fieldListIndex, fieldListSize);
+                    if (FormatterUtils.isDataParsingThrowException() || mustThrowException) {
+                        throw CommonException.builder().message("invalid data(list field)").build();
+                    }
+                }
+                // 마지막에 위치했다면, size 는 무한
+                listSize = Integer.MAX_VALUE;
+            } else {
+                // sizeRef는 list 이전에 위치해야 함
+                Object sizeRefObject = null;
+                try {
+                    sizeRefObject = field.getSizeRef(obj);
+                    // long 이면 int 로 변경
+                    if (Long.class.equals(sizeRefObject.getClass())) {
+                        listSize = ((Long) sizeRefObject).intValue();
+                    } else {
+                        listSize = (Integer) sizeRefObject;
+                    }
+                } catch (NoSuchFieldException | NullPointerException e) {
+                    log.warn("LIST TYPE:{}, field name : {}", field.type.getName(), field.name, e);
+                    errors.invalidListSize(fixedList.sizeRef());
+                    if (FormatterUtils.isDataParsingThrowException() || mustThrowException) {
+                        throw CommonException.builder().message(e.getMessage()).cause(e).build();
+                    }
+                }
+            }
+        }
+        log.debug("list size : {}", listSize);
+        return listSize;
+    }
+
+    /**
+     * field 단위 plan.
+     * 접근자, padding char, byte 길이 등 변환에 필요한 정보를 미리 계산하여 보관한다.
+     */
+    private static final class FieldPlan {
+        private final String name;
+        private final Class<?> type;
+        private final Class<?> fieldType;
+        private final String encoding;
+        private final boolean isFixedVo;
+        private final FixedList fixedList;
+
+        // FixedData 정보
+        private final FixedData fixedData;
+        private final boolean isBigDecimal;
+        private final boolean padRight;
+        private final boolean signed;
+        private final boolean trimTarget;
+        private final char padChar;
+        private final byte[] padCharBytes;
+        private final byte[] spaceBytes;
+        private final int[] lengthArr;
+        private final int length;
+        // 숫자 field 종류 (int / long / BigDecimal 이 아니면 null)
+        private final NumericCodec.Kind numericKind;
+        // ASCII 호환 charset 이고 padding char 가 1 byte ASCII 문자인 경우 숫자를 byte 로 바로 변환
+        private final boolean asciiPad;
+
+        // 생성 codec 과 codec 의 field index. codec 이 없으면 MethodHandle 접근자 사용
+        private final FixedCodec<Object> codec;
+        private final int index;
+
+        // 접근자. field 를 찾지 못했거나 write 할 수 없는 경우 null
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final MethodHandle sizeRefGetter;
+        private final String accessError;
+        private final String sizeRefError;
+
+        // record / 불변 class 의 생성자 인자 index (생성자로 생성하지 않거나 인자가 아니면 -1)
+        private final int argIndex;
+        private final int sizeRefArgIndex;
+        // 생성자 인자 type (primitive 는 wrapper type)
+        private final Class<?> argType;
+        // data 가 없는 경우의 field 값 (primitive 는 0 / false)
+        private final Object defaultValue;
+
+        // 선언된 type 의 plan (decode, list item 변환에 사용)
+        private final FixedCodecPlan declaredPlan;
+        // runtime layout 의 하위 group plan 여부 (encode 시에도 declaredPlan 사용)
+        private final boolean layoutPlan;
+        // 실제 object type 의 plan cache (encode 에 사용)
+        private volatile FixedCodecPlan runtimePlan;
+        // field 를 선언한 class 의 classloader (runtimePlan cache 대상 확인)
+        private final ClassLoader ownerLoader;
+
+        private FieldPlan(Class<?> owner, Class<?> genericType, FixedField fixedField, String encoding,
+                          FixedCodec<Object> codec, Creator creator, int index, FixedCodecPlan layoutPlan) {
+            this.name = fixedField.getName();
+            this.ownerLoader = owner.getClassLoader();
+            this.type = fixedField.getType();
+            this.encoding = encoding;
+            this.isFixedVo = fixedField.isFixedVo();
+            this.fixedList = fixedField.getFixedList();
+            this.fixedData = fixedField.getFixedData();
+
+            if (fixedData != null) {
+                this.lengthArr = FormatterUtils.getLength(fixedData);
+                this.padChar = FormatterUtils.getPadChar(fixedField);
+                Charset charset = FormatterUtils.getCharset(encoding);
+                this.padCharBytes = PaddingEngine.padBytes(padChar, charset);
+                this.spaceBytes = PaddingEngine.padBytes(FormatterUtils.CHARACTER_TYPE_PADDING_CHAR, charset);
+                this.length = lengthArr[0];
+                this.isBigDecimal = BigDecimal.class.equals(type);
+                this.padRight = PAD_TYPE.RIGHT.equals(fixedData.padType());
+                this.signed = fixedData.signed();
+                this.asciiPad = padChar < 0x80 && padCharBytes.length == 1 && PaddingEngine.isAsciiCompatible(charset);
+            } else {
+                this.lengthArr = null;
+                this.padChar = 0;
+                this.padCharBytes = null;
+                this.spaceBytes = null;
+                this.length = 0;
+                this.isBigDecimal = false;
+                this.padRight = false;
+                this.signed = false;
+                this.asciiPad = false;
+            }
+
+            this.codec = codec;
+            this.index = index;
+
+            Class<?> clazz = fixedField.isSuperClassField() ? owner.getSuperclass() : owner;
+            Class<?> resolvedFieldType = type;
+            MethodHandle get = null;
+            MethodHandle set = null;
+            String error = null;
+            if (codec != null) {
+                // codec 의 field 목록은 generic type 이 적용되지 않은 선언 type 을 가진다.
+                resolvedFieldType = codec.getFieldList().get(index).getType();
+            } else if (creator != null) {
+                // 생성자로 생성하므로 setter 없이 getter 만 private lookup 으로 구한다.
+                try {
+                    Field field = clazz.getDeclaredField(name);
+                    resolvedFieldType = field.getType();
+                    get = creator.lookup.unreflectGetter(field).asType(GETTER_TYPE);
+                } catch (NoSuchFieldException | IllegalAccessException e) {
+                    log.debug("[ERROR]FILED:{}", name, e);
+                    error = e.getMessage();
+                }
+            } else {
+                try {
+                    Field field = clazz.getDeclaredField(name);
+                    field.setAccessible(true);
+                    resolvedFieldType = field.getType();
+                    get = LOOKUP.unreflectGetter(field).asType(GETTER_TYPE);
+                    try {
+                        set = LOOKUP.unreflectSetter(field).asType(SETTER_TYPE);
+                    } catch (IllegalAccessException e) {
+                        // final field 등 write 할 수 없는 field 는 decode 시점에 error 발생
+                        error = e.getMessage();
+                    }
+                } catch (NoSuchFieldException | SecurityException | IllegalAccessException e) {
+                    log.debug("[ERROR]FILED:{}", name, e);
+                    error = e.getMessage();
+                }
+            }
+            this.fieldType = resolvedFieldType;
+            this.getter = get;
+            this.setter = set;
+            this.accessError = error;
+            this.defaultValue = fieldType.isPrimitive() ? Array.get(Array.newInstance(fieldType, 1), 0) : null;
+            this.trimTarget = fixedData != null && !String.class.equals(fieldType);
+            this.numericKind = fixedData != null ? NumericCodec.Kind.of(fieldType) : null;
+
+            MethodHandle sizeRef = null;
+            String sizeRefMessage = null;
+            boolean hasSizeRef = fixedList != null && fixedList.size() < 0 && !fixedList.sizeRef().isEmpty();
+            if (codec == null && hasSizeRef) {
+                try {
+                    Field field = owner.getDeclaredField(fixedList.sizeRef());
+                    if (creator != null) {
+                        sizeRef = creator.lookup.unreflectGetter(field).asType(GETTER_TYPE);
+                    } else {
+                        field.setAccessible(true);
+                        sizeRef = LOOKUP.unreflectGetter(field).asType(GETTER_TYPE);
+                    }
+                } catch (NoSuchFieldException | IllegalAccessException e) {
+                    sizeRefMessage = fixedList.sizeRef();
+                }
+            }
+            this.sizeRefGetter = sizeRef;
+            this.sizeRefError = sizeRefMessage;
+
+            this.argIndex = creator == null ? -1 : creator.indexOf(name);
+            this.sizeRefArgIndex = creator != null && hasSizeRef ? creator.indexOf(fixedList.sizeRef()) : -1;
+            this.argType = argIndex < 0 ? null : creator.typeOf(argIndex);
+
+            this.layoutPlan = layoutPlan != null;
+            if (layoutPlan != null) {
+                this.declaredPlan = layoutPlan;
+            } else {
+                this.declaredPlan = isFixedVo || fixedList != null
+                        ? FixedCodecPlan.of(type, genericType, encoding) : null;
+            }
+        }
+
+        /**
+         * encode 결과의 field byte 길이. data 에 따라 달라지면 -1
+         * <pre>
+         *     BigDecimal : 정수부 + 소수점 + 소수부. signed 는 값이 없으면 부호 문자를 기록하지 않으므로 -1
+         *     FixedList  : item 수가 list object 에 따라 달라지므로 -1
+         * </pre>
+         */
+        private int encodedWidth() {
+            if (isFixedVo) return declaredPlan.recordLength;
+            if (fixedList != null) return -1;
+            if (isBigDecimal) {
+                if (signed) return -1;
+                return lengthArr.length == 2 && lengthArr[1] > 0 ? length + lengthArr[1] + 1 : length;
+            }
+            return width();
+        }
+
+        /**
+         * 실제 object type 의 plan 조회
+         */
+        private FixedCodecPlan planOf(Object value) {
+            if (layoutPlan) return declaredPlan;
+            Class<?> valueType = value.getClass();
+            FixedCodecPlan plan = runtimePlan;
+            if (plan == null || plan.type != valueType) {
+                plan = FixedCodecPlan.of(valueType, null, encoding);
+                // 하위 classloader 의 type 은 cache 하지 않는다. (상위 class 의 plan 이 하위 classloader 를 붙잡지 않도록)
+                if (FixedMetadataRegistry.isVisible(valueType, ownerLoader)) {
+                    runtimePlan = plan;
+                }
+            }
+            return plan;
+        }
+
+        private Object get(Object obj) {
+            if (codec != null) return codec.get(obj, index);
+            if (getter == null) {
+                throw CommonException.builder().message(accessError).build();
+            }
+            try {
+                return (Object) getter.invokeExact(obj);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                log.debug("[ERROR]FILED:{}", name, e);
+                throw CommonException.builder().message(e.getMessage()).cause(e).build();
+            }
+        }
+
+        /**
+         * 재사용할 nested VO 조회. 없거나 선언된 type 과 다르면 null
+         */
+        private Object reusableVo(Object obj) {
+            return declaredPlan.reusable(get(obj));
+        }
+
+        /**
+         * 재사용할 list 조회. ArrayList 가 아니면 새로 생성한다.
+         */
+        @SuppressWarnings("unchecked")
+        private List<Object> reusableList(Object obj) {
+            Object value = get(obj);
+            return value instanceof ArrayList ? (List<Object>) value : new ArrayList<>();
+        }
+
+        /**
+         * field 를 기본 값(null / 0)으로 초기화
+         */
+        private void reset(Object obj) {
+            setParsed(obj, defaultValue);
+        }
+
+        private Object getSizeRef(Object obj) throws NoSuchFieldException {
+            if (codec != null) return codec.getSizeRef(obj, fixedList.sizeRef());
+            // decode 중인 record / 불변 class 는 생성자 인자 배열에서 조회
+            if (sizeRefArgIndex >= 0 && obj instanceof Object[] args) return args[sizeRefArgIndex];
+            if (sizeRefGetter == null) {
+                throw new NoSuchFieldException(sizeRefError);
+            }
+            try {
+                return (Object) sizeRefGetter.invokeExact(obj);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw CommonException.builder().message(e.getMessage()).cause(e).build();
+            }
+        }
+
+        /**
+         * data 와 관계없이 정해지는 field byte 길이. 정해지지 않으면 -1
+         */
+        private int width() {
+            if (isFixedVo) return declaredPlan.fieldOffsets[declaredPlan.fields.length];
+            if (fixedList != null) {
+                int itemWidth = declaredPlan.fieldOffsets[declaredPlan.fields.length];
+                return fixedList.size() < 0 || itemWidth < 0 ? -1 : fixedList.size() * itemWidth;
+            }
+            // BigDecimal 은 부호 문자 유무에 따라 길이가 달라진다.
+            if (isBigDecimal) return -1;
+            return lengthArr.length > 1 ? length + lengthArr[1] + 1 : length;
+        }
+
+        /**
+         * FixedData field 의 byte 끝 위치(exclusive) 계산.
+         * BigDecimal 은 부호 문자 / 소수점 만큼 길이가 늘어나며, limit 을 넘지 않는다.
+         */
+        private int end(byte[] src, int start, int limit, boolean includeSigned) {
+            int endIndex = start + length;
+            if (isBigDecimal && !includeSigned && start < limit) {
+                byte sign = src[start];
+                if (sign == '+' || sign == '-') {
+                    endIndex++;
+                }
+            }
+
+            if (lengthArr.length > 1) {
+                endIndex = endIndex + lengthArr[1] + 1;
+            }
+
+            return Math.min(endIndex, limit);
+        }
+
+        /**
+         * 숫자 field 의 byte 를 바로 변환. 숫자 field 가 아니거나 바로 변환할 수 없으면 NumericCodec.NOT_PARSED
+         */
+        private Object parseNumber(byte[] src, int start, int end) {
+            if (numericKind == null || !asciiPad) return NumericCodec.NOT_PARSED;
+            return NumericCodec.parse(numericKind, src, start, end, true, (byte) padChar, padRight);
+        }
+
+        /**
+         * 대상 object 의 field 에 parseNumber 로 변환한 값 설정
+         */
+        private void setParsed(Object obj, Object value) {
+            if (argIndex >= 0) {
+                ((Object[]) obj)[argIndex] = value;
+                return;
+            }
+            if (codec == null && setter == null) {
+                log.debug("[ERROR]FILED:{}", name);
+                throw CommonException.builder().message(accessError).build();
+            }
+
+            try {
+                if (codec != null) {
+                    codec.set(obj, index, value);
+                } else {
+                    setter.invokeExact(obj, value);
+                }
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                log.debug("[ERROR]FILED:{}", name, e);
+                throw CommonException.builder().message(e.getMessage()).cause(e).build();
+            }
+        }
+
+        /**
+         * 대상 object 의 field 에 data 값 설정
+         *
+         * @return 변환 error 가 발생하면 false
+         */
+        private boolean set(Object obj, Object data, FixedErrors errors, int offset, int byteLength) {
+            if (argIndex < 0 && codec == null && setter == null) {
+                log.debug("[ERROR]FILED:{}", name);
+                throw CommonException.builder().message(accessError).build();
+            }
+
+            data = trim(data);
+            try {
+                Object value = FormatterUtils.getTypeValue(data, fieldType);
+                if (argIndex >= 0) {
+                    // setter 와 같이 type 이 맞지 않으면 ClassCastException
+                    ((Object[]) obj)[argIndex] = value == null ? null : argType.cast(value);
+                } else if (codec != null) {
+                    codec.set(obj, index, value);
+                } else {
+                    setter.invokeExact(obj, value);
+                }
+                return true;
+            } catch (IllegalArgumentException | ClassCastException | DateTimeParseException e) {
+                putErrorData(e, data, errors, offset, byteLength);
+                return false;
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                log.debug("[ERROR]FILED:{}", name, e);
+                throw CommonException.builder().message(e.getMessage()).cause(e).build();
+            }
+        }
+
+        /**
+         * data 를 field type 의 값으로 변환. 변환 error 는 error data 에 저장하고 null 을 반환한다.
+         */
+        private Object value(String data, FixedErrors errors, int offset, int byteLength) {
+            Object trimmed = trim(data);
+            try {
+                return FormatterUtils.getTypeValue(trimmed, fieldType);
+            } catch (IllegalArgumentException | ClassCastException | DateTimeParseException e) {
+                putErrorData(e, trimmed, errors, offset, byteLength);
+                return null;
+            }
+        }
+
+        /**
+         * field type이 String 일 경우, trimPaddingCharacters 설정에 따라 Padding Char 값을 자르지 않는다.
+         */
+        private Object trim(Object data) {
+            if (trimTarget || (fixedData != null && FormatterUtils.isTrimPaddingCharacters())) {
+                return trimPadding(String.valueOf(data));
+            }
+            return data;
+        }
+
+        private void putErrorData(RuntimeException e, Object data, FixedErrors errors, int offset, int byteLength) {
+            log.debug("[ERROR]FILED:{}", name, e);
+            errors.invalidValue(name, data, offset, byteLength);
+            if (FormatterUtils.isDataParsingThrowException()) {
+                if (e instanceof DateTimeParseException) throw e;
+                throw CommonException.builder().message(e.getMessage()).cause(e).build();
+            }
+        }
+
+        /**
+         * padding type 방향부터 padding char 가 나오지 않을 때까지 문자열을 자른다.
+         */
+        private String trimPadding(String dataStr) {
+            if (padRight) {
+                int endIndex = dataStr.length() - 1;
+                while (endIndex >= 0 && dataStr.charAt(endIndex) == padChar) {
+                    endIndex--;
+                }
+                return dataStr.substring(0, endIndex + 1);
+            }
+            int startIndex = 0;
+            while (startIndex < dataStr.length() && dataStr.charAt(startIndex) == padChar) {
+                startIndex++;
+            }
+            return dataStr.substring(startIndex);
+        }
+
+        /**
+         * 대상 object 의 field 값을 고정 길이 문자열로 변환하여 sink 에 추가
+         */
+        private void pad(Sink sink, Object obj, boolean isNull) {
+            padValue(sink, isNull ? null : get(obj), isNull);
+        }
+
+        /**
+         * field 값을 고정 길이 문자열로 변환하여 sink 에 추가
+         */
+        private void padValue(Sink sink, Object fieldValue, boolean isNull) {
+            if (!isNull && asciiPad && fieldValue != null && appendNumber(sink, fieldValue)) {
+                return;
+            }
+
+            char fieldPadChar = padChar;
+            byte[] fieldPadCharBytes = padCharBytes;
+            String value;
+            if (isNull) {
+                value = String.valueOf(FormatterUtils.CHARACTER_TYPE_PADDING_CHAR);
+                fieldPadChar = FormatterUtils.CHARACTER_TYPE_PADDING_CHAR;
+                fieldPadCharBytes = spaceBytes;
+            } else {
+                value = FormatterUtils.getStringValue(fieldValue, type);
+            }
+
+            if (isBigDecimal) {
+                sink.appendBigDecimal(value, lengthArr, fieldPadChar, fieldPadCharBytes, spaceBytes, signed);
+            } else {
+                sink.appendPadded(value, length, fieldPadChar, fieldPadCharBytes, spaceBytes, padRight);
+            }
+        }
+
+        /**
+         * int / long / BigDecimal 값을 문자열 변환 없이 sink 에 기록.
+         * 기존 변환과 결과가 달라지는 경우(길이 초과, 18 자리 초과 BigDecimal 등)는 기록하지 않고 false 를 반환한다.
+         */
+        private boolean appendNumber(Sink sink, Object fieldValue) {
+            if (isBigDecimal) {
+                if (!(fieldValue instanceof BigDecimal decimal) || !NumericCodec.isCompact(decimal)) return false;
+
+                long unscaled = decimal.unscaledValue().longValue();
+                int scale = decimal.scale();
+                long integer = Math.abs(unscaled) / NumericCodec.pow10(scale);
+                int integerLength = NumericCodec.digits(integer) + (unscaled < 0 ? 1 : 0);
+                boolean fraction = lengthArr.length == 2 && lengthArr[1] > 0;
+                if (integerLength > length || (fraction && scale > lengthArr[1])) return false;
+
+                sink.appendDecimal(unscaled, scale, lengthArr, padChar, padCharBytes, signed);
+                return true;
+            }
+
+            if (!(fieldValue instanceof Long) && !(fieldValue instanceof Integer)) return false;
+            long value = ((Number) fieldValue).longValue();
+            if (value == Long.MIN_VALUE) return false;
+            int valueLength = NumericCodec.length(value);
+            if (valueLength > length) return false;
+
+            sink.appendLong(value, valueLength, length, padChar, padCharBytes, padRight);
+            return true;
+        }
+    }
+
+    /**
+     * record / 불변 class 의 생성자 정보.
+     * 생성자 MethodHandle 을 인자 배열(Object[])을 받도록 변환해 두고, decode 시 인자 배열을 채운 뒤 한번만 호출한다.
+     */
+    private static final class Creator {
+        private static final MethodType SPREAD_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+        // 대상 class 의 private lookup (field getter 조회에 사용)
+        private final MethodHandles.Lookup lookup;
+        private final MethodHandle constructor;
+        private final String[] names;
+        private final Class<?>[] types;
+        // 값이 없는 인자의 기본 값 (primitive 는 0 / false)
+        private final Object[] defaults;
+
+        private Creator(MethodHandles.Lookup lookup, MethodHandle constructor, String[] names, Class<?>[] types) {
+            this.lookup = lookup;
+            this.constructor = constructor;
+            this.names = names;
+            this.types = new Class<?>[types.length];
+            this.defaults = new Object[types.length];
+            for (int i = 0; i < types.length; i++) {
+                this.types[i] = MethodType.methodType(types[i]).wrap().returnType();
+                this.defaults[i] = types[i].isPrimitive() ? Array.get(Array.newInstance(types[i], 1), 0) : null;
+            }
+        }
+
+        /**
+         * 생성자로 생성해야 하는 type 의 생성자 정보 조회.
+         * record 가 아니고 no-arg 생성자 / setter 로 생성할 수 있는 class 이거나, 맞는 생성자가 없으면 null
+         *
+         * @param type      대상 type
+         * @param fieldList 대상 type 의 변환 field 목록
+         * @return 생성자 정보
+         */
+        private static Creator find(Class<?> type, List<FixedField> fieldList) {
+            if (type.isInterface() || type.isArray() || type.isPrimitive()
+                    || Modifier.isAbstract(type.getModifiers())) {
+                return null;
+            }
+            // super class field 는 생성자 인자로 전달할 수 없다.
+            for (FixedField fixedField : fieldList) {
+                if (fixedField.isSuperClassField()) return null;
+            }
+
+            String[] names;
+            Class<?>[] types;
+            if (type.isRecord()) {
+                RecordComponent[] components = type.getRecordComponents();
+                names = new String[components.length];
+                types = new Class<?>[components.length];
+                for (int i = 0; i < components.length; i++) {
+                    names[i] = components[i].getName();
+                    types[i] = components[i].getType();
+                }
+            } else {
+                if (!isImmutable(type, fieldList)) return null;
+                List<Field> instanceFields = new ArrayList<>();
+                for (Field field : type.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) instanceFields.add(field);
+                }
+                names = new String[instanceFields.size()];
+                types = new Class<?>[instanceFields.size()];
+                for (int i = 0; i < names.length; i++) {
+                    names[i] = instanceFields.get(i).getName();
+                    types[i] = instanceFields.get(i).getType();
+                }
+            }
+
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, LOOKUP);
+                MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class, types))
+                        .asSpreader(Object[].class, types.length)
+                        .asType(SPREAD_TYPE);
+                return new Creator(lookup, constructor, names, types);
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                log.debug("[ERROR]TYPE:{}", type.getName(), e);
+                return null;
+            }
+        }
+
+        /**
+         * no-arg 생성자가 없거나 변환 field 중 final field 가 있는지 확인
+         */
+        private static boolean isImmutable(Class<?> type, List<FixedField> fieldList) {
+            try {
+                type.getDeclaredConstructor();
+            } catch (NoSuchMethodException e) {
+                return true;
+            }
+            for (FixedField fixedField : fieldList) {
+                try {
+                    if (Modifier.isFinal(type.getDeclaredField(fixedField.getName()).getModifiers())) return true;
+                } catch (NoSuchFieldException e) {
+                    log.debug("[ERROR]FILED:{}", fixedField.getName(), e);
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 생성자 인자 index 조회. 인자가 아니면 -1
+         */
+        private int indexOf(String name) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(name)) return i;
+            }
+            return -1;
+        }
+
+        private Class<?> typeOf(int index) {
+            return types[index];
+        }
+
+        /**
+         * 기본 값이 채워진 생성자 인자 배열 생성
+         */
+        private Object[] newArguments() {
+            return defaults.clone();
+        }
+
+        /**
+         * 인자 배열로 instance 생성
+         */
+        private Object create(Class<?> type, Object[] args) {
+            try {
+                return (Object) constructor.invokeExact(args);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                log.warn("[ERROR]TYPE:{}", type.getName(), e);
+                throw CommonException.builder().message(e.getMessage()).cause(e).build();
+            }
+        }
+    }
+
+    /**
+     * 고정 길이 변환 결과를 기록하는 대상.
+     * 문자열(StringSink) 또는 byte(FixedByteSink) 로 기록한다.
+     */
+    interface Sink {
+
+        /**
+         * padding 을 적용한 값 기록
+         *
+         * @param value        기록할 값
+         * @param length       field byte 길이
+         * @param padChar      padding char
+         * @param padCharBytes encoding 된 padding char
+         * @param spaceBytes   encoding 된 space (byte 보정 시 사용)
+         * @param padRight     true : 오른쪽 padding, false : 왼쪽 padding
+         */
+        void appendPadded(String value, int length, char padChar, byte[] padCharBytes, byte[] spaceBytes,
+                          boolean padRight);
+
+        /**
+         * BigDecimal 값을 정수부 / 소수부로 나누어 padding 을 적용하여 기록
+         *
+         * @param value        기록할 값 (plain string)
+         * @param lengthArr    {정수부 길이, 소수부 길이}
+         * @param padChar      padding char
+         * @param padCharBytes encoding 된 padding char
+         * @param spaceBytes   encoding 된 space (byte 보정 시 사용)
+         * @param signed       부호 문자 기록 여부
+         */
+        void appendBigDecimal(String value, int[] lengthArr, char padChar, byte[] padCharBytes, byte[] spaceBytes,
+                              boolean signed);
+
+        /**
+         * 정수 값을 padding 을 적용하여 기록. appendPadded(String.valueOf(value), ...) 와 같은 결과이며,
+         * padding char 가 1 byte ASCII 문자이고 값의 길이가 length 이하인 경우에만 사용한다.
+         *
+         * @param value        기록할 값 (Long.MIN_VALUE 제외)
+         * @param valueLength  값의 문자열 길이 (부호 포함)
+         * @param length       field byte 길이
+         * @param padChar      padding char
+         * @param padCharBytes encoding 된 padding char (1 byte)
+         * @param padRight     true : 오른쪽 padding, false : 왼쪽 padding
+         */
+        void appendLong(long value, int valueLength, int length, char padChar, byte[] padCharBytes,
+                        boolean padRight);
+
+        /**
+         * unscaled long / scale 로 표현한 BigDecimal 값을 기록. appendBigDecimal(toPlainString, ...) 과 같은 결과이며,
+         * padding char 가 1 byte ASCII 문자이고 정수부 / 소수부 길이가 lengthArr 이하인 경우에만 사용한다.
+         *
+         * @param unscaled     unscaled 값 (18 자리 이하)
+         * @param scale        소수부 자리수 (0 ~ 18)
+         * @param lengthArr    {정수부 길이, 소수부 길이}
+         * @param padChar      padding char
+         * @param padCharBytes encoding 된 padding char (1 byte)
+         * @param signed       부호 문자 기록 여부
+         */
+        void appendDecimal(long unscaled, int scale, int[] lengthArr, char padChar, byte[] padCharBytes,
+                           boolean signed);
+    }
+
+    /**
+     * 고정 길이 문자열을 만드는 sink
+     */
+    private static final class StringSink implements Sink {
+        private final StringBuilder sb = new StringBuilder();
+        private final String encoding;
+
+        private StringSink(String encoding) {
+            this.encoding = encoding;
+        }
+
+        @Override
+        public void appendPadded(String value, int length, char padChar, byte[] padCharBytes, byte[] spaceBytes,
+                                 boolean padRight) {
+            if (padRight) {
+                sb.append(FormatterUtils.paddingRight(value, length, padChar, padCharBytes.length, encoding));
+            } else {
+                sb.append(FormatterUtils.paddingLeft(value, length, padChar, padCharBytes.length, encoding));
+            }
+        }
+
+        @Override
+        public void appendBigDecimal(String value, int[] lengthArr, char padChar, byte[] padCharBytes,
+                                     byte[] spaceBytes, boolean signed) {
+            sb.append(FormatterUtils.getBigDecimalType(value, lengthArr, padChar, padCharBytes.length,
+                    signed, encoding));
+        }
+
+        @Override
+        public void appendLong(long value, int valueLength, int length, char padChar, byte[] padCharBytes,
+                               boolean padRight) {
+            if (padRight) {
+                sb.append(value);
+                repeat(padChar, length - valueLength);
+            } else {
+                repeat(padChar, length - valueLength);
+                sb.append(value);
+            }
+        }
+
+        @Override
+        public void appendDecimal(long unscaled, int scale, int[] lengthArr, char padChar, byte[] padCharBytes,
+                                  boolean signed) {
+            if (signed) sb.append('+');
+
+            long abs = Math.abs(unscaled);
+            long integer = abs / NumericCodec.pow10(scale);
+            int integerDigits = NumericCodec.digits(integer);
+            repeat(padChar, lengthArr[0] - integerDigits - (unscaled < 0 ? 1 : 0));
+            if (unscaled < 0) sb.append('-');
+            sb.append(integer);
+
+            if (lengthArr.length == 2 && lengthArr[1] > 0) {
+                sb.append('.');
+                if (scale > 0) NumericCodec.appendDigits(sb, abs % NumericCodec.pow10(scale), scale);
+                repeat(padChar, lengthArr[1] - scale);
+            }
+        }
+
+        private void repeat(char ch, int count) {
+            for (int i = 0; i < count; i++) sb.append(ch);
+        }
+
+        @Override
+        public String toString() {
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,484 @@
+package com.example.common.utils;
+
+import com.example.common.exception.CommonException;
+import com.example.common.internal.annotations.FixedList;
+
+import java.lang.invoke.MethodType;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.*;
+
+/**
+ * 고정 길이 telegram 을 object 로 변환하지 않고 field 단위로 조회하는 lazy view.
+ * <pre>
+ *     FixedField layout(codec plan)으로 field 의 byte offset 을 계산하고, 조회한 field 의 byte 구간만 decode 한다.
+ *     - 길이가 data 와 관계없이 정해지는 구간은 미리 계산된 offset 을 사용한다.
+ *     - BigDecimal(부호 문자), size 가 없는 FixedList 이후의 field 는 조회 시점에 앞선 field 의 길이만 계산한다.
+ *       (sizeRef list 는 sizeRef field 만 decode)
+ *     - nested FixedVo / FixedList item 은 조회 시점에 view 로 생성된다.
+ *
+ *     변환 규칙(trim, type 변환, error data)은 getFixedData 와 같으며, 데이터가 끝난 이후의 field 는 null 이다.
+ *     전체 길이 검사(OVERSIZE / UNDERSIZE)는 하지 않는다. (getLength 로 사용한 byte 수 확인)
+ *     원본 byte 배열을 복사하지 않으므로 view 를 사용하는 동안 배열을 변경하면 안되며, thread-safe 하지 않다.
+ *     (set 으로 변경한 field 는 원본 배열에 바로 기록된다)
+ *
+ * example>
+ *      FixedDataView view = FormatterUtils.getFixedView(telegram, 0, telegram.length, FixedMessage.class,
+ *              "EUC-KR", null);
+ *      String routeCode = view.get("header.routeCode", String.class);
+ *      int count = view.getListSize("items");
+ *      Integer firstSeq = view.get("items[0].seq", Integer.class);
+ *
+ *      // 응답 코드만 변경하여 원본 telegram 을 그대로 전송
+ *      view.set("header.resCode", "0000");
+ *
+ *      // 전체 변환이 필요한 경우
+ *      FixedMessage message = view.toObject();
+ * </pre>
+ */
+public final class FixedDataView {
+
+    private final FixedCodecPlan plan;
+    private final byte[] src;
+    private final int start;
+    private final int limit;
+    private final Map<String, Object> formatterErrorData;
+    private final FixedErrors errors;
+
+    // 계산된 field 시작 위치 (계산 전 -1). 마지막 값은 view 의 끝 위치
+    private final int[] offsets;
+    // 조회한 field 값 (FixedData : 변환 값, FixedVo : FixedDataView, FixedList : List<FixedDataView>)
+    private final Object[] values;
+    private final boolean[] resolved;
+    // 값이 없는 첫 field index (데이터가 끝난 이후의 field)
+    private int stopIndex;
+
+    FixedDataView(FixedCodecPlan plan, byte[] src, int start, int limit, Map<String, Object> formatterErrorData) {
+        int fieldCount = plan.getFieldCount();
+        this.plan = plan;
+        this.src = src;
+        this.start = start;
+        this.limit = limit;
+        this.formatterErrorData = formatterErrorData;
+        this.errors = FixedErrors.of(formatterErrorData);
+        this.offsets = new int[fieldCount + 1];
+        Arrays.fill(offsets, -1);
+        offsets[0] = start;
+        this.values = new Object[fieldCount];
+        this.resolved = new boolean[fieldCount];
+        this.stopIndex = fieldCount;
+    }
+
+    /**
+     * view 대상 object type
+     */
+    public Class<?> getType() {
+        return plan.getType();
+    }
+
+    /**
+     * view 의 시작 위치
+     */
+    public int getStartOffset() {
+        return start;
+    }
+
+    /**
+     * view 의 끝 위치(exclusive). 모든 field 의 길이를 계산한다.
+     */
+    public int getEndOffset() {
+        return offset(plan.getFieldCount());
+    }
+
+    /**
+     * view 가 사용하는 byte 수
+     */
+    public int getLength() {
+        return getEndOffset() - start;
+    }
+
+    /**
+     * 조회 과정에서 생성된 error data map
+     */
+    public Map<String, Object> getErrorData() {
+        return formatterErrorData;
+    }
+
+    /**
+     * field 값 조회.
+     * <pre>
+     *     path 는 field 이름을 '.' 로 연결하며, list item 은 [index] 로 지정한다. (예: "header.routeCode", "items[0].seq")
+     *     FixedData : field type 으로 변환된 값
+     *     FixedVo   : 변환된 VO object
+     *     FixedList : 변환된 item object list (path 에 index 가 있으면 해당 item object)
+     * </pre>
+     *
+     * @param path field path
+     * @return field 값. 데이터가 끝난 이후의 field 는 null
+     */
+    public Object get(String path) {
+        int dot = path.lastIndexOf('.');
+        FixedDataView view = dot < 0 ? this : getView(path.substring(0, dot));
+        return view == null ? null : view.value(path.substring(dot + 1), path);
+    }
+
+    /**
+     * field 값 조회
+     *
+     * @param path      field path (get(String) 참고)
+     * @param valueType 조회 결과 type (primitive type 은 wrapper type 으로 조회)
+     * @return field 값
+     */
+    public <V> V get(String path, Class<V> valueType) {
+        @SuppressWarnings("unchecked")
+        Class<V> type = valueType.isPrimitive()
+                ? (Class<V>) MethodType.methodType(valueType).wrap().returnType() : valueType;
+        return type.cast(get(path));
+    }
+
+    /**
+     * FixedData field 의 문자열 값 조회 (padding 을 자르지 않은 원본 값)
+     *
+     * @param path field path (get(String) 참고)
+     * @return field 문자열. 데이터가 끝난 이후의 field 는 null
+     */
+    public String getRaw(String path) {
+        int dot = path.lastIndexOf('.');
+        FixedDataView view = dot < 0 ? this : getView(path.substring(0, dot));
+        if (view == null) return null;
+
+        int i = view.fieldIndex(path.substring(dot + 1), path);
+        if (view.plan.isFixedVo(i) || view.plan.getFixedList(i) != null) {
+            throw CommonException.builder().message("invalid field(not fixed data) : " + path).build();
+        }
+        int from = view.offset(i);
+        if (i >= view.stopIndex) return null;
+        return new String(src, from, view.offset(i + 1) - from, view.plan.getCharset());
+    }
+
+    /**
+     * FixedData field 값을 원본 byte 배열에 직접 기록한다. (다른 field 는 decode / encode 하지 않음)
+     * <pre>
+     *     getFixedData(Object) 와 같은 padType / padChar 를 적용하며,
+     *     변환된 byte 길이가 기존 field 길이와 다르면(길이 초과, BigDecimal 부호 변경 등) 기록하지 않고 error 가 발생한다.
+     *     list 의 sizeRef field 는 telegram 구조가 바뀌므로 변경할 수 없다.
+     *
+     * example>
+     *      view.set("header.resCode", "0000")
+     *          .set("header.resTime", "153000");
+     * </pre>
+     *
+     * @param path  field path (get(String) 참고)
+     * @param value 기록할 값
+     * @return view
+     */
+    public FixedDataView set(String path, Object value) {
+        int dot = path.lastIndexOf('.');
+        FixedDataView view = dot < 0 ? this : getView(path.substring(0, dot));
+        if (view == null) {
+            throw CommonException.builder().message("invalid field(no data) : " + path).build();
+        }
+        view.write(view.fieldIndex(path.substring(dot + 1), path), value, path);
+        return this;
+    }
+
+    /**
+     * FixedVo field / list item 의 view 조회
+     *
+     * @param path VO field 또는 list item path (예: "header", "items[2]", "body.items[0].detail")
+     * @return view. 데이터가 끝난 이후의 field, 범위를 벗어난 item 은 null
+     */
+    public FixedDataView getView(String path) {
+        FixedDataView view = this;
+        int from = 0;
+        while (view != null && from <= path.length()) {
+            int to = path.indexOf('.', from);
+            if (to < 0) to = path.length();
+            view = view.child(path.substring(from, to), path);
+            from = to + 1;
+        }
+        return view;
+    }
+
+    /**
+     * FixedList field 의 item 수 조회
+     *
+     * @param path list field path
+     * @return item 수
+     */
+    public int getListSize(String path) {
+        return getList(path).size();
+    }
+
+    /**
+     * FixedList field 의 item view 목록 조회
+     *
+     * @param path list field path
+     * @return item view 목록 (변경 불가)
+     */
+    public List<FixedDataView> getList(String path) {
+        int dot = path.lastIndexOf('.');
+        FixedDataView view = dot < 0 ? this : getView(path.substring(0, dot));
+        if (view == null) return Collections.emptyList();
+
+        int i = view.fieldIndex(path.substring(dot + 1), path);
+        if (view.plan.getFixedList(i) == null) {
+            throw CommonException.builder().message("invalid field(not list) : " + path).build();
+        }
+        return view.list(i);
+    }
+
+    /**
+     * view 범위 전체를 object 로 변환 (getFixedData 와 같은 결과)
+     *
+     * @return 변환 결과 object
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T toObject() {
+        return (T) plan.decode(src, new int[]{start}, limit, false, FixedErrors.of(formatterErrorData));
+    }
+
+    /**
+     * 현재 view 의 field 값 조회 (segment 는 "name" 또는 "name[index]")
+     */
+    private Object value(String segment, String path) {
+        int bracket = segment.indexOf('[');
+        if (bracket >= 0) {
+            FixedDataView item = child(segment, path);
+            return item == null ? null : item.toObject();
+        }
+
+        int i = fieldIndex(segment, path);
+        if (plan.isFixedVo(i)) {
+            FixedDataView view = view(i);
+            return view == null ? null : view.toObject();
+        }
+        if (plan.getFixedList(i) != null) {
+            List<FixedDataView> items = list(i);
+            List<Object> list = new ArrayList<>(items.size());
+            for (FixedDataView item : items) {
+                list.add(item.toObject());
+            }
+            return list;
+        }
+        return fixedValue(i);
+    }
+
+    /**
+     * 현재 view 의 VO field / list item view 조회 (segment 는 "name" 또는 "name[index]")
+     */
+    private FixedDataView child(String segment, String path) {
+        int bracket = segment.indexOf('[');
+        if (bracket < 0) {
+            int i = fieldIndex(segment, path);
+            if (!plan.isFixedVo(i)) {
+                throw CommonException.builder().message("invalid field(not fixed vo) : " + path).build();
+            }
+            return view(i);
+        }
+
+        if (!segment.endsWith("]")) {
+            throw CommonException.builder().message("invalid field path : " + path).build();
+        }
+        int i = fieldIndex(segment.substring(0, bracket), path);
+        if (plan.getFixedList(i) == null) {
+            throw CommonException.builder().message("invalid field(not list) : " + path).build();
+        }
+        int itemIndex;
+        try {
+            itemIndex = Integer.parseInt(segment.substring(bracket + 1, segment.length() - 1));
+        } catch (NumberFormatException e) {
+            throw CommonException.builder().message("invalid field path : " + path).cause(e).build();
+        }
+        List<FixedDataView> items = list(i);
+        return itemIndex >= 0 && itemIndex < items.size() ? items.get(itemIndex) : null;
+    }
+
+    private int fieldIndex(String name, String path) {
+        int i = plan.indexOf(name);
+        if (i < 0) {
+            throw CommonException.builder()
+                    .message("invalid field : " + path + " (" + plan.getType().getName() + ")")
+                    .build();
+        }
+        return i;
+    }
+
+    private void write(int i, Object value, String path) {
+        if (plan.isFixedVo(i) || plan.getFixedList(i) != null) {
+            throw CommonException.builder().message("invalid field(not fixed data) : " + path).build();
+        }
+        if (plan.isSizeRef(i)) {
+            throw CommonException.builder().message("invalid field(list sizeRef) : " + path).build();
+        }
+
+        int from = offset(i);
+        int length = offset(i + 1) - from;
+        if (i >= stopIndex || length == 0) {
+            throw CommonException.builder().message("invalid field(no data) : " + path).build();
+        }
+
+        // 기존 field 길이 만큼만 기록 (길이가 다르면 원본을 변경하지 않음)
+        ByteBuffer encoded = ByteBuffer.allocate(length);
+        boolean overflow = false;
+        try {
+            plan.writeField(i, new FixedByteSink(encoded, plan.getCharset()), value);
+        } catch (BufferOverflowException e) {
+            overflow = true;
+        }
+        if (overflow || encoded.position() != length) {
+            throw CommonException.builder()
+                    .message("invalid fixed value(length error) : " + path + ", valid field length : " + length)
+                    .build();
+        }
+        System.arraycopy(encoded.array(), 0, src, from, length);
+
+        values[i] = null;
+        resolved[i] = false;
+    }
+
+    /**
+     * FixedData field 값 decode
+     */
+    private Object fixedValue(int i) {
+        if (resolved[i]) return values[i];
+
+        int from = offset(i);
+        int to = offset(i + 1);
+        Object value = null;
+        if (i < stopIndex) {
+            value = plan.getFieldValue(i, src, from, to - from, errors);
+        }
+        values[i] = value;
+        resolved[i] = true;
+        return value;
+    }
+
+    /**
+     * FixedVo field 의 view 생성
+     */
+    private FixedDataView view(int i) {
+        if (resolved[i]) return (FixedDataView) values[i];
+
+        int from = offset(i);
+        FixedDataView view = null;
+        if (i < stopIndex) {
+            // VO 조회 시 error data 저장할 LinkedHashMap
+            Map<String, Object> voErrorData = new LinkedHashMap<>();
+            formatterErrorData.put(plan.getFieldName(i), voErrorData);
+            view = new FixedDataView(plan.getDeclaredPlan(i), src, from, limit, voErrorData);
+        }
+        values[i] = view;
+        resolved[i] = true;
+        return view;
+    }
+
+    /**
+     * FixedList field 의 item view 목록 생성. item 의 끝 위치만 계산하며 item field 는 조회 시점에 decode 한다.
+     */
+    @SuppressWarnings("unchecked")
+    private List<FixedDataView> list(int i) {
+        if (resolved[i]) return (List<FixedDataView>) values[i];
+
+        int index = offset(i);
+        List<FixedDataView> items = new ArrayList<>();
+        if (i < stopIndex) {
+            // list 조회 시 error data 저장할 List<LinkedHashMap>
+            List<Map<String, Object>> listErrorData = new ArrayList<>();
+            formatterErrorData.put(plan.getFieldName(i), listErrorData);
+
+            FixedCodecPlan itemPlan = plan.getDeclaredPlan(i);
+            int listSize = listSize(i);
+            for (int j = 0; j < listSize && index < limit; j++) {
+                Map<String, Object> itemErrorData = new LinkedHashMap<>();
+                listErrorData.add(itemErrorData);
+
+                FixedDataView item = new FixedDataView(itemPlan, src, index, limit, itemErrorData);
+                items.add(item);
+                int end = item.getEndOffset();
+                if (end <= index) break;
+                index = end;
+            }
+        }
+        List<FixedDataView> list = Collections.unmodifiableList(items);
+        values[i] = list;
+        resolved[i] = true;
+        return list;
+    }
+
+    /**
+     * list field 에 설정된 size 조회. sizeRef 는 list 이전에 위치한 field 만 decode 한다.
+     */
+    private int listSize(int i) {
+        FixedList fixedList = plan.getFixedList(i);
+        if (fixedList.size() >= 0) return fixedList.size();
+
+        String sizeRef = fixedList.sizeRef();
+        if (sizeRef.isEmpty()) {
+            // size / sizeRef 가 없는 list 는 마지막에 위치해야 함
+            if (i + 1 < plan.getFieldCount()) {
+                throw CommonException.builder().message("invalid data(list field)").build();
+            }
+            return Integer.MAX_VALUE;
+        }
+
+        int refIndex = plan.indexOf(sizeRef);
+        Object sizeRefObject = refIndex >= 0 && refIndex < i ? fixedValue(refIndex) : null;
+        if (!(sizeRefObject instanceof Number number)) {
+            formatterErrorData.put(sizeRef, sizeRefObject);
+            throw CommonException.builder()
+                    .message("invalid sizeRef : " + sizeRef + " (" + plan.getType().getName() + ")")
+                    .build();
+        }
+        return number.intValue();
+    }
+
+    /**
+     * field 시작 위치 계산. (i == field 수 : view 끝 위치)
+     * 계산된 가장 가까운 앞 field 부터 field 길이를 더해 구한다.
+     */
+    private int offset(int i) {
+        int known = i;
+        int index = knownOffset(known);
+        while (index < 0) {
+            index = knownOffset(--known);
+        }
+
+        for (int k = known; k < i; k++) {
+            index = end(k, index);
+            offsets[k + 1] = index;
+        }
+        return index;
+    }
+
+    private int knownOffset(int i) {
+        int fieldOffset = plan.getFieldOffset(i);
+        if (fieldOffset >= 0 && start + fieldOffset <= limit) {
+            // 앞선 field 가 모두 data 범위 안에 있으므로 미리 계산된 offset 사용
+            return start + fieldOffset;
+        }
+        return offsets[i];
+    }
+
+    /**
+     * index 에서 시작하는 field 의 끝 위치 계산
+     */
+    private int end(int i, int index) {
+        if (i >= stopIndex) return index;
+
+        if (plan.isFixedVo(i)) {
+            return view(i).getEndOffset();
+        }
+        if (plan.getFixedList(i) != null) {
+            List<FixedDataView> items = list(i);
+            return items.isEmpty() ? index : items.get(items.size() - 1).getEndOffset();
+        }
+
+        int end = plan.getFieldEnd(i, src, index, limit, false);
+        if (index >= end) {
+            // 데이터가 끝난 경우 이후 field 는 값을 설정하지 않는다. (getFixedData 와 같음)
+            stopIndex = i + 1;
+        }
+        return end;
+    }
+}
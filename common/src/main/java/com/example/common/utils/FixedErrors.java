@@ -0,0 +1,232 @@
+package com.example.common.utils;
+
+import com.example.common.utils.FixedParseError.Reason;
+
+import java.util.*;
+
+/**
+ * 고정 길이 변환 중 발생한 error 를 기록하는 대상.
+ * <pre>
+ *     MapTree   : 기존 error data map 구조 (VO : Map, List : List&lt;Map&gt;) 로 기록. VO / list item 마다 map 을 생성한다.
+ *     Collector : error 가 발생한 경우에만 FixedParseError 를 생성한다. (nested 위치 정보용 배열 외에는 할당하지 않음)
+ *
+ *     nested VO / List 는 enter / exit 로 현재 위치를 전달한다.
+ *     (enterList 와 첫 enterItem 사이의 error 는 list 의 상위 object 기준으로 기록된다)
+ * </pre>
+ */
+abstract class FixedErrors {
+
+    /**
+     * error data map 에 기록하는 대상 생성
+     */
+    static FixedErrors of(Map<String, Object> formatterErrorData) {
+        return new MapTree(formatterErrorData);
+    }
+
+    abstract void enterVo(String name);
+
+    abstract void exitVo();
+
+    abstract void enterList(String name);
+
+    abstract void enterItem(int index);
+
+    abstract void exitList();
+
+    /**
+     * field 값 변환 error
+     *
+     * @param name   field 이름
+     * @param data   변환 대상 값
+     * @param offset field 시작 위치 (byte 위치를 알 수 없으면 -1)
+     * @param length field byte 수
+     */
+    abstract void invalidValue(String name, Object data, int offset, int length);
+
+    /**
+     * list sizeRef 조회 error
+     *
+     * @param sizeRef sizeRef field 이름
+     */
+    abstract void invalidListSize(String sizeRef);
+
+    /**
+     * 전체 byte 길이 error
+     *
+     * @param reason    OVERSIZE / UNDERSIZE
+     * @param offset    변환 시작 위치
+     * @param length    변환 대상 byte 수
+     * @param maxLength 대상 object 의 byte 길이
+     */
+    abstract void invalidLength(Reason reason, int offset, int length, int maxLength);
+
+    /**
+     * 기존 error data map 구조로 기록
+     */
+    private static final class MapTree extends FixedErrors {
+        // 상위 map / list (enterVo : 상위 map, enterList : 상위 map, list). nested VO / List 가 있을 때 생성
+        private Deque<Object> stack;
+        private Map<String, Object> current;
+
+        private MapTree(Map<String, Object> formatterErrorData) {
+            this.current = formatterErrorData;
+        }
+
+        @Override
+        void enterVo(String name) {
+            // VO parsing 시 error data 저장할 LinkedHashMap
+            Map<String, Object> voErrorData = new LinkedHashMap<>();
+            current.put(name, voErrorData);
+            stack().push(current);
+            current = voErrorData;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void exitVo() {
+            current = (Map<String, Object>) stack.pop();
+        }
+
+        @Override
+        void enterList(String name) {
+            // list parsing 시 error data 저장할 List<LinkedHashMap>
+            List<Map<String, Object>> listErrorData = new ArrayList<>();
+            current.put(name, listErrorData);
+            stack().push(current);
+            stack.push(listErrorData);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void enterItem(int index) {
+            // list 내부 parsing 시 error data 저장할 LinkedHashMap
+            Map<String, Object> subListErrorData = new LinkedHashMap<>();
+            ((List<Map<String, Object>>) stack.peek()).add(subListErrorData);
+            current = subListErrorData;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void exitList() {
+            stack.pop();
+            current = (Map<String, Object>) stack.pop();
+        }
+
+        @Override
+        void invalidValue(String name, Object data, int offset, int length) {
+            current.put(name, data);
+        }
+
+        @Override
+        void invalidListSize(String sizeRef) {
+            // enterList 는 현재 map 을 변경하지 않으므로 list 의 상위 object map 에 기록된다.
+            current.put(sizeRef, null);
+        }
+
+        @Override
+        void invalidLength(Reason reason, int offset, int length, int maxLength) {
+            // OVERSIZE / UNDERSIZE: {입력 string byte}/{대상 object size}
+            current.put(FormatterUtils.FORMATTER_LENGTH_ERROR, reason.name() + ":" + length + "/" + maxLength);
+        }
+
+        private Deque<Object> stack() {
+            if (stack == null) stack = new ArrayDeque<>(4);
+            return stack;
+        }
+    }
+
+    /**
+     * error 가 발생한 경우에만 FixedParseError 를 생성하여 수집
+     */
+    static final class Collector extends FixedErrors {
+        private final byte[] src;
+        // 현재 위치의 field 이름 / list item index (item 이 아니면 -1). nested VO / List 가 있을 때 생성
+        private String[] names;
+        private int[] indexes;
+        private int depth;
+        private List<FixedParseError> errors;
+
+        Collector(byte[] src) {
+            this.src = src;
+        }
+
+        /**
+         * 수집된 error 목록 (error 가 없으면 empty)
+         */
+        List<FixedParseError> getErrors() {
+            return errors == null ? Collections.emptyList() : Collections.unmodifiableList(errors);
+        }
+
+        @Override
+        void enterVo(String name) {
+            push(name);
+        }
+
+        @Override
+        void exitVo() {
+            depth--;
+        }
+
+        @Override
+        void enterList(String name) {
+            push(name);
+        }
+
+        @Override
+        void enterItem(int index) {
+            indexes[depth - 1] = index;
+        }
+
+        @Override
+        void exitList() {
+            depth--;
+        }
+
+        @Override
+        void invalidValue(String name, Object data, int offset, int length) {
+            byte[] raw = offset < 0 ? null : Arrays.copyOfRange(src, offset, offset + length);
+            add(new FixedParseError(path(depth, name), Reason.INVALID_VALUE, offset, length, raw,
+                    String.valueOf(data)));
+        }
+
+        @Override
+        void invalidListSize(String sizeRef) {
+            // list 진입 직후 : list 의 상위 object 기준
+            int ownerDepth = depth > 0 && indexes[depth - 1] < 0 ? depth - 1 : depth;
+            add(new FixedParseError(path(ownerDepth, sizeRef), Reason.INVALID_LIST_SIZE, -1, 0, null, null));
+        }
+
+        @Override
+        void invalidLength(Reason reason, int offset, int length, int maxLength) {
+            add(new FixedParseError("", reason, offset, length, null, length + "/" + maxLength));
+        }
+
+        private void push(String name) {
+            if (names == null) {
+                names = new String[8];
+                indexes = new int[8];
+            } else if (depth == names.length) {
+                names = Arrays.copyOf(names, depth * 2);
+                indexes = Arrays.copyOf(indexes, depth * 2);
+            }
+            names[depth] = name;
+            indexes[depth] = -1;
+            depth++;
+        }
+
+        private String path(int pathDepth, String name) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < pathDepth; i++) {
+                sb.append(names[i]);
+                if (indexes[i] >= 0) sb.append('[').append(indexes[i]).append(']');
+                sb.append('.');
+            }
+            return sb.append(name).toString();
+        }
+
+        private void add(FixedParseError error) {
+            if (errors == null) errors = new ArrayList<>(4);
+            errors.add(error);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.common.utils;
+
+import com.example.common.exception.CommonException;
+import com.example.common.model.FixedLayoutDefinition;
+
+import java.io.ByteArrayOutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * java class 없이 layout 정의(FixedLayoutDefinition)로 변환하는 고정 길이 layout.
+ * <pre>
+ *     layout 정의를 class 기반 변환과 같은 codec plan(field offset table 포함)으로 compile 하며,
+ *     compile 된 layout 은 변경되지 않으므로 여러 thread 에서 공유할 수 있다.
+ *     변환 규칙(padding, 정렬, BigDecimal scale / signed, List size / sizeRef)은 @FixedData / @FixedList 와 같다.
+ *
+ * example>
+ *      FixedLayout layout = FixedLayout.compile(definition, "EUC-KR");
+ *      FixedRecord record = layout.decode(telegram, 0, telegram.length);
+ *      Map&lt;String, Object&gt; map = layout.decodeToMap(fixedString);
+ *      byte[] response = layout.encodeToBytes(record);
+ * </pre>
+ *
+ * @see FixedLayoutRegistry
+ * @see FixedRecord
+ */
+public final class FixedLayout {
+
+    private final String name;
+    private final String encoding;
+    private final FixedLayoutDefinition definition;
+    private final LayoutCodec codec;
+
+    private FixedLayout(FixedLayoutDefinition definition, String encoding) {
+        if (definition == null || definition.getName() == null || definition.getName().isBlank()) {
+            throw CommonException.builder().message("invalid layout : name is empty").build();
+        }
+        this.name = definition.getName();
+        this.encoding = encoding;
+        this.definition = definition;
+        this.codec = LayoutCodec.compile(name, definition.getFields(), encoding);
+    }
+
+    /**
+     * layout 정의를 기본 encoding(FormatterUtils.DEFAULT_CHAR_ENCODING)으로 compile
+     *
+     * @param definition layout 정의
+     * @return compile 된 layout
+     */
+    public static FixedLayout compile(FixedLayoutDefinition definition) {
+        return compile(definition, FormatterUtils.DEFAULT_CHAR_ENCODING);
+    }
+
+    /**
+     * layout 정의를 compile. 정의가 올바르지 않으면 CommonException 이 발생한다.
+     *
+     * @param definition layout 정의
+     * @param encoding   변환 시 사용할 encoding
+     * @return compile 된 layout
+     */
+    public static FixedLayout compile(FixedLayoutDefinition definition, String encoding) {
+        return new FixedLayout(definition, encoding);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEncoding() {
+        return encoding;
+    }
+
+    public FixedLayoutDefinition getDefinition() {
+        return definition;
+    }
+
+    /**
+     * layout 의 max byte 길이 (List 가 있으면 Integer.MAX_VALUE)
+     */
+    public int getMaxLength() {
+        return codec.getPlan().getMaxLength();
+    }
+
+    /**
+     * layout 의 길이 / field offset / schema hash 정보
+     */
+    public FixedLayoutDescriptor getDescriptor() {
+        return codec.getPlan().getDescriptor();
+    }
+
+    /**
+     * 빈 record 생성
+     */
+    public FixedRecord newRecord() {
+        return codec.newInstance();
+    }
+
+    /**
+     * 고정 길이 문자열을 record 로 변환
+     *
+     * @param fld 변환 대상 문자열
+     * @return 변환 결과 record
+     */
+    public FixedRecord decode(String fld) {
+        byte[] bytes = FormatterUtils.getBytes(fld, encoding);
+        return decode(bytes, 0, bytes.length);
+    }
+
+    /**
+     * 고정 길이 byte 배열을 record 로 변환. 변환 error 정보가 필요하면 parse 를 사용한다.
+     *
+     * @param fld    변환 대상 byte 배열
+     * @param offset 변환 시작 위치
+     * @param length 변환 대상 byte 수
+     * @return 변환 결과 record
+     */
+    public FixedRecord decode(byte[] fld, int offset, int length) {
+        return parse(fld, offset, length).getValue();
+    }
+
+    /**
+     * 고정 길이 문자열을 중첩 map 으로 변환 (group : Map, list : List&lt;Map&gt;)
+     *
+     * @param fld 변환 대상 문자열
+     * @return 변환 결과 map
+     */
+    public Map<String, Object> decodeToMap(String fld) {
+        return decode(fld).toMap();
+    }
+
+    /**
+     * 고정 길이 byte 배열을 record 로 변환하고, 변환 중 발생한 error 를 함께 반환
+     *
+     * @param fld    변환 대상 byte 배열
+     * @param offset 변환 시작 위치
+     * @param length 변환 대상 byte 수
+     * @return 변환 결과 record 와 error 목록
+     * @see FormatterUtils#parseFixedData(byte[], int, int, Class, String, Class)
+     */
+    public FixedParseResult<FixedRecord> parse(byte[] fld, int offset, int length) {
+        return FormatterUtils.parseFixedData(fld, offset, length, codec.getPlan());
+    }
+
+    /**
+     * 고정 길이 byte 배열의 lazy view 생성. 조회한 field 만 decode 한다.
+     *
+     * @param fld    변환 대상 byte 배열
+     * @param offset 변환 시작 위치
+     * @param length 변환 대상 byte 수
+     * @return view (group : FixedRecord, list item : FixedRecord 로 조회)
+     * @see FormatterUtils#getFixedView(byte[], int, int, Class, String, Class)
+     */
+    public FixedDataView view(byte[] fld, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > fld.length) {
+            throw CommonException.builder().message("invalid fixed data(offset / length)").build();
+        }
+        return new FixedDataView(codec.getPlan(), fld, offset, offset + length, new LinkedHashMap<>());
+    }
+
+    /**
+     * record 를 고정 길이 문자열로 변환
+     *
+     * @param record 변환 대상 record (이 layout 으로 생성한 record)
+     * @return 고정 길이 문자열
+     */
+    public String encode(FixedRecord record) {
+        return codec.getPlan().encode(checkRecord(record), false, FormatterUtils.createErrorDataMap());
+    }
+
+    /**
+     * map(group : Map, list : List&lt;Map&gt;)을 고정 길이 문자열로 변환. layout 에 없는 key 는 무시한다.
+     *
+     * @param map 변환 대상 map
+     * @return 고정 길이 문자열
+     */
+    public String encode(Map<String, ?> map) {
+        return encode(codec.toRecord(map));
+    }
+
+    /**
+     * record 를 고정 길이 byte 배열로 변환
+     *
+     * @param record 변환 대상 record (이 layout 으로 생성한 record)
+     * @return 고정 길이 byte 배열
+     */
+    public byte[] encodeToBytes(FixedRecord record) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FixedByteSink sink = new FixedByteSink(out, codec.getPlan().getCharset());
+        codec.getPlan().write(sink, checkRecord(record), FormatterUtils.createErrorDataMap());
+        sink.flush();
+        return out.toByteArray();
+    }
+
+    private FixedRecord checkRecord(FixedRecord record) {
+        if (record == null || !codec.equals(record.getCodec())) {
+            throw CommonException.builder().message("invalid fixed record(layout mismatch) : " + name).build();
+        }
+        return record;
+    }
+
+    @Override
+    public String toString() {
+        return "FixedLayout(name=" + name + ", encoding=" + encoding + ")";
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.common.utils;
+
+import com.example.common.exception.CommonException;
+import com.example.common.utils.FixedParseError.Reason;
+import org.apache.commons.codec.binary.Hex;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * 고정 길이 변환 대상 type(또는 runtime layout)의 길이 / offset / schema 정보.
+ * <pre>
+ *     type 별로 한 번만 계산하여 codec plan 에 보관하며, 변경되지 않으므로 여러 thread 에서 공유할 수 있다.
+ *
+ *     maxLength    : getFixedData 의 길이 검사(OVERSIZE / UNDERSIZE)에 사용하는 길이. FixedList 가 있으면 Integer.MAX_VALUE
+ *                    (BigDecimal 소수점 / 부호 문자는 포함하지 않음)
+ *     recordLength : encode 결과의 전체 byte 길이 (BigDecimal 소수점 포함). checkLength 에 사용하며,
+ *                    FixedList / signed BigDecimal 이 있으면 -1 (길이 검사 불가)
+ *     fixedLength  : data 와 관계없이 정해지는 전체 byte 길이. BigDecimal(부호 문자), size 가 없는 List 등이 있으면 -1
+ *     fieldOffset  : 시작 위치 기준 field offset. 앞선 field 의 길이가 data 에 따라 달라지면 -1
+ *     schemaHash   : 전문 형식(field 이름, 길이, padding, 부호, List 구성)의 SHA-256. java class 이름은 포함하지 않으므로
+ *                    송수신 시스템이 hash 를 교환하여 layout 변경 여부를 확인할 수 있다.
+ *
+ * example>
+ *      FixedLayoutDescriptor descriptor = FormatterUtils.getLayoutDescriptor(FixedMessageBody.class);
+ *      if (!descriptor.isValidLength(telegram.length)) {
+ *          // routing 전 길이 오류 처리
+ *      }
+ *      boolean same = descriptor.matches(peerSchemaHash);
+ * </pre>
+ *
+ * @see FormatterUtils#getLayoutDescriptor(Class, Class)
+ */
+public final class FixedLayoutDescriptor {
+
+    private final Class<?> type;
+    private final int maxLength;
+    private final int recordLength;
+    private final int fixedLength;
+    private final boolean containsList;
+    private final List<String> fieldNames;
+    private final Map<String, Integer> fieldIndexes;
+    private final int[] fieldOffsets;
+    private final int[] fieldWidths;
+    private final String schema;
+    private final String schemaHash;
+
+    FixedLayoutDescriptor(FixedCodecPlan plan) {
+        int count = plan.getFieldCount();
+        String[] names = new String[count];
+        Map<String, Integer> indexes = new HashMap<>();
+        this.fieldOffsets = new int[count];
+        this.fieldWidths = new int[count];
+        for (int i = 0; i < count; i++) {
+            names[i] = plan.getFieldName(i);
+            indexes.putIfAbsent(names[i], i);
+            fieldOffsets[i] = plan.getFieldOffset(i);
+            fieldWidths[i] = plan.getFieldWidth(i);
+        }
+
+        this.type = plan.getType();
+        this.maxLength = plan.getMaxLength();
+        this.recordLength = plan.getRecordLength();
+        this.fixedLength = plan.getFieldOffset(count);
+        this.containsList = containsList(plan);
+        this.fieldNames = List.of(names);
+        this.fieldIndexes = Collections.unmodifiableMap(indexes);
+
+        StringBuilder sb = new StringBuilder();
+        plan.appendSchema(sb);
+        this.schema = sb.toString();
+        this.schemaHash = sha256(schema);
+    }
+
+    /**
+     * schema 문자열의 SHA-256 (소문자 hex). 시스템 기본 charset 과 관계없이 같은 hash 가 되도록 UTF-8 byte 를 사용한다.
+     */
+    private static String sha256(String schema) {
+        try {
+            MessageDigest msgDigest = MessageDigest.getInstance("SHA-256");
+            return Hex.encodeHexString(msgDigest.digest(schema.getBytes(StandardCharsets.UTF_8)), true);
+        } catch (NoSuchAlgorithmException ex) {
+            throw CommonException.builder().message(ex.getMessage()).cause(ex).build();
+        }
+    }
+
+    private static boolean containsList(FixedCodecPlan plan) {
+        for (int i = 0; i < plan.getFieldCount(); i++) {
+            if (plan.getFixedList(i) != null) return true;
+            if (plan.isFixedVo(i) && containsList(plan.getDeclaredPlan(i))) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 대상 type (runtime layout 은 FixedRecord)
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * getFixedData 의 길이 검사에 사용하는 max byte 길이 (FormatterUtils.getObjectMaxLength 와 같은 값).
+     * FixedList 가 있으면 Integer.MAX_VALUE
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * encode 결과의 전체 byte 길이 (BigDecimal 소수점 포함).
+     * FixedList / signed BigDecimal(값이 없으면 부호 문자를 기록하지 않음)이 있으면 -1
+     */
+    public int getRecordLength() {
+        return recordLength;
+    }
+
+    /**
+     * data 와 관계없이 정해지는 전체 byte 길이. 정해지지 않으면 -1
+     */
+    public int getFixedLength() {
+        return fixedLength;
+    }
+
+    /**
+     * 전체 byte 길이가 data 에 따라 달라지는지 여부 (BigDecimal, size 가 없는 List 등)
+     */
+    public boolean isVariableLength() {
+        return fixedLength < 0;
+    }
+
+    /**
+     * FixedList 포함 여부 (nested VO 포함)
+     */
+    public boolean containsList() {
+        return containsList;
+    }
+
+    /**
+     * 최상위 field 이름 목록
+     */
+    public List<String> getFieldNames() {
+        return fieldNames;
+    }
+
+    /**
+     * 시작 위치 기준 field offset. 앞선 field 의 길이가 data 에 따라 달라지면 -1
+     *
+     * @param fieldName 최상위 field 이름
+     * @return field offset
+     */
+    public int getFieldOffset(String fieldName) {
+        return fieldOffsets[indexOf(fieldName)];
+    }
+
+    /**
+     * data 와 관계없이 정해지는 field byte 길이. 정해지지 않으면 -1
+     *
+     * @param fieldName 최상위 field 이름
+     * @return field byte 길이
+     */
+    public int getFieldWidth(String fieldName) {
+        return fieldWidths[indexOf(fieldName)];
+    }
+
+    /**
+     * encode 결과 길이(getRecordLength) 기준 byte 길이 검사.
+     * 길이를 정할 수 없는 type(getRecordLength() == -1 : FixedList, signed BigDecimal)은 판단하지 않고 null 을 반환하므로,
+     * 길이 검사 여부는 getRecordLength() 로 확인한다.
+     *
+     * @param length 전문 byte 길이
+     * @return OVERSIZE / UNDERSIZE. 길이가 같거나 판단할 수 없으면 null
+     */
+    public Reason checkLength(int length) {
+        if (recordLength < 0) return null;
+        if (length > recordLength) return Reason.OVERSIZE;
+        if (length < recordLength) return Reason.UNDERSIZE;
+        return null;
+    }
+
+    /**
+     * byte 길이가 올바른지 확인. 길이를 정할 수 없는 type(getRecordLength() == -1)은 검사하지 않으므로 true
+     *
+     * @param length 전문 byte 길이
+     * @return checkLength 결과가 없으면 true
+     */
+    public boolean isValidLength(int length) {
+        return checkLength(length) == null;
+    }
+
+    /**
+     * 전문 형식 schema 문자열
+     */
+    public String getSchema() {
+        return schema;
+    }
+
+    /**
+     * 전문 형식 schema 의 SHA-256 (소문자 hex)
+     */
+    public String getSchemaHash() {
+        return schemaHash;
+    }
+
+    /**
+     * 상대 시스템의 schema hash 와 같은지 확인
+     *
+     * @param otherSchemaHash 비교 대상 schema hash
+     * @return 같으면 true
+     */
+    public boolean matches(String otherSchemaHash) {
+        return schemaHash.equalsIgnoreCase(otherSchemaHash);
+    }
+
+    private int indexOf(String fieldName) {
+        Integer index = fieldIndexes.get(fieldName);
+        if (index == null) {
+            throw CommonException.builder().message("invalid field name : " + fieldName).build();
+        }
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return "FixedLayoutDescriptor(type=" + type.getName() + ", maxLength=" + maxLength
+                + ", recordLength=" + recordLength + ", fixedLength=" + fixedLength + ", schemaHash=" + schemaHash + ")";
+    }
+}
@@ -0,0 +1,300 @@
+package com.example.common.utils;
+
+import com.example.common.exception.CommonException;
+import com.example.common.model.FixedLayoutDefinition;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * 이름으로 조회하는 runtime layout 저장소.
+ * <pre>
+ *     JSON(.json) / YAML(.yml, .yaml) 파일의 layout 정의를 compile 하여 저장한다.
+ *     파일에는 layout 1개(object) 또는 여러 개(array)를 정의할 수 있다.
+ *
+ *     watch 로 directory 를 감시하면 파일 생성 / 변경 시 해당 파일의 layout 을 다시 compile 하여 교체하고,
+ *     파일 삭제 시 해당 파일의 layout 을 제거한다. compile 에 실패한 경우 기존 layout 을 유지한다.
+ *     layout 은 compile 이 끝난 뒤 한 번에 교체되므로 변환 중인 요청은 이전 layout 으로 처리된다.
+ *
+ *     여러 파일에 같은 이름의 layout 이 있으면 나중에 읽은 파일의 layout 을 사용하며 warning log 를 남긴다.
+ *     layout 은 마지막으로 정의한 파일에 속하므로 이전 파일을 변경 / 삭제해도 제거되지 않는다. (파일 간 layout 이동)
+ *
+ * example>
+ *      FixedLayoutRegistry registry = new FixedLayoutRegistry("EUC-KR");
+ *      registry.load(Path.of("config/layouts"));
+ *      registry.watch(Path.of("config/layouts"));
+ *
+ *      FixedRecord record = registry.get("PAYMENT_REQ").decode(telegram, 0, telegram.length);
+ * </pre>
+ *
+ * @see FixedLayout
+ * @see FixedLayoutDefinition
+ */
+@Slf4j
+public class FixedLayoutRegistry implements Closeable {
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final String encoding;
+    private final Map<String, FixedLayout> layouts = new ConcurrentHashMap<>();
+    // 파일별 layout 이름 (reload / 삭제 시 제거 대상)
+    private final Map<Path, Set<String>> fileLayouts = new ConcurrentHashMap<>();
+    // layout 이름별 정의 파일 (register 로 등록한 layout 은 없음)
+    private final Map<String, Path> layoutFiles = new ConcurrentHashMap<>();
+
+    private volatile WatchService watchService;
+    private Thread watchThread;
+
+    public FixedLayoutRegistry() {
+        this(FormatterUtils.DEFAULT_CHAR_ENCODING);
+    }
+
+    /**
+     * @param encoding layout 변환 시 사용할 encoding
+     */
+    public FixedLayoutRegistry(String encoding) {
+        this.encoding = encoding;
+    }
+
+    /**
+     * layout 조회
+     *
+     * @param name layout 이름
+     * @return layout. 없으면 CommonException 발생
+     */
+    public FixedLayout get(String name) {
+        FixedLayout layout = layouts.get(name);
+        if (layout == null) {
+            throw CommonException.builder().message("layout not found : " + name).build();
+        }
+        return layout;
+    }
+
+    /**
+     * layout 이 등록되어 있는지 확인
+     */
+    public boolean contains(String name) {
+        return layouts.containsKey(name);
+    }
+
+    /**
+     * 등록된 layout 이름 목록
+     */
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(layouts.keySet());
+    }
+
+    /**
+     * layout 정의를 compile 하여 등록. 같은 이름의 layout 이 있으면 교체한다.
+     *
+     * @param definition layout 정의
+     * @return 등록된 layout
+     */
+    public synchronized FixedLayout register(FixedLayoutDefinition definition) {
+        FixedLayout layout = FixedLayout.compile(definition, encoding);
+        releaseFile(layout.getName());
+        layouts.put(layout.getName(), layout);
+        return layout;
+    }
+
+    /**
+     * 파일 또는 directory 의 layout 정의 파일(.json, .yml, .yaml)을 읽어 등록
+     *
+     * @param path layout 정의 파일 또는 directory
+     * @return 등록된 layout 수
+     */
+    public synchronized int load(Path path) {
+        if (!Files.isDirectory(path)) {
+            return loadFile(path).size();
+        }
+
+        try (Stream<Path> files = Files.list(path)) {
+            int count = 0;
+            for (Path file : files.filter(FixedLayoutRegistry::isLayoutFile).sorted().toList()) {
+                count += loadFile(file).size();
+            }
+            return count;
+        } catch (IOException e) {
+            throw CommonException.builder().message("layout load error : " + path).cause(e).build();
+        }
+    }
+
+    /**
+     * directory 의 layout 정의 파일 변경을 감시하여 자동으로 다시 등록 (daemon thread).
+     * 감시는 close 호출 시 종료된다.
+     *
+     * @param dir layout 정의 directory
+     */
+    public synchronized void watch(Path dir) {
+        if (watchService != null) {
+            throw CommonException.builder().message("layout registry is already watching").build();
+        }
+
+        try {
+            watchService = dir.getFileSystem().newWatchService();
+            dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        } catch (IOException e) {
+            closeWatchService();
+            throw CommonException.builder().message("layout watch error : " + dir).cause(e).build();
+        }
+
+        WatchService service = watchService;
+        watchThread = new Thread(() -> watchLoop(dir, service), "fixed-layout-watcher");
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
+
+    /**
+     * 파일 감시 종료
+     */
+    @Override
+    public synchronized void close() {
+        closeWatchService();
+        if (watchThread != null) {
+            watchThread.interrupt();
+            watchThread = null;
+        }
+    }
+
+    private void watchLoop(Path dir, WatchService service) {
+        while (true) {
+            WatchKey key;
+            try {
+                key = service.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            // 같은 파일의 이벤트가 여러 번 전달될 수 있으므로 파일별로 한 번만 처리
+            Set<Path> changed = new LinkedHashSet<>();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == OVERFLOW) continue;
+                Path file = dir.resolve((Path) event.context());
+                if (isLayoutFile(file)) changed.add(file);
+            }
+            for (Path file : changed) {
+                reload(file);
+            }
+
+            if (!key.reset()) {
+                log.warn("layout watch stopped : {}", dir);
+                return;
+            }
+        }
+    }
+
+    private synchronized void reload(Path file) {
+        if (!Files.exists(file)) {
+            Set<String> names = fileLayouts.remove(file.toAbsolutePath());
+            if (names != null) names.forEach(this::remove);
+            log.info("layout removed : {} {}", file, names);
+            return;
+        }
+
+        try {
+            log.info("layout reloaded : {} {}", file, loadFile(file));
+        } catch (RuntimeException e) {
+            // 작성 중인 파일 / 잘못된 정의는 기존 layout 유지
+            log.warn("layout reload failed, keep previous layout : {}", file, e);
+        }
+    }
+
+    private Set<String> loadFile(Path file) {
+        List<FixedLayoutDefinition> definitions = readDefinitions(file);
+
+        // 파일의 layout 을 모두 compile 한 뒤 교체
+        Map<String, FixedLayout> compiled = new LinkedHashMap<>();
+        for (FixedLayoutDefinition definition : definitions) {
+            FixedLayout layout = FixedLayout.compile(definition, encoding);
+            if (compiled.put(layout.getName(), layout) != null) {
+                throw CommonException.builder().message("duplicate layout name : " + layout.getName()).build();
+            }
+        }
+
+        Path path = file.toAbsolutePath();
+        layouts.putAll(compiled);
+        for (String name : compiled.keySet()) {
+            Path owner = layoutFiles.get(name);
+            if (owner != null && !owner.equals(path)) {
+                log.warn("duplicate layout name, replaced by later file : {} ({} -> {})", name, owner, path);
+                releaseFile(name);
+            }
+            layoutFiles.put(name, path);
+        }
+
+        Set<String> names = Collections.unmodifiableSet(compiled.keySet());
+        Set<String> previous = fileLayouts.put(path, names);
+        if (previous != null) {
+            previous.stream().filter(name -> !names.contains(name)).forEach(this::remove);
+        }
+        return names;
+    }
+
+    /**
+     * layout 을 정의 파일의 layout 목록에서 제외. (정의 파일을 변경 / 삭제해도 제거되지 않음)
+     */
+    private void releaseFile(String name) {
+        Path owner = layoutFiles.remove(name);
+        if (owner == null) return;
+        fileLayouts.computeIfPresent(owner, (path, names) -> {
+            Set<String> remaining = new LinkedHashSet<>(names);
+            remaining.remove(name);
+            return Collections.unmodifiableSet(remaining);
+        });
+    }
+
+    private void remove(String name) {
+        layouts.remove(name);
+        layoutFiles.remove(name);
+    }
+
+    private static List<FixedLayoutDefinition> readDefinitions(Path file) {
+        ObjectMapper mapper = isYaml(file) ? YAML_MAPPER : JSON_MAPPER;
+        try {
+            JsonNode root = mapper.readTree(file.toFile());
+            if (root == null || root.isMissingNode()) {
+                throw CommonException.builder().message("layout file is empty : " + file).build();
+            }
+            if (root.isArray()) {
+                return Arrays.asList(mapper.treeToValue(root, FixedLayoutDefinition[].class));
+            }
+            return List.of(mapper.treeToValue(root, FixedLayoutDefinition.class));
+        } catch (IOException e) {
+            throw CommonException.builder().message("layout file read error : " + file).cause(e).build();
+        }
+    }
+
+    private static boolean isLayoutFile(Path file) {
+        String name = file.getFileName().toString();
+        return name.endsWith(".json") || isYaml(file);
+    }
+
+    private static boolean isYaml(Path file) {
+        String name = file.getFileName().toString();
+        return name.endsWith(".yml") || name.endsWith(".yaml");
+    }
+
+    private void closeWatchService() {
+        if (watchService == null) return;
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.warn("layout watch close error", e);
+        }
+        watchService = null;
+    }
+}
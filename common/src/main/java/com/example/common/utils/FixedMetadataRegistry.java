@@ -0,0 +1,328 @@
+package com.example.common.utils;
+
+import com.example.common.exception.CommonException;
+import com.example.common.internal.annotations.FixedData;
+import com.example.common.internal.annotations.FixedList;
+import com.example.common.internal.annotations.FixedVo;
+import com.example.common.model.FixedField;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * FormatterUtils 고정 길이 변환 metadata(FixedField 목록, codec plan) cache.
+ * <pre>
+ *     metadata 는 변환 대상 class 의 ClassValue 에 저장되므로 class(classloader)가 unload 되면 함께 해제된다.
+ *     (devtools restart / plugin reload 시 이전 classloader 를 붙잡지 않음)
+ *     genericType 이 변환 대상 class 의 하위(또는 관계 없는) classloader 에서 load 된 경우에는
+ *     genericType 의 ClassValue 에 저장하므로, 상위 classloader 의 class 가 genericType 을 붙잡지 않는다.
+ *     같은 key 의 metadata 는 한번만 생성되며, 동시에 처음 조회한 thread 는 생성이 끝날 때까지 기다린다.
+ *
+ *     기동 시 warm-up (선택)
+ *     example>
+ *          &#64;Bean
+ *          ApplicationRunner fixedMetadataWarmUp() {
+ *              return args -&gt; FixedMetadataRegistry.warmUp("com.example.service.model");
+ *          }
+ *
+ *     조회 통계
+ *     example>
+ *          FixedMetadataRegistry.Stats stats = FixedMetadataRegistry.getStats();
+ *          log.info("hit:{}, miss:{}", stats.getHitCount(), stats.getMissCount());
+ * </pre>
+ */
+@Slf4j
+public final class FixedMetadataRegistry {
+
+    private static final ClassValue<TypeMetadata> TYPES = new ClassValue<>() {
+        @Override
+        protected TypeMetadata computeValue(Class<?> type) {
+            return new TypeMetadata();
+        }
+    };
+
+    private static final LongAdder HIT_COUNT = new LongAdder();
+    private static final LongAdder MISS_COUNT = new LongAdder();
+    private static final LongAdder LOAD_NANOS = new LongAdder();
+
+    private FixedMetadataRegistry() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 대상 class 의 FixedField 목록 조회. 없으면 생성 후 저장한다.
+     */
+    static List<FixedField> getFieldList(Class<?> type, Class<?> genericType) {
+        Slot<List<FixedField>> slot = metadata(type, genericType).fieldList;
+        List<FixedField> fieldList = slot.getIfLoaded();
+        return fieldList != null ? fieldList : slot.load(() -> FormatterUtils.loadFieldList(type, genericType));
+    }
+
+    /**
+     * 대상 class 의 codec plan 조회. 없으면 생성 후 저장한다.
+     */
+    static FixedCodecPlan getPlan(Class<?> type, Class<?> genericType, String encoding) {
+        // encoding 이 null 인 경우 기본 charset 을 사용하므로 "" 와 같은 key 로 저장
+        String key = encoding == null ? "" : encoding;
+        Slot<FixedCodecPlan> slot = metadata(type, genericType).plans.computeIfAbsent(key, k -> new Slot<>());
+        FixedCodecPlan plan = slot.getIfLoaded();
+        return plan != null ? plan : slot.load(() -> FixedCodecPlan.create(type, genericType, encoding));
+    }
+
+    /**
+     * type + genericType 의 metadata 조회.
+     * <pre>
+     *     genericType 이 type 과 같은(또는 상위) classloader 의 class 이면 type 의 ClassValue 에 저장한다.
+     *     그 외(하위 / 관계 없는 classloader)에는 genericType 의 ClassValue 에 저장하므로,
+     *     type 은 genericType 을 참조하지 않고 genericType 이 unload 되면 metadata 도 함께 해제된다.
+     * </pre>
+     */
+    private static GenericMetadata metadata(Class<?> type, Class<?> genericType) {
+        TypeMetadata typeMetadata = TYPES.get(type);
+        if (genericType == null) return typeMetadata.noGeneric;
+
+        GenericMetadata metadata = typeMetadata.generics.get(genericType);
+        if (metadata != null) return metadata;
+        if (isVisible(genericType, type.getClassLoader())) {
+            return typeMetadata.generics.computeIfAbsent(genericType, k -> new GenericMetadata());
+        }
+        return typeMetadata.otherGenerics.get(genericType);
+    }
+
+    /**
+     * class 가 classloader 또는 상위 classloader 에서 load 되었는지 확인
+     */
+    static boolean isVisible(Class<?> type, ClassLoader classLoader) {
+        ClassLoader typeLoader = type.getClassLoader();
+        if (typeLoader == null) return true;
+        for (ClassLoader loader = classLoader; loader != null; loader = loader.getParent()) {
+            if (loader == typeLoader) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 조회 통계
+     *
+     * @return 누적 hit / miss 수, metadata 생성 시간
+     */
+    public static Stats getStats() {
+        return new Stats(HIT_COUNT.sum(), MISS_COUNT.sum(), LOAD_NANOS.sum());
+    }
+
+    /**
+     * 대상 class 의 metadata 를 미리 생성 (기본 encoding)
+     *
+     * @param types FixedData / FixedVo / FixedList field 를 가진 class
+     */
+    public static void warmUp(Class<?>... types) {
+        for (Class<?> type : types) {
+            getFieldList(type, null);
+            getPlan(type, null, FormatterUtils.DEFAULT_CHAR_ENCODING);
+        }
+    }
+
+    /**
+     * package 하위(하위 package 포함) class 중 FixedData / FixedVo / FixedList field 를 가진 class 의 metadata 를 미리 생성
+     * (기본 encoding). directory / jar classpath 를 지원한다.
+     *
+     * @param basePackages 검색 대상 package (예: "com.example.service.model")
+     * @return metadata 를 생성한 class 수
+     */
+    public static int warmUp(String... basePackages) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) classLoader = FixedMetadataRegistry.class.getClassLoader();
+
+        int count = 0;
+        for (String basePackage : basePackages) {
+            for (String className : findClassNames(classLoader, basePackage)) {
+                Class<?> type;
+                try {
+                    type = Class.forName(className, false, classLoader);
+                } catch (ClassNotFoundException | LinkageError e) {
+                    log.debug("[SKIP]CLASS:{}", className, e);
+                    continue;
+                }
+                if (!isFixedType(type)) continue;
+
+                try {
+                    warmUp(type);
+                    count++;
+                } catch (RuntimeException e) {
+                    // 변환 불가능한 class 는 실제 변환 시점에 error 를 발생시키도록 건너뛴다.
+                    log.warn("[ERROR]WARM_UP:{}", className, e);
+                }
+            }
+        }
+
+        log.info("FIXED_METADATA_WARM_UP:{}, PACKAGES:{}", count, Arrays.toString(basePackages));
+        return count;
+    }
+
+    private static boolean isFixedType(Class<?> type) {
+        if (type.isInterface() || type.isAnnotation() || type.isEnum()) return false;
+        try {
+            for (Field field : type.getDeclaredFields()) {
+                if (field.isAnnotationPresent(FixedData.class) || field.isAnnotationPresent(FixedVo.class)
+                        || field.isAnnotationPresent(FixedList.class)) {
+                    return true;
+                }
+            }
+        } catch (LinkageError e) {
+            log.debug("[SKIP]CLASS:{}", type.getName(), e);
+        }
+        return false;
+    }
+
+    /**
+     * package 하위의 class 이름 검색
+     */
+    private static Set<String> findClassNames(ClassLoader classLoader, String basePackage) {
+        String path = basePackage.replace('.', '/');
+        Set<String> classNames = new LinkedHashSet<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(path);
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+                if ("file".equals(url.getProtocol())) {
+                    File dir = new File(URLDecoder.decode(url.getPath(), StandardCharsets.UTF_8));
+                    findClassNames(dir, basePackage, classNames);
+                } else {
+                    URLConnection connection = url.openConnection();
+                    if (connection instanceof JarURLConnection jarConnection) {
+                        findClassNames(jarConnection, path, classNames);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw CommonException.builder().message(e.getMessage()).cause(e).build();
+        }
+        return classNames;
+    }
+
+    private static void findClassNames(File dir, String packageName, Set<String> classNames) {
+        File[] files = dir.listFiles();
+        if (files == null) return;
+
+        for (File file : files) {
+            String name = file.getName();
+            if (file.isDirectory()) {
+                findClassNames(file, packageName + "." + name, classNames);
+            } else if (name.endsWith(".class") && !name.equals("module-info.class")) {
+                classNames.add(packageName + "." + name.substring(0, name.length() - ".class".length()));
+            }
+        }
+    }
+
+    private static void findClassNames(JarURLConnection connection, String path, Set<String> classNames)
+            throws IOException {
+        connection.setUseCaches(false);
+        try (JarFile jarFile = connection.getJarFile()) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                String name = entries.nextElement().getName();
+                if (name.startsWith(path + "/") && name.endsWith(".class") && !name.endsWith("module-info.class")) {
+                    classNames.add(name.substring(0, name.length() - ".class".length()).replace('/', '.'));
+                }
+            }
+        }
+    }
+
+    /**
+     * class 단위 metadata. (key : genericType)
+     */
+    private static final class TypeMetadata {
+        // genericType 이 없는 경우
+        private final GenericMetadata noGeneric = new GenericMetadata();
+        // 같은(또는 상위) classloader 의 genericType
+        private final Map<Class<?>, GenericMetadata> generics = new ConcurrentHashMap<>();
+        // 하위 / 관계 없는 classloader 의 genericType. genericType 의 ClassValue 에 저장된다.
+        private final ClassValue<GenericMetadata> otherGenerics = new ClassValue<>() {
+            @Override
+            protected GenericMetadata computeValue(Class<?> genericType) {
+                return new GenericMetadata();
+            }
+        };
+    }
+
+    /**
+     * class + genericType 단위 metadata. (codec plan key : encoding)
+     */
+    private static final class GenericMetadata {
+        private final Slot<List<FixedField>> fieldList = new Slot<>();
+        private final Map<String, Slot<FixedCodecPlan>> plans = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * 한번만 생성되는 metadata 값.
+     * nested VO / List metadata 생성 시 다른 key 를 재귀 조회하므로 map 의 compute 대신 slot 단위로 생성한다.
+     */
+    private static final class Slot<V> {
+        private volatile V value;
+
+        /**
+         * 생성된 값 조회. 아직 생성되지 않았으면 null
+         */
+        V getIfLoaded() {
+            V current = value;
+            if (current != null) HIT_COUNT.increment();
+            return current;
+        }
+
+        /**
+         * 값 생성. 다른 thread 가 먼저 생성한 경우 그 값을 사용한다.
+         */
+        V load(Supplier<V> loader) {
+            V current;
+            synchronized (this) {
+                current = value;
+                if (current != null) {
+                    HIT_COUNT.increment();
+                    return current;
+                }
+
+                long start = System.nanoTime();
+                current = loader.get();
+                LOAD_NANOS.add(System.nanoTime() - start);
+                MISS_COUNT.increment();
+                value = current;
+                return current;
+            }
+        }
+    }
+
+    /**
+     * metadata 조회 통계
+     */
+    @Getter
+    @ToString
+    public static final class Stats {
+        // cache 에 있던 조회 수
+        private final long hitCount;
+        // metadata 를 생성한 조회 수
+        private final long missCount;
+        // metadata 생성에 사용한 시간 (nested 생성 시간 중복 포함)
+        private final long loadNanos;
+
+        private Stats(long hitCount, long missCount, long loadNanos) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.loadNanos = loadNanos;
+        }
+    }
+}
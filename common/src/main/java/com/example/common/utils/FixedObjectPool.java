@@ -0,0 +1,131 @@
+package com.example.common.utils;
+
+import com.example.common.exception.CommonException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 고정 길이 변환 대상 type 별 object pool.
+ * <pre>
+ *     같은 type 의 전문을 반복 변환하는 경우 사용이 끝난 object 를 반납받아 다음 변환에 재사용한다.
+ *     재사용한 object 는 FormatterUtils.readFixedData 로 변환하므로 nested VO, list, list item 도 다시 생성하지 않는다.
+ *     codec plan 은 pool 생성 시 한번만 조회하며, error data map 도 생성하지 않으므로 반복 변환 시 할당이 거의 없다.
+ *     최대 maxPooled 개까지만 보관하며, 초과분은 GC 에 맡긴다. 여러 thread 에서 공유할 수 있다.
+ *
+ *     반납한 object 는 다른 변환에 사용되므로, 반납 이후에는 object(nested VO, list 포함)를 참조하지 않아야 한다.
+ *     record / 불변 class 는 재사용할 수 없으므로 pool 을 생성할 수 없다.
+ *
+ * example>
+ *      private static final FixedObjectPool&lt;FixedMessageBody&gt; POOL = FixedObjectPool.of(FixedMessageBody.class);
+ *
+ *      FixedMessageBody body = POOL.decode(telegram, 0, telegram.length);
+ *      try {
+ *          // body 처리
+ *      } finally {
+ *          POOL.release(body);
+ *      }
+ * </pre>
+ *
+ * @see FormatterUtils#readFixedData(byte[], int, int, Object, String, Class)
+ */
+public final class FixedObjectPool<T> {
+
+    private static final int DEFAULT_MAX_POOLED = 64;
+
+    private final Class<T> type;
+    private final String encoding;
+    private final FixedCodecPlan plan;
+    private final BlockingQueue<T> pool;
+
+    private FixedObjectPool(Class<T> type, Class<?> genericType, String encoding, int maxPooled) {
+        if (maxPooled <= 0) {
+            throw CommonException.builder().message("invalid max pooled size : " + maxPooled).build();
+        }
+        this.plan = FixedCodecPlan.of(type, genericType, encoding);
+        if (!plan.isReusable()) {
+            throw CommonException.builder().message("invalid pool type(immutable type) : " + type.getName()).build();
+        }
+        this.type = type;
+        this.encoding = encoding;
+        this.pool = new ArrayBlockingQueue<>(maxPooled);
+    }
+
+    /**
+     * 기본 encoding(FormatterUtils.DEFAULT_CHAR_ENCODING), 최대 64 개를 보관하는 pool 생성
+     *
+     * @param type 변환 대상 type
+     * @return object pool
+     */
+    public static <T> FixedObjectPool<T> of(Class<T> type) {
+        return of(type, null, FormatterUtils.DEFAULT_CHAR_ENCODING, DEFAULT_MAX_POOLED);
+    }
+
+    /**
+     * object pool 생성
+     *
+     * @param type        변환 대상 type
+     * @param genericType 변환 대상 type 에 사용된 generic type
+     * @param encoding    변환 시 사용할 encoding
+     * @param maxPooled   최대 보관 object 수
+     * @return object pool
+     */
+    public static <T> FixedObjectPool<T> of(Class<T> type, Class<?> genericType, String encoding, int maxPooled) {
+        return new FixedObjectPool<>(type, genericType, encoding, maxPooled);
+    }
+
+    /**
+     * object 조회. pool 에 없으면 새로 생성한다.
+     *
+     * @return object (이전 변환 값이 남아 있을 수 있음)
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        T obj = pool.poll();
+        return obj != null ? obj : (T) plan.newInstance();
+    }
+
+    /**
+     * 사용이 끝난 object 반납. pool 이 가득 찼거나 type 이 다르면 버린다.
+     *
+     * @param obj 반납할 object
+     */
+    public void release(T obj) {
+        if (obj == null || obj.getClass() != type) return;
+        pool.offer(obj);
+    }
+
+    /**
+     * pool 의 object 에 고정 길이 byte 배열을 변환
+     *
+     * @param fld    변환 대상 byte 배열
+     * @param offset 변환 시작 위치
+     * @param length 변환 대상 byte 수
+     * @return 변환 결과 object (사용 후 release 로 반납)
+     */
+    public T decode(byte[] fld, int offset, int length) {
+        return FormatterUtils.readFixedData(fld, offset, length, acquire(), plan);
+    }
+
+    /**
+     * pool 의 object 에 고정 길이 문자열을 변환
+     *
+     * @param fld 변환 대상 문자열
+     * @return 변환 결과 object (사용 후 release 로 반납)
+     */
+    public T decode(String fld) {
+        byte[] bytes = FormatterUtils.getBytes(fld, encoding);
+        return decode(bytes, 0, bytes.length);
+    }
+
+    /**
+     * 현재 보관 중인 object 수
+     */
+    public int size() {
+        return pool.size();
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+}
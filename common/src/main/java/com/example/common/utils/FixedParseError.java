@@ -0,0 +1,45 @@
+package com.example.common.utils;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 고정 길이 변환 error 정보.
+ * <pre>
+ *     path   : error 가 발생한 field 경로 (예: "field3.field2", "field4[1].field4"). 전체 길이 error 는 ""
+ *     reason : OVERSIZE / UNDERSIZE (전체 byte 길이), INVALID_VALUE (field 값 변환), INVALID_LIST_SIZE (sizeRef 조회)
+ *     offset : 원본 byte 배열 기준 field 시작 위치 (알 수 없으면 -1)
+ *     raw    : field 의 원본 byte (없으면 null)
+ *     value  : 변환에 실패한 값 / "{입력 byte 수}/{대상 object byte 수}" (길이 error)
+ * </pre>
+ */
+@Getter
+@ToString(exclude = "raw")
+public final class FixedParseError {
+
+    /**
+     * error 사유
+     */
+    public enum Reason {
+        OVERSIZE,
+        UNDERSIZE,
+        INVALID_VALUE,
+        INVALID_LIST_SIZE
+    }
+
+    private final String path;
+    private final Reason reason;
+    private final int offset;
+    private final int length;
+    private final byte[] raw;
+    private final String value;
+
+    FixedParseError(String path, Reason reason, int offset, int length, byte[] raw, String value) {
+        this.path = path;
+        this.reason = reason;
+        this.offset = offset;
+        this.length = length;
+        this.raw = raw;
+        this.value = value;
+    }
+}
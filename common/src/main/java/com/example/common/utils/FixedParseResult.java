@@ -0,0 +1,41 @@
+package com.example.common.utils;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 고정 길이 변환 결과와 변환 중 발생한 error 목록.
+ * error data 를 thread local 에 저장하지 않으므로 virtual thread / reactive pipeline 에서도 사용할 수 있다.
+ * <pre>
+ * example>
+ *      FixedParseResult&lt;FixedMessageBody&gt; result =
+ *              FormatterUtils.parseFixedData(telegram, 0, telegram.length, FixedMessageBody.class, "EUC-KR", null);
+ *      if (result.hasErrors()) {
+ *          result.getErrors().forEach(error -&gt; log.warn("{} {} {}", error.getPath(), error.getReason(), error.getValue()));
+ *      }
+ *      FixedMessageBody body = result.getValue();
+ * </pre>
+ *
+ * @param <T> 변환 결과 object type
+ */
+@Getter
+@ToString
+public final class FixedParseResult<T> {
+
+    private final T value;
+    private final List<FixedParseError> errors;
+
+    FixedParseResult(T value, List<FixedParseError> errors) {
+        this.value = value;
+        this.errors = errors;
+    }
+
+    /**
+     * error 가 발생했는지 여부
+     */
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.common.utils;
+
+import com.example.common.exception.CommonException;
+
+import java.util.*;
+
+/**
+ * runtime layout(FixedLayout) 으로 변환한 고정 길이 data.
+ * <pre>
+ *     field 값을 layout field 순서의 배열로 저장한다.
+ *     data field : 변환 type 의 값 (String, Integer, BigDecimal ...)
+ *     group      : FixedRecord
+ *     list       : List&lt;FixedRecord&gt;
+ *
+ * example>
+ *      FixedRecord record = layout.decode(telegram);
+ *      String tranCode = record.getRecord("header").get("tranCode", String.class);
+ *
+ *      FixedRecord request = layout.newRecord()
+ *              .set("count", 1);
+ *      request.addListItem("items").set("seq", 1).set("amount", new BigDecimal("1000"));
+ * </pre>
+ *
+ * @see FixedLayout
+ */
+public final class FixedRecord {
+
+    private final LayoutCodec codec;
+    final Object[] values;
+
+    FixedRecord(LayoutCodec codec) {
+        this.codec = codec;
+        this.values = new Object[codec.getFieldList().size()];
+    }
+
+    LayoutCodec getCodec() {
+        return codec;
+    }
+
+    /**
+     * layout field 이름 목록 (layout 정의 순서)
+     */
+    public List<String> getFieldNames() {
+        return codec.getFieldNames();
+    }
+
+    /**
+     * field 값 조회
+     *
+     * @param name field 이름
+     * @return field 값 (group : FixedRecord, list : List&lt;FixedRecord&gt;)
+     */
+    public Object get(String name) {
+        return values[index(name)];
+    }
+
+    /**
+     * field 값을 지정한 type 으로 조회
+     *
+     * @param name field 이름
+     * @param type 조회 type
+     * @return field 값
+     */
+    public <V> V get(String name, Class<V> type) {
+        return type.cast(get(name));
+    }
+
+    /**
+     * group field 조회
+     */
+    public FixedRecord getRecord(String name) {
+        return get(name, FixedRecord.class);
+    }
+
+    /**
+     * list field 조회
+     */
+    @SuppressWarnings("unchecked")
+    public List<FixedRecord> getList(String name) {
+        return (List<FixedRecord>) get(name);
+    }
+
+    /**
+     * field 값 설정. group 은 Map / FixedRecord, list 는 List&lt;Map&gt; / List&lt;FixedRecord&gt; 로 설정한다.
+     *
+     * @param name  field 이름
+     * @param value 설정할 값
+     * @return this
+     */
+    public FixedRecord set(String name, Object value) {
+        int index = index(name);
+        values[index] = codec.toRecordValue(index, value);
+        return this;
+    }
+
+    /**
+     * group field 의 record 조회. 값이 없으면 빈 record 를 생성하여 설정한다.
+     *
+     * @param name group field 이름
+     * @return group record
+     */
+    public FixedRecord getOrCreateRecord(String name) {
+        int index = index(name);
+        LayoutCodec child = codec.getChild(index);
+        if (child == null || codec.isListField(index)) {
+            throw CommonException.builder().message("invalid fixed record field(not group) : " + name).build();
+        }
+        if (values[index] == null) values[index] = child.newInstance();
+        return (FixedRecord) values[index];
+    }
+
+    /**
+     * list field 에 빈 item record 를 추가
+     *
+     * @param name list field 이름
+     * @return 추가한 item record
+     */
+    @SuppressWarnings("unchecked")
+    public FixedRecord addListItem(String name) {
+        int index = index(name);
+        if (!codec.isListField(index)) {
+            throw CommonException.builder().message("invalid fixed record field(not list) : " + name).build();
+        }
+        if (values[index] == null) values[index] = new ArrayList<FixedRecord>();
+        FixedRecord item = codec.getChild(index).newInstance();
+        ((List<FixedRecord>) values[index]).add(item);
+        return item;
+    }
+
+    /**
+     * 중첩 map 으로 변환 (group : LinkedHashMap, list : List&lt;LinkedHashMap&gt;)
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            map.put(codec.getFieldName(i), toMapValue(values[i]));
+        }
+        return map;
+    }
+
+    private static Object toMapValue(Object value) {
+        if (value instanceof FixedRecord record) return record.toMap();
+        if (value instanceof List<?> list) {
+            List<Object> items = new ArrayList<>(list.size());
+            for (Object item : list) items.add(toMapValue(item));
+            return items;
+        }
+        return value;
+    }
+
+    private int index(String name) {
+        int index = codec.indexOf(name);
+        if (index < 0) {
+            throw CommonException.builder()
+                    .message("invalid fixed record field : " + codec.getPath() + "." + name).build();
+        }
+        return index;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FixedRecord other)) return false;
+        return codec == other.codec && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return "FixedRecord(" + codec.getPath() + ")" + toMap();
+    }
+}
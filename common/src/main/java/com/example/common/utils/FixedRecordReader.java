@@ -0,0 +1,346 @@
+package com.example.common.utils;
+
+import com.example.common.exception.CommonException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 고정 길이 record 가 연속된 대용량 file 을 record 단위로 읽어 object 로 변환하는 reader.
+ * <pre>
+ *     file 전체를 읽지 않고 bufferSize 단위로 channel 에서 읽으므로 memory 사용량은 buffer 크기로 제한된다.
+ *     record 경계는 다음 중 하나로 판단한다.
+ *     - 고정 길이 : codec plan 의 encode 결과 byte 길이 (BigDecimal 소수점 포함. FixedList / signed BigDecimal 이 없는 type)
+ *     - length prefix : record 앞의 숫자 header(lengthPrefix byte) 가 record 본문의 byte 수
+ *     recordSeparator 가 설정되면 각 record 뒤의 구분자(예: CRLF)를 건너뛴다.
+ *     record 는 codec plan 으로 바로 변환하며, 변환 error 는 thread local error data map 에 저장하지 않고 log 로 남긴다.
+ *
+ * example>
+ *      try (FixedRecordReader&lt;FixedDataTestInfo&gt; reader = FixedRecordReader.builder(FixedDataTestInfo.class)
+ *              .encoding(Constants.CHARSET_EUC_KR)
+ *              .recordSeparator("\r\n")
+ *              .open(path)) {
+ *          reader.stream().forEach(record -&gt; ...);
+ *      }
+ * </pre>
+ * thread-safe 하지 않으므로 하나의 thread 에서 사용해야 한다.
+ *
+ * @param <T> 변환 결과 object type
+ */
+@Slf4j
+public final class FixedRecordReader<T> implements Iterator<T>, Closeable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+    private final ReadableByteChannel channel;
+    private final Class<T> objectType;
+    private final FixedCodecPlan plan;
+    private final int recordLength;
+    private final int lengthPrefix;
+    private final byte[] recordSeparator;
+
+    // read mode (position : 읽지 않은 data 시작, limit : 읽은 data 끝)
+    private ByteBuffer buffer;
+    private boolean eof;
+    private long recordCount;
+    private T next;
+
+    private FixedRecordReader(ReadableByteChannel channel, Builder<T> builder) {
+        this.channel = channel;
+        this.objectType = builder.objectType;
+        this.plan = FixedCodecPlan.of(objectType, builder.genericType, builder.encoding);
+        this.lengthPrefix = builder.lengthPrefix;
+        this.recordSeparator = builder.recordSeparator == null
+                ? new byte[0] : FormatterUtils.getBytes(builder.recordSeparator, builder.encoding);
+
+        if (lengthPrefix > 0) {
+            this.recordLength = -1;
+        } else {
+            // getObjectMaxLength 는 BigDecimal 소수점 / 부호 문자를 포함하지 않으므로 encode 결과 길이를 사용
+            int length = plan.getRecordLength();
+            if (length <= 0) {
+                throw CommonException.builder()
+                        .message("invalid record length(variable length object). use lengthPrefix : " + objectType.getName())
+                        .build();
+            }
+            this.recordLength = length;
+        }
+
+        this.buffer = ByteBuffer.allocate(Math.max(builder.bufferSize, Math.max(recordLength, lengthPrefix)));
+        this.buffer.flip();
+    }
+
+    /**
+     * reader builder 생성
+     *
+     * @param objectType 변환 결과 object type
+     * @return builder
+     */
+    public static <T> Builder<T> builder(Class<T> objectType) {
+        return new Builder<>(objectType);
+    }
+
+    /**
+     * 지금까지 변환한 record 수
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) return true;
+        next = readRecord();
+        return next != null;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        T record = next;
+        next = null;
+        return record;
+    }
+
+    /**
+     * 남은 record 를 순차 stream 으로 조회. stream 을 close 하면 reader 도 close 된다.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw CommonException.builder().message(e.getMessage()).cause(e).build();
+        }
+    }
+
+    private T readRecord() {
+        try {
+            int length = recordLength;
+            if (lengthPrefix > 0) {
+                if (!fill(lengthPrefix)) {
+                    checkTruncated();
+                    return null;
+                }
+                length = readLengthPrefix();
+            }
+
+            if (!fill(length)) {
+                if (lengthPrefix > 0) {
+                    throw CommonException.builder()
+                            .message("invalid record(truncated). record : " + (recordCount + 1))
+                            .build();
+                }
+                checkTruncated();
+                return null;
+            }
+
+            T record = decode(length);
+            skipSeparator();
+            return record;
+        } catch (IOException e) {
+            throw CommonException.builder().message(e.getMessage()).cause(e).build();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T decode(int length) {
+        int offset = buffer.arrayOffset() + buffer.position();
+        FixedErrors.Collector errors = new FixedErrors.Collector(buffer.array());
+        T record;
+        try {
+            record = (T) plan.decode(buffer.array(), new int[]{offset}, offset + length, false, errors);
+        } catch (RuntimeException e) {
+            log.warn("[ERROR]RECORD:{}, TYPE:{}", recordCount + 1, objectType.getName());
+            throw e;
+        }
+        if (!errors.getErrors().isEmpty()) {
+            log.warn("[ERROR]RECORD:{}, TYPE:{}, ERRORS:{}", recordCount + 1, objectType.getName(), errors.getErrors());
+        }
+        buffer.position(buffer.position() + length);
+        recordCount++;
+        return record;
+    }
+
+    /**
+     * record 앞의 숫자 header 를 읽어 record 본문 길이 조회
+     */
+    private int readLengthPrefix() {
+        int length = 0;
+        for (int i = 0; i < lengthPrefix; i++) {
+            byte b = buffer.get();
+            if (b == ' ' && length == 0) continue;
+            if (b < '0' || b > '9') {
+                throw CommonException.builder()
+                        .message("invalid record(length prefix). record : " + (recordCount + 1))
+                        .build();
+            }
+            length = length * 10 + (b - '0');
+        }
+        return length;
+    }
+
+    private void skipSeparator() throws IOException {
+        if (recordSeparator.length == 0 || !fill(recordSeparator.length)) return;
+
+        int position = buffer.position();
+        for (int i = 0; i < recordSeparator.length; i++) {
+            if (buffer.get(position + i) != recordSeparator[i]) return;
+        }
+        buffer.position(position + recordSeparator.length);
+    }
+
+    /**
+     * 남은 data 가 record 길이보다 짧으면 error. (공백 / 줄바꿈만 남은 경우는 file 의 끝으로 판단)
+     */
+    private void checkTruncated() {
+        while (buffer.hasRemaining()) {
+            byte b = buffer.get();
+            if (b != '\r' && b != '\n' && b != ' ') {
+                throw CommonException.builder()
+                        .message("invalid record(truncated). record : " + (recordCount + 1))
+                        .build();
+            }
+        }
+    }
+
+    /**
+     * buffer 에 size byte 이상의 data 가 있도록 channel 에서 읽음
+     *
+     * @return size byte 이상이면 true, file 의 끝이라 부족하면 false
+     */
+    private boolean fill(int size) throws IOException {
+        if (buffer.remaining() >= size) return true;
+        if (eof) return false;
+
+        if (buffer.capacity() < size) {
+            // length prefix record 가 buffer 보다 큰 경우에만 확장
+            ByteBuffer larger = ByteBuffer.allocate(size);
+            larger.put(buffer);
+            buffer = larger;
+        } else {
+            buffer.compact();
+        }
+
+        while (buffer.position() < size && buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                eof = true;
+                break;
+            }
+        }
+        // 다음 fill 호출을 줄이기 위해 buffer 가 찰 때까지 읽는다.
+        while (!eof && buffer.hasRemaining()) {
+            int read = channel.read(buffer);
+            if (read < 0) eof = true;
+            if (read <= 0) break;
+        }
+        buffer.flip();
+        return buffer.remaining() >= size;
+    }
+
+    /**
+     * FixedRecordReader builder
+     *
+     * @param <T> 변환 결과 object type
+     */
+    public static final class Builder<T> {
+        private final Class<T> objectType;
+        private Class<?> genericType;
+        private String encoding = FormatterUtils.DEFAULT_CHAR_ENCODING;
+        private int lengthPrefix;
+        private String recordSeparator;
+        private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+        private Builder(Class<T> objectType) {
+            this.objectType = objectType;
+        }
+
+        /**
+         * 변환 결과 object에 사용된 generic type
+         */
+        public Builder<T> genericType(Class<?> genericType) {
+            this.genericType = genericType;
+            return this;
+        }
+
+        /**
+         * 변환 시 사용할 encoding (default : EUC-KR)
+         */
+        public Builder<T> encoding(String encoding) {
+            this.encoding = encoding;
+            return this;
+        }
+
+        /**
+         * record 앞에 위치한 숫자 길이 header 의 byte 수. 설정 시 header 값으로 record 경계를 판단한다.
+         */
+        public Builder<T> lengthPrefix(int lengthPrefix) {
+            this.lengthPrefix = lengthPrefix;
+            return this;
+        }
+
+        /**
+         * record 사이의 구분자 (예: "\n", "\r\n")
+         */
+        public Builder<T> recordSeparator(String recordSeparator) {
+            this.recordSeparator = recordSeparator;
+            return this;
+        }
+
+        /**
+         * channel 에서 한번에 읽을 byte 수 (default : 1MB)
+         */
+        public Builder<T> bufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * file 을 열어 reader 생성
+         *
+         * @param path 대상 file
+         * @return reader
+         */
+        public FixedRecordReader<T> open(Path path) {
+            try {
+                FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+                try {
+                    return new FixedRecordReader<>(fileChannel, this);
+                } catch (RuntimeException e) {
+                    fileChannel.close();
+                    throw e;
+                }
+            } catch (IOException e) {
+                throw CommonException.builder().message(e.getMessage()).cause(e).build();
+            }
+        }
+
+        /**
+         * channel 로 reader 생성. reader 를 close 하면 channel 도 close 된다.
+         *
+         * @param channel 대상 channel
+         * @return reader
+         */
+        public FixedRecordReader<T> open(ReadableByteChannel channel) {
+            return new FixedRecordReader<>(channel, this);
+        }
+    }
+}
@@ -5,19 +5,22 @@ import com.example.common.internal.annotations.FixedData;
 import com.example.common.internal.annotations.FixedData.PAD_TYPE;
 import com.example.common.internal.annotations.FixedList;
 import com.example.common.internal.annotations.FixedVo;
+import com.example.common.internal.codec.FixedCodec;
+import com.example.common.internal.codec.FixedCodecs;
 import com.example.common.model.FixedField;
 import com.example.common.model.FixedFieldData;
 import com.example.common.internal.repository.ThreadRepository;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.lang.reflect.*;
 import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeParseException;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.IntStream;
 
 @Slf4j
 public class FormatterUtils {
@@ -39,10 +42,9 @@ public class FormatterUtils {
     public static final String FORMATTER_LENGTH_OVERSIZE = "OVERSIZE";
     public static final String FORMATTER_LENGTH_UNDERSIZE = "UNDERSIZE";
 
-    private static Map<String, List<FixedField>> map = new ConcurrentHashMap<>();
     private static final char NUMBER_TYPE_PADDING_CHAR = 48;
-    private static final char CHARACTER_TYPE_PADDING_CHAR = 32;
-    private static final String DEFAULT_CHAR_ENCODING = "EUC-KR";
+    static final char CHARACTER_TYPE_PADDING_CHAR = 32;
+    static final String DEFAULT_CHAR_ENCODING = "EUC-KR";
 
     private static boolean dataParsingThrowException = true;
 
@@ -70,6 +72,14 @@ public class FormatterUtils {
         FormatterUtils.trimPaddingCharacters = trimPaddingCharacters;
     }
 
+    static boolean isDataParsingThrowException() {
+        return dataParsingThrowException;
+    }
+
+    static boolean isTrimPaddingCharacters() {
+        return trimPaddingCharacters;
+    }
+
     /**
      * Fixed Data Object를 고정 길이 문자열로 변환
      * <pre>
@@ -111,282 +121,114 @@ public class FormatterUtils {
      * @return String   fixec-length-data
      * @see FixedData
      */
-    @SuppressWarnings("unchecked")
     private static String getFixedData(Object obj, String encoding, boolean isNull, Map<String, Object> formatterErrorData) {
 
         log.debug("PARAM : {}", obj);
 
-        StringBuilder sb = new StringBuilder();
-        List<FixedField> fieldList = getFieldList(obj.getClass(), null);
-        int fieldListIndex = 0;
-        int fieldListSize = fieldList.size();
-
-        int i = 0;
-
-        for (FixedField fixedField : fieldList) {
-            fieldListIndex++;
-
-            if (fixedField.isFixedVo()) {
-                Object subObj = getFieldObject(obj, fixedField);
-                if (subObj == null) {
-                    try {
-                        Constructor<?> constructor = fixedField.getType().getDeclaredConstructor();
-                        constructor.setAccessible(true); // private 생성자도 호출 가능하게 설정
-                        subObj = constructor.newInstance();
-                    } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException ex) {
-                        log.debug("FixedVo Error", ex);
-                        throw CommonException.builder().message(ex.getMessage()).cause(ex).build();
-                    }
-                    sb.append(getFixedData(subObj, encoding, true, formatterErrorData));
-                } else {
-                    sb.append(getFixedData(subObj, encoding, false, formatterErrorData));
-                }
-                log.debug("sb_if : {}");
-            } else if (fixedField.getFixedList() != null) {
-                // FixedList 타입인 경우 List item을 추출해서 String으로 변환.
-                List<FixedField> subFieldList = null;
-                List<Object> listObj = (List<Object>) getFieldObject(obj, fixedField);
-
-                // list size validation check
-                int listSize = getFixedListSize(obj, fixedField, fieldListIndex, fieldListSize, false, formatterErrorData);
-                // 마지막에 위치한 list 또는 size가 0이고, list object가 null 또는 empty이면 skip
-                if ((listSize == Integer.MAX_VALUE || listSize == 0)
-                        && (listObj == null || listObj.isEmpty())) {
-                    continue;
-                } else if (listObj == null) {
-                    throw CommonException.builder().message("invalid data(list field is null").build();
-                }
+        String fixedData = FixedCodecPlan.of(obj.getClass(), null, encoding).encode(obj, isNull, formatterErrorData);
 
-                // listSize가 설정된 list면 validation check
-                int listObjSize = listObj.size();
-                if (listSize != listObjSize && listSize != Integer.MAX_VALUE) {
-                    log.warn("list size : {}, list object size : {}", listSize, listObjSize);
-                    if (dataParsingThrowException) {
-                        throw CommonException.builder().message("invalid data(list field)").build();
-                    }
-                }
-
-                for (Object listItem : listObj) {
-                    // list item의 field를 string으로 변환
-                    if (!fixedField.getFixedFieldList().isEmpty()) {
-                        subFieldList = fixedField.getFixedFieldList();
-                    } else {
-                        /*
-                        list item의 타입이 generic type인 경우 feflection api를 통해 item type을 가져올 수 없다.
-                        getFixedFieldList 함수를 통해 FixedFieldList를 가져오지 못했을 때
-                        list item의 field list를 직접 가져오도록 수정.
-                         */
-                        subFieldList = getFieldList(listItem.getClass(), null);
-                    }
-
-                    for (FixedField subField : subFieldList) {
-                        if (subField.isFixedVo()) {
-                            // VO일때 Object를 다시 구해서 reculsive call
-                            Object subFieldObject = getFieldObject(listItem, subField);
-                            sb.append(getFixedData(subFieldObject, encoding, isNull, formatterErrorData));
-                        } else if (subField.getFixedList() != null) {
-                            // List일때 바로 변환 안되므로, List element마다 각각 변환해야 함.
-                            List<Object> subFieldListObject = (List<Object>) getFieldObject(listItem, subField);
-
-                            for (Object subFieldObject : subFieldListObject) {
-                                sb.append(getFixedData(subFieldObject, encoding, isNull, formatterErrorData));
-                            }
-                        } else {
-                            sb.append(padFixedData(listItem, subField, encoding, isNull));
-                        }
-                    }
-                    log.debug("sb_elseIf_i : {}");
-                    i++;
-                }
-            } else {
-                sb.append(padFixedData(obj, fixedField, encoding, isNull));
-                log.debug("sb_else : {}", sb);
-            }
-        }
-
-        log.debug("FIXED_DATA : {}", sb);
-        return sb.toString();
+        log.debug("FIXED_DATA : {}", fixedData);
+        return fixedData;
     }
 
     /**
-     * list field 에 설정된 size 조회.
+     * Fixed Data Object를 고정 길이 byte로 변환하여 ByteBuffer에 기록 (기본 encoding 사용)
      *
-     * @param obj                대상 object
-     * @param fixedField         list 의 fixedField
-     * @param fieldListIndex     대상 object 에서 계산 대상 list 의 index
-     * @param fieldListSize      대상 object 의 field 수
-     * @param mustThrowException size 조회 중 에러 발생시 반드시 throw exception 여부
-     * @return list field 의 size.
+     * @param obj    고정 길이 byte로 변환할 java object
+     * @param target 기록 대상 ByteBuffer
+     * @return 기록한 byte 수
+     * @see #writeFixedData(Object, ByteBuffer, Charset)
      */
-    private static int getFixedListSize(Object obj, FixedField fixedField, int fieldListIndex, int fieldListSize,
-                                        boolean mustThrowException, Map<String, Object> formatterErrorData) {
-        // size validation check
-        FixedList fixedList = fixedField.getFixedList();
-        int listSize = fixedList.size();
-        if (listSize < 0) {
-            String listSizeRef = fixedList.sizeRef();
-            if (listSizeRef.isEmpty()) {
-                /*
-                 * FixedList 에 size / sizeRef 둘 다 설정되어있지 않다면,
-                 * 마지막에 위치하고 size가 정해져있지 않은 list
-                 */
-
-                // 마지막에 위치하고 있지 않다면 error 발생
-                if (fieldListIndex < fieldListSize) {
-                    log.warn("field index : {}, field list size : {}", fieldListIndex, fieldListSize);
-                    if (dataParsingThrowException || mustThrowException) {
-                        throw CommonException.builder().message("invalid data(list field)").build();
-                    }
-                }
-                // 마지막에 위치했다면, size 는 무한
-                listSize = Integer.MAX_VALUE;
-            } else {
-                // sizeRef는 list 이전에 위치해야 함
-                Object sizeRefObject = null;
-                try {
-                    Field field = obj.getClass().getDeclaredField(listSizeRef);
-                    field.setAccessible(true);
-                    sizeRefObject = field.get(obj);
-                    // long 이면 int 로 변경
-                    if (java.lang.Long.class.equals(sizeRefObject.getClass())) {
-                        listSize = ((Long) sizeRefObject).intValue();
-                    } else {
-                        listSize = (int) field.get(obj);
-                    }
-                } catch (IllegalAccessException | NoSuchFieldException | NullPointerException e) {
-                    log.warn("LIST TYPE:{}, field name : {}", fixedField.getType().getName(), fixedField.getName(), e);
-                    formatterErrorData.put(fixedList.sizeRef(), sizeRefObject);
-                    if (dataParsingThrowException || mustThrowException) {
-                        throw CommonException.builder().message(e.getMessage()).cause(e).build();
-                    }
-                }
-            }
-        }
-        log.debug("list size : {}", listSize);
-        return listSize;
+    public static int writeFixedData(Object obj, ByteBuffer target) {
+        return writeFixedData(obj, target, getCharset(DEFAULT_CHAR_ENCODING));
     }
 
     /**
-     * FixedList가 2개 이상인지 확인. 2개 이상일 경우 false 리턴
+     * Fixed Data Object를 고정 길이 byte로 변환하여 ByteBuffer에 기록
+     * 중간 문자열을 생성하지 않고 각 field를 한번만 encode 하여 buffer의 position부터 기록한다.
+     * 기록 결과는 getFixedData(obj, encoding).getBytes(encoding) 과 동일하다.
+     * buffer가 부족하거나 변환 중 오류가 발생하면 position은 호출 전 위치로 복원된다.
+     * <pre>
+     * example>
+     *      ByteBuffer buffer = ByteBuffer.allocateDirect(4096);
+     *      int written = FormatterUtils.writeFixedData(fixedDataTestInfo, buffer, Charset.forName("EUC-KR"));
+     * </pre>
      *
-     * @param obj
-     * @param count
-     * @return
-     * @see FixedList
+     * @param obj     고정 길이 byte로 변환할 java object
+     * @param target  기록 대상 ByteBuffer (heap / direct)
+     * @param charset 변환 시 사용할 charset
+     * @return 기록한 byte 수
+     * @see FixedData
      */
-    @SuppressWarnings("unchecked")
-    private static boolean checkFixedList(Object obj, int count) {
-
-        if (count == 2) return false;
-
-        boolean check = false;
-        List<FixedField> fieldList = getFieldList(obj.getClass(), null);
-
-        for (int i = 0; i < fieldList.size(); i++) {
-            FixedField fixedField = fieldList.get(i);
-            if (fixedField.isFixedVo()) {
-                Object subObj = getFieldObject(obj, fixedField);
-                check = checkFixedList(subObj, count);
-
-                if (!check) return check;
-
-            } else if (fixedField.getFixedFieldList() != null) {
-                // FixedList field가 마지막에 있지 않을 경우 CommonException 발생
-                if (i != fieldList.size() - 1)
-                    throw CommonException.builder().message("invalid fixed data(list field)").build();
-
-                List<Object> listObj = (List<Object>) getFieldObject(obj, fixedField);
-                count++;
-
-                if (count == 2) return false;
-
-                // list가 null 일 경우 skip
-                if (listObj == null) continue;
+    public static int writeFixedData(Object obj, ByteBuffer target, Charset charset) {
+        log.debug("PARAM : {}", obj);
 
-                for (Object listItem : listObj) {
-                    check = checkFixedList(listItem, count);
-                    if (!check) return check;
-                }
-            }
+        int position = target.position();
+        FixedByteSink sink = new FixedByteSink(target, charset);
+        try {
+            FixedCodecPlan.of(obj.getClass(), null, charset.name()).write(sink, obj, createErrorDataMap());
+        } catch (BufferOverflowException e) {
+            target.position(position);
+            throw CommonException.builder().message("invalid fixed data(buffer overflow)").cause(e).build();
+        } catch (RuntimeException e) {
+            target.position(position);
+            throw e;
         }
 
-        return true;
+        return (int) sink.getWritten();
     }
 
     /**
-     * Object에서 field name의 value값 조회
+     * Fixed Data Object를 고정 길이 byte로 변환하여 OutputStream에 기록
+     * 내부 buffer를 사용하여 기록하며, 변환이 끝나면 buffer의 내용을 stream으로 flush 한다.
+     * <pre>
+     * example>
+     *      long written = FormatterUtils.writeFixedData(fixedDataTestInfo, outputStream, Charset.forName("EUC-KR"));
+     * </pre>
      *
-     * @param obj        조회 대상 object
-     * @param fixedField 조회할 field naem
-     * @return field value
+     * @param obj     고정 길이 byte로 변환할 java object
+     * @param out     기록 대상 OutputStream
+     * @param charset 변환 시 사용할 charset
+     * @return 기록한 byte 수
+     * @see FixedData
      */
-    @SuppressWarnings("unchecked")
-    private static Object getFieldObject(Object obj, FixedField fixedField) {
+    public static long writeFixedData(Object obj, OutputStream out, Charset charset) {
+        log.debug("PARAM : {}", obj);
 
-        Object fieldObj = new Object();
-        try {
-            Class<?> clazz = obj.getClass();
-            if (fixedField.isSuperClassField()) {
-                clazz = clazz.getSuperclass();
-            }
-            Field field = clazz.getDeclaredField(fixedField.getName());
-            field.setAccessible(true);
-            fieldObj = field.get(obj);
+        FixedByteSink sink = new FixedByteSink(out, charset);
+        FixedCodecPlan.of(obj.getClass(), null, charset.name()).write(sink, obj, createErrorDataMap());
+        sink.flush();
 
-        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-            log.debug("[ERROR]FILED:{}", fixedField.getName(), e);
-            throw CommonException.builder().message(e.getMessage()).cause(e).build();
-        }
-        return fieldObj;
+        return sink.getWritten();
     }
 
     /**
-     * 대상 object 의 fixedField 정보를 가지고 고정 길이 문자열로 변환
+     * BigDecimal을 고정 길이 문자열로 변환
      *
-     * @param obj        변환 대상 object
-     * @param fixedField object 의 fixedField
-     * @param encoding   변환 시 사용할 encoding
-     * @param isNull     obj 가 null 값인 경우 true
-     * @return fixed-length-data
+     * @param value
+     * @param lengthArr
+     * @param padCher
+     * @param signed
+     * @param encoding
+     * @return
      */
-    private static String padFixedData(Object obj, FixedField fixedField, String encoding, boolean isNull) {
-        FixedData fixedData = fixedField.getFixedData();
-        char padChar = getPadChar(fixedField);
-        int[] lengthArr = getLength(fixedData);
-
-        StringBuilder sb = new StringBuilder();
-        String value = null;
-        if (isNull) {
-            value = String.valueOf(CHARACTER_TYPE_PADDING_CHAR);
-            padChar = CHARACTER_TYPE_PADDING_CHAR;
-        } else {
-            Object fieldObj = getFieldObject(obj, fixedField);
-            value = getStringValue(fieldObj, fixedField);
-        }
-
-        if (fixedField.getType().equals(BigDecimal.class)) {
-            sb.append(getBigDecimalType(value, lengthArr, padChar, fixedData.signed(), encoding));
-        } else {
-            if (PAD_TYPE.RIGHT.equals(fixedData.padType())) {
-                sb.append(paddingRight(value, lengthArr[0], padChar, encoding));
-            } else {
-                sb.append(paddingLeft(value, lengthArr[0], padChar, encoding));
-            }
-        }
-        return sb.toString();
+    private static String getBigDecimalType(String value, int[] lengthArr, char padCher
+            , boolean signed, String encoding) {
+        return getBigDecimalType(value, lengthArr, padCher, size(String.valueOf(padCher), encoding), signed, encoding);
     }
 
     /**
-     * BigDecimal을 고정 길이 문자열로 변환
+     * BigDecimal을 고정 길이 문자열로 변환 (padding char byte 수가 계산된 경우)
      *
      * @param value
      * @param lengthArr
      * @param padCher
+     * @param padCharSize padding char 의 byte 수
      * @param signed
      * @param encoding
      * @return
      */
-    private static String getBigDecimalType(String value, int[] lengthArr, char padCher
+    static String getBigDecimalType(String value, int[] lengthArr, char padCher, int padCharSize
             , boolean signed, String encoding) {
 
         StringBuilder sb = new StringBuilder();
@@ -404,14 +246,14 @@ public class FormatterUtils {
             }
         }
 
-        sb.append(paddingLeft(precVal, lengthArr[0], padCher, encoding));
+        sb.append(paddingLeft(precVal, lengthArr[0], padCher, padCharSize, encoding));
         if (lengthArr.length == 2 && lengthArr[1] > 0) {
             sb.append(".");
 
             String scaleVal = "";
             if (valueArr.length > 1) scaleVal = valueArr[1];
 
-            sb.append(paddingRight(scaleVal, lengthArr[1], padCher, encoding));
+            sb.append(paddingRight(scaleVal, lengthArr[1], padCher, padCharSize, encoding));
         }
 
         return sb.toString();
@@ -450,9 +292,11 @@ public class FormatterUtils {
         // 해당 objectType이 가질 수 있는 max length를 구함
         // FixedList가 포함된 경우 검사하지 않는다.
         Map<String, Object> errorMap = createErrorDataMap();
-        checkMaxLength(size(fld, DEFAULT_CHAR_ENCODING), objectType, genericType, errorMap);
+        byte[] bytes = getBytes(fld, DEFAULT_CHAR_ENCODING);
+        checkMaxLength(bytes.length, objectType, genericType, DEFAULT_CHAR_ENCODING, errorMap);
 
-        return getFixedData(fld, new int[]{0}, objectType, DEFAULT_CHAR_ENCODING, genericType, includeSigned, errorMap);
+        return getFixedData(bytes, new int[]{0}, bytes.length, objectType, DEFAULT_CHAR_ENCODING, genericType,
+                includeSigned, errorMap);
     }
 
     /**
@@ -490,126 +334,364 @@ public class FormatterUtils {
         // 해당 objectType이 가질 수 있는 max length를 구한다.
         // FixedList 가 포함된 경우 검사하지 않는다.
         Map<String, Object> errorMap = createErrorDataMap();
-        checkMaxLength(size(fld, encoding), objectType, genericType, errorMap);
+        byte[] bytes = getBytes(fld, encoding);
+        checkMaxLength(bytes.length, objectType, genericType, encoding, errorMap);
 
-        return getFixedData(fld, new int[]{0}, objectType, encoding, genericType, false, errorMap);
+        return getFixedData(bytes, new int[]{0}, bytes.length, objectType, encoding, genericType, false, errorMap);
     }
 
     /**
-     * 고정 길이 문자열을 Fixed Data 객체로 변환
+     * 고정 길이 byte 배열을 Fixed Data 객체로 변환
+     * <pre>
+     * example>
+     *      FixedDataTestInfo converted = FormatterUtils.getFixedData(telegram, 0, telegram.length, FixedDataTestInfo.class);
+     * </pre>
      *
-     * @param fld
-     * @param followIndex
-     * @param objectType
-     * @param encoding
-     * @param genericType
-     * @param includeSigned
-     * @param formatterErrorData
-     * @return
+     * @param fld        변환 대상 byte 배열
+     * @param offset     변환 시작 위치
+     * @param length     변환 대상 byte 수
+     * @param objectType 변환 결과 object type
+     * @return 변환 결과 object
+     */
+    public static <T> T getFixedData(byte[] fld, int offset, int length, Class<T> objectType) {
+        return getFixedData(fld, offset, length, objectType, DEFAULT_CHAR_ENCODING, null);
+    }
+
+    /**
+     * 고정 길이 byte 배열을 Fixed Data 객체로 변환.
+     * 전체 telegram 을 문자열로 변환하지 않고, 각 field 의 byte 구간만 decode 한다.
+     * <pre>
+     * example>
+     *      GenericMessage<InnerMessage> converted =
+     *              FormatterUtils.getFixedData(telegram, 10, 200, GenericMessage.class, "UTF-8", InnerMessage.class);
+     * </pre>
+     *
+     * @param fld         변환 대상 byte 배열
+     * @param offset      변환 시작 위치
+     * @param length      변환 대상 byte 수
+     * @param objectType  변환 결과 object type
+     * @param encoding    변환 시 사용할 encoding
+     * @param genericType 변환 결과 object에 사용된 generic type
+     * @return 변환 결과 object
+     */
+    public static <T> T getFixedData(byte[] fld, int offset, int length, Class<T> objectType,
+                                     String encoding, Class<?> genericType) {
+        return getFixedData(fld, offset, length, objectType, encoding, genericType, createErrorDataMap());
+    }
+
+    /**
+     * 고정 길이 byte 배열을 Fixed Data 객체로 변환.
+     * error data 를 thread local 이 아닌 전달받은 map 에 저장하므로 여러 thread 에서 동시에 사용할 수 있다.
+     *
+     * @param fld                변환 대상 byte 배열
+     * @param offset             변환 시작 위치
+     * @param length             변환 대상 byte 수
+     * @param objectType         변환 결과 object type
+     * @param encoding           변환 시 사용할 encoding
+     * @param genericType        변환 결과 object에 사용된 generic type
+     * @param formatterErrorData error data map
+     * @return 변환 결과 object
+     */
+    static <T> T getFixedData(byte[] fld, int offset, int length, Class<T> objectType, String encoding,
+                              Class<?> genericType, Map<String, Object> formatterErrorData) {
+        if (offset < 0 || length < 0 || offset + length > fld.length) {
+            throw CommonException.builder().message("invalid fixed data(offset / length)").build();
+        }
+
+        // 해당 objectType이 가질 수 있는 max length를 구한다.
+        // FixedList 가 포함된 경우 검사하지 않는다.
+        checkMaxLength(length, objectType, genericType, encoding, formatterErrorData);
+
+        return getFixedData(fld, new int[]{offset}, offset + length, objectType, encoding, genericType, false,
+                formatterErrorData);
+    }
+
+    /**
+     * 고정 길이 ByteBuffer 를 Fixed Data 객체로 변환.
+     * buffer 의 position 부터 limit 까지를 변환 대상으로 하며,
+     * 변환 후 position 은 사용한 byte 수 만큼 이동한다.
+     * <pre>
+     * example>
+     *      FixedMessageBody converted =
+     *              FormatterUtils.getFixedData(buffer, FixedMessageBody.class, "EUC-KR", null);
+     * </pre>
+     *
+     * @param fld         변환 대상 ByteBuffer
+     * @param objectType  변환 결과 object type
+     * @param encoding    변환 시 사용할 encoding
+     * @param genericType 변환 결과 object에 사용된 generic type
+     * @return 변환 결과 object
+     */
+    public static <T> T getFixedData(ByteBuffer fld, Class<T> objectType, String encoding, Class<?> genericType) {
+        int length = fld.remaining();
+        byte[] bytes;
+        int offset;
+        if (fld.hasArray()) {
+            bytes = fld.array();
+            offset = fld.arrayOffset() + fld.position();
+        } else {
+            // direct buffer 는 남은 byte 를 한번만 복사한다.
+            bytes = new byte[length];
+            fld.duplicate().get(bytes);
+            offset = 0;
+        }
+
+        Map<String, Object> errorMap = createErrorDataMap();
+        checkMaxLength(length, objectType, genericType, encoding, errorMap);
+
+        int[] cursor = new int[]{offset};
+        T result = getFixedData(bytes, cursor, offset + length, objectType, encoding, genericType, false, errorMap);
+        fld.position(fld.position() + (cursor[0] - offset));
+        return result;
+    }
+
+    /**
+     * 고정 길이 문자열을 기존 Fixed Data 객체에 변환
+     * <pre>
+     * example>
+     *      FixedMessageBody body = new FixedMessageBody();
+     *      FormatterUtils.readFixedData(fixedString, body);
+     * </pre>
+     *
+     * @param fld    변환 대상 문자열
+     * @param target 변환 결과를 저장할 object
+     * @return target
+     * @see #readFixedData(byte[], int, int, Object, String, Class)
+     */
+    public static <T> T readFixedData(String fld, T target) {
+        byte[] bytes = getBytes(fld, DEFAULT_CHAR_ENCODING);
+        return readFixedData(bytes, 0, bytes.length, target, DEFAULT_CHAR_ENCODING, null);
+    }
+
+    /**
+     * 고정 길이 byte 배열을 기존 Fixed Data 객체에 변환
+     *
+     * @param fld    변환 대상 byte 배열
+     * @param offset 변환 시작 위치
+     * @param length 변환 대상 byte 수
+     * @param target 변환 결과를 저장할 object
+     * @return target
+     * @see #readFixedData(byte[], int, int, Object, String, Class)
+     */
+    public static <T> T readFixedData(byte[] fld, int offset, int length, T target) {
+        return readFixedData(fld, offset, length, target, DEFAULT_CHAR_ENCODING, null);
+    }
+
+    /**
+     * 고정 길이 byte 배열을 기존 Fixed Data 객체에 변환.
+     * <pre>
+     *     같은 type 의 전문을 반복 변환할 때 object 를 새로 생성하지 않도록 target 의 field 값을 덮어쓴다.
+     *     nested VO, list(ArrayList), list item 도 재사용하며, 남는 list item 은 제거하고
+     *     data 가 없거나 변환 error 가 발생한 field 는 기본 값(null / 0)으로 초기화하므로 결과는 getFixedData 와 같다.
+     *     record / 불변 class 는 재사용할 수 없으므로 CommonException 이 발생한다.
+     *
+     *     반복 변환 시 할당을 줄이기 위해 error data 를 thread local(getErrorDataMap)에 저장하지 않으며,
+     *     error 정보는 error 가 발생한 경우에만 생성하여 log 로 남긴다. (error 목록이 필요하면 parseFixedData 사용)
+     *
+     * example>
+     *      FixedObjectPool&lt;FixedMessageBody&gt; pool = FixedObjectPool.of(FixedMessageBody.class);
+     *      FixedMessageBody body = FormatterUtils.readFixedData(telegram, 0, telegram.length, pool.acquire(),
+     *              "EUC-KR", null);
+     *      ...
+     *      pool.release(body);
+     * </pre>
+     *
+     * @param fld         변환 대상 byte 배열
+     * @param offset      변환 시작 위치
+     * @param length      변환 대상 byte 수
+     * @param target      변환 결과를 저장할 object
+     * @param encoding    변환 시 사용할 encoding
+     * @param genericType 변환 결과 object에 사용된 generic type
+     * @return target
+     */
+    public static <T> T readFixedData(byte[] fld, int offset, int length, T target, String encoding,
+                                      Class<?> genericType) {
+        if (target == null) {
+            throw CommonException.builder().message("invalid target(null)").build();
+        }
+        return readFixedData(fld, offset, length, target, FixedCodecPlan.of(target.getClass(), genericType, encoding));
+    }
+
+    /**
+     * codec plan 으로 고정 길이 byte 배열을 기존 object 에 변환.
+     * error 가 없으면 cursor / error 수집 대상 외에는 할당하지 않는다. (nested VO / list 단위 error map 을 생성하지 않음)
+     *
+     * @param fld    변환 대상 byte 배열
+     * @param offset 변환 시작 위치
+     * @param length 변환 대상 byte 수
+     * @param target 변환 결과를 저장할 object
+     * @param plan   target 의 codec plan
+     * @return target
      */
     @SuppressWarnings("unchecked")
-    private static <T> T getFixedData(String fld, int[] followIndex, Class<T> objectType, String encoding,
-                                      Class<?> genericType, boolean includeSigned, Map<String, Object> formatterErrorData) {
-        log.debug("PARAM::TYPE:{}, [{}], {}", objectType, fld, followIndex);
-        List<FixedField> fieldList = getFieldList(objectType, genericType);
-        Object obj = null;
-        try {
-            Constructor<?> constructor = objectType.getDeclaredConstructor();
-            constructor.setAccessible(true); // private 생성자도 호출 가능하게 설정
-            obj = constructor.newInstance();
-            int size = size(fld, encoding);
-            int index = 0;
-            int fieldListIndex = 0;
-            int fieldListSize = fieldList.size();
-            for (FixedField fixedField : fieldList) {
-                fieldListIndex++;
-                if (fixedField.isFixedVo()) {
-                    // VO parsing 시 error data 저장할 LinkedHashMap
-                    Map<String, Object> voErrorData = new LinkedHashMap<>();
-                    formatterErrorData.put(fixedField.getName(), voErrorData);
-
-                    Object subObj = getFixedData(substring(fld, index, encoding),
-                            followIndex, fixedField.getType(),
-                            encoding, genericType, includeSigned, voErrorData);
-                    index += followIndex[0];
-                    setField(obj, fixedField, subObj, voErrorData);
-                    // 마지막 field 일 때, multi-depth를 대비하여 followIndex update
-                    if (fieldListSize == fieldListIndex) {
-                        followIndex[0] = index;
-                    }
-                } else if (fixedField.getFixedList() != null) {
-                    // 변환되어 저장될 list
-                    List<Object> list = new ArrayList<>();
-
-                    // list parsing 시 error data 저장할 List<LinkedHashMap>
-                    List<Map<String, Object>> listErrorData = new ArrayList<>();
-                    formatterErrorData.put(fixedField.getName(), listErrorData);
-
-                    // field 에 설정된 list size 조회
-                    int listSize = getFixedListSize(obj, fixedField, fieldListIndex, fieldListSize, true, formatterErrorData);
-                    for (int i = 0; i < listSize; i++) {
-                        // 계산된 index가 변환할 문자열 byte length랑 같을 경우 변환이 완료된 것으로 판단
-                        if (size <= index) {
-                            break;
-                        }
-
-                        String subStr = substring(fld, index, encoding);
-
-                        // list 내부 parsing 시 error data 저장할 LinkedHashMap
-                        Map<String, Object> subListErrorData = new LinkedHashMap<>();
-                        listErrorData.add(subListErrorData);
-
-                        list.add(getFixedData(subStr
-                                , followIndex
-                                , fixedField.getType()
-                                , encoding
-                                , genericType
-                                , includeSigned
-                                , subListErrorData));
-                        // parsing 후에 index 계산
-                        index += followIndex[0];
-                    }
-                    setField(obj, fixedField, list, formatterErrorData);
-                    // 마지막 field 일 때, multi-depth를 대비하여 followIndex update
-                    if (fieldListSize == fieldListIndex) {
-                        followIndex[0] = index;
-                    }
-                } else {
-                    FixedData fixedData = fixedField.getFixedData();
-                    int[] lengthArr = getLength(fixedData);
-                    int endIndex = index + lengthArr[0];
-                    if (fixedField.getType().equals(BigDecimal.class)) {
-                        if (!includeSigned) {
-                            char sign = substring(fld, index, index + 1, encoding).charAt(0);
-                            if (sign == '+' || sign == '-') {
-                                endIndex++;
-                            }
-                        }
-                    }
+    static <T> T readFixedData(byte[] fld, int offset, int length, T target, FixedCodecPlan plan) {
+        if (offset < 0 || length < 0 || offset + length > fld.length) {
+            throw CommonException.builder().message("invalid fixed data(offset / length)").build();
+        }
 
-                    if (lengthArr.length > 1) {
-                        endIndex = endIndex + lengthArr[1] + 1;
-                    }
+        FixedErrors.Collector errors = new FixedErrors.Collector(fld);
+        checkMaxLength(offset, length, plan.getMaxLength(), errors);
 
-                    if (endIndex > size) {
-                        endIndex = size;
-                    }
+        T result = (T) plan.decode(target, fld, new int[]{offset}, offset + length, false, errors);
+        if (!errors.getErrors().isEmpty()) {
+            log.warn("[ERROR]TYPE:{}, ERRORS:{}", target.getClass().getName(), errors.getErrors());
+        }
+        return result;
+    }
+
+    /**
+     * 고정 길이 문자열을 Fixed Data 객체로 변환하고, 변환 중 발생한 error 를 함께 반환
+     * <pre>
+     * example>
+     *      FixedParseResult&lt;FixedDataTestInfo&gt; result = FormatterUtils.parseFixedData(fixedString, FixedDataTestInfo.class);
+     * </pre>
+     *
+     * @param fld        변환 대상 문자열
+     * @param objectType 변환 결과 object type
+     * @return 변환 결과 object 와 error 목록
+     */
+    public static <T> FixedParseResult<T> parseFixedData(String fld, Class<T> objectType) {
+        byte[] bytes = getBytes(fld, DEFAULT_CHAR_ENCODING);
+        return parseFixedData(bytes, 0, bytes.length, objectType, DEFAULT_CHAR_ENCODING, null);
+    }
 
-                    String value = substring(fld, index, endIndex, encoding);
-                    setField(obj, fixedField, value, formatterErrorData);
+    /**
+     * 고정 길이 byte 배열을 Fixed Data 객체로 변환하고, 변환 중 발생한 error 를 함께 반환.
+     * <pre>
+     *     error data 를 thread local(getErrorDataMap)에 저장하지 않으며, error 가 발생한 경우에만 error 정보를 생성한다.
+     *     dataParsingThrowException 이 true 이면 getFixedData 와 같이 error 발생 시 exception 이 발생한다.
+     *
+     * example>
+     *      FixedParseResult&lt;FixedMessageBody&gt; result =
+     *              FormatterUtils.parseFixedData(telegram, 0, telegram.length, FixedMessageBody.class, "EUC-KR", null);
+     *      for (FixedParseError error : result.getErrors()) {
+     *          log.warn("{} {} offset:{}", error.getPath(), error.getReason(), error.getOffset());
+     *      }
+     * </pre>
+     *
+     * @param fld         변환 대상 byte 배열
+     * @param offset      변환 시작 위치
+     * @param length      변환 대상 byte 수
+     * @param objectType  변환 결과 object type
+     * @param encoding    변환 시 사용할 encoding
+     * @param genericType 변환 결과 object에 사용된 generic type
+     * @return 변환 결과 object 와 error 목록
+     */
+    public static <T> FixedParseResult<T> parseFixedData(byte[] fld, int offset, int length, Class<T> objectType,
+                                                         String encoding, Class<?> genericType) {
+        return parseFixedData(fld, offset, length, FixedCodecPlan.of(objectType, genericType, encoding));
+    }
 
-                    if (index >= endIndex) {
-                        break;
-                    }
-                    index = endIndex;
-                    followIndex[0] = endIndex;
-                }
-            }
-        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException
-                 | IllegalArgumentException | SecurityException | InvocationTargetException e) {
-            log.warn("[ERROR]TYPE:{}", objectType.getName(), e);
-            throw CommonException.builder().message(e.getMessage()).cause(e).build();
+    /**
+     * codec plan 으로 고정 길이 byte 배열을 변환하고, 변환 중 발생한 error 를 함께 반환
+     *
+     * @param fld    변환 대상 byte 배열
+     * @param offset 변환 시작 위치
+     * @param length 변환 대상 byte 수
+     * @param plan   변환 결과 object 의 codec plan
+     * @return 변환 결과 object 와 error 목록
+     */
+    @SuppressWarnings("unchecked")
+    static <T> FixedParseResult<T> parseFixedData(byte[] fld, int offset, int length, FixedCodecPlan plan) {
+        if (offset < 0 || length < 0 || offset + length > fld.length) {
+            throw CommonException.builder().message("invalid fixed data(offset / length)").build();
+        }
+
+        FixedErrors.Collector errors = new FixedErrors.Collector(fld);
+        checkMaxLength(offset, length, plan.getMaxLength(), errors);
+
+        T value = (T) plan.decode(fld, new int[]{offset}, offset + length, false, errors);
+        return new FixedParseResult<>(value, errors.getErrors());
+    }
+
+    /**
+     * 고정 길이 문자열의 lazy view 생성. 조회한 field 만 decode 한다.
+     * <pre>
+     * example>
+     *      FixedDataView view = FormatterUtils.getFixedView(fixedString, FixedDataTestInfo.class);
+     *      String name = view.get("name", String.class);
+     * </pre>
+     *
+     * @param fld        변환 대상 문자열
+     * @param objectType view 대상 object type
+     * @return view
+     */
+    public static FixedDataView getFixedView(String fld, Class<?> objectType) {
+        byte[] bytes = getBytes(fld, DEFAULT_CHAR_ENCODING);
+        return getFixedView(bytes, 0, bytes.length, objectType, DEFAULT_CHAR_ENCODING, null);
+    }
+
+    /**
+     * 고정 길이 byte 배열의 lazy view 생성. 조회한 field 만 decode 한다.
+     * byte 배열은 복사하지 않으며, error data 는 thread local 이 아닌 view 의 error data map 에 저장된다.
+     * <pre>
+     * example>
+     *      FixedDataView view = FormatterUtils.getFixedView(telegram, 0, telegram.length, FixedMessage.class,
+     *              "EUC-KR", null);
+     *      String routeCode = view.get("header.routeCode", String.class);
+     * </pre>
+     *
+     * @param fld         변환 대상 byte 배열
+     * @param offset      변환 시작 위치
+     * @param length      변환 대상 byte 수
+     * @param objectType  view 대상 object type
+     * @param encoding    변환 시 사용할 encoding
+     * @param genericType 대상 object에 사용된 generic type
+     * @return view
+     */
+    public static FixedDataView getFixedView(byte[] fld, int offset, int length, Class<?> objectType,
+                                             String encoding, Class<?> genericType) {
+        if (offset < 0 || length < 0 || offset + length > fld.length) {
+            throw CommonException.builder().message("invalid fixed data(offset / length)").build();
+        }
+        FixedCodecPlan plan = FixedCodecPlan.of(objectType, genericType, encoding);
+        return new FixedDataView(plan, fld, offset, offset + length, new LinkedHashMap<>());
+    }
+
+    /**
+     * heap ByteBuffer 의 position 부터 limit 까지를 대상으로 lazy view 생성.
+     * view 의 set 으로 변경한 field 는 buffer 에 바로 기록되며, buffer 의 position / limit 은 변경하지 않는다.
+     * <pre>
+     * example>
+     *      FixedDataView view = FormatterUtils.getFixedView(buffer, FixedMessage.class, "EUC-KR", null);
+     *      view.set("header.resCode", "0000");
+     *      channel.write(buffer);
+     * </pre>
+     *
+     * @param fld         변환 대상 ByteBuffer (array 를 가진 buffer)
+     * @param objectType  view 대상 object type
+     * @param encoding    변환 시 사용할 encoding
+     * @param genericType 대상 object에 사용된 generic type
+     * @return view
+     */
+    public static FixedDataView getFixedView(ByteBuffer fld, Class<?> objectType, String encoding,
+                                             Class<?> genericType) {
+        if (!fld.hasArray()) {
+            throw CommonException.builder().message("invalid fixed data(buffer without array)").build();
         }
+        return getFixedView(fld.array(), fld.arrayOffset() + fld.position(), fld.remaining(), objectType, encoding,
+                genericType);
+    }
+
+    /**
+     * 고정 길이 byte 배열을 Fixed Data 객체로 변환
+     *
+     * @param fld                변환 대상 byte 배열
+     * @param cursor             변환 시작 위치. 변환 후 사용한 byte 의 다음 위치로 갱신된다.
+     * @param limit              변환 대상 byte 의 끝 위치(exclusive)
+     * @param objectType         변환 결과 object type
+     * @param encoding           변환 시 사용할 encoding
+     * @param genericType        변환 결과 object에 사용된 generic type
+     * @param includeSigned      signed 문자 포함 여부(+ / -)
+     * @param formatterErrorData error data map
+     * @return 변환 결과 object
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T getFixedData(byte[] fld, int[] cursor, int limit, Class<T> objectType, String encoding,
+                                      Class<?> genericType, boolean includeSigned, Map<String, Object> formatterErrorData) {
+        log.debug("PARAM::TYPE:{}, {}, {}", objectType, cursor[0], limit);
+        Object obj = FixedCodecPlan.of(objectType, genericType, encoding)
+                .decode(fld, cursor, limit, includeSigned, FixedErrors.of(formatterErrorData));
         log.debug("FIXED_DATA:{}", obj);
         return (T) obj;
     }
@@ -645,24 +727,32 @@ public class FormatterUtils {
      * @param targetByteLength   변환 대상 fixed string의 byte 수
      * @param objectType         변환 결과 object type
      * @param genericType        변환 결과 object에 사용된 generic type
+     * @param encoding           변환 시 사용할 encoding
      * @param foramtterErrorData error data map
      */
     private static <T> void checkMaxLength(int targetByteLength, Class<T> objectType
-            , Class<?> genericType, Map<String, Object> foramtterErrorData) {
+            , Class<?> genericType, String encoding, Map<String, Object> foramtterErrorData) {
 
-        // 해당 objectType이 가질 수 있는 max length를 구함
+        // 해당 objectType이 가질 수 있는 max length 는 codec plan 에 한 번만 계산하여 보관
         // FixeList가 포함된 경우 검사하지 않음
-        Integer maxFieldLength = getObjectMaxLength(objectType, genericType);
+        int maxFieldLength = FixedCodecPlan.of(objectType, genericType, encoding).getMaxLength();
+        checkMaxLength(0, targetByteLength, maxFieldLength, FixedErrors.of(foramtterErrorData));
+    }
+
+    /**
+     * 변환 대상 byte 수와 변환 결과 object type 의 max length 비교.
+     *
+     * @param offset           변환 시작 위치
+     * @param targetByteLength 변환 대상 byte 수
+     * @param maxFieldLength   변환 결과 object type 의 max length (FixedList 가 포함된 경우 Integer.MAX_VALUE)
+     * @param errors           error 기록 대상
+     */
+    private static void checkMaxLength(int offset, int targetByteLength, int maxFieldLength, FixedErrors errors) {
         // 변환대상 string byte와 비교
         if (maxFieldLength != Integer.MAX_VALUE) {
             if (maxFieldLength < targetByteLength) {
                 // OVERSIZE: {입력 string byte}/{대상 object size}
-                String errorValue = new StringBuffer(FORMATTER_LENGTH_OVERSIZE)
-                        .append(":")
-                        .append(targetByteLength)
-                        .append("/")
-                        .append(maxFieldLength).toString();
-                foramtterErrorData.put(FORMATTER_LENGTH_ERROR, errorValue);
+                errors.invalidLength(FixedParseError.Reason.OVERSIZE, offset, targetByteLength, maxFieldLength);
 
                 if (dataParsingThrowException) {
                     throw CommonException.builder()
@@ -672,12 +762,7 @@ public class FormatterUtils {
             } else if (maxFieldLength > targetByteLength) {
                 // undersize 시에는 exception 발생시키지 않고, 부족한 data는 각 field object 기본값(null, 0...)으로 둠
                 // UNDERSIZE: {입력 stirng byte}/{대상 object size}
-                String errorValue = new StringBuffer(FORMATTER_LENGTH_UNDERSIZE)
-                        .append(":")
-                        .append(targetByteLength)
-                        .append("/")
-                        .append(maxFieldLength).toString();
-                foramtterErrorData.put(FORMATTER_LENGTH_ERROR, errorValue);
+                errors.invalidLength(FixedParseError.Reason.UNDERSIZE, offset, targetByteLength, maxFieldLength);
             }
         }
     }
@@ -689,163 +774,69 @@ public class FormatterUtils {
      * @param encoding
      * @return
      */
-    private static int size(String value, String encoding) {
-
-        int size = 0;
-        try {
-            size = value.getBytes(encoding).length;
-        } catch (UnsupportedEncodingException ex) {
-            log.debug("{}", ex.getMessage());
-            size = value.getBytes().length;
-        }
-
-        return size;
+    static int size(String value, String encoding) {
+        return CharsetLength.byteLength(value, getCharset(encoding));
     }
 
     /**
-     * substring byte index
+     * encoding 으로 변환한 byte 배열 조회
      *
-     * @param str
-     * @param startIdx
+     * @param value
      * @param encoding
      * @return
      */
-    private static String substring(String str, int startIdx, String encoding) {
-        return substring(str, startIdx, size(str, encoding), encoding);
+    static byte[] getBytes(String value, String encoding) {
+        try {
+            return value.getBytes(encoding);
+        } catch (UnsupportedEncodingException ex) {
+            log.debug("{}", ex.getMessage());
+            return value.getBytes();
+        }
     }
 
     /**
-     * substring byte index
+     * encoding 이름에 해당하는 Charset 조회. 지원하지 않는 encoding 이면 default charset.
      *
-     * @param str
-     * @param startIdx
-     * @param endIndex
      * @param encoding
      * @return
      */
-    private static String substring(String str, int startIdx, int endIndex, String encoding) {
-        int length = endIndex - startIdx;
+    static Charset getCharset(String encoding) {
         try {
-            byte[] bytes = str.getBytes(encoding);
-            byte[] value = new byte[length];
-            if (bytes.length < startIdx + length) {
-                return str;
-            }
-            for (int i = 0; i < length; i++) {
-                value[i] = bytes[startIdx + i];
-            }
-            return new String(value, encoding);
-        } catch (UnsupportedEncodingException e) {
-            log.debug("{}", e.getMessage());
+            return Charset.forName(encoding);
+        } catch (IllegalArgumentException ex) {
+            log.debug("{}", ex.getMessage());
+            return Charset.defaultCharset();
         }
-        return str;
     }
 
     /**
-     * 대상 object 의 field 에 data 값 설정
+     * 왼쪽에 padding char를 추가한 string 조회
      *
-     * @param obj
-     * @param fixedField
-     * @param data
+     * @param value
+     * @param length
+     * @param padChar
+     * @param encoding
+     * @return
      */
-    private static void setField(Object obj, FixedField fixedField, Object data,
-                                 Map<String, Object> formatterErrorData) {
-        try {
-            Class<?> clazz = obj.getClass();
-            if (fixedField.isSuperClassField()) {
-                clazz = clazz.getSuperclass();
-            }
-
-            Field field = clazz.getDeclaredField(fixedField.getName());
-            // field type이 String 일 경우, trimPaddingCharacters 설정에 따라 Padding Char 값을 자르지 않고 설정
-            if (fixedField.getFixedData() != null
-                    && (!String.class.equals(field.getType()) || trimPaddingCharacters)) {
-                // String to Object 로 변환 시 Padding Type(Left/Right)에 세팅된 Padding Char 값을 자르지 않고 Type Casting만 하고 있음 (getTypeValue 참조)
-                // 현재 상태론 Padding Char가 문자이거나 Padding Type이 Right이면서 숫자 일 경우 모두 문제가 발생함.
-                // Type Casting 전 추출된 data를 Padding Type 부터 Padding Char가 안나올 때 까지 자르는 로직 추가
-
-                // field data 및 padding 정보 추출
-                String dataStr = String.valueOf(data);
-                PAD_TYPE padType = fixedField.getFixedData().padType();
-                char padChar = getPadChar(fixedField);
-
-                //padding type에 따라 문자열을 자르기 시작할 index 결정
-                int startIndex = 0;
-                if (PAD_TYPE.RIGHT.equals(padType)) {
-                    startIndex = dataStr.length() - 1;
-                } else {
-                    startIndex = 0;
-                }
-
-                //문자열을 자르기 시작할 index 부터 padding type 방향으로 padding char가 안나올 때 까지 index 결정
-                while (startIndex >= 0 && startIndex < dataStr.length() && dataStr.charAt(startIndex) == padChar) {
-                    if (PAD_TYPE.RIGHT.equals(padType)) {
-                        startIndex--;
-                    } else {
-                        startIndex++;
-                    }
-                }
-
-                //padding type에 따라 문자열 자르기
-                if (PAD_TYPE.RIGHT.equals(padType)) {
-                    data = dataStr.substring(0, startIndex + 1);
-                } else {
-                    data = dataStr.substring(startIndex, dataStr.length());
-                }
-            }
-
-            field.setAccessible(true);
-            try {
-                field.set(obj, getTypeValue(data, field.getType()));
-            } catch (IllegalArgumentException | DateTimeParseException e) {
-                log.debug("[ERROR]FILED:{}", fixedField.getName(), e);
-                formatterErrorData.put(fixedField.getName(), data);
-                if (dataParsingThrowException) {
-                    throw e;
-                }
-            }
-        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-            log.debug("[ERROR]FILED:{}", fixedField.getName(), e);
-            throw CommonException.builder().message(e.getMessage()).cause(e).build();
-        }
+    private static String paddingLeft(String value, int length, char padChar, String encoding) {
+        // 20250729 : 다중 byte 패딩 문자 지원
+        Charset charset = getCharset(encoding);
+        return PaddingEngine.padFixed(value, length, padChar, PaddingEngine.padBytes(padChar, charset).length, charset,
+                false);
     }
 
     /**
-     * 왼쪽에 padding char를 추가한 string 조회
+     * 왼쪽에 padding char를 추가한 string 조회 (padding char byte 수가 계산된 경우)
      *
      * @param value
      * @param length
      * @param padChar
+     * @param padCharSize padding char 의 byte 수
      * @param encoding
      * @return
      */
-    private static String paddingLeft(String value, int length, char padChar, String encoding) {
-
-        int size = size(value, encoding);
-
-        if (size > length) throw CommonException.builder().message("invalid fixed values(length error)").build();
-
-        StringBuilder sb = new StringBuilder(length);
-        // 20250729 : 다중 byte 패딩 문자 지원
-        int padCharSize = size(String.valueOf(padChar), encoding);
-
-        // 루프마다 padChar를 추가하면서 16byte또는 16문자만큼의 간격을 건너뛰어 다음 패딩 위치를 계산
-        // 일반적으로 블록 단위로 패딩을 채울 때 사용
-        for (int i = size; i < length; i += padCharSize) {
-            // TODO: byte 보정 또는 에러 발생 여부는 사이트의 정책에 따름
-            if ((i + padCharSize) > length) {
-                int correctionCnt = length - 1;
-                for (int j = 0; j < correctionCnt; j++) {
-                    // space로 byte 보정
-                    sb.append(CHARACTER_TYPE_PADDING_CHAR);
-                }
-                break;
-            }
-            sb.append(padChar);
-        }
-        sb.append(value);
-
-        return sb.toString();
+    static String paddingLeft(String value, int length, char padChar, int padCharSize, String encoding) {
+        return PaddingEngine.padFixed(value, length, padChar, padCharSize, getCharset(encoding), false);
     }
 
     /**
@@ -858,30 +849,24 @@ public class FormatterUtils {
      * @return
      */
     private static String paddingRight(String value, int length, char padChar, String encoding) {
-
-        int size = size(value, encoding);
-        // Data 크기가 지정된 length보다 클 때 exception 발생
-        if (size > length) throw CommonException.builder().message("invalide fixed value(length error)").build();
-
-        StringBuilder sb = new StringBuilder(length);
-        sb.append(value);
         // 20250729 : 다중 byte 패딩 문자 지원
-        int padCharSize = size(String.valueOf(padChar), encoding);
-
-        for (int i = size; i < length; i += padCharSize) {
-            // TODO: byte 보정 또는 에러 발생 여부는 사이트의 정책에 따름
-            if ((i + padCharSize) > length) {
-                int correctionCnt = length - 1;
-                for (int j = 0; j < correctionCnt; j++) {
-                    // space로 byte 보정
-                    sb.append(CHARACTER_TYPE_PADDING_CHAR);
-                }
-                break;
-            }
-            sb.append(padChar);
-        }
+        Charset charset = getCharset(encoding);
+        return PaddingEngine.padFixed(value, length, padChar, PaddingEngine.padBytes(padChar, charset).length, charset,
+                true);
+    }
 
-        return sb.toString();
+    /**
+     * 오른쪽에 padding char를 추가한 string 조회 (padding char byte 수가 계산된 경우)
+     *
+     * @param value
+     * @param length
+     * @param padChar
+     * @param padCharSize padding char 의 byte 수
+     * @param encoding
+     * @return
+     */
+    static String paddingRight(String value, int length, char padChar, int padCharSize, String encoding) {
+        return PaddingEngine.padFixed(value, length, padChar, padCharSize, getCharset(encoding), true);
     }
 
     /**
@@ -890,7 +875,7 @@ public class FormatterUtils {
      * @param fixedData
      * @return
      */
-    private static int[] getLength(FixedData fixedData) {
+    static int[] getLength(FixedData fixedData) {
 
         int[] lengthArr = fixedData.value();
 
@@ -907,7 +892,7 @@ public class FormatterUtils {
      * @param fixedField
      * @return
      */
-    private static char getPadChar(FixedField fixedField) {
+    static char getPadChar(FixedField fixedField) {
 
         char padChar = fixedField.getFixedData().padChar();
 
@@ -930,13 +915,23 @@ public class FormatterUtils {
      * @param clazz
      * @return
      */
-    private static List<FixedField> getFieldList(Class<?> clazz, Class<?> genericType) {
-
-        String key = clazz.getName();
+    static List<FixedField> getFieldList(Class<?> clazz, Class<?> genericType) {
+        return FixedMetadataRegistry.getFieldList(clazz, genericType);
+    }
 
-        if (genericType != null) key = key.concat(genericType.getName());
+    /**
+     * 대상 class field의 FixedData annotation에서 FixedField list 생성 (FixedMetadataRegistry 에서 한번만 호출)
+     *
+     * @param clazz
+     * @return
+     */
+    static List<FixedField> loadFieldList(Class<?> clazz, Class<?> genericType) {
 
-        if (map.containsKey(key)) return map.get(key);
+        // compile time 에 생성된 codec 이 있으면 reflection 없이 field 목록 구성
+        FixedCodec<?> codec = FixedCodecs.find(clazz);
+        if (codec != null) {
+            return getFieldList(codec, genericType);
+        }
 
         List<FixedField> fieldList = new ArrayList<>();
 
@@ -1001,7 +996,36 @@ public class FormatterUtils {
             }
         }
 
-        map.put(key, fieldList);
+        return fieldList;
+    }
+
+    /**
+     * 생성 codec 의 field 목록에 generic type 을 적용한 FixedField list 조회
+     *
+     * @param codec       생성 codec
+     * @param genericType 대상 class 에 사용된 generic type
+     * @return
+     */
+    private static List<FixedField> getFieldList(FixedCodec<?> codec, Class<?> genericType) {
+        List<FixedField> fieldList = new ArrayList<>();
+
+        for (FixedField field : codec.getFieldList()) {
+            if (field.getFixedData() != null) {
+                fieldList.add(field);
+                continue;
+            }
+
+            Class<?> type = field.getType();
+            if (Object.class.equals(type) && genericType != null) {
+                type = genericType;
+            }
+            // super class 의 VO field 는 하위 field 목록을 구하지 않는다.
+            List<FixedField> subFieldList = field.isSuperClassField()
+                    ? new ArrayList<>() : getFieldList(field.isFixedVo() ? field.getType() : type, genericType);
+            fieldList.add(FixedField.builder().name(field.getName()).type(type)
+                    .isSuperClassField(field.isSuperClassField()).isFixedVo(field.isFixedVo())
+                    .fixedList(field.getFixedList()).fixedFieldList(subFieldList).build());
+        }
         return fieldList;
     }
 
@@ -1013,7 +1037,7 @@ public class FormatterUtils {
      * @return
      */
     @SuppressWarnings("unchecked")
-    private static <T> T getTypeValue(Object data, Class<T> type) {
+    static <T> T getTypeValue(Object data, Class<T> type) {
         log.debug("data:[{}]", data);
         Object value = null;
         if (type.isPrimitive()) {
@@ -1070,13 +1094,12 @@ public class FormatterUtils {
      * 입력 data를 string으로 변환한 값 조회
      *
      * @param data
-     * @param fixedField
+     * @param type field type
      * @return
      */
-    private static String getStringValue(Object data, FixedField fixedField) {
+    static String getStringValue(Object data, Class<?> type) {
 
         String value = "";
-        Class<?> type = fixedField.getType();
 
         if (type.isPrimitive()) {
             value = data == null ? "" : String.valueOf(data);
@@ -1110,45 +1133,36 @@ public class FormatterUtils {
      * @return 변환 대상 class가 가질 수 있는 max string length
      */
     public static <T> Integer getObjectMaxLength(Class<T> objectType, Class<?> genericType) {
-        return getFieldList(objectType, genericType).stream()
-                .map(mapper -> {
-                    if (mapper.getFixedData() != null) {
-                        //FixedData일 경우 field의 length를 구해서 return
-                        return Arrays.stream(getLength(mapper.getFixedData()));
-                    } else if (mapper.isFixedVo()) {
-                        // multi-depth 일 경우 길이는 무제한
-                        List<FixedField> fixedFieldList = getFieldList(mapper.getType(), genericType);
-                        for (FixedField fixedField : fixedFieldList) {
-                            // multi-depth 일 경우 길이는 무제한
-                            if (fixedField.getFixedList() != null || fixedField.isFixedVo()) {
-                                return IntStream.of(Integer.MAX_VALUE);
-                            }
-                        }
-
-                        // FixedVO일 경우 VO 내부의 field length를 구해서 return
-                        return fixedFieldList.stream()
-                                .map(fixedVoField -> Arrays.stream(getLength(fixedVoField.getFixedData())))
-                                .mapToInt(t -> t.sum());
-                    } else if (mapper.getFixedList() != null) {
-                        //FixedList가 있을 경우 길이는 무제한
-                        return IntStream.of(Integer.MAX_VALUE);
-                    }
-
-                    //FixedData, FixedVO, FixedList 타입이 아닐경우 Exception throw
-                    throw CommonException.builder().message("invalid fixed configuration(parse error)").build();
-                })
-                .map(mapper -> {
-                    return mapper.sum();
-                })
-                .reduce(0, (prev, next) -> {
-                    if (prev == Integer.MAX_VALUE || next == Integer.MAX_VALUE) {
-                        return Integer.MAX_VALUE;
-                    }
-
-                    return prev + next;
-                });
+        return FixedCodecPlan.of(objectType, genericType, DEFAULT_CHAR_ENCODING).getMaxLength();
+    }
 
+    /**
+     * 고정 길이 대상 class 의 길이 / field offset / schema hash 정보 조회.
+     * type 별로 한 번만 계산하므로 routing 전 길이 검사 등에 사용할 수 있다.
+     * <pre>
+     * example>
+     *      FixedLayoutDescriptor descriptor = FormatterUtils.getLayoutDescriptor(FixedDataTestInfo.class);
+     *      descriptor.isValidLength(telegram.length);
+     *      descriptor.getSchemaHash();
+     * </pre>
+     *
+     * @param objectType 변환 대상 object type
+     * @return layout descriptor
+     */
+    public static FixedLayoutDescriptor getLayoutDescriptor(Class<?> objectType) {
+        return getLayoutDescriptor(objectType, null);
+    }
 
+    /**
+     * 고정 길이 대상 class 의 길이 / field offset / schema hash 정보 조회.
+     *
+     * @param objectType  변환 대상 object type
+     * @param genericType 변환 대상 object에 사용된 generic type
+     * @return layout descriptor
+     * @see FixedLayoutDescriptor
+     */
+    public static FixedLayoutDescriptor getLayoutDescriptor(Class<?> objectType, Class<?> genericType) {
+        return FixedCodecPlan.of(objectType, genericType, DEFAULT_CHAR_ENCODING).getDescriptor();
     }
 
     /**
@@ -0,0 +1,300 @@
+package com.example.common.utils;
+
+import com.example.common.exception.CommonException;
+import com.example.common.internal.annotations.FixedData;
+import com.example.common.internal.annotations.FixedData.PAD_TYPE;
+import com.example.common.internal.annotations.FixedList;
+import com.example.common.internal.codec.FixedCodec;
+import com.example.common.model.FixedField;
+import com.example.common.model.FixedLayoutField;
+
+import java.lang.annotation.Annotation;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * runtime layout group(최상위 layout, group, list item)의 codec.
+ * <pre>
+ *     layout 정의를 FixedField 목록(FixedData / FixedList 정보 포함)으로 변환하고,
+ *     FixedRecord 를 대상으로 하는 FixedCodec 으로 class 와 같은 FixedCodecPlan 을 생성한다.
+ *     따라서 decode / encode / view / error 수집은 class 기반 변환과 같은 plan 을 사용한다.
+ * </pre>
+ */
+final class LayoutCodec implements FixedCodec<FixedRecord> {
+
+    // layout field type 이름 -> 변환 type
+    private static final Map<String, Class<?>> TYPES = Map.ofEntries(
+            Map.entry("string", String.class),
+            Map.entry("int", Integer.class),
+            Map.entry("integer", Integer.class),
+            Map.entry("long", Long.class),
+            Map.entry("decimal", BigDecimal.class),
+            Map.entry("float", Float.class),
+            Map.entry("double", Double.class),
+            Map.entry("boolean", Boolean.class),
+            Map.entry("datetime", LocalDateTime.class)
+    );
+
+    private final String path;
+    private final List<FixedField> fieldList;
+    private final String[] names;
+    private final Map<String, Integer> indexes;
+    // group / list field 의 하위 codec (그 외 field 는 null)
+    private final LayoutCodec[] children;
+    private final FixedCodecPlan plan;
+
+    private LayoutCodec(String path, List<FixedLayoutField> definitions, String encoding) {
+        if (definitions == null || definitions.isEmpty()) {
+            throw invalid(path, "fields is empty");
+        }
+
+        int size = definitions.size();
+        this.path = path;
+        this.names = new String[size];
+        this.indexes = new HashMap<>();
+        this.children = new LayoutCodec[size];
+
+        List<FixedField> fields = new ArrayList<>(size);
+        FixedCodecPlan[] plans = new FixedCodecPlan[size];
+        for (int i = 0; i < size; i++) {
+            FixedLayoutField definition = definitions.get(i);
+            String name = definition.getName();
+            if (name == null || name.isBlank() || indexes.putIfAbsent(name, i) != null) {
+                throw invalid(path, "invalid field name : " + name);
+            }
+            names[i] = name;
+
+            if (definition.getFields() != null && !definition.getFields().isEmpty()) {
+                children[i] = new LayoutCodec(path + "." + name, definition.getFields(), encoding);
+                plans[i] = children[i].plan;
+                fields.add(isList(definition)
+                        ? listField(definition, fields, i == size - 1)
+                        : FixedField.builder().name(name).type(FixedRecord.class).isFixedVo(true)
+                        .fixedFieldList(children[i].fieldList).build());
+            } else {
+                fields.add(dataField(definition));
+            }
+        }
+
+        this.fieldList = Collections.unmodifiableList(fields);
+        this.plan = FixedCodecPlan.create(this, fieldList, plans, encoding);
+    }
+
+    /**
+     * layout 정의를 codec plan 으로 변환
+     *
+     * @param name        layout 이름
+     * @param definitions layout field 정의
+     * @param encoding    변환 시 사용할 encoding
+     * @return 최상위 group codec
+     */
+    static LayoutCodec compile(String name, List<FixedLayoutField> definitions, String encoding) {
+        return new LayoutCodec(name, definitions, encoding);
+    }
+
+    FixedCodecPlan getPlan() {
+        return plan;
+    }
+
+    String getPath() {
+        return path;
+    }
+
+    List<String> getFieldNames() {
+        return List.of(names);
+    }
+
+    /**
+     * field 이름의 index 조회. 없으면 -1
+     */
+    int indexOf(String name) {
+        Integer index = indexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    String getFieldName(int index) {
+        return names[index];
+    }
+
+    /**
+     * group / list field 의 하위 codec (그 외 field 는 null)
+     */
+    LayoutCodec getChild(int index) {
+        return children[index];
+    }
+
+    boolean isListField(int index) {
+        return fieldList.get(index).getFixedList() != null;
+    }
+
+    /**
+     * map(group : Map, list : List&lt;Map&gt;)을 record 로 변환. layout 에 없는 key 는 무시한다.
+     */
+    FixedRecord toRecord(Map<String, ?> map) {
+        FixedRecord record = newInstance();
+        for (int i = 0; i < names.length; i++) {
+            if (!map.containsKey(names[i])) continue;
+            record.values[i] = toRecordValue(i, map.get(names[i]));
+        }
+        return record;
+    }
+
+    /**
+     * group / list field 값(Map, List&lt;Map&gt;)을 record 로 변환. data field 값은 그대로 반환한다.
+     * FixedRecord 는 하위 group 의 record(같은 codec)만 설정할 수 있다.
+     * (다른 layout / reload 이전 layout 의 record 는 field 위치가 다를 수 있음)
+     */
+    Object toRecordValue(int index, Object value) {
+        LayoutCodec child = children[index];
+        if (child == null || value == null) return value;
+        if (!isListField(index)) {
+            return value instanceof FixedRecord record
+                    ? checkRecord(record, index) : child.toRecord(asMap(value, index));
+        }
+
+        if (!(value instanceof Collection<?> items)) {
+            throw invalid(path, "invalid list value : " + names[index]);
+        }
+        List<FixedRecord> list = new ArrayList<>(items.size());
+        for (Object item : items) {
+            list.add(item instanceof FixedRecord record
+                    ? checkRecord(record, index) : child.toRecord(asMap(item, index)));
+        }
+        return list;
+    }
+
+    private FixedRecord checkRecord(FixedRecord record, int index) {
+        if (record.getCodec() != children[index]) {
+            throw invalid(path, "invalid record layout : " + names[index]);
+        }
+        return record;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, ?> asMap(Object value, int index) {
+        if (value instanceof Map<?, ?> map) return (Map<String, ?>) map;
+        throw invalid(path, "invalid group value : " + names[index]);
+    }
+
+    @Override
+    public Class<FixedRecord> getType() {
+        return FixedRecord.class;
+    }
+
+    @Override
+    public FixedRecord newInstance() {
+        return new FixedRecord(this);
+    }
+
+    @Override
+    public List<FixedField> getFieldList() {
+        return fieldList;
+    }
+
+    @Override
+    public Object get(FixedRecord target, int index) {
+        return target.values[index];
+    }
+
+    @Override
+    public void set(FixedRecord target, int index, Object value) {
+        target.values[index] = value;
+    }
+
+    @Override
+    public Object getSizeRef(FixedRecord target, String name) throws NoSuchFieldException {
+        int index = indexOf(name);
+        if (index < 0) throw new NoSuchFieldException(name);
+        return target.values[index];
+    }
+
+    private static boolean isList(FixedLayoutField definition) {
+        return definition.isList() || definition.getSize() != null || definition.getSizeRef() != null;
+    }
+
+    private FixedField listField(FixedLayoutField definition, List<FixedField> previous, boolean last) {
+        String name = definition.getName();
+        Integer size = definition.getSize();
+        String sizeRef = definition.getSizeRef();
+        if (size != null && (size < 0 || sizeRef != null)) {
+            throw invalid(path, "invalid list size : " + name);
+        }
+
+        if (sizeRef != null) {
+            // sizeRef 는 같은 group 에서 list 이전에 위치한 정수 field 여야 함
+            FixedField ref = previous.stream().filter(field -> sizeRef.equals(field.getName())).findFirst()
+                    .orElseThrow(() -> invalid(path, "invalid list sizeRef : " + name + " -> " + sizeRef));
+            if (!Integer.class.equals(ref.getType()) && !Long.class.equals(ref.getType())) {
+                throw invalid(path, "invalid list sizeRef type : " + name + " -> " + sizeRef);
+            }
+        } else if (size == null && !last) {
+            // size / sizeRef 가 없는 list 는 마지막에 위치해야 함
+            throw invalid(path, "invalid list position(no size) : " + name);
+        }
+
+        FixedList fixedList = new ListSpec(size == null ? -1 : size, sizeRef == null ? "" : sizeRef);
+        return FixedField.builder().name(name).type(FixedRecord.class).fixedList(fixedList)
+                .fixedFieldList(children[indexes.get(name)].fieldList).build();
+    }
+
+    private FixedField dataField(FixedLayoutField definition) {
+        String name = definition.getName();
+        Class<?> type = resolveType(definition);
+        if (definition.getLength() <= 0 || definition.getScale() < 0) {
+            throw invalid(path, "invalid length : " + name);
+        }
+        if (definition.getScale() > 0 && !BigDecimal.class.equals(type)) {
+            throw invalid(path, "invalid scale(decimal only) : " + name);
+        }
+
+        int[] length = definition.getScale() > 0
+                ? new int[]{definition.getLength(), definition.getScale()} : new int[]{definition.getLength()};
+        char padChar = definition.getPadChar() == null ? (char) Character.UNASSIGNED : definition.getPadChar();
+        PAD_TYPE padType = definition.getPadType() == null ? PAD_TYPE.LEFT : definition.getPadType();
+        FixedData fixedData = new DataSpec(length, padChar, definition.isSigned(), padType);
+        return FixedField.builder().name(name).type(type).fixedData(fixedData).build();
+    }
+
+    private Class<?> resolveType(FixedLayoutField definition) {
+        String typeName = definition.getType();
+        if (typeName == null || typeName.isBlank()) return String.class;
+
+        Class<?> type = TYPES.get(typeName.toLowerCase(Locale.ROOT));
+        if (type == null) {
+            // class 이름으로 지정한 경우 (지원 type 만 허용)
+            type = TYPES.values().stream().filter(value -> value.getName().equals(typeName)).findFirst()
+                    .orElseThrow(() -> invalid(path, "invalid type : " + definition.getName() + " -> " + typeName));
+        }
+        return type;
+    }
+
+    private static CommonException invalid(String path, String message) {
+        return CommonException.builder().message("invalid layout(" + path + ") : " + message).build();
+    }
+
+    /**
+     * layout data field 의 FixedData 정보
+     */
+    private record DataSpec(int[] value, char padChar, boolean signed, PAD_TYPE padType) implements FixedData {
+        @Override
+        public int[] length() {
+            return new int[]{0};
+        }
+
+        @Override
+        public Class<? extends Annotation> annotationType() {
+            return FixedData.class;
+        }
+    }
+
+    /**
+     * layout list field 의 FixedList 정보
+     */
+    private record ListSpec(int size, String sizeRef) implements FixedList {
+        @Override
+        public Class<? extends Annotation> annotationType() {
+            return FixedList.class;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.common.utils;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+
+/**
+ * 고정 길이 숫자 field(int / long / BigDecimal) 를 문자열 없이 byte 에서 바로 변환.
+ * <pre>
+ *     decode : padding 제거, 공백 제거, 부호, 정수부 / 소수부를 byte 에서 바로 읽어 long / unscaled long 으로 변환한다.
+ *              기존 변환(String -> trim -> Long.parseLong / new BigDecimal)과 결과가 같은 경우만 처리하며,
+ *              그 외(ASCII 가 아닌 byte, 지수 표기, 18 자리 초과, 잘못된 값 등)는 NOT_PARSED 를 반환하여
+ *              기존 변환으로 처리(error 기록 포함)하도록 한다.
+ *     encode : 자리수를 계산하여 padding / 부호 / 숫자를 sink 에 바로 기록한다. (String.valueOf, toPlainString 미사용)
+ *
+ *     ASCII 호환 charset 이고 padding char 가 1 byte ASCII 문자인 field 에만 사용한다.
+ * </pre>
+ */
+final class NumericCodec {
+
+    /**
+     * byte 에서 바로 변환할 수 없는 경우의 반환 값
+     */
+    static final Object NOT_PARSED = new Object();
+
+    /**
+     * long 으로 변환 가능한 최대 자리수 (overflow 없이 계산)
+     */
+    private static final int MAX_DIGITS = 18;
+
+    private static final long[] POW10 = new long[MAX_DIGITS + 1];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
+
+    /**
+     * 숫자 field type
+     */
+    enum Kind {
+        INT, LONG, DECIMAL;
+
+        /**
+         * field type 의 숫자 종류 조회. 숫자 field 가 아니면 null
+         */
+        static Kind of(Class<?> type) {
+            if (type == int.class || type == Integer.class) return INT;
+            if (type == long.class || type == Long.class) return LONG;
+            if (type == BigDecimal.class) return DECIMAL;
+            return null;
+        }
+    }
+
+    private NumericCodec() {
+    }
+
+    /**
+     * byte 구간의 숫자를 field type 의 값으로 변환
+     *
+     * @param kind     field 숫자 종류
+     * @param src      원본 byte
+     * @param start    시작 위치
+     * @param end      끝 위치(exclusive)
+     * @param trim     padding char 제거 여부
+     * @param padByte  padding char (1 byte ASCII)
+     * @param padRight true : 오른쪽 padding, false : 왼쪽 padding
+     * @return Integer / Long / BigDecimal. 바로 변환할 수 없으면 NOT_PARSED
+     */
+    static Object parse(Kind kind, byte[] src, int start, int end, boolean trim, byte padByte, boolean padRight) {
+        // padding char 제거 (FieldPlan.trimPadding 과 같은 방향)
+        if (trim) {
+            if (padRight) {
+                while (end > start && src[end - 1] == padByte) end--;
+            } else {
+                while (start < end && src[start] == padByte) start++;
+            }
+        }
+        // 공백 제거 (String.trim 과 같은 범위, ASCII 가 아닌 byte 는 음수)
+        while (start < end && src[start] >= 0 && src[start] <= ' ') start++;
+        while (end > start && src[end - 1] >= 0 && src[end - 1] <= ' ') end--;
+
+        // 빈 값은 0 (FormatterUtils.getTypeValue 참조)
+        if (start == end) {
+            return kind == Kind.INT ? Integer.valueOf(0) : kind == Kind.LONG ? Long.valueOf(0) : BigDecimal.ZERO;
+        }
+
+        boolean negative = false;
+        byte sign = src[start];
+        if (sign == '-' || sign == '+') {
+            negative = sign == '-';
+            start++;
+        }
+
+        long unscaled = 0;
+        int digits = 0;
+        // 앞자리 0 을 제외한 자리수 (overflow 확인용)
+        int precision = 0;
+        int scale = -1;
+        for (int i = start; i < end; i++) {
+            byte b = src[i];
+            if (b >= '0' && b <= '9') {
+                unscaled = unscaled * 10 + (b - '0');
+                digits++;
+                if (unscaled != 0) precision++;
+                if (precision > MAX_DIGITS) return NOT_PARSED;
+                if (scale >= 0) scale++;
+            } else if (b == '.' && kind == Kind.DECIMAL && scale < 0 && i > start) {
+                scale = 0;
+            } else {
+                return NOT_PARSED;
+            }
+        }
+        if (digits == 0 || scale == 0) {
+            return NOT_PARSED;
+        }
+
+        long value = negative ? -unscaled : unscaled;
+        switch (kind) {
+            case INT:
+                if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) return NOT_PARSED;
+                return Integer.valueOf((int) value);
+            case LONG:
+                return Long.valueOf(value);
+            default:
+                return BigDecimal.valueOf(value, Math.max(scale, 0));
+        }
+    }
+
+    /**
+     * 정수의 문자열 길이 (부호 포함)
+     */
+    static int length(long value) {
+        return value < 0 ? digits(-value) + 1 : digits(value);
+    }
+
+    /**
+     * 0 이상 정수의 자리수
+     */
+    static int digits(long value) {
+        int count = 1;
+        while (count <= MAX_DIGITS && value >= POW10[count]) count++;
+        return count;
+    }
+
+    /**
+     * BigDecimal 을 unscaled long 으로 조회할 수 있는지 확인 (소수부 자리수 0 ~ 18, 18 자리 이하)
+     */
+    static boolean isCompact(BigDecimal value) {
+        return value.scale() >= 0 && value.scale() <= MAX_DIGITS && value.precision() <= MAX_DIGITS;
+    }
+
+    /**
+     * 10 의 거듭제곱 (0 ~ 18)
+     */
+    static long pow10(int exponent) {
+        return POW10[exponent];
+    }
+
+    /**
+     * 0 이상 정수를 자리수 만큼 byte 로 기록 (앞자리 0 포함)
+     *
+     * @param buffer 기록 대상
+     * @param value  기록할 값
+     * @param digits 기록할 자리수
+     */
+    static void putDigits(ByteBuffer buffer, long value, int digits) {
+        int position = buffer.position();
+        for (int i = position + digits - 1; i >= position; i--) {
+            buffer.put(i, (byte) ('0' + value % 10));
+            value /= 10;
+        }
+        buffer.position(position + digits);
+    }
+
+    /**
+     * 0 이상 정수를 자리수 만큼 문자로 기록 (앞자리 0 포함)
+     *
+     * @param sb     기록 대상
+     * @param value  기록할 값
+     * @param digits 기록할 자리수
+     */
+    static void appendDigits(StringBuilder sb, long value, int digits) {
+        for (int i = digits(value); i < digits; i++) sb.append('0');
+        sb.append(value);
+    }
+}
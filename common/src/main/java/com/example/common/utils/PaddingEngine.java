@@ -0,0 +1,314 @@
+package com.example.common.utils;
+
+import com.example.common.exception.CommonException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormatSymbols;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * FormatterUtils / StringUtils / FixedByteSink 에서 공통으로 사용하는 padding 처리.
+ * <pre>
+ *     - padding char 의 encode 결과는 (charset, padChar) 별로 한번만 계산한다. (전각 문자 등 multi byte 포함)
+ *     - byte 수 계산은 CharsetLength 를 사용한다. (encode 없이 문자 단위로 계산)
+ *     - 문자열 결과는 padding char 를 하나씩 append 하지 않고 결과 길이의 char 배열을 한번에 채운다.
+ *     - ByteBuffer 에는 pad byte pattern 을 block 단위로 기록한다.
+ *     - 숫자 padding 은 String.format 없이 자릿수를 결과 배열에 직접 기록한다.
+ * </pre>
+ */
+final class PaddingEngine {
+
+    private static final char SPACE = ' ';
+    // ByteBuffer 에 pad byte 를 한번에 기록할 block 크기
+    private static final int BLOCK_SIZE = 256;
+
+    private static final Map<PadKey, byte[]> PAD_BYTES = new ConcurrentHashMap<>();
+    // ASCII 범위를 1 byte 그대로 encode 하는 charset 여부 cache
+    private static final Map<Charset, Boolean> ASCII_COMPATIBLE = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    // 기본 locale 의 숫자 표기가 ASCII('0' ~ '9', '.') 인지 여부 (String.format 결과와 같게 하기 위함)
+    private static volatile NumberLocale numberLocale;
+
+    private PaddingEngine() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * padding char 를 charset 으로 encode 한 byte 조회. 반환한 배열은 변경하지 않아야 한다.
+     *
+     * @param padChar padding char
+     * @param charset 변환 시 사용할 charset
+     * @return encode 된 padding char
+     */
+    static byte[] padBytes(char padChar, Charset charset) {
+        return PAD_BYTES.computeIfAbsent(new PadKey(charset, padChar), key -> String.valueOf(padChar).getBytes(charset));
+    }
+
+    /**
+     * ASCII 문자열 여부
+     */
+    static boolean isAscii(CharSequence value) {
+        for (int i = 0, len = value.length(); i < len; i++) {
+            if (value.charAt(i) >= 0x80) return false;
+        }
+        return true;
+    }
+
+    /**
+     * ASCII 범위를 1 byte 그대로 encode 하는 charset 여부
+     */
+    static boolean isAsciiCompatible(Charset charset) {
+        return ASCII_COMPATIBLE.computeIfAbsent(charset, cs -> {
+            char[] chars = new char[0x80];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = (char) i;
+            }
+            String ascii = new String(chars);
+            return Arrays.equals(ascii.getBytes(StandardCharsets.US_ASCII), ascii.getBytes(cs));
+        });
+    }
+
+    /**
+     * FormatterUtils 고정 길이 padding. 결과 byte 수가 length 가 되도록 padding char 를 채운다.
+     * <pre>
+     *     padding char 가 남은 byte 에 맞지 않으면 (length - 1) 개의 space 로 보정한다. (기존 정책)
+     * </pre>
+     *
+     * @param value       대상 문자열
+     * @param length      결과 byte 수
+     * @param padChar     padding char
+     * @param padCharSize padding char 의 byte 수
+     * @param charset     변환 시 사용할 charset
+     * @param padRight    true : 오른쪽 padding, false : 왼쪽 padding
+     * @return padding 된 문자열
+     */
+    static String padFixed(String value, int length, char padChar, int padCharSize, Charset charset,
+                           boolean padRight) {
+        int size = CharsetLength.byteLength(value, charset);
+        if (size > length) {
+            throw CommonException.builder()
+                    .message(padRight ? "invalide fixed value(length error)" : "invalid fixed values(length error)")
+                    .build();
+        }
+
+        int remain = length - size;
+        int padCount = remain / padCharSize;
+        int correctionCount = remain % padCharSize == 0 ? 0 : length - 1;
+        return pad(value, padChar, padCount, correctionCount, padRight);
+    }
+
+    /**
+     * StringUtils padding. 결과 byte 수가 targetLength 이상이 될 때까지 padding char 를 채운다.
+     *
+     * @param value        대상 문자열
+     * @param valueLength  대상 문자열의 byte 수
+     * @param targetLength 결과 byte 수
+     * @param padChar      padding char
+     * @param charset      byte 수 계산에 사용할 charset
+     * @param padRight     true : 오른쪽 padding, false : 왼쪽 padding
+     * @return padding 된 문자열
+     */
+    static String padToLength(String value, int valueLength, int targetLength, char padChar, Charset charset,
+                              boolean padRight) {
+        int remain = targetLength - valueLength;
+        if (remain <= 0) return value;
+
+        int padCharSize = padBytes(padChar, charset).length;
+        return pad(value, padChar, (remain + padCharSize - 1) / padCharSize, 0, padRight);
+    }
+
+    private static String pad(String value, char padChar, int padCount, int spaceCount, boolean padRight) {
+        if (padCount == 0 && spaceCount == 0) return value;
+
+        int valueLength = value.length();
+        char[] chars = new char[valueLength + padCount + spaceCount];
+        if (padRight) {
+            value.getChars(0, valueLength, chars, 0);
+            Arrays.fill(chars, valueLength, valueLength + padCount, padChar);
+            Arrays.fill(chars, valueLength + padCount, chars.length, SPACE);
+        } else {
+            Arrays.fill(chars, 0, padCount, padChar);
+            Arrays.fill(chars, padCount, padCount + spaceCount, SPACE);
+            value.getChars(0, valueLength, chars, padCount + spaceCount);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * pattern 을 count 번 buffer 에 기록
+     *
+     * @param buffer  기록 대상 buffer (heap / direct)
+     * @param pattern encode 된 padding char
+     * @param count   반복 횟수
+     * @throws BufferOverflowException buffer 가 부족한 경우
+     */
+    static void fill(ByteBuffer buffer, byte[] pattern, int count) {
+        if (count <= 0) return;
+
+        int total = pattern.length * count;
+        if (buffer.remaining() < total) throw new BufferOverflowException();
+
+        if (pattern.length == 1 && buffer.hasArray()) {
+            int start = buffer.arrayOffset() + buffer.position();
+            Arrays.fill(buffer.array(), start, start + total, pattern[0]);
+            buffer.position(buffer.position() + total);
+            return;
+        }
+
+        byte[] block = SCRATCH.get().block(pattern, total);
+        int blockLength = Math.min(total, block.length - block.length % pattern.length);
+        while (total > 0) {
+            int length = Math.min(total, blockLength);
+            buffer.put(block, 0, length);
+            total -= length;
+        }
+    }
+
+    /**
+     * long 을 width 폭으로 오른쪽 정렬한 문자열 조회.
+     * String.format("%0{width}d" / "%{width}d") 결과와 같으며, 폭을 넘으면 overflowChar 로 채운다.
+     *
+     * @param value        대상 숫자
+     * @param width        출력 폭
+     * @param zeroPadding  true : '0', false : ' ' 로 padding
+     * @param overflowChar 폭을 넘는 경우 채울 문자
+     * @return 변환 결과
+     */
+    static String formatLong(long value, int width, boolean zeroPadding, char overflowChar) {
+        if (width <= 0) throw CommonException.builder().message("invalid width : " + width).build();
+        if (!getNumberLocale().asciiDigit) {
+            return overflow(String.format(zeroPadding ? "%0" + width + "d" : "%" + width + "d", value), width,
+                    overflowChar);
+        }
+
+        boolean negative = value < 0;
+        // Long.MIN_VALUE 를 처리하기 위해 음수로 계산
+        long remain = negative ? value : -value;
+        int digits = 1;
+        for (long v = remain / 10; v != 0; v /= 10) {
+            digits++;
+        }
+
+        int length = digits + (negative ? 1 : 0);
+        if (length > width) return overflow(width, overflowChar);
+
+        char[] chars = new char[width];
+        int start = layout(chars, width - digits, negative, zeroPadding);
+        for (int i = width - 1; i >= start; i--) {
+            chars[i] = (char) ('0' - (remain % 10));
+            remain /= 10;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * double 을 소수점 이하 fraction 자리로 반올림(HALF_UP)하여 width 폭으로 오른쪽 정렬한 문자열 조회.
+     * String.format("%0{width}.{fraction}f" / "%{width}.{fraction}f") 결과와 같으며, 폭을 넘으면 overflowChar 로 채운다.
+     *
+     * @param value        대상 숫자
+     * @param width        출력 폭
+     * @param fraction     소수점 이하 자리 수
+     * @param zeroPadding  true : '0', false : ' ' 로 padding
+     * @param overflowChar 폭을 넘는 경우 채울 문자
+     * @return 변환 결과
+     */
+    static String formatDouble(double value, int width, int fraction, boolean zeroPadding, char overflowChar) {
+        if (width <= 0 || fraction < 0) {
+            throw CommonException.builder().message("invalid width : " + width + ", fraction : " + fraction).build();
+        }
+        NumberLocale locale = getNumberLocale();
+        if (!Double.isFinite(value) || !locale.asciiDigit || !locale.dotSeparator) {
+            String format = zeroPadding ? "%0" + width + "." + fraction + "f" : "%" + width + "." + fraction + "f";
+            return overflow(String.format(format, value), width, overflowChar);
+        }
+
+        // String.format 과 같이 -0.0 및 0 으로 반올림되는 음수도 부호를 유지
+        boolean negative = Double.compare(value, 0.0) < 0;
+        String digits = BigDecimal.valueOf(Math.abs(value)).setScale(fraction, RoundingMode.HALF_UP).toPlainString();
+
+        int length = digits.length() + (negative ? 1 : 0);
+        if (length > width) return overflow(width, overflowChar);
+
+        char[] chars = new char[width];
+        int start = layout(chars, width - digits.length(), negative, zeroPadding);
+        digits.getChars(0, digits.length(), chars, start);
+        return new String(chars);
+    }
+
+    /**
+     * 숫자 앞의 부호 / padding 기록 후 숫자 시작 위치 반환
+     */
+    private static int layout(char[] chars, int start, boolean negative, boolean zeroPadding) {
+        if (zeroPadding) {
+            int offset = 0;
+            if (negative) chars[offset++] = '-';
+            Arrays.fill(chars, offset, start, '0');
+        } else {
+            Arrays.fill(chars, 0, start, SPACE);
+            if (negative) chars[start - 1] = '-';
+        }
+        return start;
+    }
+
+    private static String overflow(String value, int width, char overflowChar) {
+        return value.length() > width ? overflow(width, overflowChar) : value;
+    }
+
+    private static String overflow(int width, char overflowChar) {
+        char[] chars = new char[width];
+        Arrays.fill(chars, overflowChar);
+        return new String(chars);
+    }
+
+    private static NumberLocale getNumberLocale() {
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        NumberLocale current = numberLocale;
+        if (current == null || !current.locale.equals(locale)) {
+            DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+            current = new NumberLocale(locale, symbols.getZeroDigit() == '0', symbols.getDecimalSeparator() == '.');
+            numberLocale = current;
+        }
+        return current;
+    }
+
+    private record PadKey(Charset charset, char padChar) {
+    }
+
+    private record NumberLocale(Locale locale, boolean asciiDigit, boolean dotSeparator) {
+    }
+
+    /**
+     * thread 별로 재사용하는 pad byte block
+     */
+    private static final class Scratch {
+        private final byte[] block = new byte[BLOCK_SIZE];
+
+        // block 에 채워진 pattern (같은 pattern 이면 다시 채우지 않음)
+        private byte[] blockPattern;
+
+        byte[] block(byte[] pattern, int total) {
+            if (blockPattern != pattern) {
+                int length = block.length - block.length % pattern.length;
+                if (pattern.length == 1) {
+                    Arrays.fill(block, 0, length, pattern[0]);
+                } else {
+                    for (int i = 0; i < length; i += pattern.length) {
+                        System.arraycopy(pattern, 0, block, i, pattern.length);
+                    }
+                }
+                blockPattern = pattern;
+            }
+            return block;
+        }
+    }
+}
@@ -7,6 +7,8 @@ import org.apache.commons.codec.binary.Hex;
 
 import java.io.UnsupportedEncodingException;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
 import java.text.SimpleDateFormat;
@@ -624,6 +626,311 @@ public class StringUtils {
         return false;
     }
 
+    /*
+     * 전문 field 검증용 byte[] / ByteBuffer 함수.
+     * 문자열로 변환하지 않고 ASCII byte 를 8 byte 단위로 검사한다. (ByteScanner)
+     * ASCII 가 아닌 byte(한글 등)는 숫자 / 알파벳 / 공백에 포함되지 않는다.
+     */
+    /**
+     * byte 배열의 구간(offset, length)이 숫자('0' ~ '9')로만 구성되어 있는지 검사한다.
+     * <pre>
+     * example>
+     *      byte[] src = "123a456".getBytes();
+     *      StringUtils.isDigit(src, 0, 3)
+     *      result : true
+     * </pre>
+     *
+     * @param src    검사할 byte 배열
+     * @param offset 검사 시작 위치
+     * @param length 검사할 byte 수
+     * @return 검사결과 리턴 (빈 구간은 false)
+     */
+    public static boolean isDigit(byte[] src, int offset, int length) {
+        if (src == null || length < 1) return false;
+        return ByteScanner.allMatch(ByteScanner.DIGIT, src, offset, length);
+    }
+
+    /**
+     * ByteBuffer 의 position 부터 limit 까지가 숫자('0' ~ '9')로만 구성되어 있는지 검사한다. position 은 변경하지 않는다.
+     *
+     * @param buffer 검사할 buffer
+     * @return 검사결과 리턴 (빈 구간은 false)
+     */
+    public static boolean isDigit(ByteBuffer buffer) {
+        if (buffer == null || buffer.remaining() < 1) return false;
+        return ByteScanner.allMatch(ByteScanner.DIGIT, buffer);
+    }
+
+    /**
+     * byte 배열의 구간(offset, length)에 숫자('0' ~ '9')가 포함되어 있는지 검사한다.
+     * <pre>
+     * example>
+     *      byte[] src = "abc1def".getBytes();
+     *      StringUtils.hasDigit(src, 0, 7)
+     *      result : true
+     * </pre>
+     *
+     * @param src    검사할 byte 배열
+     * @param offset 검사 시작 위치
+     * @param length 검사할 byte 수
+     * @return 검사결과 리턴 (빈 구간은 false)
+     */
+    public static boolean hasDigit(byte[] src, int offset, int length) {
+        if (src == null) return false;
+        return ByteScanner.anyMatch(ByteScanner.DIGIT, src, offset, length);
+    }
+
+    /**
+     * ByteBuffer 의 position 부터 limit 까지에 숫자('0' ~ '9')가 포함되어 있는지 검사한다. position 은 변경하지 않는다.
+     *
+     * @param buffer 검사할 buffer
+     * @return 검사결과 리턴 (빈 구간은 false)
+     */
+    public static boolean hasDigit(ByteBuffer buffer) {
+        if (buffer == null) return false;
+        return ByteScanner.anyMatch(ByteScanner.DIGIT, buffer);
+    }
+
+    /**
+     * byte 배열의 구간(offset, length)이 알파벳(a-z, A-Z)으로만 구성되어 있는지 검사한다.
+     * <pre>
+     * example>
+     *      byte[] src = "abc1def".getBytes();
+     *      StringUtils.isAlpha(src, 0, 3)
+     *      result : true
+     * </pre>
+     *
+     * @param src    검사할 byte 배열
+     * @param offset 검사 시작 위치
+     * @param length 검사할 byte 수
+     * @return 검사결과 리턴 (빈 구간은 false)
+     */
+    public static boolean isAlpha(byte[] src, int offset, int length) {
+        if (src == null || length < 1) return false;
+        return ByteScanner.allMatch(ByteScanner.ALPHA, src, offset, length);
+    }
+
+    /**
+     * ByteBuffer 의 position 부터 limit 까지가 알파벳(a-z, A-Z)으로만 구성되어 있는지 검사한다. position 은 변경하지 않는다.
+     *
+     * @param buffer 검사할 buffer
+     * @return 검사결과 리턴 (빈 구간은 false)
+     */
+    public static boolean isAlpha(ByteBuffer buffer) {
+        if (buffer == null || buffer.remaining() < 1) return false;
+        return ByteScanner.allMatch(ByteScanner.ALPHA, buffer);
+    }
+
+    /**
+     * byte 배열의 구간(offset, length)이 알파벳 또는 숫자로만 구성되어 있는지 검사한다.
+     * <pre>
+     * example>
+     *      byte[] src = "abc1#def".getBytes();
+     *      StringUtils.isDigitAlpha(src, 0, 4)
+     *      result : true
+     * </pre>
+     *
+     * @param src    검사할 byte 배열
+     * @param offset 검사 시작 위치
+     * @param length 검사할 byte 수
+     * @return 검사결과 리턴 (빈 구간은 false)
+     */
+    public static boolean isDigitAlpha(byte[] src, int offset, int length) {
+        if (src == null || length < 1) return false;
+        return ByteScanner.allMatch(ByteScanner.DIGIT_ALPHA, src, offset, length);
+    }
+
+    /**
+     * ByteBuffer 의 position 부터 limit 까지가 알파벳 또는 숫자로만 구성되어 있는지 검사한다. position 은 변경하지 않는다.
+     *
+     * @param buffer 검사할 buffer
+     * @return 검사결과 리턴 (빈 구간은 false)
+     */
+    public static boolean isDigitAlpha(ByteBuffer buffer) {
+        if (buffer == null || buffer.remaining() < 1) return false;
+        return ByteScanner.allMatch(ByteScanner.DIGIT_ALPHA, buffer);
+    }
+
+    /**
+     * byte 배열의 구간(offset, length)에 대문자(A-Z)가 없는지(소문자인지) 검사한다.
+     * <pre>
+     * example>
+     *      byte[] src = "abcDef".getBytes();
+     *      StringUtils.isLowerCase(src, 0, 6)
+     *      result : false
+     * </pre>
+     *
+     * @param src    검사할 byte 배열
+     * @param offset 검사 시작 위치
+     * @param length 검사할 byte 수
+     * @return 검사결과 리턴 (빈 구간은 false)
+     */
+    public static boolean isLowerCase(byte[] src, int offset, int length) {
+        if (src == null || length < 1) return false;
+        return !ByteScanner.anyMatch(ByteScanner.UPPER, src, offset, length);
+    }
+
+    /**
+     * ByteBuffer 의 position 부터 limit 까지에 대문자(A-Z)가 없는지(소문자인지) 검사한다. position 은 변경하지 않는다.
+     *
+     * @param buffer 검사할 buffer
+     * @return 검사결과 리턴 (빈 구간은 false)
+     */
+    public static boolean isLowerCase(ByteBuffer buffer) {
+        if (buffer == null || buffer.remaining() < 1) return false;
+        return !ByteScanner.anyMatch(ByteScanner.UPPER, buffer);
+    }
+
+    /**
+     * byte 배열의 구간(offset, length)에 소문자(a-z)가 없는지(대문자인지) 검사한다.
+     * <pre>
+     * example>
+     *      byte[] src = "ABCdEF".getBytes();
+     *      StringUtils.isUpperCase(src, 0, 3)
+     *      result : true
+     * </pre>
+     *
+     * @param src    검사할 byte 배열
+     * @param offset 검사 시작 위치
+     * @param length 검사할 byte 수
+     * @return 검사결과 리턴 (빈 구간은 false)
+     */
+    public static boolean isUpperCase(byte[] src, int offset, int length) {
+        if (src == null || length < 1) return false;
+        return !ByteScanner.anyMatch(ByteScanner.LOWER, src, offset, length);
+    }
+
+    /**
+     * ByteBuffer 의 position 부터 limit 까지에 소문자(a-z)가 없는지(대문자인지) 검사한다. position 은 변경하지 않는다.
+     *
+     * @param buffer 검사할 buffer
+     * @return 검사결과 리턴 (빈 구간은 false)
+     */
+    public static boolean isUpperCase(ByteBuffer buffer) {
+        if (buffer == null || buffer.remaining() < 1) return false;
+        return !ByteScanner.anyMatch(ByteScanner.LOWER, buffer);
+    }
+
+    /**
+     * byte 배열의 구간(offset, length)에 공백 문자(' ', '\t', '\n', '\r')가 포함되어 있는지 검사한다.
+     * <pre>
+     * example>
+     *      byte[] src = "abc 12345".getBytes();
+     *      StringUtils.isSpace(src, 0, 9)
+     *      result : true
+     * </pre>
+     *
+     * @param src    검사할 byte 배열
+     * @param offset 검사 시작 위치
+     * @param length 검사할 byte 수
+     * @return 검사결과 리턴 (빈 구간은 false)
+     */
+    public static boolean isSpace(byte[] src, int offset, int length) {
+        if (src == null) return false;
+        return ByteScanner.anyMatch(ByteScanner.WHITESPACE, src, offset, length);
+    }
+
+    /**
+     * ByteBuffer 의 position 부터 limit 까지에 공백 문자(' ', '\t', '\n', '\r')가 포함되어 있는지 검사한다. position 은 변경하지 않는다.
+     *
+     * @param buffer 검사할 buffer
+     * @return 검사결과 리턴 (빈 구간은 false)
+     */
+    public static boolean isSpace(ByteBuffer buffer) {
+        if (buffer == null) return false;
+        return ByteScanner.anyMatch(ByteScanner.WHITESPACE, buffer);
+    }
+
+    /**
+     * byte 배열의 구간(offset, length)이 공백문자(' ')로만 구성되어 있는지 확인한다.
+     * <pre>
+     * example>
+     *      byte[] src = "     12345".getBytes();
+     *      StringUtils.isAllSpace(src, 0, 5)
+     *      result : true
+     * </pre>
+     *
+     * @param src    검사할 byte 배열
+     * @param offset 검사 시작 위치
+     * @param length 검사할 byte 수
+     * @return 검사결과 리턴 (빈 구간은 true)
+     */
+    public static boolean isAllSpace(byte[] src, int offset, int length) {
+        if (src == null) return false;
+        return ByteScanner.allMatch(ByteScanner.SPACE, src, offset, length);
+    }
+
+    /**
+     * ByteBuffer 의 position 부터 limit 까지가 공백문자(' ')로만 구성되어 있는지 확인한다. position 은 변경하지 않는다.
+     *
+     * @param buffer 검사할 buffer
+     * @return 검사결과 리턴 (빈 구간은 true)
+     */
+    public static boolean isAllSpace(ByteBuffer buffer) {
+        if (buffer == null) return false;
+        return ByteScanner.allMatch(ByteScanner.SPACE, buffer);
+    }
+
+    /**
+     * byte 배열의 구간(offset, length)이 '0'으로만 구성되어 있는지 확인한다.
+     * <pre>
+     * example>
+     *      byte[] src = "0000 0000".getBytes();
+     *      StringUtils.isAllZero(src, 0, 5)
+     *      result : false
+     * </pre>
+     *
+     * @param src    검사할 byte 배열
+     * @param offset 검사 시작 위치
+     * @param length 검사할 byte 수
+     * @return 검사결과 리턴 (빈 구간은 true)
+     */
+    public static boolean isAllZero(byte[] src, int offset, int length) {
+        if (src == null) return false;
+        return ByteScanner.allMatch(ByteScanner.ZERO, src, offset, length);
+    }
+
+    /**
+     * ByteBuffer 의 position 부터 limit 까지가 '0'으로만 구성되어 있는지 확인한다. position 은 변경하지 않는다.
+     *
+     * @param buffer 검사할 buffer
+     * @return 검사결과 리턴 (빈 구간은 true)
+     */
+    public static boolean isAllZero(ByteBuffer buffer) {
+        if (buffer == null) return false;
+        return ByteScanner.allMatch(ByteScanner.ZERO, buffer);
+    }
+
+    /**
+     * byte 배열의 구간(offset, length)이 16진수문자(0-9, A-F, a-f)로만 구성되어 있는지 확인한다.
+     * <pre>
+     * example>
+     *      byte[] src = "16afeg567".getBytes();
+     *      StringUtils.isHexNumStr(src, 0, 4)
+     *      result : true
+     * </pre>
+     *
+     * @param src    검사할 byte 배열
+     * @param offset 검사 시작 위치
+     * @param length 검사할 byte 수
+     * @return 검사결과 리턴 (빈 구간은 true)
+     */
+    public static boolean isHexNumStr(byte[] src, int offset, int length) {
+        if (src == null) return false;
+        return ByteScanner.allMatch(ByteScanner.HEX, src, offset, length);
+    }
+
+    /**
+     * ByteBuffer 의 position 부터 limit 까지가 16진수문자(0-9, A-F, a-f)로만 구성되어 있는지 확인한다. position 은 변경하지 않는다.
+     *
+     * @param buffer 검사할 buffer
+     * @return 검사결과 리턴 (빈 구간은 true)
+     */
+    public static boolean isHexNumStr(ByteBuffer buffer) {
+        if (buffer == null) return false;
+        return ByteScanner.allMatch(ByteScanner.HEX, buffer);
+    }
+
     /**
      * 변환 대상 문자열(inputStr)의 대문자를 소문자로 변환
      * <pre>
@@ -1157,47 +1464,13 @@ public class StringUtils {
      * @return 패딩 변경된 문장
      */
     public static String stringPadding(int num, String srcStr, int padDir, char word) {
-        final int PADDING_LEFT = 0;
-        final int PADDING_RIGHT = 1;
+        if (padDir != 0 && padDir != 1)
+            throw CommonException.builder().message("패딩구분코드를 확인하십시오").build();
 
         try {
-            String rtVal = "";
-            if (padDir != 0 && padDir != 1)
-                throw CommonException.builder().message("패딩구분코드를 확인하십시오").build();
-
-            StringBuilder builder = new StringBuilder(srcStr);
-            if (padDir == 0) builder.reverse();
-
-            while (builder.toString().getBytes().length < num) {
-                builder.append(word);
-            }
-
-            if (padDir == 0) rtVal = builder.reverse().toString();
-            else rtVal = builder.toString();
-
-//            // 필요한 padding 문자 수 계산
-//            // 단 word가 1바이트라고 가정
-//            int srcStrByteLen = srcStr.getBytes(StandardCharsets.UTF_8).length;
-//            int paddingCnt = num - srcStrByteLen;
-//            // srcStr이 더 클경우 srcStr 반환
-//            if (paddingCnt <= 0) return srcStr;
-//
-//            if (padDir == PADDING_LEFT){
-//                for (int i = 0; i < paddingCnt; i++) {
-//                    builder.append(word);
-//                }
-//                builder.append(srcStr);
-//            }else {
-//                builder.append(srcStr);
-//                for (int i = 0; i < paddingCnt; i++) {
-//                    builder.append(word);
-//                }
-//            }
-//            rtVal = builder.toString();
-
-            return rtVal;
-        } catch (CommonException ex) {
-            throw ex;
+            Charset charset = Charset.defaultCharset();
+            return PaddingEngine.padToLength(srcStr, CharsetLength.byteLength(srcStr, charset), num, word, charset,
+                    padDir == 1);
         } catch (RuntimeException ex) {
             throw CommonException.builder().message(ex.getMessage()).cause(ex).build();
         }
@@ -1969,7 +2242,7 @@ public class StringUtils {
 
         try {
             if (pStr != null && !pStr.isEmpty()) {
-                len = pStr.getBytes(StandardCharsets.UTF_8).length;
+                len = CharsetLength.byteLength(pStr, StandardCharsets.UTF_8);
             }
         } catch (RuntimeException ex) {
             throw CommonException.builder().message(ex.getMessage()).cause(ex).build();
@@ -2023,7 +2296,7 @@ public class StringUtils {
         boolean lenChk = true;
         try {
             if (pStr != null && !pStr.isEmpty()) {
-                len = pStr.getBytes(StandardCharsets.UTF_8).length;
+                len = CharsetLength.byteLength(pStr, StandardCharsets.UTF_8);
             }
 
             if (len > chkLen) {
@@ -2054,7 +2327,7 @@ public class StringUtils {
 
         try {
             if (pStr != null && !pStr.isEmpty()) {
-                len = pStr.getBytes(StandardCharsets.UTF_8).length;
+                len = CharsetLength.byteLength(pStr, StandardCharsets.UTF_8);
             }
 
             if (len > chkLen) {
@@ -2085,28 +2358,19 @@ public class StringUtils {
      * @return 변환 후 리턴
      */
     public static String getEucKrPadding(int iMaxLen, String srcStr, int gbn, char wrd) {
-        String rv = "";
-        String sTmp = "";
-        int byteLen = 0;
-
         if (srcStr == null || srcStr.isEmpty()) {
-            rv = StringUtils.stringPadding(iMaxLen, "", gbn, wrd);
-        } else {
-            for (int i = 0; i < srcStr.length(); i++) {
-                sTmp = srcStr.substring(i, i + 1);
-
-                if (isInclude3Byte(sTmp)) {
-                    byteLen += 2;
-                } else {
-                    byteLen++;
-                }
-            }
+            return StringUtils.stringPadding(iMaxLen, "", gbn, wrd);
+        }
 
-            int incre = iMaxLen - byteLen;
-            rv = StringUtils.stringPadding(srcStr.getBytes().length + incre, srcStr, gbn, wrd);
+        // 1byte 를 넘는 문자는 2byte 로 계산 (isInclude3Byte 기준)
+        Charset charset = Charset.defaultCharset();
+        int byteLen = 0;
+        for (int i = 0; i < srcStr.length(); i++) {
+            byteLen += CharsetLength.charLength(srcStr.charAt(i), charset) > 1 ? 2 : 1;
         }
 
-        return rv;
+        int incre = iMaxLen - byteLen;
+        return StringUtils.stringPadding(CharsetLength.byteLength(srcStr, charset) + incre, srcStr, gbn, wrd);
     }
 
     /**
@@ -2121,8 +2385,9 @@ public class StringUtils {
      * @return 3byte 문자 여부 리턴
      */
     public static boolean isInclude3Byte(String input) {
+        Charset charset = Charset.defaultCharset();
         for (int k = 0; k < input.length(); k++) {
-            if (input.substring(k, k + 1).getBytes().length > 1) {
+            if (CharsetLength.charLength(input.charAt(k), charset) > 1) {
                 return true;
             }
         }
@@ -2150,30 +2415,22 @@ public class StringUtils {
             return new String[0];
         }
 
-        String sCngData = srcStr;
-        String sTmp = "";
-        int byteLen = 0;
+        // 1byte 를 넘는 문자는 2byte 로 계산 (isInclude3Byte 기준)
+        Charset charset = Charset.defaultCharset();
+        int start = 0;
         String[] rv = new String[iMaxLen.length];
 
         for (int i = 0; i < iMaxLen.length; i++) {
 
-            byteLen = 0;
-            StringBuilder sTmpRv = new StringBuilder();
-            for (int j = 0; j < sCngData.length(); j++) {
-                sTmpRv.append(sCngData.substring(j, j + 1));
-                sTmp = sCngData.substring(j, j + 1);
-
-                if (sTmp.getBytes().length > 1) {
-                    byteLen += 2;
-                } else {
-                    byteLen++;
-                }
+            int byteLen = 0;
+            for (int j = start; j < srcStr.length(); j++) {
+                byteLen += CharsetLength.charLength(srcStr.charAt(j), charset) > 1 ? 2 : 1;
 
                 if (iMaxLen[i] > byteLen) {
                     continue;
                 } else if (iMaxLen[i] == byteLen) {
-                    rv[i] = sTmpRv.toString();
-                    sCngData = sCngData.substring(j + 1);
+                    rv[i] = srcStr.substring(start, j + 1);
+                    start = j + 1;
                     break;
                 } else {
                     throw CommonException.builder().message("입력된 배열의 값을 확인하십시오.").build();
@@ -2184,6 +2441,37 @@ public class StringUtils {
         return rv;
     }
 
+    /**
+     * 문자열을 encoding 기준 최대 byte 길이로 자른다.
+     * 문자(한글, 보조 문자)를 중간에서 자르지 않으므로 결과의 byte 길이는 nMaxLen 보다 작을 수 있다.
+     * <pre>
+     * example>
+     *      StringUtils.getByteCut("test한글", 7, "EUC-KR")
+     *      result : test한
+     * </pre>
+     *
+     * @param srcStr   자를 문자열
+     * @param nMaxLen  최대 byte 길이
+     * @param encoding byte 길이 계산에 사용할 encoding
+     * @return 잘린 문자열
+     */
+    public static String getByteCut(String srcStr, int nMaxLen, String encoding) {
+        if (srcStr == null || srcStr.isEmpty()) {
+            return srcStr;
+        }
+        if (nMaxLen < 0) {
+            throw CommonException.builder().message("최대 길이를 확인하십시오.").build();
+        }
+
+        Charset charset;
+        try {
+            charset = Charset.forName(encoding);
+        } catch (IllegalArgumentException ex) {
+            throw CommonException.builder().message(ex.getMessage()).cause(ex).build();
+        }
+        return srcStr.substring(0, CharsetLength.cutIndex(srcStr, 0, nMaxLen, charset));
+    }
+
     /**
      * 정규표현식을 이용해서 천단위 콤마 찍기
      * <pre>
@@ -2543,22 +2831,9 @@ public class StringUtils {
      */
     public static String longToStrWithPadding(long lSrc, int nLen, boolean zeroPadding) {
         try {
-            String resStr = null;
-            if (zeroPadding) {
-                resStr = String.format("%0" + nLen + "d", lSrc);
-            } else {
-                resStr = String.format("%" + nLen + "d", lSrc);
-            }
-
-            char[] ch = new char[nLen];
-            if (resStr.length() > nLen) {
-                Arrays.fill(ch, OVERFLOW_CHAR);
-                StringBuilder sb = new StringBuilder(nLen);
-                sb.append(ch);
-                return sb.toString();
-            }
-
-            return resStr;
+            return PaddingEngine.formatLong(lSrc, nLen, zeroPadding, OVERFLOW_CHAR);
+        } catch (CommonException ex) {
+            throw ex;
         } catch (RuntimeException ex) {
             throw CommonException.builder().message(ex.getMessage()).cause(ex).build();
         }
@@ -2582,22 +2857,9 @@ public class StringUtils {
      */
     public static String doubleToStrWithPadding(double dValue, int nLen, int nFract, boolean zeroPadding) {
         try {
-            String resStr = null;
-            if (zeroPadding) {
-                resStr = String.format("%0" + nLen + "." + nFract + "f", dValue);
-            } else {
-                resStr = String.format("%" + nLen + "." + nFract + "f", dValue);
-            }
-
-            char[] ch = new char[nLen];
-            if (resStr.length() > nLen) {
-                Arrays.fill(ch, OVERFLOW_CHAR);
-                StringBuilder sb = new StringBuilder(nLen);
-                sb.append(ch);
-                return sb.toString();
-            }
-
-            return resStr;
+            return PaddingEngine.formatDouble(dValue, nLen, nFract, zeroPadding, OVERFLOW_CHAR);
+        } catch (CommonException ex) {
+            throw ex;
         } catch (RuntimeException ex) {
             throw CommonException.builder().message(ex.getMessage()).cause(ex).build();
         }
@@ -0,0 +1,13 @@
+package com.example.common.model;
+
+import java.math.BigDecimal;
+
+import com.example.common.internal.annotations.FixedData;
+
+public record FixedAmountRecord(
+        @FixedData(length = 4)
+        String code,
+
+        @FixedData(length = {8, 2}, padChar = '0')
+        BigDecimal amount) {
+}
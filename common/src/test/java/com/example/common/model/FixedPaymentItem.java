@@ -0,0 +1,16 @@
+package com.example.common.model;
+
+import com.example.common.internal.annotations.FixedData;
+import com.example.common.internal.annotations.FixedData.PAD_TYPE;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class FixedPaymentItem {
+    @FixedData(length = 3, padChar = '0')
+    int seq;
+
+    @FixedData(length = 5, padType = PAD_TYPE.RIGHT)
+    String memo;
+}
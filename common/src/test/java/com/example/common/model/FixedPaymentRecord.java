@@ -0,0 +1,25 @@
+package com.example.common.model;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.example.common.internal.annotations.FixedData;
+import com.example.common.internal.annotations.FixedList;
+import com.example.common.internal.annotations.FixedVo;
+
+public record FixedPaymentRecord(
+        @FixedData(length = 4)
+        String msgCode,
+
+        @FixedData(length = {8, 2}, padChar = '0', signed = true)
+        BigDecimal amount,
+
+        @FixedVo
+        InnerMessage inner,
+
+        @FixedData(length = 2, padChar = '0')
+        int count,
+
+        @FixedList(sizeRef = "count")
+        List<FixedPaymentItem> items) {
+}
@@ -0,0 +1,135 @@
+package com.example.common.utils;
+
+import com.example.common.exception.CommonException;
+import com.example.common.model.BusinessCalendarDefinition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BusinessCalendarTest {
+
+    private static final String KRX_2024 = """
+            { "name": "KRX", "fromYear": 2023, "toYear": 2025,
+              "holidays": [ "20240101", "20240209", "20240212", "20240301", "20240410", "20240501",
+                "20240506", "20240515", "20240606", "20240815", "20240916", "20240917",
+                "20240918", "20241001", "20241003", "20241009", "20241225", "20241231" ] }""";
+
+    private static String krx(String... extraHolidays) {
+        StringBuilder holidays = new StringBuilder();
+        for (String holiday : extraHolidays) holidays.append(", \"").append(holiday).append('"');
+        return KRX_2024.replace(" ] }", holidays + " ] }");
+    }
+
+    /**
+     * 영업일 계산 결과가 하루씩 확인한 결과와 같은지 확인한다.
+     */
+    @Test
+    void businessDayTest() {
+        Set<LocalDate> holidays = new HashSet<>();
+        List<String> holidayList = new ArrayList<>();
+        Random random = new Random(3L);
+        for (int i = 0; i < 300; i++) {
+            LocalDate holiday = LocalDate.of(1999, 1, 1).plusDays(random.nextInt(365 * 4 + 1));
+            holidays.add(holiday);
+            holidayList.add(toString(holiday));
+        }
+        BusinessCalendar calendar = BusinessCalendar.compile(BusinessCalendarDefinition.builder()
+                .name("TEST").fromYear(1999).toYear(2002).weekends(List.of("FRIDAY", "saturday"))
+                .holidays(holidayList).build());
+
+        // 하루씩 계산한 영업일 목록
+        List<LocalDate> businessDays = new ArrayList<>();
+        for (LocalDate date = LocalDate.of(1999, 1, 1); date.getYear() <= 2002; date = date.plusDays(1)) {
+            boolean business = !holidays.contains(date) && date.getDayOfWeek() != DayOfWeek.FRIDAY
+                    && date.getDayOfWeek() != DayOfWeek.SATURDAY;
+            assertEquals(business, calendar.isBusinessDay(toInt(date)), date.toString());
+            if (business) businessDays.add(date);
+        }
+
+        for (int i = 0; i < 2000; i++) {
+            LocalDate start = LocalDate.of(1999, 1, 1).plusDays(random.nextInt(365 * 4 + 1));
+            LocalDate end = LocalDate.of(1999, 1, 1).plusDays(random.nextInt(365 * 4 + 1));
+            long expected = businessDays.stream().filter(d -> d.isAfter(start) && !d.isAfter(end)).count()
+                    - businessDays.stream().filter(d -> d.isAfter(end) && !d.isAfter(start)).count();
+            assertEquals(expected, calendar.getBusinessDaysBetween(toInt(start), toInt(end)), start + " " + end);
+
+            int days = random.nextInt(41) - 20;
+            int index = Collections.binarySearch(businessDays, start);
+            int target = days > 0 ? (index >= 0 ? index : -index - 1 - 1) + days
+                    : days < 0 ? (index >= 0 ? index : -index - 1) + days : -1;
+            if (days == 0) {
+                assertEquals(toInt(start), calendar.addBusinessDays(toInt(start), 0));
+            } else if (target >= 0 && target < businessDays.size()) {
+                int result = calendar.addBusinessDays(toInt(start), days);
+                assertEquals(toInt(businessDays.get(target)), result, start + " " + days);
+                // 기준일이 영업일이 아니면 이전 영업일 계산은 기준일을 세지 않으므로 역산 결과가 1 작다.
+                if (days > 0 || calendar.isBusinessDay(toInt(start))) {
+                    assertEquals(days, calendar.getBusinessDaysBetween(toInt(start), result), start + " " + days);
+                }
+            } else {
+                assertThrows(CommonException.class, () -> calendar.addBusinessDays(toInt(start), days));
+            }
+        }
+    }
+
+    /**
+     * 파일의 calendar 를 load 하고, 파일 변경 후 reload 하면 calendar 가 교체된다.
+     */
+    @Test
+    void registryReloadTest(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("krx.json");
+        Files.writeString(file, krx());
+
+        BusinessCalendarRegistry registry = new BusinessCalendarRegistry();
+        assertEquals(1, registry.load(dir));
+        BusinessCalendar krx = registry.get("KRX");
+
+        assertFalse(krx.isBusinessDay("20240209"));
+        assertEquals(20240213, krx.nextBusinessDay(20240208));
+        assertEquals(20240208, krx.previousBusinessDay(20240213));
+        assertEquals("20240213", krx.addBusinessDays("20240208", 1));
+        assertEquals(1, krx.getBusinessDaysBetween("20240208", "20240213"));
+        // 20241231 연말 휴장일 (2025 년 휴일은 정의하지 않음)
+        assertEquals(20250101, krx.addBusinessDays(20241227, 2));
+        assertThrows(CommonException.class, () -> krx.isBusinessDay(20260102));
+        assertThrows(CommonException.class, () -> krx.isBusinessDay("2024-02-09"));
+
+        // 임시 공휴일 추가
+        Files.writeString(file, krx("20240213"));
+        assertEquals(1, registry.reload());
+        assertEquals(20240214, registry.get("KRX").nextBusinessDay(20240208));
+        assertEquals(20240213, krx.nextBusinessDay(20240208));
+
+        // 잘못된 파일은 기존 calendar 유지
+        Files.writeString(file, krx("20241332"));
+        assertEquals(0, registry.reload());
+        assertEquals(20240214, registry.get("KRX").nextBusinessDay(20240208));
+
+        // 다른 파일로 옮긴 calendar 는 이전 파일을 삭제해도 유지
+        Path market = dir.resolve("market.json");
+        Files.writeString(market, krx("20240213"));
+        registry.reload();
+        Files.delete(file);
+        registry.reload();
+        assertEquals(20240214, registry.get("KRX").nextBusinessDay(20240208));
+
+        Files.delete(market);
+        registry.reload();
+        assertFalse(registry.contains("KRX"));
+    }
+
+    private static int toInt(LocalDate date) {
+        return date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
+    private static String toString(LocalDate date) {
+        return String.valueOf(toInt(date));
+    }
+}
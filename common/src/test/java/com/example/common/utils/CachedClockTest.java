@@ -0,0 +1,134 @@
+package com.example.common.utils;
+
+import com.example.common.exception.CommonException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachedClockTest {
+
+    private static final DateTimeFormatter MICRO = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSSSSS");
+
+    /**
+     * 시험용 clock. 지정한 시각을 반환한다.
+     */
+    private static final class ManualClock extends Clock {
+        private final ZoneId zone;
+        private Instant instant;
+
+        ManualClock(Instant instant, ZoneId zone) {
+            this.instant = instant;
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new ManualClock(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    /**
+     * 초 / 일 / 연 변경, 일광 절약 시간 변경 시점을 지나며 cache 된 문자열이 DateTimeFormatter 결과와 같은지 확인한다.
+     */
+    @Test
+    void tickTest() {
+        String[][] cases = {
+                {"Asia/Seoul", "2023-12-31T14:59:58.990Z"},          // 연 변경
+                {"America/New_York", "2024-03-10T06:59:59.500Z"},    // 02:00 -> 03:00
+                {"America/New_York", "2024-11-03T05:59:59.500Z"},    // 02:00 -> 01:00
+                {"UTC", "1969-12-31T23:59:59.000Z"},                 // epoch 이전
+        };
+        for (String[] c : cases) {
+            ZoneId zone = ZoneId.of(c[0]);
+            ManualClock manual = new ManualClock(Instant.parse(c[1]), zone);
+            CachedClock clock = CachedClock.of(manual);
+
+            byte[] buffer = new byte[24];
+            for (int i = 0; i < 3000; i++) {
+                // 1ms ~ 1.6s 씩 증가 (microsecond 포함)
+                manual.instant = manual.instant.plusNanos((i % 7 == 0 ? 1_600_000_000L : 1_000_000L) + i % 3 * 1000);
+                String expected = ZonedDateTime.ofInstant(manual.instant, zone).format(MICRO);
+                String message = c[0] + " " + manual.instant;
+
+                assertEquals(expected.substring(0, 8), clock.date(), message);
+                assertEquals(expected.substring(8, 14), clock.time(), message);
+                assertEquals(expected.substring(0, 14), clock.datetime(), message);
+                assertEquals(expected.substring(0, 17), clock.datetimeMilli(), message);
+                assertEquals(expected.substring(8, 17), clock.timeMilli(), message);
+                assertEquals(expected, clock.datetimeMicro(), message);
+                assertEquals(expected.substring(8), clock.timeMicro(), message);
+
+                assertEquals(22, clock.writeDatetimeMicro(buffer, 2));
+                assertEquals(expected, new String(buffer, 2, 20, StandardCharsets.US_ASCII), message);
+                assertEquals(19, clock.writeDatetimeMilli(buffer, 2));
+                assertEquals(expected.substring(0, 17), new String(buffer, 2, 17, StandardCharsets.US_ASCII));
+            }
+        }
+    }
+
+    /**
+     * 같은 tick / 같은 날짜에는 같은 String instance 를 반환한다.
+     */
+    @Test
+    void cacheTest() {
+        ManualClock manual = new ManualClock(Instant.parse("2023-11-30T07:10:44.644Z"), ZoneId.of("Asia/Seoul"));
+        CachedClock clock = CachedClock.of(manual);
+
+        String datetimeMilli = clock.datetimeMilli();
+        String date = clock.date();
+        assertEquals("20231130161044644", datetimeMilli);
+        assertSame(datetimeMilli, clock.datetimeMilli());
+
+        manual.instant = manual.instant.plusSeconds(3600);
+        assertEquals("20231130171044644", clock.datetimeMilli());
+        assertSame(date, clock.date());
+
+        assertThrows(CommonException.class, () -> clock.writeDate(new byte[10], 3));
+        assertThrows(CommonException.class, () -> CachedClock.of(null));
+    }
+
+    /**
+     * DateUtils 에 고정 clock 을 지정한다.
+     */
+    @Test
+    void dateUtilsClockTest() {
+        try {
+            DateUtils.setClock(Clock.fixed(Instant.parse("2023-11-30T07:10:44.644123Z"), ZoneId.of("Asia/Seoul")));
+            assertEquals("20231130", DateUtils.getCurrentDate());
+            assertEquals("2023", DateUtils.getCurrentYear());
+            assertEquals("161044", DateUtils.getCurrentTime());
+            assertEquals("20231130161044644", DateUtils.getCurrentDatetimemilli());
+            assertEquals("20231130161044644123", DateUtils.getCurrentDatetimemicro());
+            assertEquals("2023-11-30 16:10:44,644123", DateUtils.getCurrentDatetimemicrok());
+            assertEquals("161044644", DateUtils.getCurrentTimeMilli());
+            assertEquals(644123L, DateUtils.getCurrentSecmicro());
+            assertEquals("2023-11-30 16:10:44", DateUtils.getCurrentDate("yyyy-MM-dd HH:mm:ss"));
+            assertEquals("2023-11-30", DateUtils.getCurrentTimeByFormat("yyyy-MM-dd"));
+            // 시간대 / offset pattern 은 clock 의 시간대 기준
+            assertEquals("2023-11-30 16:10:44 +0900", DateUtils.getCurrentDate("yyyy-MM-dd HH:mm:ss Z"));
+            assertEquals("2023-11-30T16:10:44+09:00", DateUtils.getCurrentDate("yyyy-MM-dd'T'HH:mm:ssXXX"));
+            assertEquals("16:10:44 +09:00", DateUtils.getCurrentTimeByFormat("HH:mm:ss XXX"));
+            assertThrows(CommonException.class, () -> DateUtils.getCurrentDate("yyyy-MM-dd bb"));
+        } finally {
+            DateUtils.setClock(null);
+        }
+        assertSame(CachedClock.system(), DateUtils.getClock());
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.common.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+public class CharsetLengthTest {
+
+    private static final List<Charset> CHARSETS = List.of(StandardCharsets.UTF_8, Charset.forName("EUC-KR"),
+            Charset.forName("KSC5601"), Charset.forName("MS949"), StandardCharsets.ISO_8859_1);
+
+    // ASCII, 완성형 / 비완성형 한글, 한자, 기호, 전각 문자, 보조 문자, 짝이 없는 surrogate
+    private static final String[] SAMPLES = {"a", "Z", " ", "가", "똠", "힣", "韓", "€", "　", "Ａ", " ",
+            "😀", "\uD83D", "\uDE00", "￿", "\u0080"};
+
+    /**
+     * 계산한 byte 수가 getBytes 결과와 같은지 확인한다.
+     */
+    @Test
+    void byteLengthTest() {
+        Random random = new Random(20240101L);
+        for (int n = 0; n < 500; n++) {
+            StringBuilder sb = new StringBuilder();
+            int count = random.nextInt(20);
+            for (int i = 0; i < count; i++) {
+                sb.append(SAMPLES[random.nextInt(SAMPLES.length)]);
+            }
+            String value = sb.toString();
+
+            for (Charset charset : CHARSETS) {
+                assertEquals(value.getBytes(charset).length, CharsetLength.byteLength(value, charset),
+                        charset + " : " + value);
+            }
+        }
+
+        for (Charset charset : CHARSETS) {
+            for (int ch = 0; ch <= Character.MAX_VALUE; ch += 7) {
+                assertEquals(String.valueOf((char) ch).getBytes(charset).length,
+                        CharsetLength.charLength((char) ch, charset), charset + " : " + ch);
+            }
+        }
+    }
+
+    /**
+     * 자른 위치가 문자 경계이고, 최대 byte 수 안에서 가장 긴 위치인지 확인한다.
+     */
+    @Test
+    void cutIndexTest() {
+        String value = "ab가😀똠韓 c\uD83D";
+        for (Charset charset : CHARSETS) {
+            for (int maxBytes = 0; maxBytes <= value.getBytes(charset).length + 1; maxBytes++) {
+                int end = CharsetLength.cutIndex(value, 0, maxBytes, charset);
+                assertFalse(end > 0 && end < value.length() && Character.isLowSurrogate(value.charAt(end))
+                        && Character.isHighSurrogate(value.charAt(end - 1)), "surrogate pair split");
+                assertTrue(value.substring(0, end).getBytes(charset).length <= maxBytes);
+                if (end < value.length()) {
+                    int next = end + Character.charCount(value.codePointAt(end));
+                    assertTrue(value.substring(0, next).getBytes(charset).length > maxBytes,
+                            charset + " : " + maxBytes);
+                }
+            }
+        }
+        // 시작 위치 지정
+        assertEquals(4, CharsetLength.cutIndex("가나다라", 2, 4, Charset.forName("EUC-KR")));
+    }
+}
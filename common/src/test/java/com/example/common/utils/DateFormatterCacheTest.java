@@ -0,0 +1,59 @@
+package com.example.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DateFormatterCacheTest {
+
+    /**
+     * 같은 pattern / locale 은 같은 DateTimeFormatter 를 반환하고, locale 이 다르면 따로 생성한다.
+     */
+    @Test
+    void getTest() {
+        DateTimeFormatter formatter = DateFormatterCache.get("yyyy년 MM월 dd일 EEE요일", Locale.KOREA);
+        assertSame(formatter, DateFormatterCache.get("yyyy년 MM월 dd일 EEE요일", Locale.KOREA));
+        assertEquals("2020년 11월 17일 화요일", LocalDate.of(2020, 11, 17).format(formatter));
+
+        DateTimeFormatter english = DateFormatterCache.get("yyyy년 MM월 dd일 EEE요일", Locale.US);
+        assertNotSame(formatter, english);
+        assertEquals("2020년 11월 17일 Tue요일", LocalDate.of(2020, 11, 17).format(english));
+
+        assertThrows(IllegalArgumentException.class, () -> DateFormatterCache.get("yyyy-MM-dd{"));
+    }
+
+    /**
+     * 최대 보관 수를 넘으면 먼저 저장된 pattern 부터 제거하고, preload 된 pattern 은 유지한다.
+     */
+    @Test
+    void evictionTest() {
+        DateTimeFormatter preloaded = DateFormatterCache.get("yyyyMMdd");
+        DateFormatterCache.Stats before = DateFormatterCache.getStats();
+
+        for (int i = 0; i < DateFormatterCache.MAX_SIZE + 20; i++) {
+            DateFormatterCache.get("'eviction" + i + "'yyyyMMdd");
+        }
+
+        DateFormatterCache.Stats after = DateFormatterCache.getStats();
+        assertTrue(after.getSize() <= DateFormatterCache.MAX_SIZE, after.toString());
+        assertTrue(after.getEvictionCount() >= before.getEvictionCount() + 20, after.toString());
+        assertTrue(after.getMissCount() >= before.getMissCount() + DateFormatterCache.MAX_SIZE + 20);
+        assertTrue(after.getPreloadedSize() >= DateFormatterCache.COMMON_PATTERNS.size());
+        assertSame(preloaded, DateFormatterCache.get("yyyyMMdd"));
+    }
+
+    /**
+     * DateUtils 의 pattern 함수 결과
+     */
+    @Test
+    void dateUtilsTest() {
+        assertEquals("2020년 11월 17일 15:06", DateUtils.getTimeByFormat("2020-11-17T15:06:09", "yyyy년 MM월 dd일 HH:mm"));
+        assertEquals(LocalDate.of(2020, 11, 17), DateUtils.getDate("2020.11.17", "yyyy.MM.dd"));
+        assertTrue(DateUtils.isBetween("2020.11.18", "2020.11.17", "2020.11.19", "yyyy.MM.dd"));
+        assertFalse(DateUtils.isAfter("2020.11.18", "2020.11.17", "yyyy.MM.dd"));
+    }
+}
@@ -1,15 +1,25 @@
 package com.example.common.utils;
 
 
+import com.example.common.exception.CommonException;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @Slf4j
 @Execution(ExecutionMode.CONCURRENT)
@@ -114,6 +124,118 @@ public class DateUtilsTest {
         log.debug("getKoreanAge : {}", DateUtils.getKoreanAge(2000));
     }
 
+    /**
+     * 정수 날짜 계산 결과가 LocalDate / LocalTime 계산 결과와 같은지 확인한다.
+     */
+    @Test
+    void testDateEngine(){
+        for (long epochDay = LocalDate.of(1, 1, 1).toEpochDay(); epochDay <= LocalDate.of(9999, 12, 31).toEpochDay(); epochDay += 13) {
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            int packed = date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+            assertEquals(packed, DateUtils.ofEpochDay(epochDay));
+            assertEquals(epochDay, DateUtils.toEpochDay(packed));
+            assertEquals(date.getDayOfWeek().getValue() % 7, DateUtils.getWeekday(packed));
+            assertEquals(date.lengthOfMonth(), DateUtils.getLastDay(packed) % 100);
+            if (date.getYear() < 9990) {
+                int months = (int) Math.floorMod(epochDay, 50L);
+                LocalDate plus = date.plusMonths(months);
+                assertEquals(plus.getYear() * 10000 + plus.getMonthValue() * 100 + plus.getDayOfMonth(),
+                        DateUtils.addMonth(packed, months));
+            }
+        }
+
+        assertEquals(20240227, DateUtils.addDay(20231130, 89));
+        assertEquals(20240229, DateUtils.addMonth(20231130, 3));
+        assertEquals(20230228, DateUtils.addYear(20240229, -1));
+        assertEquals(15427, DateUtils.getDaysBetween(20231130, 19810904));
+        assertEquals(-1, DateUtils.compareDate(20231130, 20231201));
+        assertEquals(232956, DateUtils.addHour(172956, 30));
+        assertEquals(235956, DateUtils.addMinute(2956, -30));
+        assertEquals(0, DateUtils.addSecond(235959, 1));
+
+        // String 함수 (존재하지 않는 날짜는 기존과 같이 lenient 계산)
+        assertEquals("20240227", DateUtils.addDay("20231130", 89));
+        assertEquals("20230304", DateUtils.addDay("20230231", 1));
+        assertEquals("173026", DateUtils.addSecond("172956", 30));
+        assertEquals(5, DateUtils.getWeekday("20231201"));
+        assertEquals("20240229", DateUtils.getLastDay("202402"));
+
+        assertThrows(CommonException.class, () -> DateUtils.addDay(20230229, 1));
+        assertThrows(CommonException.class, () -> DateUtils.addDay(99991231, 1));
+        assertThrows(CommonException.class, () -> DateUtils.addHour(246000, 1));
+        assertThrows(CommonException.class, () -> DateUtils.addDay("abc", 1));
+    }
+
+    @Test
+    void testValidateBulk(){
+        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyyMMdd");
+        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HHmmss");
+        List<String> dates = new ArrayList<>(List.of("2023113a", "2023/1/3", "2023:130", "\u0662\u0660\u0662\u0663\u0661\u0661\u0663\u0660"));
+        for (int year : new int[]{0, 1, 1582, 1900, 2000, 2023, 2024, 9999}) {
+            for (int monthDay = 0; monthDay < 10000; monthDay += 3) {
+                dates.add(String.format("%04d%04d", year, monthDay));
+            }
+        }
+        List<String> times = new ArrayList<>(List.of("16305a", "16:059", "\u0661\u0666\u0663\u0660\u0665\u0669"));
+        for (int time = 0; time < 1000000; time += 7) {
+            times.add(String.format("%06d", time));
+        }
+        List<String> years = new ArrayList<>(List.of("202a", "20/3", "\u0662\u0660\u0662\u0663"));
+        for (int year = 0; year < 10000; year++) {
+            years.add(String.format("%04d", year));
+        }
+
+        // 기존 parse 규칙
+        BitSet invalidDates = new BitSet();
+        for (int row = 0; row < dates.size(); row++) {
+            try {
+                LocalDate.parse(dates.get(row), dateFormatter);
+            } catch (DateTimeParseException e) {
+                invalidDates.set(row);
+            }
+        }
+        BitSet invalidTimes = new BitSet();
+        for (int row = 0; row < times.size(); row++) {
+            try {
+                LocalTime.parse(times.get(row), timeFormatter);
+            } catch (DateTimeParseException e) {
+                invalidTimes.set(row);
+            }
+        }
+        BitSet invalidYears = new BitSet();
+        for (int row = 0; row < years.size(); row++) {
+            if (!years.get(row).chars().allMatch(Character::isDigit) || Integer.parseInt(years.get(row)) < 1900) {
+                invalidYears.set(row);
+            }
+        }
+
+        assertEquals(invalidDates, DateUtils.validateDates(dates.toArray(new String[0])));
+        assertEquals(invalidTimes, DateUtils.validateTimes(times.toArray(new String[0])));
+        assertEquals(invalidYears, DateUtils.validateYears(years.toArray(new String[0])));
+
+        // 고정 길이 record (마지막 record 는 8 byte 미만이 남는 위치)
+        assertEquals(invalidDates.get(4, dates.size()), DateUtils.validateDates(toRecords(dates.subList(4, dates.size()), 3), 3, 12, dates.size() - 4));
+        assertEquals(invalidTimes.get(3, times.size()), DateUtils.validateTimes(toRecords(times.subList(3, times.size()), 1), 1, 8, times.size() - 3));
+        assertEquals(invalidYears.get(3, years.size()), DateUtils.validateYears(toRecords(years.subList(3, years.size()), 2), 2, 7, years.size() - 3));
+        assertEquals(invalidDates.get(0, 3), DateUtils.validateDates("2023113a2023/1/32023:130".getBytes(StandardCharsets.US_ASCII), 0, 8, 3));
+
+        assertEquals(BitSet.valueOf(new long[]{0b110}), DateUtils.validateDates(new String[]{"20230231", "20231301", null}));
+        assertEquals(new BitSet(), DateUtils.validateTimes(new String[]{"240000"}));
+        assertThrows(CommonException.class, () -> DateUtils.validateDates(new byte[16], 0, 8, 3));
+        assertThrows(CommonException.class, () -> DateUtils.validateTimes(new byte[16], 0, 4, 2));
+    }
+
+    /**
+     * 값 앞에 prefix byte('|'), 뒤에 1 byte('|')를 붙인 고정 길이 record
+     */
+    private static byte[] toRecords(List<String> values, int prefix) {
+        StringBuilder records = new StringBuilder();
+        for (String value : values) {
+            records.append("|".repeat(prefix)).append(value).append('|');
+        }
+        return records.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
     @Test
     void testGetCurrentTimeFormat(){
         String curTimeFormat = DateUtils.getCurrentTimeByFormat(" yyyy년 MM월 dd일 E요일");
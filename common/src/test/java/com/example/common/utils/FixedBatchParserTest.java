@@ -0,0 +1,173 @@
+package com.example.common.utils;
+
+import com.example.common.constant.Constants;
+import com.example.common.data.FixedTestData;
+import com.example.common.exception.CommonException;
+import com.example.common.model.FixedAmountRecord;
+import com.example.common.model.FixedDataTestInfo;
+import com.example.common.model.FixedMessageBody;
+import com.example.common.model.FixedPaymentRecord;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+public class FixedBatchParserTest {
+
+    private static final Charset EUC_KR = Charset.forName(Constants.CHARSET_EUC_KR);
+
+    /**
+     * 여러 partition 으로 나누어 병렬 변환한 결과가 file 순서와 같은지 확인한다.
+     */
+    @Test
+    void parseOrderedTest(@TempDir Path dir) throws Exception {
+        String record = FixedTestData.getFixedDataTestInfoString();
+        int count = 1000;
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            // h field 에 record 순번을 기록하여 순서 확인
+            builder.append(record, 0, record.length() - 5).append(String.format("%-5d", i)).append("\r\n");
+        }
+        Path file = dir.resolve("records.dat");
+        Files.writeString(file, builder.toString(), EUC_KR);
+
+        FixedBatchResult<FixedDataTestInfo> result = FixedBatchParser.builder(FixedDataTestInfo.class)
+                .encoding(Constants.CHARSET_EUC_KR)
+                .recordSeparator("\r\n")
+                .parallelism(4)
+                .build()
+                .parse(file);
+        log.debug("{}", result);
+
+        assertEquals(count, result.getRecordCount());
+        assertEquals(count, result.getRecords().size());
+        assertFalse(result.hasErrors());
+        for (int i = 0; i < count; i++) {
+            FixedDataTestInfo data = result.getRecords().get(i);
+            assertEquals(1654, data.getA());
+            assertEquals(String.valueOf(i), data.getH());
+        }
+    }
+
+    /**
+     * consumer 를 사용하는 경우 record 가 모두 전달되고, 결과 records 는 empty 인지 확인한다.
+     */
+    @Test
+    void parseWithConsumerTest(@TempDir Path dir) throws Exception {
+        String record = FixedTestData.getFixedDataTestInfoString();
+        int count = 500;
+        Path file = dir.resolve("records.dat");
+        Files.writeString(file, (record + "\n").repeat(count), EUC_KR);
+
+        AtomicLong counter = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            FixedBatchResult<FixedDataTestInfo> result = FixedBatchParser.builder(FixedDataTestInfo.class)
+                    .recordSeparator("\n")
+                    .executor(executor)
+                    .build()
+                    .parse(file, data -> {
+                        FixedTestData.checkFixedDataTestInfo(data);
+                        counter.incrementAndGet();
+                    });
+            assertEquals(count, counter.get());
+            assertEquals(count, result.getRecordCount());
+            assertTrue(result.getRecords().isEmpty());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 잘못된 record 의 error 정보가 record index 와 함께 수집되는지 확인한다.
+     */
+    @Test
+    void parseErrorRecordTest(@TempDir Path dir) throws Exception {
+        String record = FixedTestData.getFixedDataTestInfoString();
+        String invalid = "000000abcd" + record.substring(10);
+        Path file = dir.resolve("records.dat");
+        Files.writeString(file, record + invalid + record + invalid, EUC_KR);
+
+        FixedBatchParser<FixedDataTestInfo> parser = FixedBatchParser.builder(FixedDataTestInfo.class)
+                .parallelism(2)
+                .build();
+
+        // 1. exception 설정 시 : 변환이 실패한 record 는 결과에서 제외
+        FormatterUtils.setDataParsingThrowException(true);
+        FixedBatchResult<FixedDataTestInfo> result = parser.parse(file);
+        assertEquals(4, result.getRecordCount());
+        assertEquals(2, result.getRecords().size());
+        assertEquals(2, result.getErrors().size());
+        assertEquals(1, result.getErrors().get(0).getRecordIndex());
+        assertEquals(3, result.getErrors().get(1).getRecordIndex());
+        assertInstanceOf(CommonException.class, result.getErrors().get(0).getCause());
+
+        // 2. exception 미설정 시 : error data 와 함께 record 포함
+        FormatterUtils.setDataParsingThrowException(false);
+        try {
+            result = parser.parse(file);
+            assertEquals(4, result.getRecords().size());
+            assertEquals(2, result.getErrors().size());
+            assertNull(result.getErrors().get(0).getCause());
+            assertEquals("abcd", result.getErrors().get(0).getErrorData().get("a"));
+        } finally {
+            FormatterUtils.setDataParsingThrowException(true);
+        }
+    }
+
+    /**
+     * 소수부가 있는 BigDecimal 은 소수점을 포함한 encode 길이로 record 를 나누고,
+     * signed BigDecimal(값에 따라 부호 문자 유무가 달라짐)이 있는 type 은 사용할 수 없다.
+     */
+    @Test
+    void parseDecimalRecordTest(@TempDir Path dir) throws Exception {
+        List<FixedAmountRecord> expected = List.of(
+                new FixedAmountRecord("AB12", new BigDecimal("123.4")),
+                new FixedAmountRecord("5AB1", new BigDecimal("200000.12")),
+                new FixedAmountRecord("CD34", new BigDecimal("-7.05")));
+        StringBuilder records = new StringBuilder();
+        expected.forEach(record -> records.append(FormatterUtils.getFixedData(record)));
+        Path file = dir.resolve("records.dat");
+        Files.writeString(file, records, EUC_KR);
+        assertEquals(45, Files.size(file));
+
+        FixedBatchResult<FixedAmountRecord> result = FixedBatchParser.builder(FixedAmountRecord.class)
+                .parallelism(2)
+                .build()
+                .parse(file);
+
+        assertEquals(3, result.getRecordCount());
+        assertFalse(result.hasErrors());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).code(), result.getRecords().get(i).code());
+            assertEquals(0, expected.get(i).amount().compareTo(result.getRecords().get(i).amount()));
+        }
+
+        assertThrows(CommonException.class, () -> FixedBatchParser.builder(FixedPaymentRecord.class).build());
+    }
+
+    /**
+     * 마지막 record 가 잘린 경우와 가변 길이 type 은 exception 발생
+     */
+    @Test
+    void invalidBatchFileTest(@TempDir Path dir) throws Exception {
+        String record = FixedTestData.getFixedDataTestInfoString();
+        Path file = dir.resolve("records.dat");
+        Files.writeString(file, record + record.substring(0, 20), EUC_KR);
+
+        FixedBatchParser<FixedDataTestInfo> parser = FixedBatchParser.builder(FixedDataTestInfo.class).build();
+        assertThrows(CommonException.class, () -> parser.parse(file));
+        assertThrows(CommonException.class, () -> FixedBatchParser.builder(FixedMessageBody.class).build());
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.common.utils;
+
+import com.example.common.data.FixedTestData;
+import com.example.common.exception.CommonException;
+import com.example.common.model.FixedMessageBody;
+import com.example.common.model.FixedMultiListMessageBody;
+import com.example.common.model.GenericMessage;
+import com.example.common.model.InnerMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+public class FixedDataViewTest {
+
+    /**
+     * FixedVo / size / sizeRef / 마지막 List 가 있는 telegram 을 view 로 조회하고
+     * 전체 변환 결과와 같은지 확인한다.
+     */
+    @Test
+    void viewMultiListMessageTest() {
+        String message = FixedTestData.getFixedMultiListMessageString();
+        FixedMultiListMessageBody expected = FormatterUtils.getFixedData(message, FixedMultiListMessageBody.class);
+
+        FixedDataView view = FormatterUtils.getFixedView(message, FixedMultiListMessageBody.class);
+        assertEquals(expected.getField1(), view.get("field1"));
+        assertEquals(expected.getField2(), view.get("field2", int.class));
+        assertEquals("000000item", view.getRaw("field1"));
+
+        assertEquals(2, view.getListSize("listField1"));
+        assertEquals(expected.getListField1().get(1).getField4(), view.get("listField1[1].field4", Integer.class));
+        assertEquals(expected.getField3().getField2(), view.get("field3.field2"));
+        assertEquals(expected.getField3(), view.get("field3"));
+
+        // sizeRef 로 지정된 list
+        assertEquals(expected.getRefListSize(), view.get("refListSize"));
+        assertEquals(3, view.getListSize("listField2"));
+        assertEquals(expected.getListField2().get(2), view.get("listField2[2]"));
+        assertNull(view.getView("listField2[3]"));
+
+        // 마지막에 위치한 size 가 없는 list
+        assertEquals(expected.getListField3(), view.get("listField3"));
+        assertEquals(expected.getListField3().get(2).getF4(), view.get("listField3[2].f4"));
+
+        assertEquals(FormatterUtils.getBytes(message, FormatterUtils.DEFAULT_CHAR_ENCODING).length, view.getLength());
+        assertEquals(expected, view.toObject());
+    }
+
+    /**
+     * generic type 이 있는 byte 배열의 일부 구간을 view 로 조회한다.
+     */
+    @Test
+    void viewGenericMessageTest() {
+        GenericMessage<FixedMessageBody> msg = FixedTestData.getMultipleFixedListData();
+        byte[] body = FormatterUtils.getBytes(FormatterUtils.getFixedData(msg), FormatterUtils.DEFAULT_CHAR_ENCODING);
+        byte[] telegram = new byte[body.length + 8];
+        Arrays.fill(telegram, (byte) '#');
+        System.arraycopy(body, 0, telegram, 4, body.length);
+
+        FixedDataView view = FormatterUtils.getFixedView(telegram, 4, body.length, GenericMessage.class,
+                FormatterUtils.DEFAULT_CHAR_ENCODING, FixedMessageBody.class);
+        assertEquals(FixedMessageBody.class, view.getView("field3").getType());
+        assertEquals(msg.getField3().getField5(), view.get("field3.field5"));
+        assertEquals(msg.getField4().size(), view.getListSize("field4"));
+
+        FixedDataView last = view.getView("field4[" + (msg.getField4().size() - 1) + "]");
+        assertEquals(msg.getField4().get(msg.getField4().size() - 1).getField4(), last.get("field4"));
+        assertEquals(4 + body.length, view.getEndOffset());
+        assertEquals(msg, view.toObject());
+    }
+
+    /**
+     * 데이터가 끝난 이후의 field 는 null 이고, 변환 error 는 view 의 error data 에 저장되는지 확인한다.
+     */
+    @Test
+    void viewTruncatedDataTest() {
+        boolean throwException = FormatterUtils.isDataParsingThrowException();
+        FormatterUtils.setDataParsingThrowException(false);
+        try {
+            // field1, field2(일부)
+            String message = "00000000000000000abc" + "0000001";
+            InnerMessage expected = FormatterUtils.getFixedData(message, InnerMessage.class);
+            FixedDataView view = FormatterUtils.getFixedView(message, InnerMessage.class);
+            assertEquals("abc", view.get("field1"));
+            assertEquals(expected.getField2(), view.get("field2"));
+            assertEquals(expected.getField3(), view.get("field3"));
+            assertNull(view.get("field4"));
+            assertEquals(27, view.getLength());
+
+            FixedDataView invalid = FormatterUtils.getFixedView("00000000000000000abc".repeat(3)
+                    + "0000000000000000000x", InnerMessage.class);
+            assertNull(invalid.get("field4"));
+            assertEquals("x", invalid.getErrorData().get("field4"));
+        } finally {
+            FormatterUtils.setDataParsingThrowException(throwException);
+        }
+    }
+
+    /**
+     * field 를 원본 byte 에 직접 변경한 결과가 object 를 변경하여 다시 변환한 결과와 같은지 확인한다.
+     */
+    @Test
+    void patchFieldTest() {
+        String encoding = FormatterUtils.DEFAULT_CHAR_ENCODING;
+        FixedMultiListMessageBody msg = FixedTestData.getFixedMultiListMessageBody();
+        ByteBuffer buffer = ByteBuffer.wrap(FormatterUtils.getBytes(FormatterUtils.getFixedData(msg), encoding));
+
+        FixedDataView view = FormatterUtils.getFixedView(buffer, FixedMultiListMessageBody.class, encoding, null);
+        assertEquals(msg.getListField2().get(1).getField4(), view.get("listField2[1].field4"));
+        view.set("field1", "patched")
+                .set("field3.field2", "응답")
+                .set("listField2[1].field4", 42)
+                .set("listField3[0].f1", "space");
+
+        msg.setField1("patched");
+        msg.getField3().setField2("응답");
+        msg.getListField2().get(1).setField4(42);
+        msg.getListField3().get(0).setF1("space");
+        assertArrayEquals(FormatterUtils.getBytes(FormatterUtils.getFixedData(msg), encoding), buffer.array());
+        assertEquals(42, view.get("listField2[1].field4"));
+        assertEquals(0, buffer.position());
+
+        // 길이 초과, sizeRef 변경은 원본을 변경하지 않는다.
+        byte[] before = buffer.array().clone();
+        assertThrows(CommonException.class, () -> view.set("field1", "12345678901"));
+        assertThrows(CommonException.class, () -> view.set("refListSize", 2));
+        assertThrows(CommonException.class, () -> view.set("field3", msg.getField3()));
+        assertArrayEquals(before, buffer.array());
+    }
+}
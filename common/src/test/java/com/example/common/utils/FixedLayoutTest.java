@@ -0,0 +1,230 @@
+package com.example.common.utils;
+
+import com.example.common.data.FixedTestData;
+import com.example.common.exception.CommonException;
+import com.example.common.model.FixedLayoutDefinition;
+import com.example.common.model.FixedLayoutField;
+import com.example.common.model.FixedMultiListMessageBody;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+public class FixedLayoutTest {
+
+    private static final String INNER = """
+            [ { "name": "field1", "length": 20, "padChar": "0" },
+              { "name": "field2", "length": 20, "padChar": "0" },
+              { "name": "field3", "length": 20, "padChar": "0" },
+              { "name": "field4", "type": "int", "length": 20, "padChar": "0" } ]""";
+
+    // FixedMultiListMessageBody 와 같은 layout
+    private static final String MULTI_LIST_LAYOUT = """
+            { "name": "MULTI_LIST",
+              "fields": [
+                { "name": "field1", "length": 10, "padChar": "0" },
+                { "name": "field2", "type": "int", "length": 10, "padChar": "0", "padType": "RIGHT" },
+                { "name": "listField1", "size": 2, "fields": %1$s },
+                { "name": "field3", "fields": %1$s },
+                { "name": "refListSize", "type": "int", "length": 2, "padChar": "0", "padType": "RIGHT" },
+                { "name": "listField2", "sizeRef": "refListSize", "fields": %1$s },
+                { "name": "listField3", "list": true, "fields": [
+                    { "name": "f1", "length": 20, "padChar": " " },
+                    { "name": "f2", "length": 20, "padChar": " " },
+                    { "name": "f3", "length": 20, "padChar": " " },
+                    { "name": "f4", "type": "int", "length": 20, "padChar": " " } ] } ] }
+            """.formatted(INNER);
+
+    /**
+     * JSON 으로 정의한 layout 의 변환 결과가 class 기반 변환 결과와 같은지 확인한다.
+     */
+    @Test
+    void layoutMatchesClassTest(@TempDir Path dir) throws Exception {
+        Files.writeString(dir.resolve("multi-list.json"), MULTI_LIST_LAYOUT);
+        FixedLayoutRegistry registry = new FixedLayoutRegistry();
+        assertEquals(1, registry.load(dir));
+
+        FixedLayout layout = registry.get("MULTI_LIST");
+        String message = FixedTestData.getFixedMultiListMessageString();
+        FixedMultiListMessageBody expected = FormatterUtils.getFixedData(message, FixedMultiListMessageBody.class);
+
+        FixedRecord record = layout.decode(message);
+        log.debug("record : {}", record);
+        assertEquals(expected.getField1(), record.get("field1"));
+        assertEquals(expected.getField2(), record.get("field2", Integer.class));
+        assertEquals(expected.getField3().getField2(), record.getRecord("field3").get("field2"));
+        assertEquals(expected.getRefListSize(), record.get("refListSize"));
+        assertEquals(3, record.getList("listField2").size());
+        assertEquals(expected.getListField2().get(2).getField4(), record.getList("listField2").get(2).get("field4"));
+        assertEquals(expected.getListField3().get(1).getF1(), record.getList("listField3").get(1).get("f1"));
+
+        // record / map 을 다시 변환한 결과
+        assertEquals(message, layout.encode(record));
+        assertEquals(message, layout.encode(layout.decodeToMap(message)));
+        assertArrayEquals(FormatterUtils.getBytes(message, layout.getEncoding()), layout.encodeToBytes(record));
+
+        // class 와 layout 의 전문 형식이 같으므로 schema hash 가 같다.
+        assertTrue(layout.getDescriptor()
+                .matches(FormatterUtils.getLayoutDescriptor(FixedMultiListMessageBody.class).getSchemaHash()));
+
+        // view
+        byte[] bytes = FormatterUtils.getBytes(message, layout.getEncoding());
+        FixedDataView view = layout.view(bytes, 0, bytes.length);
+        assertEquals(expected.getListField1().get(1).getField1(), view.get("listField1[1].field1"));
+        assertEquals(record.getRecord("field3"), view.get("field3"));
+    }
+
+    /**
+     * record 를 직접 생성하여 변환하고, 변환 error 를 수집하는지 확인한다.
+     */
+    @Test
+    void recordEncodeAndParseTest() {
+        FixedLayout layout = FixedLayout.compile(FixedLayoutDefinition.builder()
+                .name("PAYMENT_REQ")
+                .fields(List.of(
+                        FixedLayoutField.builder().name("msgCode").length(4).build(),
+                        FixedLayoutField.builder().name("amount").type("decimal").length(8).scale(2).signed(true)
+                                .build(),
+                        FixedLayoutField.builder().name("count").type("int").length(2).build(),
+                        FixedLayoutField.builder().name("items").sizeRef("count").fields(List.of(
+                                FixedLayoutField.builder().name("seq").type("int").length(3).build(),
+                                FixedLayoutField.builder().name("memo").length(5).build())).build()))
+                .build());
+
+        FixedRecord request = layout.newRecord()
+                .set("msgCode", "0200")
+                .set("amount", new BigDecimal("1234.50"))
+                .set("count", 2)
+                .set("items", List.of(Map.of("seq", 1, "memo", "A")));
+        request.addListItem("items").set("seq", 2).set("memo", "B");
+
+        String message = layout.encode(request);
+        assertEquals(request, layout.decode(message));
+        assertEquals(Integer.MAX_VALUE, layout.getMaxLength());
+
+        // 다른 layout 의 record 는 list item(group)으로 설정할 수 없다.
+        FixedRecord foreign = FixedLayout.compile(FixedLayoutDefinition.builder()
+                .name("OTHER")
+                .fields(List.of(
+                        FixedLayoutField.builder().name("memo").length(5).build(),
+                        FixedLayoutField.builder().name("seq").type("int").length(3).build()))
+                .build()).newRecord().set("memo", "C").set("seq", 3);
+        assertThrows(CommonException.class, () -> request.set("items", List.of(foreign)));
+        // 같은 layout 의 item record 는 그대로 사용한다.
+        List<FixedRecord> items = request.getList("items");
+        request.set("items", List.of(items.get(0), items.get(1)));
+        assertEquals(message, layout.encode(request));
+
+        boolean throwException = FormatterUtils.isDataParsingThrowException();
+        FormatterUtils.setDataParsingThrowException(false);
+        try {
+            // items[1].seq : 002 -> 0x2
+            int seq = message.lastIndexOf("002");
+            String invalidMessage = message.substring(0, seq + 1) + "x" + message.substring(seq + 2);
+            byte[] invalid = FormatterUtils.getBytes(invalidMessage, layout.getEncoding());
+            FixedParseResult<FixedRecord> result = layout.parse(invalid, 0, invalid.length);
+            assertTrue(result.hasErrors());
+            assertEquals("items[1].seq", result.getErrors().get(0).getPath());
+        } finally {
+            FormatterUtils.setDataParsingThrowException(throwException);
+        }
+    }
+
+    /**
+     * 잘못된 layout 정의는 compile 시 CommonException 이 발생한다.
+     */
+    @Test
+    void invalidLayoutTest() {
+        FixedLayoutField items = FixedLayoutField.builder().name("items").sizeRef("count")
+                .fields(List.of(FixedLayoutField.builder().name("seq").length(3).build())).build();
+        FixedLayoutField count = FixedLayoutField.builder().name("count").type("int").length(2).build();
+
+        // sizeRef 가 list 이후에 위치
+        assertThrows(CommonException.class, () -> FixedLayout.compile(FixedLayoutDefinition.builder()
+                .name("INVALID").fields(List.of(items, count)).build()));
+        // 길이 없음
+        assertThrows(CommonException.class, () -> FixedLayout.compile(FixedLayoutDefinition.builder()
+                .name("INVALID").fields(List.of(FixedLayoutField.builder().name("f1").build())).build()));
+        // 지원하지 않는 type
+        assertThrows(CommonException.class, () -> FixedLayout.compile(FixedLayoutDefinition.builder()
+                .name("INVALID").fields(List.of(FixedLayoutField.builder().name("f1").type("java.util.Date")
+                        .length(8).build())).build()));
+    }
+
+    /**
+     * 감시 중인 directory 의 layout 파일을 변경하면 layout 이 교체되고, 잘못된 파일은 기존 layout 을 유지한다.
+     */
+    @Test
+    void hotReloadTest(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("simple.json");
+        Files.writeString(file, "{ \"name\": \"SIMPLE\", \"fields\": [ { \"name\": \"f1\", \"length\": 4 } ] }");
+
+        try (FixedLayoutRegistry registry = new FixedLayoutRegistry()) {
+            registry.load(dir);
+            registry.watch(dir);
+            FixedLayout before = registry.get("SIMPLE");
+            assertEquals(4, before.getMaxLength());
+
+            Files.writeString(file, "{ \"name\": \"SIMPLE\", \"fields\": [ { \"name\": \"f1\", \"length\": 6 } ] }");
+            assertTrue(waitFor(() -> registry.get("SIMPLE").getMaxLength() == 6));
+            assertEquals(4, before.getMaxLength());
+
+            Files.writeString(file, "{ \"name\": \"SIMPLE\", \"fields\": [ { \"name\": \"f1\" } ] }");
+            Files.writeString(dir.resolve("other.json"),
+                    "{ \"name\": \"OTHER\", \"fields\": [ { \"name\": \"f1\", \"length\": 1 } ] }");
+            assertTrue(waitFor(() -> registry.contains("OTHER")));
+            assertEquals(6, registry.get("SIMPLE").getMaxLength());
+
+            Files.delete(file);
+            assertTrue(waitFor(() -> !registry.contains("SIMPLE")));
+        }
+    }
+
+    /**
+     * 다른 파일로 옮긴 layout 은 마지막으로 정의한 파일에 속하므로, 이전 파일을 변경 / 삭제해도 제거되지 않는다.
+     */
+    @Test
+    void layoutMovedBetweenFilesTest(@TempDir Path dir) throws Exception {
+        Path first = dir.resolve("a.json");
+        Path second = dir.resolve("b.json");
+        Files.writeString(first, "[ { \"name\": \"MOVED\", \"fields\": [ { \"name\": \"f1\", \"length\": 4 } ] },"
+                + " { \"name\": \"FIRST\", \"fields\": [ { \"name\": \"f1\", \"length\": 1 } ] } ]");
+        Files.writeString(second, "{ \"name\": \"MOVED\", \"fields\": [ { \"name\": \"f1\", \"length\": 6 } ] }");
+
+        try (FixedLayoutRegistry registry = new FixedLayoutRegistry()) {
+            // 같은 이름은 나중에 읽은 파일(b.json)의 layout 사용
+            assertEquals(3, registry.load(dir));
+            assertEquals(6, registry.get("MOVED").getMaxLength());
+
+            // 이전 파일에서 layout 을 제거해도 b.json 의 layout 유지
+            Files.writeString(first, "{ \"name\": \"FIRST\", \"fields\": [ { \"name\": \"f1\", \"length\": 1 } ] }");
+            assertEquals(1, registry.load(first));
+            assertEquals(6, registry.get("MOVED").getMaxLength());
+
+            registry.watch(dir);
+            Files.delete(first);
+            assertTrue(waitFor(() -> !registry.contains("FIRST")));
+            assertEquals(6, registry.get("MOVED").getMaxLength());
+
+            Files.delete(second);
+            assertTrue(waitFor(() -> !registry.contains("MOVED")));
+        }
+    }
+
+    private static boolean waitFor(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 20_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) return true;
+            Thread.sleep(50);
+        }
+        return false;
+    }
+}
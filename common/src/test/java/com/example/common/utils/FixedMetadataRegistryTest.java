@@ -0,0 +1,133 @@
+package com.example.common.utils;
+
+import com.example.common.data.FixedTestData;
+import com.example.common.internal.annotations.FixedData;
+import com.example.common.model.FixedDataTestInfo;
+import com.example.common.model.FixedField;
+import com.example.common.model.GenericMessage;
+import com.example.common.model.InnerMessage;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+public class FixedMetadataRegistryTest {
+
+    /**
+     * 여러 thread 에서 동시에 처음 조회해도 metadata 는 한번만 생성되는지 확인한다.
+     */
+    @Test
+    void concurrentFirstLookupTest() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            FixedMetadataRegistry.Stats before = FixedMetadataRegistry.getStats();
+
+            List<Future<List<FixedField>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return FormatterUtils.getFieldList(RegistryTestVo.class, null);
+                }));
+            }
+            start.countDown();
+
+            List<FixedField> first = futures.get(0).get();
+            for (Future<List<FixedField>> future : futures) {
+                assertSame(first, future.get());
+            }
+            assertEquals(2, first.size());
+
+            FixedMetadataRegistry.Stats after = FixedMetadataRegistry.getStats();
+            log.debug("before:{}, after:{}", before, after);
+            assertTrue(after.getHitCount() - before.getHitCount() >= threads - 1);
+        } finally {
+            executor.shutdown();
+        }
+
+        // 같은 key 는 다시 생성하지 않는다.
+        long missCount = FixedMetadataRegistry.getStats().getMissCount();
+        FormatterUtils.getFieldList(RegistryTestVo.class, null);
+        assertEquals(missCount, FixedMetadataRegistry.getStats().getMissCount());
+    }
+
+    /**
+     * package scan 으로 고정 길이 model 의 metadata 를 미리 생성하는지 확인한다.
+     */
+    @Test
+    void warmUpPackageTest() {
+        int count = FixedMetadataRegistry.warmUp("com.example.common.model");
+        assertTrue(count >= 5, "warm up count : " + count);
+
+        long missCount = FixedMetadataRegistry.getStats().getMissCount();
+        FormatterUtils.getFixedData(FixedTestData.getFixedDataTestInfoString(), FixedDataTestInfo.class);
+        assertEquals(missCount, FixedMetadataRegistry.getStats().getMissCount());
+    }
+
+    /**
+     * 상위 classloader 의 generic class 에 하위 classloader 의 class 를 genericType 으로 사용한 metadata 가
+     * 하위 classloader 를 붙잡지 않는지 확인한다. (devtools restart / plugin reload)
+     */
+    @Test
+    void genericTypeClassLoaderUnloadTest() throws Exception {
+        WeakReference<ClassLoader> loader = decodeWithChildLoader();
+        for (int i = 0; i < 50 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertNull(loader.get());
+    }
+
+    private WeakReference<ClassLoader> decodeWithChildLoader() throws Exception {
+        URL classes = InnerMessage.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader loader = new ChildFirstClassLoader(classes, InnerMessage.class.getName())) {
+            Class<?> body = loader.loadClass(InnerMessage.class.getName());
+            assertNotSame(InnerMessage.class, body);
+
+            GenericMessage<?> message = FormatterUtils.getFixedData(FixedTestData.getGenericMessageString(),
+                    GenericMessage.class, body);
+            assertSame(body, message.getField3().getClass());
+            assertEquals(FixedTestData.getGenericMessageString(), FormatterUtils.getFixedData(message));
+            return new WeakReference<>(loader);
+        }
+    }
+
+    /**
+     * 지정한 class 만 직접 load 하고, 그 외 class 는 상위 classloader 에 위임하는 classloader
+     */
+    private static final class ChildFirstClassLoader extends URLClassLoader {
+        private final String className;
+
+        private ChildFirstClassLoader(URL url, String className) {
+            super(new URL[]{url}, FixedMetadataRegistryTest.class.getClassLoader());
+            this.className = className;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(className)) return super.loadClass(name, resolve);
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                return loaded != null ? loaded : findClass(name);
+            }
+        }
+    }
+
+    @Data
+    public static class RegistryTestVo {
+        @FixedData(5)
+        private String a;
+        @FixedData(3)
+        private int b;
+    }
+}
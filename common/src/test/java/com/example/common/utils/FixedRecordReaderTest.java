@@ -0,0 +1,121 @@
+package com.example.common.utils;
+
+import com.example.common.constant.Constants;
+import com.example.common.data.FixedTestData;
+import com.example.common.exception.CommonException;
+import com.example.common.model.FixedAmountRecord;
+import com.example.common.model.FixedDataTestInfo;
+import com.example.common.model.FixedMessageBody;
+import com.example.common.model.FixedPaymentRecord;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+public class FixedRecordReaderTest {
+
+    private static final Charset EUC_KR = Charset.forName(Constants.CHARSET_EUC_KR);
+
+    /**
+     * 고정 길이 record 가 줄바꿈으로 구분된 file 을 작은 buffer 로 읽어 변환한다.
+     */
+    @Test
+    void readFixedLengthRecordFileTest(@TempDir Path dir) throws Exception {
+        String record = FixedTestData.getFixedDataTestInfoString();
+        int count = 100;
+        Path file = dir.resolve("records.dat");
+        Files.writeString(file, (record + "\r\n").repeat(count), EUC_KR);
+
+        try (FixedRecordReader<FixedDataTestInfo> reader = FixedRecordReader.builder(FixedDataTestInfo.class)
+                .encoding(Constants.CHARSET_EUC_KR)
+                .recordSeparator("\r\n")
+                .bufferSize(256)
+                .open(file)) {
+            assertEquals(count, reader.stream().peek(FixedTestData::checkFixedDataTestInfo).count());
+            assertEquals(count, reader.getRecordCount());
+        }
+    }
+
+    /**
+     * length prefix 로 구분된 가변 길이(FixedList 포함) record 를 channel 에서 읽어 변환한다.
+     */
+    @Test
+    void readLengthPrefixedRecordTest() throws Exception {
+        String message = FixedTestData.getFixedMessageString();
+        byte[] body = message.getBytes(EUC_KR);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < 3; i++) {
+            out.write(String.format("%05d", body.length).getBytes(EUC_KR));
+            out.write(body);
+        }
+
+        FixedRecordReader<FixedMessageBody> reader = FixedRecordReader.builder(FixedMessageBody.class)
+                .lengthPrefix(5)
+                .bufferSize(16)
+                .open(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())));
+        List<FixedMessageBody> records = reader.stream().toList();
+        reader.close();
+
+        assertEquals(3, records.size());
+        records.forEach(FixedTestData::checkFixedMessageBody);
+    }
+
+    /**
+     * 소수부가 있는 BigDecimal 은 소수점을 포함한 encode 길이로 record 를 나누고,
+     * signed BigDecimal(값에 따라 부호 문자 유무가 달라짐)은 length prefix 없이 사용할 수 없다.
+     */
+    @Test
+    void readDecimalRecordTest() {
+        List<FixedAmountRecord> expected = List.of(
+                new FixedAmountRecord("AB12", new BigDecimal("123.4")),
+                new FixedAmountRecord("5AB1", new BigDecimal("200000.12")),
+                new FixedAmountRecord("CD34", new BigDecimal("-7.05")));
+        StringBuilder file = new StringBuilder();
+        expected.forEach(record -> file.append(FormatterUtils.getFixedData(record)));
+        assertEquals(45, file.length());
+
+        FixedRecordReader<FixedAmountRecord> reader = FixedRecordReader.builder(FixedAmountRecord.class)
+                .bufferSize(16)
+                .open(Channels.newChannel(new ByteArrayInputStream(file.toString().getBytes(EUC_KR))));
+        List<FixedAmountRecord> records = reader.stream().toList();
+
+        assertEquals(3, records.size());
+        for (int i = 0; i < records.size(); i++) {
+            assertEquals(expected.get(i).code(), records.get(i).code());
+            assertEquals(0, expected.get(i).amount().compareTo(records.get(i).amount()));
+        }
+
+        assertThrows(CommonException.class, () -> FixedRecordReader.builder(FixedPaymentRecord.class)
+                .open(Channels.newChannel(new ByteArrayInputStream(new byte[0]))));
+    }
+
+    /**
+     * 마지막 record 가 잘린 경우와 가변 길이 type 에 length prefix 가 없는 경우 exception 발생
+     */
+    @Test
+    void invalidRecordFileTest() {
+        String record = FixedTestData.getFixedDataTestInfoString();
+        byte[] truncated = (record + record.substring(0, 20)).getBytes(EUC_KR);
+
+        FixedRecordReader<FixedDataTestInfo> reader = FixedRecordReader.builder(FixedDataTestInfo.class)
+                .open(Channels.newChannel(new ByteArrayInputStream(truncated)));
+        assertTrue(reader.hasNext());
+        reader.next();
+        assertThrows(CommonException.class, reader::hasNext);
+
+        assertThrows(CommonException.class, () -> FixedRecordReader.builder(FixedMessageBody.class)
+                .open(Channels.newChannel(new ByteArrayInputStream(new byte[0]))));
+    }
+}
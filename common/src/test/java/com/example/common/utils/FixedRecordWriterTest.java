@@ -0,0 +1,111 @@
+package com.example.common.utils;
+
+import com.example.common.constant.Constants;
+import com.example.common.data.FixedTestData;
+import com.example.common.exception.CommonException;
+import com.example.common.model.FixedDataTestInfo;
+import com.example.common.model.FixedMessageBody;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+public class FixedRecordWriterTest {
+
+    private static final Charset EUC_KR = Charset.forName(Constants.CHARSET_EUC_KR);
+
+    /**
+     * 순차 / 병렬 변환으로 기록한 file 이 getFixedData 결과를 순서대로 이어 붙인 것과 같은지 확인한다.
+     */
+    @Test
+    void writeFixedLengthRecordFileTest(@TempDir Path dir) throws Exception {
+        List<FixedDataTestInfo> records = new ArrayList<>();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 3000; i++) {
+            FixedDataTestInfo data = FixedTestData.getFixedDataTestInfo();
+            data.setH(String.valueOf(i % 100000));
+            records.add(data);
+            expected.append(FormatterUtils.getFixedData(data, Constants.CHARSET_EUC_KR)).append("\r\n");
+        }
+
+        for (int parallelism : new int[]{1, 4}) {
+            Path file = dir.resolve("records" + parallelism + ".dat");
+            FixedRecordWriter writer = FixedRecordWriter.builder()
+                    .encoding(Constants.CHARSET_EUC_KR)
+                    .recordSeparator("\r\n")
+                    .bufferSize(4096)
+                    .parallelism(parallelism)
+                    .open(file);
+            writer.writeAll(records.stream());
+            writer.close();
+            log.debug("parallelism:{}, records/s:{}, MB/s:{}",
+                    parallelism, writer.getRecordsPerSecond(), writer.getMegabytesPerSecond());
+
+            assertEquals(records.size(), writer.getRecordCount());
+            assertEquals(Files.size(file), writer.getByteCount());
+            assertEquals(expected.toString(), Files.readString(file, EUC_KR));
+
+            try (FixedRecordReader<FixedDataTestInfo> reader = FixedRecordReader.builder(FixedDataTestInfo.class)
+                    .recordSeparator("\r\n")
+                    .open(file)) {
+                assertEquals(records, reader.stream().toList());
+            }
+        }
+    }
+
+    /**
+     * buffer 보다 큰 record(FixedList 포함)도 순서대로 기록되는지 확인한다.
+     */
+    @Test
+    void writeLargeRecordTest() {
+        FixedMessageBody body = FixedTestData.getFixedMessageBody();
+        String message = FormatterUtils.getFixedData(body);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (FixedRecordWriter writer = FixedRecordWriter.builder()
+                .bufferSize(32)
+                .open(Channels.newChannel(out))) {
+            IntStream.range(0, 3).forEach(i -> writer.write(body));
+        }
+
+        assertEquals(message.repeat(3), out.toString(EUC_KR));
+    }
+
+    /**
+     * 병렬 변환 중 chunk 가 실패하면 앞선 chunk 까지만 기록되고, record 수가 기록된 내용과 같은지 확인한다.
+     */
+    @Test
+    void writeChunkFailureTest() {
+        List<FixedDataTestInfo> records = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            records.add(FixedTestData.getFixedDataTestInfo());
+        }
+        // 두번째 chunk(1024 ~ 2047)의 record 변환 실패 (길이 초과)
+        records.get(1500).setH("X".repeat(100));
+        String record = FormatterUtils.getFixedData(records.get(0), Constants.CHARSET_EUC_KR);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (FixedRecordWriter writer = FixedRecordWriter.builder()
+                .encoding(Constants.CHARSET_EUC_KR)
+                .parallelism(4)
+                .open(Channels.newChannel(out))) {
+            writer.writeAll(records);
+            assertThrows(CommonException.class, writer::flush);
+
+            assertEquals(1024, writer.getRecordCount());
+            assertEquals(out.size(), writer.getByteCount());
+            assertEquals(record.repeat(1024), out.toString(EUC_KR));
+        }
+    }
+}
@@ -3,12 +3,24 @@ package com.example.common.utils;
 import com.example.common.constant.Constants;
 import com.example.common.data.FixedTestData;
 import com.example.common.exception.CommonException;
+import com.example.common.internal.annotations.FixedData;
 import com.example.common.internal.annotations.FixedData.PAD_TYPE;
+import com.example.common.internal.annotations.FixedList;
+import com.example.common.internal.annotations.FixedVo;
+import com.example.common.internal.codec.FixedCodec;
+import com.example.common.internal.codec.FixedCodecs;
 import com.example.common.model.*;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -210,6 +222,143 @@ public class FormatterUtilsTest {
         });
     }
 
+    /**
+     * codec plan 이 cache 된 이후 반복 변환 시에도 동일한 결과가 나오는지 확인한다.
+     */
+    @Test
+    void repeatedConversionWithCachedPlanTest() {
+        FixedMultiListMessageBody msg = FixedTestData.getFixedMultiListMessageBody();
+        String expected = FixedTestData.getFixedMultiListMessageString();
+
+        for (int i = 0; i < 3; i++) {
+            String fixedString = FormatterUtils.getFixedData(msg);
+            assertEquals(expected, fixedString);
+
+            FixedMultiListMessageBody converted = FormatterUtils.getFixedData(fixedString, FixedMultiListMessageBody.class);
+            assertEquals(msg, converted);
+        }
+
+        // encoding 별로 plan 이 구분되는지 확인
+        FullWidthPadChar fieldData = FullWidthPadChar.builder().f1("f1").f2("f2").f3("f3").f4(4).build();
+        String eucKr = FormatterUtils.getFixedData(fieldData, Constants.CHARSET_EUC_KR);
+        String utf8 = FormatterUtils.getFixedData(fieldData, Constants.CHARSET_UTF_8);
+        assertEquals("f1　　　　f2        ００００f30000000004", eucKr);
+        assertNotEquals(eucKr, utf8);
+    }
+
+    /**
+     * byte 배열의 offset 부터 고정길이 데이터를 변환하는지 확인한다.
+     */
+    @Test
+    void convertBytesToFixedDataTest() throws Exception {
+        byte[] body = FixedTestData.getKoreanFixedMessageString().getBytes(Constants.CHARSET_EUC_KR);
+        // 앞에 header(5 byte), 뒤에 trailer(3 byte)가 붙은 telegram
+        byte[] telegram = new byte[body.length + 8];
+        System.arraycopy("HEADR".getBytes(), 0, telegram, 0, 5);
+        System.arraycopy(body, 0, telegram, 5, body.length);
+        System.arraycopy("END".getBytes(), 0, telegram, 5 + body.length, 3);
+
+        FixedMessageBody converted = FormatterUtils.getFixedData(telegram, 5, body.length, FixedMessageBody.class);
+        FixedTestData.checkKoreanFixedMessageBody(converted);
+
+        assertThrows(CommonException.class, () -> {
+            FormatterUtils.getFixedData(telegram, 5, telegram.length, FixedMessageBody.class);
+        });
+    }
+
+    /**
+     * ByteBuffer 에 연속된 고정길이 데이터를 순서대로 변환하고 position 이 이동하는지 확인한다.
+     */
+    @Test
+    void convertByteBufferToFixedDataTest() throws Exception {
+        byte[] record = FixedTestData.getFixedDataTestInfoString().getBytes(Constants.CHARSET_EUC_KR);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(record.length * 2);
+        buffer.put(record).put(record).flip();
+
+        ByteBuffer first = buffer.duplicate();
+        first.limit(record.length);
+        FixedTestData.checkFixedDataTestInfo(
+                FormatterUtils.getFixedData(first, FixedDataTestInfo.class, Constants.CHARSET_EUC_KR, null));
+        assertEquals(record.length, first.position());
+
+        buffer.position(record.length);
+        FixedTestData.checkFixedDataTestInfo(
+                FormatterUtils.getFixedData(buffer, FixedDataTestInfo.class, Constants.CHARSET_EUC_KR, null));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    /**
+     * compile time 에 생성된 FixedCodec 의 field 목록이 선언된 annotation field 와 같은지 확인하고,
+     * codec 을 사용한 변환 결과를 확인한다.
+     */
+    @Test
+    void generatedFixedCodecTest() {
+        FixedCodec<FixedMultiListMessageBody> codec = FixedCodecs.find(FixedMultiListMessageBody.class);
+        assertNotNull(codec);
+        assertNull(FixedCodecs.find(String.class));
+
+        List<String> declared = new ArrayList<>();
+        for (Field field : FixedMultiListMessageBody.class.getDeclaredFields()) {
+            if (field.isAnnotationPresent(FixedData.class) || field.isAnnotationPresent(FixedVo.class)
+                    || field.isAnnotationPresent(FixedList.class)) {
+                declared.add(field.getName());
+            }
+        }
+        assertEquals(declared, codec.getFieldList().stream().map(FixedField::getName).toList());
+        assertEquals(2, codec.getFieldList().get(2).getFixedList().size());
+        assertEquals("refListSize", codec.getFieldList().get(5).getFixedList().sizeRef());
+
+        FixedMultiListMessageBody msg = FixedTestData.getFixedMultiListMessageBody();
+        assertEquals(msg.getRefListSize(), codec.get(msg, 4));
+        String fixedString = FormatterUtils.getFixedData(msg);
+        assertEquals(FixedTestData.getFixedMultiListMessageString(), fixedString);
+        assertEquals(msg, FormatterUtils.getFixedData(fixedString, FixedMultiListMessageBody.class));
+    }
+
+    /**
+     * Object를 ByteBuffer / OutputStream 에 직접 기록한 결과가
+     * 고정길이 문자열을 encode 한 결과와 동일한지 확인한다.
+     */
+    @Test
+    void writeFixedDataToBytesTest() throws Exception {
+        Object[] targets = {
+                FixedTestData.getFixedDataTestInfo(),
+                FixedTestData.getFixedMultiListMessageBody(),
+                FixedTestData.getKoreanFixedMessageBody(),
+                FullWidthPadChar.builder().f1("f1").f2("f2").f3("f3").f4(4).build()
+        };
+        Charset charset = Charset.forName(Constants.CHARSET_EUC_KR);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(8192);
+
+        for (Object target : targets) {
+            byte[] expected = FormatterUtils.getFixedData(target, Constants.CHARSET_EUC_KR).getBytes(charset);
+
+            buffer.clear();
+            assertEquals(expected.length, FormatterUtils.writeFixedData(target, buffer, charset));
+            byte[] written = new byte[buffer.flip().remaining()];
+            buffer.get(written);
+            assertArrayEquals(expected, written);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertEquals(expected.length, FormatterUtils.writeFixedData(target, out, charset));
+            assertArrayEquals(expected, out.toByteArray());
+        }
+
+        // UTF-8 : 전각 padding char 의 byte 보정 결과도 동일한지 확인
+        Object fullWidth = targets[targets.length - 1];
+        ByteArrayOutputStream utf8Out = new ByteArrayOutputStream();
+        FormatterUtils.writeFixedData(fullWidth, utf8Out, StandardCharsets.UTF_8);
+        assertArrayEquals(FormatterUtils.getFixedData(fullWidth, Constants.CHARSET_UTF_8).getBytes(StandardCharsets.UTF_8),
+                utf8Out.toByteArray());
+
+        // buffer 가 부족하면 exception 발생 후 position 복원
+        ByteBuffer small = ByteBuffer.allocate(10);
+        small.put((byte) '0');
+        assertThrows(CommonException.class,
+                () -> FormatterUtils.writeFixedData(FixedTestData.getFixedDataTestInfo(), small, charset));
+        assertEquals(1, small.position());
+    }
+
     /**
      * 고정길이 문자열을 FixedMessageBody 타입으로 변환하고
      * 데이터가 올바르게 변환됬는지 확인한다.
@@ -228,6 +377,54 @@ public class FormatterUtilsTest {
         assertEquals(80, maxLength);
     }
 
+    /**
+     * type 별 길이 / offset / schema hash 정보가 변환 결과와 일치하는지 확인한다.
+     */
+    @Test
+    void layoutDescriptorTest() {
+        FixedLayoutDescriptor inner = FormatterUtils.getLayoutDescriptor(InnerMessage.class);
+        assertSame(inner, FormatterUtils.getLayoutDescriptor(InnerMessage.class));
+        assertEquals(80, inner.getMaxLength());
+        assertEquals(80, inner.getFixedLength());
+        assertEquals(40, inner.getFieldOffset("field3"));
+        assertFalse(inner.containsList());
+        assertTrue(inner.isValidLength(80));
+        assertEquals(FixedParseError.Reason.UNDERSIZE, inner.checkLength(79));
+        assertEquals(FixedParseError.Reason.OVERSIZE, inner.checkLength(81));
+
+        // BigDecimal(부호 문자) 가 있으면 전체 길이는 data 에 따라 달라진다.
+        FixedLayoutDescriptor testInfo = FormatterUtils.getLayoutDescriptor(FixedDataTestInfo.class);
+        assertEquals(FormatterUtils.getObjectMaxLength(FixedDataTestInfo.class, null), testInfo.getMaxLength());
+        assertTrue(testInfo.isVariableLength());
+
+        // List 포함 type 은 길이 검사 대상이 아니다.
+        FixedLayoutDescriptor generic = FormatterUtils.getLayoutDescriptor(GenericMessage.class, FixedMessageBody.class);
+        assertTrue(generic.containsList());
+        assertNull(generic.checkLength(1));
+
+        // 소수부가 있는 BigDecimal 은 소수점을 포함한 encode 길이로 검사한다.
+        FixedLayoutDescriptor amount = FormatterUtils.getLayoutDescriptor(FixedAmountRecord.class);
+        assertEquals(14, amount.getMaxLength());
+        assertEquals(15, amount.getRecordLength());
+        assertEquals(15, FormatterUtils.getFixedData(new FixedAmountRecord("AB12", new BigDecimal("-7.05"))).length());
+        assertTrue(amount.isValidLength(15));
+        assertEquals(FixedParseError.Reason.UNDERSIZE, amount.checkLength(14));
+        assertEquals(FixedParseError.Reason.OVERSIZE, amount.checkLength(16));
+
+        // signed BigDecimal 은 값에 따라 부호 문자 유무가 달라지므로 길이를 판단하지 않는다.
+        FixedLayoutDescriptor payment = FormatterUtils.getLayoutDescriptor(FixedPaymentRecord.class);
+        assertEquals(-1, payment.getRecordLength());
+        assertNull(payment.checkLength(1));
+
+        // schema hash 는 전문 형식이 같으면 같고, class 이름과는 관계없다.
+        assertTrue(inner.matches(FormatterUtils.getLayoutDescriptor(InnerMessage.class).getSchemaHash()));
+        assertNotEquals(inner.getSchemaHash(),
+                FormatterUtils.getLayoutDescriptor(InnerMessageSpacePadChar.class).getSchemaHash());
+        // 시스템 기본 charset 과 관계없이 schema 의 UTF-8 byte 로 hash 를 계산한다.
+        assertEquals(DigestUtils.sha256Hex(inner.getSchema().getBytes(StandardCharsets.UTF_8)), inner.getSchemaHash());
+        log.debug("InnerMessage schema : {}", inner.getSchema());
+    }
+
     /**
      * 고정길이 문자열을 @FixedVo, @FixedList, @FixedData 가 존재하는 FixedMessageBody 타입으로 변환하고,
      * 에러 발생시데이터가 올바르게 변환됬는지 확인한다.
@@ -567,4 +764,119 @@ public class FormatterUtilsTest {
 //        assertEquals("f1　　  ", convertObject.getF1());
 //        assertEquals("  f3", convertObject.getF3());
     }
+
+    /**
+     * parseFixedData 가 error 를 경로 / byte 위치 / 원본 byte 와 함께 반환하고,
+     * thread local error data map 을 사용하지 않는지 확인한다.
+     */
+    @Test
+    void parseFixedDataErrorTest() {
+        boolean throwException = FormatterUtils.isDataParsingThrowException();
+        FormatterUtils.setDataParsingThrowException(false);
+        try {
+            String encoding = FormatterUtils.DEFAULT_CHAR_ENCODING;
+            String message = FixedTestData.getFixedMultiListMessageString();
+            FixedParseResult<FixedMultiListMessageBody> result =
+                    FormatterUtils.parseFixedData(message, FixedMultiListMessageBody.class);
+            assertFalse(result.hasErrors());
+            assertEquals(FixedTestData.getFixedMultiListMessageBody(), result.getValue());
+
+            byte[] bytes = FormatterUtils.getBytes(message, encoding);
+            FormatterUtils.getFixedView(bytes, 0, bytes.length, FixedMultiListMessageBody.class, encoding, null)
+                    .set("listField2[1].field4", "x0000000000000000000");
+            Map<String, Object> errorDataMap = FormatterUtils.createErrorDataMap();
+
+            result = FormatterUtils.parseFixedData(bytes, 0, bytes.length, FixedMultiListMessageBody.class,
+                    encoding, null);
+            assertEquals(1, result.getErrors().size());
+            FixedParseError error = result.getErrors().get(0);
+            assertEquals("listField2[1].field4", error.getPath());
+            assertEquals(FixedParseError.Reason.INVALID_VALUE, error.getReason());
+            assertEquals(new String(bytes, StandardCharsets.US_ASCII).indexOf("x0000000000000000000"),
+                    error.getOffset());
+            assertEquals("x0000000000000000000", new String(error.getRaw(), StandardCharsets.US_ASCII));
+            assertTrue(errorDataMap.isEmpty());
+
+            // 길이 부족 : UNDERSIZE
+            FixedParseResult<InnerMessage> undersize =
+                    FormatterUtils.parseFixedData("00000000000000000abc0000001", InnerMessage.class);
+            assertEquals("abc", undersize.getValue().getField1());
+            assertEquals(FixedParseError.Reason.UNDERSIZE, undersize.getErrors().get(0).getReason());
+            assertEquals("27/80", undersize.getErrors().get(0).getValue());
+        } finally {
+            FormatterUtils.setDataParsingThrowException(throwException);
+        }
+    }
+
+    /**
+     * setter / no-arg 생성자가 없는 record 와 불변 class(@Value)를 생성자로 변환하는지 확인한다.
+     */
+    @Test
+    void recordAndImmutableVoTest() {
+        FixedPaymentRecord payment = new FixedPaymentRecord("0200", new BigDecimal("1234.50"),
+                InnerMessage.builder().field1("1").field2("2").field3("3").field4(4).build(), 2,
+                List.of(FixedPaymentItem.builder().seq(1).memo("A").build(),
+                        FixedPaymentItem.builder().seq(2).memo("B").build()));
+
+        String fixedString = FormatterUtils.getFixedData(payment);
+        log.debug("fixedString : [{}]", fixedString);
+        assertEquals(payment, FormatterUtils.getFixedData(fixedString, FixedPaymentRecord.class));
+
+        byte[] bytes = FormatterUtils.getBytes(fixedString, FormatterUtils.DEFAULT_CHAR_ENCODING);
+        assertEquals(payment, FormatterUtils.getFixedData(bytes, 0, bytes.length, FixedPaymentRecord.class));
+
+        boolean throwException = FormatterUtils.isDataParsingThrowException();
+        FormatterUtils.setDataParsingThrowException(false);
+        try {
+            // items[1].seq : 002 -> 0x2, 변환 error 가 발생한 primitive 인자는 기본 값으로 생성
+            int seq = fixedString.lastIndexOf("002");
+            String invalid = fixedString.substring(0, seq + 1) + "x" + fixedString.substring(seq + 2);
+            FixedParseResult<FixedPaymentRecord> result = FormatterUtils.parseFixedData(invalid,
+                    FixedPaymentRecord.class);
+            assertEquals("items[1].seq", result.getErrors().get(0).getPath());
+            assertEquals(0, result.getValue().items().get(1).getSeq());
+            assertEquals("B", result.getValue().items().get(1).getMemo());
+        } finally {
+            FormatterUtils.setDataParsingThrowException(throwException);
+        }
+    }
+
+    /**
+     * 기존 object 에 변환하면 nested VO / list / list item 을 재사용하고, 결과는 새로 변환한 object 와 같은지 확인한다.
+     */
+    @Test
+    void readFixedDataReuseTest() {
+        String message = FixedTestData.getFixedMultiListMessageString();
+        FixedMultiListMessageBody expected = FormatterUtils.getFixedData(message, FixedMultiListMessageBody.class);
+
+        FixedObjectPool<FixedMultiListMessageBody> pool = FixedObjectPool.of(FixedMultiListMessageBody.class);
+        FixedMultiListMessageBody body = pool.decode(message);
+        assertEquals(expected, body);
+        InnerMessage field3 = body.getField3();
+        List<InnerMessage> listField2 = body.getListField2();
+        InnerMessage item = listField2.get(0);
+        pool.release(body);
+        assertEquals(1, pool.size());
+
+        // 재사용 변환은 thread local error data map 을 사용하지 않는다.
+        Map<String, Object> errorDataMap = FormatterUtils.createErrorDataMap();
+        FixedMultiListMessageBody reused = pool.decode(message);
+        assertSame(errorDataMap, FormatterUtils.getErrorDataMap());
+        assertSame(body, reused);
+        assertSame(field3, reused.getField3());
+        assertSame(listField2, reused.getListField2());
+        assertSame(item, reused.getListField2().get(0));
+        assertEquals(expected, reused);
+
+        // list item 수가 줄어든 전문 : 남는 item 은 제거
+        expected.setRefListSize(1);
+        expected.setListField2(new ArrayList<>(expected.getListField2().subList(0, 1)));
+        String shorter = FormatterUtils.getFixedData(expected);
+        FormatterUtils.readFixedData(shorter, reused);
+        assertEquals(FormatterUtils.getFixedData(shorter, FixedMultiListMessageBody.class), reused);
+        assertSame(listField2, reused.getListField2());
+
+        // record / 불변 class 는 재사용할 수 없다.
+        assertThrows(CommonException.class, () -> FixedObjectPool.of(FixedPaymentRecord.class));
+    }
 }
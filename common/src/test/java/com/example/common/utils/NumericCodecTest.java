@@ -0,0 +1,99 @@
+package com.example.common.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+public class NumericCodecTest {
+
+    private static final String ENCODING = FormatterUtils.DEFAULT_CHAR_ENCODING;
+
+    /**
+     * byte 에서 바로 변환한 값이 기존 변환(trim -> Long.valueOf / new BigDecimal) 결과와 같은지 확인한다.
+     */
+    @Test
+    void parseTest() {
+        List<String> inputs = List.of("0000012345", "0000000000", "   -123   ", "+0000042", "-0", "",
+                "000000123.4500", "+0001234.50", "-0000000.05", "12.", ".5", "1e3", "12a", "+", "-.",
+                "99999999999999999999", "000000000000000000000000000001", "2147483648", "-2147483648");
+
+        for (String input : inputs) {
+            byte[] src = input.getBytes(StandardCharsets.US_ASCII);
+            for (NumericCodec.Kind kind : NumericCodec.Kind.values()) {
+                Class<?> type = kind == NumericCodec.Kind.INT ? Integer.class
+                        : kind == NumericCodec.Kind.LONG ? Long.class : BigDecimal.class;
+                Object parsed = NumericCodec.parse(kind, src, 0, src.length, true, (byte) '0', false);
+                if (parsed == NumericCodec.NOT_PARSED) continue;
+
+                String trimmed = input.replaceFirst("^0+", "");
+                assertEquals(FormatterUtils.getTypeValue(trimmed, type), parsed, kind + " : [" + input + "]");
+            }
+        }
+
+        // 오른쪽 padding, 값의 일부 구간
+        byte[] src = "##2000000000##".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(2, NumericCodec.parse(NumericCodec.Kind.INT, src, 2, 12, true, (byte) '0', true));
+        // ASCII 가 아닌 byte 는 기존 변환으로 처리
+        byte[] wide = "１２".getBytes(StandardCharsets.UTF_8);
+        assertSame(NumericCodec.NOT_PARSED, NumericCodec.parse(NumericCodec.Kind.LONG, wide, 0, wide.length,
+                true, (byte) '0', false));
+    }
+
+    /**
+     * 문자열 없이 기록한 값이 기존 padding / BigDecimal 변환 결과와 같은지 확인한다.
+     */
+    @Test
+    void appendTest() {
+        Charset charset = FormatterUtils.getCharset(ENCODING);
+        byte[] padBytes = PaddingEngine.padBytes('0', charset);
+        byte[] spaceBytes = PaddingEngine.padBytes(' ', charset);
+
+        for (long value : new long[]{0, 7, -7, 123456789, -99999, Long.MAX_VALUE}) {
+            String text = String.valueOf(value);
+            for (boolean padRight : new boolean[]{false, true}) {
+                String expected = padRight ? FormatterUtils.paddingRight(text, 20, '0', 1, ENCODING)
+                        : FormatterUtils.paddingLeft(text, 20, '0', 1, ENCODING);
+
+                ByteBuffer buffer = ByteBuffer.allocate(32);
+                new FixedByteSink(buffer, charset)
+                        .appendLong(value, NumericCodec.length(value), 20, '0', padBytes, padRight);
+                assertEquals(expected, new String(buffer.array(), 0, buffer.position(), charset));
+            }
+        }
+
+        int[][] lengths = {{8}, {8, 0}, {8, 2}, {8, 4}};
+        for (String decimal : new String[]{"0", "1234.5", "-1234.50", "-0.05", "0.0001", "99999999", "1E+3"}) {
+            BigDecimal value = new BigDecimal(decimal);
+            for (int[] lengthArr : lengths) {
+                if (lengthArr.length == 2 && value.scale() > lengthArr[1]) continue;
+                for (boolean signed : new boolean[]{false, true}) {
+                    long unscaled = value.setScale(Math.max(value.scale(), 0)).unscaledValue().longValue();
+                    int scale = Math.max(value.scale(), 0);
+                    String expected = FormatterUtils.getBigDecimalType(value.toPlainString(), lengthArr, '0', 1,
+                            signed, ENCODING);
+
+                    ByteBuffer buffer = ByteBuffer.allocate(32);
+                    new FixedByteSink(buffer, charset)
+                            .appendDecimal(unscaled, scale, lengthArr, '0', padBytes, signed);
+                    String actual = new String(buffer.array(), 0, buffer.position(), charset);
+                    assertEquals(expected, actual, decimal + " " + Arrays.toString(lengthArr) + " " + signed);
+
+                    // 기존 기록 방식
+                    ByteBuffer legacy = ByteBuffer.allocate(32);
+                    new FixedByteSink(legacy, charset).appendBigDecimal(value.toPlainString(), lengthArr, '0',
+                            padBytes, spaceBytes, signed);
+                    assertEquals(expected, new String(legacy.array(), 0, legacy.position(), charset));
+                }
+            }
+        }
+    }
+}
@@ -11,13 +11,20 @@ import org.junit.jupiter.api.parallel.ExecutionMode;
 
 import java.io.File;
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Random;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 @Slf4j
 @Execution(ExecutionMode.CONCURRENT)
@@ -228,6 +235,105 @@ public class StringUtilsTest {
         log.debug("testMap : {}", testMap );
     }
 
+    /**
+     * byte 길이 계산 / byte 단위 자르기 결과를 확인한다.
+     */
+    @Test
+    void testByteLength() {
+        assertEquals(10, StringUtils.getStrLength("def 한글"));
+        assertEquals(8, StringUtils.getStrNByteLength("def 한글", 8));
+        assertEquals(false, StringUtils.chkStrLength("def 한글", 8));
+        assertEquals(true, StringUtils.chkStrLength("def 한글", 10));
+
+        assertEquals("test한", StringUtils.getByteCut("test한글", 7, "EUC-KR"));
+        assertEquals("test", StringUtils.getByteCut("test한글", 6, "UTF-8"));
+        assertEquals("a", StringUtils.getByteCut("a\uD83D\uDE00b", 4, "UTF-8"));
+        assertEquals("a\uD83D\uDE00", StringUtils.getByteCut("a\uD83D\uDE00b", 5, "UTF-8"));
+    }
+
+    /**
+     * byte[] / ByteBuffer 검증 함수 결과가 byte 단위 검사 결과와 같은지 확인한다.
+     * (8 byte 단위 검사 경계, 남은 byte, ASCII 가 아닌 byte 포함)
+     */
+    @Test
+    void testBytePredicates() {
+        Map<String, Predicate<Integer>> classes = new LinkedHashMap<>();
+        classes.put("digit", b -> b >= '0' && b <= '9');
+        classes.put("alpha", b -> b >= 'a' && b <= 'z' || b >= 'A' && b <= 'Z');
+        classes.put("upper", b -> b >= 'A' && b <= 'Z');
+        classes.put("lower", b -> b >= 'a' && b <= 'z');
+        classes.put("hex", b -> b >= '0' && b <= '9' || b >= 'a' && b <= 'f' || b >= 'A' && b <= 'F');
+        classes.put("whitespace", b -> b == ' ' || b == '\t' || b == '\n' || b == '\r');
+
+        byte[] alphabet = "09azAZfgFG@[`{/: \t\n\r0".getBytes(StandardCharsets.US_ASCII);
+        Random random = new Random(7L);
+        for (int n = 0; n < 300; n++) {
+            byte[] src = new byte[random.nextInt(40)];
+            // 같은 종류의 byte 로만 구성된 경우를 만들기 위해 일부는 한 종류의 문자로 채운다.
+            byte fill = alphabet[random.nextInt(alphabet.length)];
+            for (int i = 0; i < src.length; i++) {
+                int r = random.nextInt(10);
+                src[i] = r < 6 ? fill : r < 9 ? alphabet[random.nextInt(alphabet.length)] : (byte) (0x80 + random.nextInt(0x80));
+            }
+
+            int offset = src.length == 0 ? 0 : random.nextInt(src.length);
+            int length = src.length - offset;
+            ByteBuffer direct = ByteBuffer.allocateDirect(src.length).put(src).position(offset);
+
+            Map<String, Boolean> all = new HashMap<>();
+            Map<String, Boolean> any = new HashMap<>();
+            classes.forEach((name, predicate) -> {
+                boolean allMatch = true;
+                boolean anyMatch = false;
+                for (int i = offset; i < offset + length; i++) {
+                    boolean match = predicate.test((int) src[i]);
+                    allMatch &= match;
+                    anyMatch |= match;
+                }
+                all.put(name, allMatch);
+                any.put(name, anyMatch);
+            });
+            boolean allSpace = true;
+            boolean allZero = true;
+            for (int i = offset; i < offset + length; i++) {
+                allSpace &= src[i] == ' ';
+                allZero &= src[i] == '0';
+            }
+            boolean notEmpty = length > 0;
+            String message = Arrays.toString(src) + " " + offset;
+
+            for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.wrap(src).position(offset), direct}) {
+                assertEquals(notEmpty && all.get("digit"), StringUtils.isDigit(src, offset, length), message);
+                assertEquals(notEmpty && all.get("digit"), StringUtils.isDigit(buffer), message);
+                assertEquals(any.get("digit"), StringUtils.hasDigit(src, offset, length), message);
+                assertEquals(any.get("digit"), StringUtils.hasDigit(buffer), message);
+                assertEquals(notEmpty && all.get("alpha"), StringUtils.isAlpha(src, offset, length), message);
+                assertEquals(notEmpty && all.get("alpha"), StringUtils.isAlpha(buffer), message);
+                boolean digitAlpha = true;
+                for (int i = offset; i < offset + length; i++) {
+                    digitAlpha &= classes.get("digit").test((int) src[i]) || classes.get("alpha").test((int) src[i]);
+                }
+                assertEquals(notEmpty && digitAlpha, StringUtils.isDigitAlpha(src, offset, length), message);
+                assertEquals(notEmpty && digitAlpha, StringUtils.isDigitAlpha(buffer), message);
+                assertEquals(notEmpty && !any.get("upper"), StringUtils.isLowerCase(src, offset, length), message);
+                assertEquals(notEmpty && !any.get("upper"), StringUtils.isLowerCase(buffer), message);
+                assertEquals(notEmpty && !any.get("lower"), StringUtils.isUpperCase(src, offset, length), message);
+                assertEquals(notEmpty && !any.get("lower"), StringUtils.isUpperCase(buffer), message);
+                assertEquals(any.get("whitespace"), StringUtils.isSpace(src, offset, length), message);
+                assertEquals(any.get("whitespace"), StringUtils.isSpace(buffer), message);
+                assertEquals(allSpace, StringUtils.isAllSpace(src, offset, length), message);
+                assertEquals(allSpace, StringUtils.isAllSpace(buffer), message);
+                assertEquals(allZero, StringUtils.isAllZero(src, offset, length), message);
+                assertEquals(allZero, StringUtils.isAllZero(buffer), message);
+                assertEquals(all.get("hex"), StringUtils.isHexNumStr(src, offset, length), message);
+                assertEquals(all.get("hex"), StringUtils.isHexNumStr(buffer), message);
+                assertEquals(offset, buffer.position());
+            }
+        }
+
+        assertThatExceptionOfType(CommonException.class).isThrownBy(() -> StringUtils.isDigit(new byte[4], 2, 3));
+    }
+
     @Test
     void testGenerateSecretString() {
         String result = StringUtils.generateSecretString(10);
@@ -235,6 +341,58 @@ public class StringUtilsTest {
         assertEquals(10, result.length());
     }
 
+    /**
+     * padding / 숫자 padding 결과가 기존 방식(byte 수 반복 계산, String.format)과 같은지 확인한다.
+     */
+    @Test
+    void testPadding() {
+        assertEquals("######test", StringUtils.stringPadding(10, "test", 0, '#'));
+        assertEquals("test######", StringUtils.stringPadding(10, "test", 1, '#'));
+        assertEquals("test", StringUtils.stringPadding(2, "test", 0, '#'));
+        assertThatExceptionOfType(CommonException.class).isThrownBy(() -> StringUtils.stringPadding(10, "test", 2, '#'));
+        assertThatExceptionOfType(CommonException.class).isThrownBy(() -> StringUtils.stringPadding(3, null, 0, ' '));
+
+        long[] longValues = {0, 7, -7, 123456789, -123456789, Long.MAX_VALUE, Long.MIN_VALUE};
+        for (long value : longValues) {
+            for (int width : new int[]{1, 5, 15, 25}) {
+                assertEquals(legacyPadding(String.format("%0" + width + "d", value), width),
+                        StringUtils.longToStrWithPadding(value, width, true));
+                assertEquals(legacyPadding(String.format("%" + width + "d", value), width),
+                        StringUtils.longToStrWithPadding(value, width, false));
+            }
+        }
+
+        double[] doubleValues = {0.0, -0.0, 123.456789, -123.456789, 1.005, 2.5, -0.001, 1e15, Double.NaN};
+        for (double value : doubleValues) {
+            for (int fraction : new int[]{0, 2, 3}) {
+                assertEquals(legacyPadding(String.format("%015." + fraction + "f", value), 15),
+                        StringUtils.doubleToStrWithPadding(value, 15, fraction, true));
+                assertEquals(legacyPadding(String.format("%6." + fraction + "f", value), 6),
+                        StringUtils.doubleToStrWithPadding(value, 6, fraction, false));
+            }
+        }
+        assertEquals("00000000123.457", StringUtils.doubleToStrWithPadding(123.456789, 15, 3, true));
+        assertThatExceptionOfType(CommonException.class).isThrownBy(() -> StringUtils.longToStrWithPadding(1, 0, true));
+    }
+
+    /**
+     * getEucKrPadding / getEucKrCut 은 default charset 의 byte 수로 multi byte 문자를 판단하므로 UTF-8 환경에서만 확인한다.
+     */
+    @Test
+    void testEucKrPadding() {
+        assumeTrue(StandardCharsets.UTF_8.equals(Charset.defaultCharset()),
+                "default charset : " + Charset.defaultCharset());
+
+        assertEquals("#test 한글", StringUtils.getEucKrPadding(10, "test 한글", 0, '#'));
+        assertEquals("test 한글#", StringUtils.getEucKrPadding(10, "test 한글", 1, '#'));
+        assertEquals(Arrays.asList("test", "#한글", "#abc"),
+                Arrays.asList(StringUtils.getEucKrCut("test#한글#abc", new int[] {4, 5, 4})));
+    }
+
+    private static String legacyPadding(String formatted, int width) {
+        return formatted.length() > width ? "#".repeat(width) : formatted;
+    }
+
     @Test
     void testStringReplace() {
         String fileSeparator = File.separator;